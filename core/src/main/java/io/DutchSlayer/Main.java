@@ -4,9 +4,12 @@ import com.badlogic.gdx.Game;
 import com.badlogic.gdx.Gdx;
 import com.badlogic.gdx.graphics.g2d.SpriteBatch;
 import com.badlogic.gdx.scenes.scene2d.ui.Skin;
+import io.DutchSlayer.screens.LoadingScreen;
 import io.DutchSlayer.screens.MainMenuScreen;
 import io.DutchSlayer.defend.utils.AudioManager;
 import io.DutchSlayer.defend.utils.GameMode;
+import io.DutchSlayer.utils.AssetManifest;
+import io.DutchSlayer.utils.Assets;
 import com.badlogic.gdx.audio.Music;
 public class Main extends Game {
 
@@ -18,7 +21,6 @@ public class Main extends Game {
     @Override
     public void create() {
         batch = new SpriteBatch();
-        AudioManager.initialize();
         uiSkin = new Skin(Gdx.files.internal("uiskin/uiskin.json"));
         // Load dan play musik sekali saja di awal
         // Load legacy bgMusic for compatibility (optional, bisa dihapus nanti)
@@ -30,7 +32,11 @@ public class Main extends Game {
             System.err.println("⚠️ Main: Legacy bgMusic not found, using AudioManager only");
             bgMusic = null;
         }
-        this.setScreen(new MainMenuScreen(this)); // Set awal ke menu utamathis.setScreen(new MainMenuScreen(this)); // Set awal ke menu utamathis.setScreen(new MainMenuScreen(this)); // Set awal ke menu utama
+        // Group "boot" (audio + background menu) dimuat async dengan progress bar, lalu ke menu utama
+        this.setScreen(new LoadingScreen(this, AssetManifest.group("boot"), () -> {
+            AudioManager.initialize();
+            return new MainMenuScreen(this);
+        }));
     }
 
     @Override
@@ -47,5 +53,6 @@ public class Main extends Game {
         if (bgMusic != null) {
             bgMusic.dispose();
         }
+        Assets.dispose();
     }
 }
@@ -1,12 +1,11 @@
 package io.DutchSlayer.attack.boss;
 
-import com.badlogic.gdx.graphics.Texture;
-import com.badlogic.gdx.graphics.g2d.SpriteBatch;
 import com.badlogic.gdx.graphics.g2d.TextureRegion; // Import TextureRegion
 import com.badlogic.gdx.graphics.glutils.ShapeRenderer;
-import io.DutchSlayer.utils.Constant;
+import io.DutchSlayer.attack.screens.render.RenderQueue;
 
 public class BossBullet {
+    public static final String TEXTURE_PATH = "boss/boss_bullet.png";
 
     private float x, y;
     private final float speed = 400f;
@@ -14,37 +13,35 @@ public class BossBullet {
     private float height = 40f;
     private boolean isAlive = true;
     private float vx;
-    private Texture bulletFullTexture;
-    private TextureRegion bulletRegion;
-    private boolean facingRight;
+    private TextureRegion bulletRegion; // Region kiri/kanan milik ProjectilePools, dibagi semua peluru boss
 
-    public BossBullet(float startX, float startY, float directionX, boolean bossFacingRight) {
+    /**
+     * Dibuat oleh ProjectilePools, diisi lewat reset()
+     */
+    public BossBullet() {
+    }
+
+    public void reset(float startX, float startY, float directionX, TextureRegion region) {
         this.x = startX;
         this.y = startY;
-        this.vx = 400f * directionX;
-        this.facingRight = bossFacingRight;
-
-        this.bulletFullTexture = new Texture("boss/boss_bullet.png");
-        this.bulletRegion = new TextureRegion(bulletFullTexture);
-
-        if (facingRight && !bulletRegion.isFlipX()) {
-            bulletRegion.flip(true, false);
-        }
-        else if (!facingRight && bulletRegion.isFlipX()) {
-            bulletRegion.flip(true, false);
-        }
+        this.vx = speed * directionX;
+        this.bulletRegion = region;
+        this.isAlive = true;
     }
 
-    public void update(float delta) {
+    /**
+     * @param mapWidth lebar stage aktif, peluru mati setelah keluar map
+     */
+    public void update(float delta, float mapWidth) {
         x += vx * delta;
-        if (x + width < 0 || x > Constant.MAP_WIDTH) {
+        if (x + width < 0 || x > mapWidth) {
             isAlive = false;
         }
     }
 
-    public void render(SpriteBatch batch) {
+    public void render(RenderQueue queue) {
         if (!isAlive) return;
-        batch.draw(bulletRegion, x, y, width, height);
+        queue.draw(RenderQueue.BOSS_PROJECTILE, bulletRegion, x, y, width, height);
     }
 
     public void render(ShapeRenderer renderer) {
@@ -75,10 +72,4 @@ public class BossBullet {
     public float getHeight() {
         return height;
     }
-
-    public void dispose() {
-        if (bulletFullTexture != null) {
-            bulletFullTexture.dispose();
-        }
-    }
 }
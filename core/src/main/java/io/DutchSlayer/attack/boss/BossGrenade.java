@@ -2,22 +2,23 @@ package io.DutchSlayer.attack.boss;
 
 import com.badlogic.gdx.audio.Sound;
 import com.badlogic.gdx.graphics.Texture;
-import com.badlogic.gdx.graphics.g2d.SpriteBatch;
 import com.badlogic.gdx.math.Vector2;
+import io.DutchSlayer.attack.screens.render.RenderQueue;
 import io.DutchSlayer.utils.Constant;
 
 public class BossGrenade {
 
-    private Vector2 position;
-    private Vector2 velocity;
+    private final Vector2 position = new Vector2();
+    private final Vector2 velocity = new Vector2();
     private final float width = 24f;
     private final float height = 24f;
-    private boolean isAlive = true;
+    private boolean isAlive = false;
     private boolean exploded = false;
     private boolean damagePhaseActive = false;
 
     private final float gravity = 700f;
-    private float fuseTime = 2.5f;
+    private static final float FUSE_TIME = 2.5f;
+    private float fuseTime = FUSE_TIME;
     private final float explosionRadius = 80f;
     private final float damage = 30f;
 
@@ -29,15 +30,26 @@ public class BossGrenade {
     private Texture grenadeProjectileTexture;
     private Texture explosionTexture;
     private Sound explosionSound;
-    private Vector2 explosionPosition;
+    private final Vector2 explosionPosition = new Vector2();
 
-    public BossGrenade(float startX, float startY, float initialVx, float initialVy, Texture grenadeProjectileTexture, Texture explosionTexture, Sound explosionSound) {
-        this.position = new Vector2(startX, startY);
-        this.velocity = new Vector2(initialVx, initialVy);
+    /**
+     * Dibuat oleh ProjectilePools, diisi lewat reset()
+     */
+    public BossGrenade() {
+    }
+
+    public void reset(float startX, float startY, float initialVx, float initialVy, Texture grenadeProjectileTexture, Texture explosionTexture, Sound explosionSound) {
+        this.position.set(startX, startY);
+        this.velocity.set(initialVx, initialVy);
+        this.explosionPosition.setZero();
         this.grenadeProjectileTexture = grenadeProjectileTexture;
         this.explosionTexture = explosionTexture;
         this.explosionSound = explosionSound;
-        this.explosionPosition = new Vector2();
+        this.fuseTime = FUSE_TIME;
+        this.explosionVisualTimer = 0f;
+        this.isAlive = true;
+        this.exploded = false;
+        this.damagePhaseActive = false;
     }
 
     public void update(float delta) {
@@ -77,20 +89,19 @@ public class BossGrenade {
         if (explosionSound != null) {
             explosionSound.play(0.6f);
         }
-        System.out.println("Grenade exploded at ground level: " + explosionPosition.x + ", " + explosionPosition.y);
     }
-    public void render(SpriteBatch batch) {
+    public void render(RenderQueue queue) {
         if (!isAlive) return;
 
         if (!exploded) {
             if (grenadeProjectileTexture != null) {
-                batch.draw(grenadeProjectileTexture, position.x - width / 2f, position.y - height / 2f, width, height);
+                queue.draw(RenderQueue.BOSS_PROJECTILE, grenadeProjectileTexture, position.x - width / 2f, position.y - height / 2f, width, height);
             }
         } else {
             if (explosionTexture != null) {
                 float explosionDiameter = explosionRadius * 2f;
 
-                batch.draw(explosionTexture,
+                queue.draw(RenderQueue.BOSS_PROJECTILE, explosionTexture,
                     explosionPosition.x - explosionDiameter / 2f,
                     explosionPosition.y,
                     explosionDiameter, explosionDiameter);
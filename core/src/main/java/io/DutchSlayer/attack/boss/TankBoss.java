@@ -1,24 +1,38 @@
 package io.DutchSlayer.attack.boss;
 
-import com.badlogic.gdx.Gdx;
 import com.badlogic.gdx.audio.Sound;
 import com.badlogic.gdx.graphics.OrthographicCamera;
 import com.badlogic.gdx.graphics.Texture;
-import com.badlogic.gdx.graphics.g2d.SpriteBatch;
 import com.badlogic.gdx.graphics.g2d.TextureRegion;
-import com.badlogic.gdx.graphics.glutils.ShapeRenderer;
 import com.badlogic.gdx.math.Vector2;
 import com.badlogic.gdx.utils.Array;
 import io.DutchSlayer.attack.boss.fsm.TankBossFSM;
 import io.DutchSlayer.attack.boss.fsm.TankBossState;
 import io.DutchSlayer.attack.player.Player;
 import io.DutchSlayer.attack.screens.GameScreen;
+import io.DutchSlayer.attack.screens.logic.ProjectilePools;
+import io.DutchSlayer.attack.screens.render.RenderQueue;
+import io.DutchSlayer.utils.Assets;
 import io.DutchSlayer.utils.Constant;
 
 
 public class TankBoss {
+    private static final String TURRET_TEXTURE = "boss/tank_boss_turret.png";
+    private static final String CHARGING_TEXTURE = "boss/tank_boss_charging.png";
+    private static final String GRENADE_TEXTURE = "boss/tank_boss_grenade.png";
+    private static final String GRENADE_PROJECTILE_TEXTURE = "player/grenade.png";
+    private static final String DESTROYED_TEXTURE = "boss/tank_boss_destroyed.png";
+    private static final String EXPLOSION_TEXTURE = "player/explosion.png";
+
+    private static final String CHARGE_SOUND = "boss/tank_boss_charging.mp3";
+    private static final String PREPARE_CHARGE_SOUND = "boss/tank_boss_prepare_to_charge.mp3";
+    private static final String BULLET_SOUND = "boss/tank_boss_bullet.mp3";
+    private static final String GRENADE_THROW_SOUND = "boss/tank_boss_grenade.mp3";
+    private static final String GRENADE_EXPLOSION_SOUND = "player/grenade.mp3";
+    private static final String DESTROYED_SOUND = "boss/tank_boss_destroyed.mp3";
 
     private final Vector2 position;
+    private final Vector2 prevPosition; // Posisi step sebelumnya, untuk interpolasi render
     private final float width = 250f;
     private final float height = 150f;
     private final Array<BossBullet> bullets = new Array<>();
@@ -26,7 +40,7 @@ public class TankBoss {
     private final TankBossFSM fsm;
     private final Player player;
     private final OrthographicCamera camera;
-    private SpriteBatch batch;
+    private boolean disposed = false;
 
     private Texture turretTexture;
     private Texture chargingTexture;
@@ -46,35 +60,61 @@ public class TankBoss {
     private Sound grenadeExplosionSound;
     private Sound destroyedSound;
     private GameScreen gameScreen;
+    private final ProjectilePools pools;
+    private final float mapWidth;
+    private final boolean ownsAssets;
 
     public TankBoss(float x, float y, Player player, OrthographicCamera camera, GameScreen gameScreen) {
+        this(x, y, player, camera, gameScreen, gameScreen.getProjectilePools(), gameScreen.getMapWidth(), true);
+    }
+
+    /**
+     * Boss tanpa texture, sound, Player dan GameScreen, untuk tick headless (lihat TankBossPoolsTest).
+     * Subclass menyediakan posisi player lewat getPlayerX()/getPlayerWidth()/getPlayerPosition().
+     */
+    protected TankBoss(float x, float y, OrthographicCamera camera, ProjectilePools pools, float mapWidth) {
+        this(x, y, null, camera, null, pools, mapWidth, false);
+    }
+
+    private TankBoss(float x, float y, Player player, OrthographicCamera camera, GameScreen gameScreen,
+                     ProjectilePools pools, float mapWidth, boolean loadAssets) {
         this.position = new Vector2(x, y);
+        this.prevPosition = new Vector2(x, y);
         this.player = player;
         this.camera = camera;
+        this.pools = pools;
+        this.mapWidth = mapWidth;
+        this.ownsAssets = loadAssets;
         this.fsm = new TankBossFSM(this, position, camera);
         this.fsm.initialize();
         this.gameScreen = gameScreen;
 
-        turretTexture = new Texture("boss/tank_boss_turret.png");
-        chargingTexture = new Texture("boss/tank_boss_charging.png");
-        grenadeTexture = new Texture("boss/tank_boss_grenade.png");
-        grenadeProjectileTexture = new Texture("player/grenade.png");
-        destroyedTexture = new Texture("boss/tank_boss_destroyed.png");
-        explosionTexture = new Texture("player/explosion.png");
+        if (loadAssets) {
+            loadAssets();
+        }
+    }
+
+    private void loadAssets() {
+        // grenade/explosion sama dengan milik GameScreen, lewat Assets cukup di-decode sekali
+        turretTexture = Assets.texture(TURRET_TEXTURE);
+        chargingTexture = Assets.texture(CHARGING_TEXTURE);
+        grenadeTexture = Assets.texture(GRENADE_TEXTURE);
+        grenadeProjectileTexture = Assets.texture(GRENADE_PROJECTILE_TEXTURE);
+        destroyedTexture = Assets.texture(DESTROYED_TEXTURE);
+        explosionTexture = Assets.texture(EXPLOSION_TEXTURE);
         currentTexture = turretTexture;
         currentRegion = new TextureRegion(currentTexture);
 
         if (facingRight && !currentRegion.isFlipX()) {
             currentRegion.flip(true, false);
         }
-        batch = new SpriteBatch();
 
-        chargeSound = Gdx.audio.newSound(Gdx.files.internal("boss/tank_boss_charging.mp3"));
-        prepareChargeSound = Gdx.audio.newSound(Gdx.files.internal("boss/tank_boss_prepare_to_charge.mp3"));
-        bulletSound = Gdx.audio.newSound(Gdx.files.internal("boss/tank_boss_bullet.mp3"));
-        grenadeThrowSound = Gdx.audio.newSound(Gdx.files.internal("boss/tank_boss_grenade.mp3"));
-        grenadeExplosionSound = Gdx.audio.newSound(Gdx.files.internal("player/grenade.mp3"));
-        destroyedSound = Gdx.audio.newSound(Gdx.files.internal("boss/tank_boss_destroyed.mp3"));
+        chargeSound = Assets.sound(CHARGE_SOUND);
+        prepareChargeSound = Assets.sound(PREPARE_CHARGE_SOUND);
+        bulletSound = Assets.sound(BULLET_SOUND);
+        grenadeThrowSound = Assets.sound(GRENADE_THROW_SOUND);
+        grenadeExplosionSound = Assets.sound(GRENADE_EXPLOSION_SOUND);
+        destroyedSound = Assets.sound(DESTROYED_SOUND);
 
     }
 
@@ -115,9 +155,10 @@ public class TankBoss {
     }
 
     public void update(float delta) {
+        prevPosition.set(position);
         fsm.update(delta);
         if (fsm.getCurrentState() != TankBossState.CHARGE) {
-            if (player.getX() + player.getWidth() / 2f > position.x + width / 2f) {
+            if (getPlayerX() + getPlayerWidth() / 2f > position.x + width / 2f) {
                 facingRight = true;
             } else {
                 facingRight = false;
@@ -127,23 +168,20 @@ public class TankBoss {
         updateVisualsBasedOnState();
         for (int i = bullets.size - 1; i >= 0; i--) {
             BossBullet b = bullets.get(i);
-            b.update(delta);
+            b.update(delta, mapWidth);
             if (!b.isAlive()) {
-                b.dispose();
-                bullets.removeIndex(i);
+                pools.free(bullets.removeIndex(i));
             }
         }
         for (int i = grenades.size - 1; i >= 0; i--) {
             BossGrenade g = grenades.get(i);
             g.update(delta);
             if (g.hasExploded() && g.isDamagePhase()) {
-                if (player.isHitByExplosion(g.getX(), g.getY(), g.getExplosionRadius())) {
-                    player.takeDeath();
-                }
+                damagePlayerInExplosion(g.getX(), g.getY(), g.getExplosionRadius());
                 g.markDamagePhaseDone();
             }
             if (!g.isAlive()) {
-                grenades.removeIndex(i);
+                pools.free(grenades.removeIndex(i));
             }
         }
     }
@@ -151,20 +189,18 @@ public class TankBoss {
     public void onStateChanged() {
         updateVisualsBasedOnState();
     }
-    public void render(ShapeRenderer renderer, SpriteBatch spriteBatch) {
-        fsm.renderDebug(renderer);
-        spriteBatch.begin();
+    public void render(RenderQueue queue, float alpha) {
         if (currentRegion != null) {
-            spriteBatch.draw(currentRegion, position.x, position.y, width, height);
+            float renderX = prevPosition.x + (position.x - prevPosition.x) * alpha;
+            float renderY = prevPosition.y + (position.y - prevPosition.y) * alpha;
+            queue.draw(RenderQueue.BOSS, currentRegion, renderX, renderY, width, height);
         }
         for (BossBullet b : bullets) {
-            b.render(spriteBatch);
+            b.render(queue);
         }
         for (BossGrenade g : grenades) {
-            g.render(spriteBatch);
+            g.render(queue);
         }
-
-        spriteBatch.end();
     }
     public float getHealthRatio() {
         if (this.fsm != null) {
@@ -173,20 +209,19 @@ public class TankBoss {
         return 0f;
     }
     public void fireBurst(int numberOfBullets) {
-        float directionToPlayer = Math.signum(player.getX() - (position.x + width / 2f));
+        float directionToPlayer = Math.signum(getPlayerX() - (position.x + width / 2f));
         float spawnX = position.x + width / 2f;
         float spawnY = position.y + height / 2f;
 
         for (int i = 0; i < numberOfBullets; i++) {
-            bullets.add(new BossBullet(spawnX, spawnY, directionToPlayer, facingRight));
+            bullets.add(pools.obtainBossBullet(spawnX, spawnY, directionToPlayer, facingRight));
         }
         playBulletSound();
-        System.out.println("[Boss] Fired burst of " + numberOfBullets + " bullets.");
     }
     public void launchGrenadeTowardsPlayerSide(float relativeSide) {
         float launchX = position.x + width / 2f;
         float launchY = position.y + height * 0.8f;
-        float playerTargetX = player.getX() + Constant.PLAYER_WIDTH * 1.5f * relativeSide;
+        float playerTargetX = getPlayerX() + Constant.PLAYER_WIDTH * 1.5f * relativeSide;
         float targetY = Constant.TERRAIN_HEIGHT;
 
         float distanceX = playerTargetX - launchX;
@@ -223,16 +258,18 @@ public class TankBoss {
         initialVx = Math.max(-maxVx, Math.min(maxVx, initialVx));
 
 
-        grenades.add(new BossGrenade(launchX, launchY, initialVx, initialVy, grenadeProjectileTexture, explosionTexture, grenadeExplosionSound));
+        grenades.add(pools.obtainBossGrenade(launchX, launchY, initialVx, initialVy,
+            grenadeProjectileTexture, explosionTexture, grenadeExplosionSound));
         playGrenadeThrowSound();
-        System.out.println("[Boss] Launched grenade towards player side " + relativeSide +
-            " (vx: " + initialVx + ", vy: " + initialVy + ", targetY: " + targetY + ")");
     }
 
 
     public void clearAllProjectiles() {
         for (BossBullet b : bullets) {
-            b.dispose();
+            pools.free(b);
+        }
+        for (BossGrenade g : grenades) {
+            pools.free(g);
         }
         bullets.clear();
         grenades.clear();
@@ -249,6 +286,23 @@ public class TankBoss {
         return player.getPosition();
     }
 
+    protected float getPlayerX() {
+        return player.getX();
+    }
+
+    protected float getPlayerWidth() {
+        return player.getWidth();
+    }
+
+    /**
+     * Granat boss baru meledak: player mati jika berada dalam radius ledakan
+     */
+    protected void damagePlayerInExplosion(float x, float y, float radius) {
+        if (player.isHitByExplosion(x, y, radius)) {
+            player.takeDeath();
+        }
+    }
+
     public boolean isCharging() {
         return fsm.isCharging();
     }
@@ -319,22 +373,24 @@ public class TankBoss {
         }
     }
     public void dispose() {
-        if (turretTexture != null) turretTexture.dispose();
-        if (chargingTexture != null) chargingTexture.dispose();
-        if (grenadeTexture != null) grenadeTexture.dispose();
-        if (grenadeProjectileTexture != null) grenadeProjectileTexture.dispose();
-        if (explosionTexture != null) explosionTexture.dispose();
-        if (destroyedTexture != null) destroyedTexture.dispose();
-        if (batch != null) batch.dispose();
-        for (BossBullet b : bullets) {
-            b.dispose();
-        }
-
-        if (chargeSound != null) chargeSound.dispose();
-        if (prepareChargeSound != null) prepareChargeSound.dispose();
-        if (bulletSound != null) bulletSound.dispose();
-        if (grenadeThrowSound != null) grenadeThrowSound.dispose();
-        if (grenadeExplosionSound != null) grenadeExplosionSound.dispose();
-        if (destroyedSound != null) destroyedSound.dispose();
+        if (disposed) return;
+        disposed = true;
+        clearAllProjectiles();
+        if (!ownsAssets) return;
+
+        // Texture dan sound dipinjam dari Assets, kembalikan (jangan di-dispose langsung)
+        Assets.release(TURRET_TEXTURE);
+        Assets.release(CHARGING_TEXTURE);
+        Assets.release(GRENADE_TEXTURE);
+        Assets.release(GRENADE_PROJECTILE_TEXTURE);
+        Assets.release(DESTROYED_TEXTURE);
+        Assets.release(EXPLOSION_TEXTURE);
+
+        Assets.release(CHARGE_SOUND);
+        Assets.release(PREPARE_CHARGE_SOUND);
+        Assets.release(BULLET_SOUND);
+        Assets.release(GRENADE_THROW_SOUND);
+        Assets.release(GRENADE_EXPLOSION_SOUND);
+        Assets.release(DESTROYED_SOUND);
     }
 }
@@ -1,27 +1,28 @@
 package io.DutchSlayer.attack.enemy;
 
-import com.badlogic.gdx.Gdx;
 import com.badlogic.gdx.audio.Sound;
 import com.badlogic.gdx.graphics.Texture;
-import com.badlogic.gdx.graphics.g2d.SpriteBatch;
 import com.badlogic.gdx.graphics.g2d.TextureRegion;
-import com.badlogic.gdx.graphics.glutils.ShapeRenderer;
 import com.badlogic.gdx.math.MathUtils;
 import com.badlogic.gdx.math.Vector2;
-import com.badlogic.gdx.utils.Array;
 import io.DutchSlayer.attack.enemy.fsm.EnemyFSM;
 import io.DutchSlayer.attack.enemy.fsm.EnemyState;
-import io.DutchSlayer.attack.player.weapon.Bullet;
-import io.DutchSlayer.attack.player.weapon.Grenade;
+import io.DutchSlayer.attack.player.weapon.Pistol;
 import io.DutchSlayer.attack.screens.GameScreen;
+import io.DutchSlayer.attack.screens.render.RenderQueue;
+import io.DutchSlayer.utils.Assets;
+import io.DutchSlayer.utils.Atlases;
 import io.DutchSlayer.utils.Constant;
 
 /**
  * Enemy dasar dengan FSM dan satu jenis serangan tetap berdasarkan AttackType.
  */
 public class BasicEnemy {
+    private static final String THROW_GRENADE_SOUND = "player/grenade_throw.mp3";
+    private static final String DEATH_SOUND = "enemy/enemy_death.mp3";
 
     private float x, y;
+    private float prevX, prevY; // Posisi step sebelumnya, untuk interpolasi render
     private final float width, height;
     private final float baseSpeed;
 
@@ -32,7 +33,6 @@ public class BasicEnemy {
     private int maxHealth = 3;
     private int currentHealth = maxHealth;
 
-    private final Array<Bullet> bullets = new Array<>();
     private float fireCooldown = 1.5f;
     private float fireTimer = 0f;
 
@@ -42,10 +42,10 @@ public class BasicEnemy {
     private Sound throwGrenadeSound;
     private Sound deathSound;
     private Sound shootSound; // Deklarasi shootSound di sini
+    private TextureRegion bulletRight, bulletLeft; // Region bullet dari atlas attack, kiri = flip
 
     private final float awarenessRadius = Constant.SCREEN_WIDTH / 2f;
     private final float attackDistance = 800f;
-    public static final float FIXED_DELTA = 1f / 60f;
     private Vector2 playerRef;
 
     private float reloadTime;
@@ -70,30 +70,38 @@ public class BasicEnemy {
     private int enemyBurstIndex = 0;
     private static final float ENEMY_BURST_DELAY = 0.08f;
     private boolean dropChecked = false;
+    private int chunkIndex = -1;    // Chunk WorldStreamer yang men-spawn enemy ini
+    private int spawnSlot = -1;     // Urutan penempatan di chunk, untuk mencatat enemy yang sudah dibunuh
 
     public BasicEnemy(AttackType type, float spawnX, float spawnY, GameScreen gameScreen) {
         this.attackType = type;
         this.x = spawnX;
         this.y = spawnY;
+        this.prevX = spawnX;
+        this.prevY = spawnY;
         this.width = Constant.PLAYER_WIDTH * 1.75f;
         this.height = Constant.PLAYER_HEIGHT * 1.25f;
         this.baseSpeed = Constant.PLAYER_SPEED * 0.4f;
         this.gameScreenRef = gameScreen;
 
         this.patrolMinX = Math.max(0, spawnX - 80);
-        this.patrolMaxX = Math.min(Constant.MAP_WIDTH, spawnX + 80);
+        this.patrolMaxX = Math.min(gameScreen.getMapWidth(), spawnX + 80);
 
         this.fsm = new EnemyFSM(this);
         configureWeaponByType();
         if (attackType == AttackType.STRAIGHT_SHOOT || attackType == AttackType.BURST_FIRE || attackType == AttackType.ARC_GRENADE) {
-            shootSound = Gdx.audio.newSound(Gdx.files.internal("player/pistol.mp3"));
+            shootSound = Assets.sound(Pistol.FIRE_SOUND);
+            bulletRight = Atlases.region(Atlases.ATTACK, "player/bullet");
+            bulletLeft = Atlases.region(Atlases.ATTACK, "player/bullet");
+            if (bulletLeft != null) bulletLeft.flip(true, false);
         }
 
         if (attackType == AttackType.ARC_GRENADE || attackType == AttackType.BURST_FIRE) {
-            this.throwGrenadeSound = Gdx.audio.newSound(Gdx.files.internal("player/grenade_throw.mp3"));
+            this.throwGrenadeSound = Assets.sound(THROW_GRENADE_SOUND);
         }
 
-        deathSound = Gdx.audio.newSound(Gdx.files.internal("enemy/enemy_death.mp3"));
+        // Semua sound dipinjam dari Assets, 40 enemy tetap satu decode per file
+        deathSound = Assets.sound(DEATH_SOUND);
 
         this.visuals = new EnemyVisuals(this.attackType);
     }
@@ -127,6 +135,8 @@ public class BasicEnemy {
     }
 
     public void update(float delta, Vector2 playerPos) {
+        this.prevX = x;
+        this.prevY = y;
         this.lastDelta = delta;
         this.playerRef = playerPos;
         fsm.update();
@@ -141,13 +151,6 @@ public class BasicEnemy {
                 }
             }
         }
-
-        for (Bullet bullet : bullets) {
-            bullet.update(delta, -Float.MAX_VALUE, Float.MAX_VALUE);
-        }
-        for (int i = bullets.size - 1; i >= 0; i--) {
-            if (!bullets.get(i).isAlive()) bullets.removeIndex(i);
-        }
     }
 
     public boolean hasDropBeenChecked() {
@@ -158,16 +161,32 @@ public class BasicEnemy {
         this.dropChecked = value;
     }
 
+    public int getChunkIndex() {
+        return chunkIndex;
+    }
+
+    public void setChunkIndex(int chunkIndex) {
+        this.chunkIndex = chunkIndex;
+    }
+
+    public int getSpawnSlot() {
+        return spawnSlot;
+    }
+
+    public void setSpawnSlot(int spawnSlot) {
+        this.spawnSlot = spawnSlot;
+    }
+
     public void updatePatrol() {
         float patrolSpeed = baseSpeed;
         if (movingRight) {
-            x += patrolSpeed * FIXED_DELTA;
+            x += patrolSpeed * lastDelta;
             if (x >= patrolMaxX) {
                 x = patrolMaxX;
                 movingRight = false;
             }
         } else {
-            x -= patrolSpeed * FIXED_DELTA;
+            x -= patrolSpeed * lastDelta;
             if (x <= patrolMinX) {
                 x = patrolMinX;
                 movingRight = true;
@@ -350,16 +369,7 @@ public class BasicEnemy {
         boolean shootRight = playerRef.x > x;
         float angle = shootRight ? 0f : (float) Math.PI;
 
-        Texture bulletTex = new Texture(Gdx.files.internal("player/bullet.png"));
-        TextureRegion region = new TextureRegion(bulletTex);
-
-        if (!shootRight) {
-            region.flip(true, false);
-        }
-
-        Bullet bullet = new Bullet(cx, cy, angle, true);
-        bullet.setTextureRegion(region);
-        bullets.add(bullet);
+        gameScreenRef.getEnemyBullets().add(gameScreenRef.getProjectilePools().obtainBullet(cx, cy, angle, true, shootRight ? bulletRight : bulletLeft));
     }
 
     private void throwArcGrenade() {
@@ -390,9 +400,8 @@ public class BasicEnemy {
             angleRad = MathUtils.degreesToRadians * (180f - 45f);
         }
 
-        Grenade grenade = new Grenade(startX, startY, angleRad, power, true, grenadeTex, explosionTex);
-
-        gameScreenRef.getGrenades().add(grenade);
+        gameScreenRef.getGrenades().add(gameScreenRef.getProjectilePools()
+            .obtainGrenade(startX, startY, angleRad, power, true, grenadeTex, explosionTex));
 
         System.out.println("Enemy throwing arc grenade!");
     }
@@ -400,7 +409,7 @@ public class BasicEnemy {
     private void dashTowardsPlayer() {
         float dx = playerRef.x - x;
         float dashSpeed = Constant.PLAYER_SPEED * 2.5f;
-        x += (dx < 0 ? -dashSpeed : dashSpeed) * FIXED_DELTA;
+        x += (dx < 0 ? -dashSpeed : dashSpeed) * lastDelta;
     }
 
     public void takeHit() {
@@ -414,21 +423,18 @@ public class BasicEnemy {
         }
     }
 
-    public void render(ShapeRenderer shapeRenderer) {
+    public void renderHealthBar(RenderQueue queue) {
         if (isAlive && fsm.getCurrentState() != EnemyState.DYING) {
             float barY = y + height + 4f;
-            shapeRenderer.setColor(0.5f, 0, 0, 1);
-            shapeRenderer.rect(x, barY, width, 4f);
-            shapeRenderer.setColor(1f, 0f, 0f, 1);
-            shapeRenderer.rect(x, barY, width * ((float) currentHealth / maxHealth), 4f);
+            queue.rect(RenderQueue.OVERLAY, x, barY, width, 4f, 0.5f, 0f, 0f, 1f);
+            queue.rect(RenderQueue.OVERLAY, x, barY, width * ((float) currentHealth / maxHealth), 4f, 1f, 0f, 0f, 1f);
         }
     }
 
-    public void render(SpriteBatch spriteBatch, float delta) {
-        for (Bullet bullet : bullets) {
-            bullet.render(spriteBatch);
-        }
-
+    /**
+     * Sprite enemy saja, peluru digambar GameRenderer (dulu dua kali: di sini dan di pass proyektil)
+     */
+    public void render(RenderQueue queue, float delta, float alpha) {
         if (isAlive) {
             TextureRegion frame = visuals.getFrameToRender(fsm.getCurrentState(), movingRight, delta);
 
@@ -439,7 +445,9 @@ public class BasicEnemy {
                 renderHeight = this.height / 2f;
             }
 
-            spriteBatch.draw(frame, x, (y - 20f), renderWidth, renderHeight);
+            float renderX = prevX + (x - prevX) * alpha;
+            float renderY = prevY + (y - prevY) * alpha;
+            queue.draw(RenderQueue.ENEMY, frame, renderX, (renderY - 20f), renderWidth, renderHeight);
         }
     }
 
@@ -453,15 +461,18 @@ public class BasicEnemy {
 
     public void dispose() {
         if (shootSound != null) {
-            shootSound.dispose();
+            Assets.release(Pistol.FIRE_SOUND);
+            shootSound = null;
         }
 
         if (throwGrenadeSound != null) {
-            throwGrenadeSound.dispose();
+            Assets.release(THROW_GRENADE_SOUND);
+            throwGrenadeSound = null;
         }
 
         if (deathSound != null) {
-            deathSound.dispose();
+            Assets.release(DEATH_SOUND);
+            deathSound = null;
         }
 
         if (visuals != null) {
@@ -469,10 +480,6 @@ public class BasicEnemy {
         }
     }
 
-    public Array<Bullet> getBullets() {
-        return bullets;
-    }
-
     public boolean isMovingRight() {
         return movingRight;
     }
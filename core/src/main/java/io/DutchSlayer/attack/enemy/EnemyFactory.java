@@ -2,6 +2,8 @@ package io.DutchSlayer.attack.enemy;
 
 import com.badlogic.gdx.math.RandomXS128;
 import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.Bits;
+import com.badlogic.gdx.utils.FloatArray;
 import io.DutchSlayer.attack.screens.GameScreen;
 import io.DutchSlayer.utils.Constant;
 
@@ -11,27 +13,44 @@ public class EnemyFactory {
         AttackType randomType = types[(int) (Math.random() * types.length)];
         return new BasicEnemy(randomType, x, y, gameScreen);
     }
-    public static Array<BasicEnemy> spawnDeterministicEnemies(int stageNumber, int count, float y, AttackType[] allowedTypes, GameScreen gameScreen) {
-        RandomXS128 rng = new RandomXS128(stageNumber);
-        Array<BasicEnemy> enemies = new Array<>();
-        float mapWidth = Constant.MAP_WIDTH + (float) Math.pow(stageNumber, 1.2);
-
-        float minX = Constant.WALL_WIDTH + 200f;
-        float maxX = mapWidth - 200f;
-        float screenOffset = Constant.SCREEN_WIDTH * 1.2f;
+    /**
+     * Tipe enemy yang boleh muncul di stage ini
+     */
+    public static AttackType[] allowedTypes(int stageNumber) {
+        return switch (stageNumber) {
+            case 1 -> new AttackType[]{AttackType.STRAIGHT_SHOOT};
+            case 2 -> new AttackType[]{AttackType.STRAIGHT_SHOOT, AttackType.ARC_GRENADE};
+            case 3 -> new AttackType[]{AttackType.BURST_FIRE, AttackType.ARC_GRENADE};
+            default -> new AttackType[]{AttackType.STRAIGHT_SHOOT, AttackType.BURST_FIRE, AttackType.ARC_GRENADE};
+        };
+    }
 
+    /**
+     * Posisi dan tipe enemy di [minX, maxX) dari rng, dengan jarak minimal antar enemy. Ujung kanan
+     * dikurangi jarak minimal supaya rentang yang bersebelahan (chunk WorldStreamer) tidak saling menempel.
+     *
+     * Urutan penempatan selalu sama untuk seed yang sama; index penempatan adalah slot enemy di chunk.
+     * Slot yang ada di skip (enemy yang sudah dibunuh) tetap ditempatkan supaya slot lain tidak
+     * bergeser, tapi BasicEnemy-nya tidak dibuat.
+     *
+     * @return jumlah slot yang ditempatkan (termasuk yang di-skip)
+     */
+    public static int spawnDeterministicEnemies(RandomXS128 rng, int count, float minX, float maxX, float y,
+                                                AttackType[] allowedTypes, Bits skip, GameScreen gameScreen,
+                                                Array<BasicEnemy> out) {
         float minGap = Constant.PLAYER_WIDTH * 2;
-        int maxAttempts = count * 10;
+        maxX -= minGap;
+        if (count <= 0 || maxX <= minX) return 0;
 
-        int placed = 0;
+        FloatArray placedX = new FloatArray(count);
+        int maxAttempts = count * 10;
         int attempts = 0;
 
-        while (placed < count && attempts < maxAttempts) {
-            float rawX = rng.nextFloat() * (maxX - minX) + minX;
-            float x = Math.min(rawX + screenOffset, mapWidth - 200f);
+        while (placedX.size < count && attempts < maxAttempts) {
+            float x = rng.nextFloat() * (maxX - minX) + minX;
             boolean overlaps = false;
-            for (BasicEnemy e : enemies) {
-                if (Math.abs(e.getX() - x) < minGap) {
+            for (int i = 0; i < placedX.size; i++) {
+                if (Math.abs(placedX.get(i) - x) < minGap) {
                     overlaps = true;
                     break;
                 }
@@ -39,15 +58,18 @@ public class EnemyFactory {
 
             if (!overlaps) {
                 AttackType type = allowedTypes[rng.nextInt(allowedTypes.length)];
-                enemies.add(new BasicEnemy(type, x, y, gameScreen));
-                placed++;
+                int slot = placedX.size;
+                placedX.add(x);
+                if (skip == null || !skip.get(slot)) {
+                    BasicEnemy enemy = new BasicEnemy(type, x, y, gameScreen);
+                    enemy.setSpawnSlot(slot);
+                    out.add(enemy);
+                }
             }
 
             attempts++;
         }
 
-        return enemies;
+        return placedX.size;
     }
-
-
 }
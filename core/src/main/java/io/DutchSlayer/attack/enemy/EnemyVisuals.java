@@ -1,76 +1,52 @@
 // File: EnemyVisuals.java
 package io.DutchSlayer.attack.enemy; // Sesuaikan dengan struktur paket Anda
 
-import com.badlogic.gdx.Gdx;
-import com.badlogic.gdx.graphics.Texture;
 import com.badlogic.gdx.graphics.g2d.Animation;
 import com.badlogic.gdx.graphics.g2d.TextureRegion;
 import com.badlogic.gdx.utils.Array;
 import io.DutchSlayer.attack.enemy.fsm.EnemyState; // Import EnemyState
+import io.DutchSlayer.utils.Atlases;
 
+/**
+ * Frame enemy attack mode. Semua region berasal dari atlas attack (dibagi antar enemy),
+ * setiap EnemyVisuals hanya memegang copy region sendiri supaya flip per enemy tidak saling ganggu.
+ */
 public class EnemyVisuals {
 
     private final AttackType attackType;
 
-    private Texture idleTexture; // Menggunakan enemy_run1 untuk idle
-    private TextureRegion idleFrame;
-    private Texture deadTexture;
+    private TextureRegion idleFrame; // Menggunakan frame lari pertama untuk idle
+    private TextureRegion deadFrame;
 
-    private Array<Texture> runTextures; // Untuk menyimpan referensi Texture agar bisa di-dispose
     private Animation<TextureRegion> runAnimation;
 
     private float stateTime = 0f;
 
     public EnemyVisuals(AttackType type) {
         this.attackType = type; // Simpan tipe serangannya
-        this.runTextures = new Array<>();
         loadAssets();
     }
 
     private void loadAssets() {
-        deadTexture = new Texture(Gdx.files.internal("enemy/enemy_dead.png"));
+        deadFrame = Atlases.region(Atlases.ATTACK, "enemy/enemy_dead");
 
         Array<TextureRegion> runFrames = new Array<>();
 
         if (attackType == AttackType.BURST_FIRE) {
-            // Aset khusus untuk BURST_FIRE
-            // Idle menggunakan frame pertama dari animasi lari
-            idleTexture = new Texture(Gdx.files.internal("enemy/enemy_run_ar1.png"));
-            idleFrame = new TextureRegion(idleTexture);
-            runTextures.add(idleTexture); // Tambahkan ke daftar dispose
-            runFrames.add(idleFrame);
-
-            // Memuat sisa frame animasi lari (2 sampai 4)
-            for (int i = 2; i <= 4; i++) {
-                Texture runTex = new Texture(Gdx.files.internal("enemy/enemy_run_ar" + i + ".png"));
-                runTextures.add(runTex);
-                runFrames.add(new TextureRegion(runTex));
+            // Aset khusus untuk BURST_FIRE, idle menggunakan frame pertama dari animasi lari
+            for (int i = 1; i <= 4; i++) {
+                runFrames.add(Atlases.region(Atlases.ATTACK, "enemy/enemy_run_ar" + i));
             }
-
-            // Kecepatan animasi bisa disesuaikan jika perlu
-            runAnimation = new Animation<>(0.1f, runFrames, Animation.PlayMode.LOOP);
-
         } else {
-            // Aset default untuk tipe musuh lainnya
-            idleTexture = new Texture(Gdx.files.internal("enemy/enemy_run1.png"));
-            idleFrame = new TextureRegion(idleTexture);
-
-            // Memuat Texture RUN (enemy_run1.png sampai enemy_run5.png)
+            // Aset default untuk tipe musuh lainnya (enemy_run1 sampai enemy_run5)
             for (int i = 1; i <= 5; i++) {
-                Texture runTex = new Texture(Gdx.files.internal("enemy/enemy_run" + i + ".png"));
-                // Hindari duplikasi jika idle texture sama dengan frame pertama
-                if (i > 1 || !runTex.equals(idleTexture)) {
-                    runTextures.add(runTex);
-                }
-                runFrames.add(new TextureRegion(runTex));
+                runFrames.add(Atlases.region(Atlases.ATTACK, "enemy/enemy_run" + i));
             }
-            // Jika idleTexture adalah bagian dari animasi, pastikan sudah ditambahkan
-            if (!runTextures.contains(idleTexture, true)) {
-                runTextures.add(idleTexture);
-            }
-
-            runAnimation = new Animation<>(0.1f, runFrames, Animation.PlayMode.LOOP);
         }
+        idleFrame = runFrames.first();
+
+        // Kecepatan animasi bisa disesuaikan jika perlu
+        runAnimation = new Animation<>(0.1f, runFrames, Animation.PlayMode.LOOP);
     }
 
     /**
@@ -84,14 +60,13 @@ public class EnemyVisuals {
     public TextureRegion getFrameToRender(EnemyState currentState, boolean movingRight, float deltaTime) {
         // --- MODIFIKASI: Prioritaskan state DYING ---
         if (currentState == EnemyState.DYING) {
-            TextureRegion deadRegion = new TextureRegion(deadTexture);
             // Pastikan arah hadapnya benar saat mati
-            if (movingRight && !deadRegion.isFlipX()) {
-                deadRegion.flip(true, false);
-            } else if (!movingRight && deadRegion.isFlipX()) {
-                deadRegion.flip(true, false);
+            if (movingRight && !deadFrame.isFlipX()) {
+                deadFrame.flip(true, false);
+            } else if (!movingRight && deadFrame.isFlipX()) {
+                deadFrame.flip(true, false);
             }
-            return deadRegion;
+            return deadFrame;
         }
 
         this.stateTime += deltaTime;
@@ -113,18 +88,6 @@ public class EnemyVisuals {
     }
 
     public void dispose() {
-        // --- BARU: Jangan lupa dispose tekstur baru ---
-        if (deadTexture != null) {
-            deadTexture.dispose();
-        }
-        if (idleTexture != null) {
-            idleTexture.dispose();
-        }
-        for (Texture tex : runTextures) {
-            if (tex != null) {
-                tex.dispose();
-            }
-        }
-        runTextures.clear();
+        // Region milik atlas attack, dilepas GameScreen lewat Atlases.unload
     }
 }
@@ -24,7 +24,7 @@ public class Building {
     }
 
     public void render(SpriteBatch spriteBatch, float offsetX) {
-        spriteBatch.draw(type.texture, x - offsetX, y, width, height);
+        spriteBatch.draw(type.getTexture(), x - offsetX, y, width, height);
     }
 
 
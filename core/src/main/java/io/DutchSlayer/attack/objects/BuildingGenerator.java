@@ -2,7 +2,6 @@ package io.DutchSlayer.attack.objects;
 
 import com.badlogic.gdx.math.RandomXS128;
 import com.badlogic.gdx.utils.Array;
-import io.DutchSlayer.utils.Constant;
 
 import java.util.Arrays;
 import java.util.List;
@@ -25,51 +24,44 @@ public class BuildingGenerator {
         }
     }
 
-    public static Array<Building> generate(float mapWidth, int stageNumber) {
-        Array<Building> buildings = new Array<>();
-        RandomXS128 rng = new RandomXS128(stageNumber);
-
-        // Layout dasar tetap (tapi jumlah repeat lebih rasional)
-        List<BlockDefinition> layout = Arrays.asList(
-            new BlockDefinition(BuildingType.ADMIN_OFFICE, 1, 1, false, false),
-            new BlockDefinition(BuildingType.FORT, 1, 1, false, false),
-            new BlockDefinition(BuildingType.BARRACKS, 1, 2, true, false),
-            new BlockDefinition(BuildingType.WAREHOUSE, 1, 1, false, false),
-            new BlockDefinition(BuildingType.PLANTATION, 2, 3, true, false),
-            new BlockDefinition(BuildingType.WAREHOUSE, 1, 1, false, false),
-            new BlockDefinition(BuildingType.BARRACKS, 1, 1, true, false)
-        );
-
-        int zoneCount = Math.min(5, 2 + stageNumber / 2); // disederhanakan jadi maksimal 5 zona
-        float zoneWidth = mapWidth / zoneCount;
-
-        for (int z = 0; z < zoneCount; z++) {
-            float zoneStart = z * zoneWidth + 80f;
-            float zoneEnd = (z + 1) * zoneWidth - 80f;
-            float currentX = zoneStart;
-
-            for (BlockDefinition block : layout) {
-                int repeat = rng.nextInt(block.maxCount - block.minCount + 1) + block.minCount;
-
-                for (int i = 0; i < repeat; i++) {
-                    if (currentX + block.type.width > zoneEnd) break;
-
-                    float xOffset = rng.nextFloat() * 15f - 7.5f;
-                    buildings.add(new Building(currentX + xOffset, block.type));
-
-                    float spacing = block.prefersCluster
-                        ? 50f + rng.nextFloat() * 20f    // antar barracks, plantation
-                        : 100f + rng.nextFloat() * 40f;  // antar warehouse, fort, office
-
-                    currentX += block.type.width + spacing;
-                }
-
-                // Spacing antar tipe bangunan berbeda
-                currentX += 120f + rng.nextFloat() * 40f;
+    // Layout dasar tetap (tapi jumlah repeat lebih rasional)
+    private static final List<BlockDefinition> LAYOUT = Arrays.asList(
+        new BlockDefinition(BuildingType.ADMIN_OFFICE, 1, 1, false, false),
+        new BlockDefinition(BuildingType.FORT, 1, 1, false, false),
+        new BlockDefinition(BuildingType.BARRACKS, 1, 2, true, false),
+        new BlockDefinition(BuildingType.WAREHOUSE, 1, 1, false, false),
+        new BlockDefinition(BuildingType.PLANTATION, 2, 3, true, false),
+        new BlockDefinition(BuildingType.WAREHOUSE, 1, 1, false, false),
+        new BlockDefinition(BuildingType.BARRACKS, 1, 1, true, false)
+    );
+
+    /**
+     * Isi satu zona [zoneStart, zoneEnd] dengan layout bangunan. WorldStreamer memakai satu zona
+     * per chunk dengan rng dari seed chunk, jadi bangunan chunk yang di-load ulang selalu sama.
+     */
+    public static void generateZone(float zoneStart, float zoneEnd, RandomXS128 rng, Array<Building> out) {
+        float currentX = zoneStart + 80f;
+        float limit = zoneEnd - 80f;
+
+        for (BlockDefinition block : LAYOUT) {
+            int repeat = rng.nextInt(block.maxCount - block.minCount + 1) + block.minCount;
+
+            for (int i = 0; i < repeat; i++) {
+                if (currentX + block.type.width > limit) break;
+
+                float xOffset = rng.nextFloat() * 15f - 7.5f;
+                out.add(new Building(currentX + xOffset, block.type));
+
+                float spacing = block.prefersCluster
+                    ? 50f + rng.nextFloat() * 20f    // antar barracks, plantation
+                    : 100f + rng.nextFloat() * 40f;  // antar warehouse, fort, office
+
+                currentX += block.type.width + spacing;
             }
-        }
 
-        return buildings;
+            // Spacing antar tipe bangunan berbeda
+            currentX += 120f + rng.nextFloat() * 40f;
+        }
     }
 
 }
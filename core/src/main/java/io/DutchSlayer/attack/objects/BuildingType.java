@@ -1,6 +1,7 @@
 package io.DutchSlayer.attack.objects;
 
 import com.badlogic.gdx.graphics.Texture;
+import io.DutchSlayer.utils.Assets;
 
 import static io.DutchSlayer.utils.Constant.PLAYER_HEIGHT;
 import static io.DutchSlayer.utils.Constant.PLAYER_WIDTH;
@@ -15,17 +16,31 @@ public enum BuildingType {
 
     public final float width;
     public final float height;
-    public final Texture texture;
+    public final String path;
+    private Texture texture;
 
     BuildingType(String path, float width, float height) {
         this.width = width;
         this.height = height;
-        this.texture = new Texture(path); // otomatis load saat enum diakses
+        this.path = path;
+    }
+
+    /**
+     * Texture dipinjam dari Assets saat pertama dipakai (dulu langsung load saat enum diakses)
+     */
+    public Texture getTexture() {
+        if (texture == null) {
+            texture = Assets.texture(path);
+        }
+        return texture;
     }
 
     public static void disposeAll() {
         for (BuildingType type : BuildingType.values()) {
-            type.texture.dispose();
+            if (type.texture != null) {
+                Assets.release(type.path);
+                type.texture = null;
+            }
         }
     }
 
@@ -4,11 +4,10 @@ import com.badlogic.gdx.graphics.Color;
 import com.badlogic.gdx.graphics.g2d.BitmapFont;
 import com.badlogic.gdx.graphics.g2d.GlyphLayout;
 import com.badlogic.gdx.graphics.g2d.SpriteBatch;
-import com.badlogic.gdx.graphics.glutils.ShapeRenderer;
-import com.badlogic.gdx.math.Rectangle;
 import io.DutchSlayer.attack.player.Player;
 import io.DutchSlayer.attack.player.weapon.AssaultRifle;
 import io.DutchSlayer.attack.player.weapon.Weapon;
+import io.DutchSlayer.attack.screens.render.RenderQueue;
 import io.DutchSlayer.utils.Constant;
 
 /**
@@ -37,7 +36,10 @@ public class PickupItem {
         this.groundY = Constant.TERRAIN_HEIGHT;
     }
 
-    public void update(Player player, float delta) {
+    /**
+     * Fisika jatuh, overlap dengan player dicek terpisah lewat tryCollect (hanya pickup di dekat player)
+     */
+    public void update(float delta) {
         if (!collected && falling) {
             velocityY += gravity * delta;
             offsetY += velocityY * delta;
@@ -48,8 +50,9 @@ public class PickupItem {
                 falling = false;
             }
         }
+    }
 
-
+    public void tryCollect(Player player) {
         if (collected) return;
 
         if (overlaps(player)) {
@@ -60,9 +63,9 @@ public class PickupItem {
 
 
     private boolean overlaps(Player player) {
-        Rectangle playerRect = new Rectangle(player.getX(), player.getY(), player.getWidth(), player.getHeight());
-        Rectangle itemRect = new Rectangle(x, y + offsetY, width, height); // ✅ gunakan posisi aktual saat jatuh
-        return playerRect.overlaps(itemRect);
+        float itemY = y + offsetY; // ✅ gunakan posisi aktual saat jatuh
+        return player.getX() < x + width && player.getX() + player.getWidth() > x
+            && player.getY() < itemY + height && player.getY() + player.getHeight() > itemY;
     }
 
 
@@ -91,7 +94,15 @@ public class PickupItem {
         return !collected;
     }
 
-    public void renderShape(ShapeRenderer sr) {
+    public float getX() {
+        return x;
+    }
+
+    public float getWidth() {
+        return width;
+    }
+
+    public void renderShape(RenderQueue queue) {
         if (collected) return;
 
         float drawX = x;
@@ -100,12 +111,10 @@ public class PickupItem {
         float radius = 6f;
 
         // Border hitam
-        sr.setColor(Color.BLACK);
-        sr.rect(drawX - borderSize, drawY - borderSize, width + borderSize * 2, height + borderSize * 2);
+        queue.rect(RenderQueue.OVERLAY, drawX - borderSize, drawY - borderSize, width + borderSize * 2, height + borderSize * 2, Color.BLACK);
 
         // Isi kotak
-        sr.setColor(getColor());
-        sr.rect(drawX, drawY, width, height);
+        queue.rect(RenderQueue.OVERLAY, drawX, drawY, width, height, getColor());
     }
 
     public void renderLabel(SpriteBatch batch, BitmapFont font) {
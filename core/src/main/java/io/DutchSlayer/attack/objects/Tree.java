@@ -36,10 +36,13 @@ public class Tree {
         this.height = newHeight;
     }
 
-    public static Tree generateFixed(float mapWidth, RandomXS128 rng, Texture texture) {
+    /**
+     * Pohon ukuran tetap dengan x acak di [fromX, toX - width] (satu chunk WorldStreamer)
+     */
+    public static Tree generateFixed(float fromX, float toX, RandomXS128 rng, Texture texture) {
         float width = 200f;   // fixed size
         float height = 350f; // fixed size
-        float x = rng.nextFloat() * (mapWidth - width);
+        float x = fromX + rng.nextFloat() * (toX - fromX - width);
         float y = Constant.TERRAIN_HEIGHT + 8f;
         return new Tree(x, y, width, height, texture);
     }
@@ -57,6 +60,14 @@ public class Tree {
         return x;
     }
 
+    public float getY() {
+        return y;
+    }
+
+    public Texture getTexture() {
+        return texture;
+    }
+
     public float getWidth() {
         return width;
     }
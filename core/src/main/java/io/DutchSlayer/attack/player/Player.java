@@ -3,7 +3,6 @@ package io.DutchSlayer.attack.player; // Sesuaikan dengan struktur paket Anda
 import com.badlogic.gdx.Gdx;
 import com.badlogic.gdx.Input;
 import com.badlogic.gdx.graphics.OrthographicCamera;
-import com.badlogic.gdx.graphics.g2d.SpriteBatch;
 import com.badlogic.gdx.graphics.g2d.TextureRegion;
 import com.badlogic.gdx.math.Rectangle;
 import com.badlogic.gdx.math.Vector2;
@@ -12,6 +11,8 @@ import io.DutchSlayer.attack.boss.TankBoss;
 import io.DutchSlayer.attack.player.weapon.Bullet;
 import io.DutchSlayer.attack.player.weapon.Weapon;
 import io.DutchSlayer.attack.screens.GameScreen;
+import io.DutchSlayer.attack.screens.logic.ProjectilePools;
+import io.DutchSlayer.attack.screens.render.RenderQueue;
 import io.DutchSlayer.utils.Constant;
 
 public class Player {
@@ -38,6 +39,8 @@ public class Player {
         // Inisialisasi nilai awal PlayerState dari field Player.java lama
         this.playerState.x = Constant.PLAYER_START_X;
         this.playerState.y = Constant.TERRAIN_HEIGHT;
+        this.playerState.prevX = this.playerState.x;
+        this.playerState.prevY = this.playerState.y;
         this.playerState.lives = 5;
         this.playerState.grenadeAmmo = 5;
 
@@ -72,14 +75,35 @@ public class Player {
 
     public void setGameScreen(GameScreen gameScreen) {
         this.gameScreen = gameScreen;
+        if (gameScreen != null) {
+            playerState.mapWidth = gameScreen.getMapWidth();
+        }
         if (this.combatHandler == null && this.gameScreen != null) {
             this.combatHandler = new PlayerCombat(this, this.gameScreen);
         }
     }
 
-    // Di dalam kelas Player.java
+    /**
+     * Latch input "just pressed" sekali per frame render, sebelum step logic dijalankan.
+     * Flag dipakai oleh step berikutnya lalu di-clear di akhir update().
+     */
+    public void pollInput() {
+        playerState.jumpQueued |= Gdx.input.isKeyJustPressed(Input.Keys.SPACE);
+        playerState.dashQueued |= Gdx.input.isKeyJustPressed(Input.Keys.SHIFT_LEFT);
+        playerState.fireQueued |= Gdx.input.isKeyJustPressed(Input.Keys.J);
+        playerState.grenadeQueued |= Gdx.input.isKeyJustPressed(Input.Keys.K);
+    }
 
     public void update(float delta) {
+        playerState.prevX = playerState.x;
+        playerState.prevY = playerState.y;
+
+        updateStep(delta);
+
+        playerState.clearQueuedInput();
+    }
+
+    private void updateStep(float delta) {
         if (combatHandler == null) { // Guard jika combatHandler belum siap
             if (movementHandler != null) {
                 movementHandler.update(delta, playerState);
@@ -91,8 +115,8 @@ public class Player {
         }
 
         // 1. Ambil input untuk combat
-        boolean fireInput = Gdx.input.isKeyJustPressed(Input.Keys.J);
-        boolean grenadeInput = Gdx.input.isKeyJustPressed(Input.Keys.K);
+        boolean fireInput = playerState.fireQueued;
+        boolean grenadeInput = playerState.grenadeQueued;
 
         // 2. Update Movement Handler
         movementHandler.update(delta, playerState);
@@ -111,7 +135,7 @@ public class Player {
 
             // Batasi posisi respawn X dalam area peta
             newRespawnX = Math.max(newRespawnX, Constant.WALL_WIDTH);
-            newRespawnX = Math.min(newRespawnX, Constant.MAP_WIDTH - playerState.playerWidth);
+            newRespawnX = Math.min(newRespawnX, playerState.mapWidth - playerState.playerWidth);
 
             respawn(newRespawnX, Constant.TERRAIN_HEIGHT); // Panggil metode respawn fisik
         }
@@ -129,7 +153,7 @@ public class Player {
         }
         for (int i = bullets.size - 1; i >= 0; i--) {
             if (!bullets.get(i).isAlive()) {
-                bullets.removeIndex(i);
+                getProjectilePools().free(bullets.removeIndex(i));
             }
         }
 
@@ -176,7 +200,7 @@ public class Player {
         }
     }
 
-    public void render(SpriteBatch spriteBatch, float delta) {
+    public void render(RenderQueue queue, float delta, float alpha) {
         if (visualsHandler == null) return; //
 
         // Tentukan isRunning
@@ -191,13 +215,13 @@ public class Player {
         if (region == null) { //
             // Render peluru meskipun pemain tidak terlihat
             for (Bullet bullet : bullets) { //
-                bullet.render(spriteBatch); //
+                bullet.render(queue, RenderQueue.PLAYER, alpha); //
             }
             return; //
         }
 
         // Tentukan posisi Y default
-        float renderY = playerState.y; //
+        float renderY = getRenderY(alpha);
 
         // Logika untuk render pemain mati di bawah tanah (tidak berubah)
         if (playerState.isDead && playerState.isWaitingToRespawn) { //
@@ -214,7 +238,7 @@ public class Player {
 
         // Tentukan lebar dan posisi X render default
         float renderWidth = playerState.playerWidth; //
-        float renderX = playerState.x; //
+        float renderX = getRenderX(alpha);
 
         // Jika sedang dash, buat gambarnya lebih lebar dan geser posisi X agar tetap di tengah
         if (playerState.isDashing) { //
@@ -229,21 +253,13 @@ public class Player {
         float scaleHorizontal = 1.25f + 0.3f; //
         float scaleVertical = 1.25f; //
 
-        // Panggil draw dengan variabel render yang sudah disesuaikan
-        spriteBatch.draw(
-            region,
-            renderX, // Gunakan renderX yang sudah disesuaikan
-            renderY,
-            0, 0,
-            renderWidth,  // Gunakan renderWidth yang sudah disesuaikan
-            renderHeight,
-            scaleHorizontal, scaleVertical,
-            0
-        );
+        // Origin (0, 0) tanpa rotasi, jadi skala cukup dikalikan ke ukuran
+        queue.draw(RenderQueue.PLAYER, region, renderX, renderY,
+            renderWidth * scaleHorizontal, renderHeight * scaleVertical);
 
         // Render peluru (tidak berubah)
         for (Bullet bullet : bullets) { //
-            bullet.render(spriteBatch); //
+            bullet.render(queue, RenderQueue.PLAYER, alpha); //
         }
     }
 
@@ -256,6 +272,9 @@ public class Player {
         playerState.x = newXBase;
         // Atur Y jauh di atas platform agar terlihat jatuh (sesuai Player.java lama)
         playerState.y = newYRespawnPlatform + 400f;
+        // Teleport, jangan diinterpolasi dari posisi mati
+        playerState.prevX = playerState.x;
+        playerState.prevY = playerState.y;
         playerState.vx = 0;
         // Atur kecepatan Y awal untuk jatuh (sesuai Player.java lama)
         // Anda bisa juga set playerState.vy = 0f; jika ingin jatuh murni karena gravitasi dari posisi diam di udara.
@@ -314,6 +333,14 @@ public class Player {
         return playerState.y;
     }
 
+    public float getRenderX(float alpha) {
+        return playerState.prevX + (playerState.x - playerState.prevX) * alpha;
+    }
+
+    public float getRenderY(float alpha) {
+        return playerState.prevY + (playerState.y - playerState.prevY) * alpha;
+    }
+
     public float getWidth() {
         return playerState.playerWidth;
     }
@@ -428,6 +455,10 @@ public class Player {
         return keyDown ? playerState.y + playerState.playerHeight * 0.725f : playerState.y + playerState.playerHeight * 0.80f;
     }
 
+    public ProjectilePools getProjectilePools() {
+        return gameScreen.getProjectilePools();
+    }
+
     public Array<Bullet> getBullets() {
         return bullets;
     }
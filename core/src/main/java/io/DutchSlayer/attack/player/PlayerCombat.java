@@ -1,22 +1,23 @@
 package io.DutchSlayer.attack.player; // Sesuaikan dengan struktur paket Anda
 
-import com.badlogic.gdx.Gdx;
 import com.badlogic.gdx.audio.Sound;
 import com.badlogic.gdx.graphics.Texture;
 import io.DutchSlayer.attack.player.weapon.AssaultRifle;
-import io.DutchSlayer.attack.player.weapon.Grenade;
 import io.DutchSlayer.attack.player.weapon.Pistol;
 import io.DutchSlayer.attack.player.weapon.Weapon;
 import io.DutchSlayer.attack.screens.GameScreen;
+import io.DutchSlayer.utils.Assets;
 // import io.DutchSlayer.utils.Constant; // Tidak secara langsung digunakan di sini
 
 public class PlayerCombat {
+    private static final String THROW_SOUND = "player/grenade_throw.mp3";
+    private static final String PLAYER_DIES_SOUND = "player/player_dies.mp3";
 
     private Weapon currentWeapon;
     private Player playerRef;         // Referensi ke objek Player utama
     private GameScreen gameScreenRef; // Referensi ke GameScreen untuk spawn granat
-    private final Sound throwSound;
-    private final Sound playerDiesSound;
+    private Sound throwSound;
+    private Sound playerDiesSound;
     // Konstanta yang sebelumnya ada di Player.java terkait combat
     // Ini adalah cooldown yang dimiliki Player, bukan senjata.
     private final float PLAYER_FIRE_COOLDOWN = 0.25f; // private float fireCooldown = 0.25f; dari Player.java
@@ -30,8 +31,8 @@ public class PlayerCombat {
         this.playerRef = playerReference;
         this.gameScreenRef = gameScreenReference;
         this.currentWeapon = new Pistol(); // Sesuai inisialisasi di Player.java
-        this.throwSound = Gdx.audio.newSound(Gdx.files.internal("player/grenade_throw.mp3"));
-        this.playerDiesSound = Gdx.audio.newSound(Gdx.files.internal("player/player_dies.mp3")); //
+        this.throwSound = Assets.sound(THROW_SOUND);
+        this.playerDiesSound = Assets.sound(PLAYER_DIES_SOUND);
     }
 
     /**
@@ -102,7 +103,8 @@ public class PlayerCombat {
         float power = 800f;
 
         if (gameScreenRef != null) {
-            gameScreenRef.getGrenades().add(new Grenade(centerX, centerY, angle, power, false, grenadeTex, explosionTex));
+            gameScreenRef.getGrenades().add(gameScreenRef.getProjectilePools()
+                .obtainGrenade(centerX, centerY, angle, power, false, grenadeTex, explosionTex));
         } else {
             System.err.println("PlayerCombat: GameScreen reference is null, cannot throw grenade.");
         }
@@ -155,6 +157,9 @@ public class PlayerCombat {
     // === Metode Getter & Setter ===
 
     public void setWeapon(Weapon weapon) {
+        if (currentWeapon != null && currentWeapon != weapon) {
+            currentWeapon.dispose(); // Kembalikan sound senjata lama ke Assets
+        }
         this.currentWeapon = weapon;
         // System.out.println("PlayerCombat: Weapon set to " + (weapon != null ? weapon.getName() : "None"));
     }
@@ -195,10 +200,15 @@ public class PlayerCombat {
 
     public void dispose() {
         if (throwSound != null) {
-            throwSound.dispose();
+            Assets.release(THROW_SOUND);
+            throwSound = null;
         }
         if (playerDiesSound != null) {
-            playerDiesSound.dispose();
+            Assets.release(PLAYER_DIES_SOUND);
+            playerDiesSound = null;
+        }
+        if (currentWeapon != null) {
+            currentWeapon.dispose();
         }
     }
 
@@ -4,9 +4,12 @@ import com.badlogic.gdx.Gdx;
 import com.badlogic.gdx.Input;
 import com.badlogic.gdx.audio.Sound;
 import com.badlogic.gdx.math.MathUtils;
+import io.DutchSlayer.utils.Assets;
 import io.DutchSlayer.utils.Constant; // Pastikan import Constant sudah benar
 
 public class PlayerMovement {
+    private static final String DASH_SOUND = "player/dash.mp3";
+    private static final String JUMP_SOUND = "player/player_jump.mp3";
 
     // Konstanta Gerakan (diambil dari Player.java sebelumnya)
     private final float GRAVITY = -2500f;
@@ -19,13 +22,13 @@ public class PlayerMovement {
     // Konstanta Dashing
     private final float DASH_DURATION = 0.2f;
     private final float DASH_COOLDOWN_PER_DASH = 1.5f;
-    private final Sound dashSound;
-    private final Sound jumpSound;
+    private Sound dashSound;
+    private Sound jumpSound;
 
     public PlayerMovement() {
         // BARU: Muat suara dash sekali saat objek dibuat
-        this.dashSound = Gdx.audio.newSound(Gdx.files.internal("player/dash.mp3"));
-        this.jumpSound = Gdx.audio.newSound(Gdx.files.internal("player/player_jump.mp3"));
+        this.dashSound = Assets.sound(DASH_SOUND);
+        this.jumpSound = Assets.sound(JUMP_SOUND);
     }
 
     public void update(float delta, PlayerState state) {
@@ -60,7 +63,7 @@ public class PlayerMovement {
 
         // === 2. Logika Dash ===
         // Dash dipicu jika tombol SHIFT ditekan DAN cooldown dash sudah habis
-        if (Gdx.input.isKeyJustPressed(Input.Keys.SHIFT_LEFT) && state.dashCooldown <= 0f) {
+        if (state.dashQueued && state.dashCooldown <= 0f) {
             dashSound.play(0.6f); // <-- BARU: Mainkan suara dash dengan volume 60%
             state.dashActiveTimer = DASH_DURATION; // Aktifkan dash
             state.dashCooldown = DASH_COOLDOWN_PER_DASH; // Mulai cooldown dash
@@ -132,7 +135,7 @@ public class PlayerMovement {
         }
 
         // === 6. Input Lompat ===
-        if (Gdx.input.isKeyJustPressed(Input.Keys.SPACE) && !state.isJumping && !state.isDucking) {
+        if (state.jumpQueued && !state.isJumping && !state.isDucking) {
             state.vy = JUMP_FORCE;
             state.isJumping = true;
             // --- BARU: Mainkan suara lompat ---
@@ -168,12 +171,17 @@ public class PlayerMovement {
 
         // === 10. Batasi Posisi Pemain pada Peta Keseluruhan ===
         // Pastikan state.playerWidth sudah benar merefleksikan lebar pemain
-        state.x = MathUtils.clamp(state.x, Constant.WALL_WIDTH, Constant.MAP_WIDTH - state.playerWidth);
+        state.x = MathUtils.clamp(state.x, Constant.WALL_WIDTH, state.mapWidth - state.playerWidth);
     }
 
     public void dispose() {
         if (dashSound != null) {
-            dashSound.dispose();
+            Assets.release(DASH_SOUND);
+            dashSound = null;
+        }
+        if (jumpSound != null) {
+            Assets.release(JUMP_SOUND);
+            jumpSound = null;
         }
     }
 }
@@ -9,6 +9,8 @@ public class PlayerState {
     public float y;
     public float vx; // Kecepatan horizontal
     public float vy; // Kecepatan vertikal
+    public float prevX; // Posisi step sebelumnya, untuk interpolasi render
+    public float prevY;
     public boolean isDead = false;
     public boolean facingRight = true;
     public int lives = 5; // Contoh nilai awal
@@ -33,6 +35,13 @@ public class PlayerState {
     public float respawnTimer = 0f;
     public boolean isWaitingToRespawn = false;
 
+    // Input "just pressed" yang di-latch per frame (lihat Player.pollInput).
+    // Logic jalan dengan step tetap, jadi isKeyJustPressed bisa terbaca 0 atau >1 kali per frame.
+    public boolean jumpQueued = false;
+    public boolean dashQueued = false;
+    public boolean fireQueued = false;
+    public boolean grenadeQueued = false;
+
     // Status Senjata & Amunisi (bisa juga di PlayerCombat jika lebih detail)
     public int grenadeAmmo = 5; // Contoh nilai awal
 
@@ -48,6 +57,9 @@ public class PlayerState {
     public Float leftBoundX = null;
     public Float rightBoundX = null;
 
+    // Lebar stage aktif (GameScreen.getMapWidth()), batas kanan gerak dan respawn
+    public float mapWidth = Constant.MAP_WIDTH;
+
     // Anda bisa menambahkan konstruktor jika perlu nilai awal yang lebih spesifik
     // public PlayerState() {
     //     // Inisialisasi nilai default jika diperlukan
@@ -57,4 +69,11 @@ public class PlayerState {
     public boolean isInvincible() {
         return invincibilityTimer > 0f;
     }
+
+    public void clearQueuedInput() {
+        jumpQueued = false;
+        dashQueued = false;
+        fireQueued = false;
+        grenadeQueued = false;
+    }
 }
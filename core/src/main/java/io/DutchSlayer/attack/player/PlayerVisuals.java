@@ -1,101 +1,81 @@
 package io.DutchSlayer.attack.player; // Sesuaikan dengan struktur paket Anda
 
-import com.badlogic.gdx.Gdx;
-import com.badlogic.gdx.graphics.Texture;
 import com.badlogic.gdx.graphics.g2d.Animation;
 import com.badlogic.gdx.graphics.g2d.TextureRegion;
 import com.badlogic.gdx.utils.Array;
+import io.DutchSlayer.utils.Atlases;
 
+/**
+ * Frame player attack mode, semua region dari atlas attack (satu page dengan enemy dan bullet).
+ */
 public class PlayerVisuals {
 
-    // Tekstur dan Region untuk Idle
-    private Texture idleTexture;
+    // Region untuk Idle
     private TextureRegion idleFrame;
 
-    // Tekstur dan Animasi untuk Berjalan/Lari
-    private Array<Texture> runTextures; // Untuk menyimpan referensi Texture agar bisa di-dispose
+    // Animasi untuk Berjalan/Lari
     private Animation<TextureRegion> walkAnimation;
 
-    private Texture deadTexture;
     private TextureRegion deadFrame;
 
-
-    private Texture arIdleTexture;
     private TextureRegion arIdleFrame;
-    private Array<Texture> arRunTextures;
     private Animation<TextureRegion> arWalkAnimation;
 
-
-    private Texture duckTexture; //
     private TextureRegion duckFrame; //
 
-    // NEW: Tekstur dan Region untuk Ducking dengan Assault Rifle
-    private Texture arDuckTexture; //
+    // NEW: Region untuk Ducking dengan Assault Rifle
     private TextureRegion arDuckFrame;
 
     // Variabel internal untuk state visual
     private float stateTime = 0f; // Akan di-update oleh Player.java
 
-    private Texture dashTexture; // <-- BARU
     private TextureRegion dashFrame;
 
-    private Texture jumpTexture; // New Texture for jumping
-    private TextureRegion jumpFrame;
+    private TextureRegion jumpFrame; // Region untuk lompat
 
     private float blinkTimer = 0f; //
     private final float BLINK_INTERVAL = 0.1f; // Seberapa cepat berkedip
     private boolean isVisible = true; //
 
     public PlayerVisuals() {
-        runTextures = new Array<>();
-        arRunTextures = new Array<>();
         loadAssets();
     }
 
     private void loadAssets() {
-        // === Memuat Texture IDLE Default ===
-        idleTexture = new Texture(Gdx.files.internal("player/player_idle.png"));
-        idleFrame = new TextureRegion(idleTexture);
+        // === Region IDLE Default ===
+        idleFrame = region("player_idle");
 
-        // === Memuat Texture RUN Default ===
+        // === Region RUN Default ===
         Array<TextureRegion> runFrames = new Array<>();
         for (int i = 1; i <= 5; i++) {
-            Texture runTex = new Texture(Gdx.files.internal("player/player_run" + i + ".png"));
-            runTextures.add(runTex);
-            TextureRegion runRegion = new TextureRegion(runTex);
-            runFrames.add(runRegion);
+            runFrames.add(region("player_run" + i));
         }
         walkAnimation = new Animation<>(0.1f, runFrames, Animation.PlayMode.LOOP);
 
-        deadTexture = new Texture(Gdx.files.internal("player/player_dead.png"));
-        deadFrame = new TextureRegion(deadTexture);
+        deadFrame = region("player_dead");
 
-        // === NEW: Memuat Texture IDLE untuk Assault Rifle ===
-        arIdleTexture = new Texture(Gdx.files.internal("player/player_run_ar1.png")); // Using ar1 for idle as per request
-        arIdleFrame = new TextureRegion(arIdleTexture);
+        // === NEW: Region IDLE untuk Assault Rifle ===
+        arIdleFrame = region("player_run_ar1"); // Using ar1 for idle as per request
 
-        // === NEW: Memuat Texture RUN untuk Assault Rifle ===
+        // === NEW: Region RUN untuk Assault Rifle ===
         Array<TextureRegion> arRunFrames = new Array<>();
         for (int i = 1; i <= 8; i++) { // From ar1 to ar8
-            Texture arRunTex = new Texture(Gdx.files.internal("player/player_run_ar" + i + ".png"));
-            arRunTextures.add(arRunTex);
-            TextureRegion arRunRegion = new TextureRegion(arRunTex);
-            arRunFrames.add(arRunRegion);
+            arRunFrames.add(region("player_run_ar" + i));
         }
         arWalkAnimation = new Animation<>(0.1f, arRunFrames, Animation.PlayMode.LOOP);
 
-        duckTexture = new Texture(Gdx.files.internal("player/player_duck.png"));
-        duckFrame = new TextureRegion(duckTexture);
+        duckFrame = region("player_duck");
 
-        // NEW: Memuat Texture DUCKING untuk Assault Rifle
-        arDuckTexture = new Texture(Gdx.files.internal("player/player_duck_ar.png"));
-        arDuckFrame = new TextureRegion(arDuckTexture);
+        // NEW: Region DUCKING untuk Assault Rifle
+        arDuckFrame = region("player_duck_ar");
 
-        dashTexture = new Texture(Gdx.files.internal("player/player_dash.png"));
-        dashFrame = new TextureRegion(dashTexture);
+        dashFrame = region("player_dash");
 
-        jumpTexture = new Texture(Gdx.files.internal("player/player_jump.png"));
-        jumpFrame = new TextureRegion(jumpTexture);
+        jumpFrame = region("player_jump");
+    }
+
+    private static TextureRegion region(String name) {
+        return Atlases.region(Atlases.ATTACK, "player/" + name);
     }
 
     /**
@@ -170,45 +150,8 @@ public class PlayerVisuals {
         return region; //
     }
     /**
-     * Panggil metode ini ketika game ditutup untuk melepaskan memori dari tekstur.
+     * Region milik atlas attack (dilepas GameScreen lewat Atlases.unload), tidak ada texture sendiri.
      */
     public void dispose() {
-        if (idleTexture != null) {
-            idleTexture.dispose();
-        }
-        for (Texture tex : runTextures) {
-            if (tex != null) {
-                tex.dispose();
-            }
-        }
-        runTextures.clear();
-        if (deadTexture != null) {
-            deadTexture.dispose();
-        }
-        // NEW: Dispose AR textures
-        if (arIdleTexture != null) {
-            arIdleTexture.dispose();
-        }
-        for (Texture tex : arRunTextures) {
-            if (tex != null) {
-                tex.dispose();
-            }
-        }
-        arRunTextures.clear();
-
-        if (duckTexture != null) {
-            duckTexture.dispose();
-        }
-        if (arDuckTexture != null) {
-            arDuckTexture.dispose();
-        }
-
-        if (dashTexture != null) { // <-- BARU
-            dashTexture.dispose();
-        }
-        if (jumpTexture != null) {
-            jumpTexture.dispose();
-        }
-
     }
 }
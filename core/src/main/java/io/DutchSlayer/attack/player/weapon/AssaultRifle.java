@@ -1,9 +1,10 @@
 package io.DutchSlayer.attack.player.weapon;
 
-import com.badlogic.gdx.Gdx;
 import com.badlogic.gdx.audio.Sound;
-import com.badlogic.gdx.graphics.Texture;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
 import io.DutchSlayer.attack.player.Player;
+import io.DutchSlayer.utils.Assets;
+import io.DutchSlayer.utils.Atlases;
 import io.DutchSlayer.utils.Constant;
 
 /**
@@ -18,12 +19,14 @@ public class AssaultRifle implements Weapon {
     private int burstIndex = 0;
     private static final float BURST_DELAY = 0.08f; // jeda antar peluru burst
 
-    private final Sound fireSound; // <-- Deklarasi Sound
+    private Sound fireSound; // <-- Deklarasi Sound
+    private final TextureRegion bulletRegion;
 
     public AssaultRifle() {
         this.ammo = 60;
-        // Muat suara AR sekali saat objek AssaultRifle dibuat
-        this.fireSound = Gdx.audio.newSound(Gdx.files.internal("player/pistol.mp3"));
+        // Suara sama dengan pistol, handle-nya dipakai bersama lewat Assets
+        this.fireSound = Assets.sound(Pistol.FIRE_SOUND);
+        this.bulletRegion = Atlases.region(Atlases.ATTACK, "player/bullet");
     }
 
 
@@ -65,12 +68,7 @@ public class AssaultRifle implements Weapon {
             }
             float angle = player.getFireAngle();
 
-            // Sebaiknya Texture juga dimuat sekali dan di-reuse
-            Texture playerBulletTexture = new Texture(Gdx.files.internal("player/bullet.png"));
-
-            Bullet bullet = new Bullet(centerX, fireY, angle, false);
-            bullet.setTexture(playerBulletTexture); // Sebaiknya setTextureRegion
-            player.getBullets().add(bullet);
+            player.getBullets().add(player.getProjectilePools().obtainBullet(centerX, fireY, angle, false, bulletRegion));
             burstIndex++;
 
             if (burstIndex == 3) {
@@ -97,4 +95,12 @@ public class AssaultRifle implements Weapon {
         burstIndex = 0;
         burstTimer = 0f;
     }
+
+    @Override
+    public void dispose() {
+        if (fireSound != null) {
+            Assets.release(Pistol.FIRE_SOUND);
+            fireSound = null;
+        }
+    }
 }
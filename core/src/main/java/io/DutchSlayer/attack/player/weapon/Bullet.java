@@ -1,16 +1,14 @@
 package io.DutchSlayer.attack.player.weapon;
 
 import com.badlogic.gdx.graphics.g2d.TextureRegion;
-
-import com.badlogic.gdx.graphics.Texture;
-import com.badlogic.gdx.graphics.g2d.SpriteBatch;
-import com.badlogic.gdx.graphics.glutils.ShapeRenderer;
+import io.DutchSlayer.attack.screens.render.RenderQueue;
 import io.DutchSlayer.utils.Constant;
 
 public class Bullet {
 
     private float x;
     private float y;
+    private float prevX, prevY; // Posisi step sebelumnya, untuk interpolasi render
     private float vx;
     private float vy;
 
@@ -19,76 +17,88 @@ public class Bullet {
 
     private boolean isAlive = true;
 
-    private final boolean fromEnemy;
-    private Texture texture;
-    private TextureRegion textureRegion;
+    private boolean fromEnemy;
+    private TextureRegion textureRegion; // Region dari atlas attack, dibagi semua bullet sejenis
 
     public void setTextureRegion(TextureRegion textureRegion) {
         this.textureRegion = textureRegion;
     }
 
-
-    public void setTexture(Texture texture) {
-        this.texture = texture;
+    public Bullet(float startX, float startY, float angleRad, boolean fromEnemy) {
+        reset(startX, startY, angleRad, fromEnemy);
     }
 
-    public Bullet(float startX, float startY, float angleRad, boolean fromEnemy) {
+    public Bullet(float startX, float startY, float angleRad, boolean fromEnemy, float speed) {
         this.x = startX;
         this.y = startY;
-        this.vx = (float) Math.cos(angleRad) * (fromEnemy ? Constant.BULLET_SPEED - 300f : Constant.BULLET_SPEED);
-        this.vy = (float) Math.sin(angleRad) * (fromEnemy ? Constant.BULLET_SPEED - 300f : Constant.BULLET_SPEED);
+        this.prevX = startX;
+        this.prevY = startY;
+        this.vx = (float) Math.cos(angleRad) * speed;
+        this.vy = (float) Math.sin(angleRad) * speed;
         this.fromEnemy = fromEnemy;
     }
 
-    public Bullet(float startX, float startY, float angleRad, boolean fromEnemy, float speed) {
+    /**
+     * Inisialisasi ulang bullet dari ProjectilePools (region di-set pemanggil)
+     */
+    public void reset(float startX, float startY, float angleRad, boolean fromEnemy) {
+        float speed = fromEnemy ? Constant.BULLET_SPEED - 300f : Constant.BULLET_SPEED;
         this.x = startX;
         this.y = startY;
+        this.prevX = startX;
+        this.prevY = startY;
         this.vx = (float) Math.cos(angleRad) * speed;
         this.vy = (float) Math.sin(angleRad) * speed;
         this.fromEnemy = fromEnemy;
+        this.isAlive = true;
     }
 
-    public void update(float delta, float camLeft, float camRight) {
+    /**
+     * Bullet player mati di luar [camLeft, camRight] (viewport kamera), bullet enemy di luar
+     * [mapLeft, mapRight] (batas stage). Pemanggil mengirim rentang yang sesuai.
+     */
+    public void update(float delta, float minX, float maxX) {
+        prevX = x;
+        prevY = y;
         x += vx * delta;
         y += vy * delta;
 
         if (!fromEnemy) {
             // Bullet player: hanya aktif selama masih di dalam viewport kamera
-            if (x + width < camLeft || x > camRight ||
+            if (x + width < minX || x > maxX ||
                 y < -height || y > Constant.SCREEN_HEIGHT + height) {
                 isAlive = false;
             }
         } else {
             // Bullet enemy: hidup selama masih di dalam map
-            if (x < -width || x > Constant.MAP_WIDTH + width ||
+            if (x < minX - width || x > maxX + width ||
                 y < -height || y > Constant.SCREEN_HEIGHT + height) {
                 isAlive = false;
             }
         }
 
-        if (isOutOfBounds(camLeft, camRight)) {
+        if (isOutOfBounds(minX, maxX)) {
             isAlive = false;
         }
     }
 
-    private boolean isOutOfBounds(float camLeft, float camRight) {
+    private boolean isOutOfBounds(float minX, float maxX) {
         if (!fromEnemy) {
-            return x + width < camLeft || x > camRight ||
+            return x + width < minX || x > maxX ||
                 y < -height || y > Constant.SCREEN_HEIGHT + height;
         } else {
-            return x < -width || x > Constant.MAP_WIDTH + width ||
+            return x < minX - width || x > maxX + width ||
                 y < -height || y > Constant.SCREEN_HEIGHT + height;
         }
     }
 
-    public void render(SpriteBatch spriteBatch) {
+    public void render(RenderQueue queue, int layer, float alpha) {
         if (!isAlive) return;
 
-        if (textureRegion != null) {
-            spriteBatch.draw(textureRegion, x, y, width, height);
-        } else if (texture != null) {
-            spriteBatch.draw(texture, x, y, width, height);
-        }
+        float renderX = prevX + (x - prevX) * alpha;
+        float renderY = prevY + (y - prevY) * alpha;
+
+        queue.draw(layer, textureRegion, renderX, renderY, width, height);
     }
 
 
@@ -3,17 +3,19 @@ package io.DutchSlayer.attack.player.weapon;
 import com.badlogic.gdx.Gdx;
 import com.badlogic.gdx.audio.Sound;
 import com.badlogic.gdx.graphics.Texture;
-import com.badlogic.gdx.graphics.g2d.SpriteBatch;
 import com.badlogic.gdx.graphics.glutils.ShapeRenderer;
 import com.badlogic.gdx.math.MathUtils;
+import io.DutchSlayer.attack.screens.render.RenderQueue;
 import io.DutchSlayer.utils.Constant;
 
 public class Grenade {
+    public static final String EXPLOSION_SOUND = "player/grenade.mp3";
+    public static final String GROUND_HIT_SOUND = "player/grenade_ground.mp3";
 
     private transient Texture grenadeTexture;
     private transient Texture explosionTexture;
-    private final Sound explosionSound;
-    private final Sound groundHitSound;
+    private Sound explosionSound;
+    private Sound groundHitSound;
 
     private float width = 24f;  // Lebar sprite granat
     private float height = 24f;
@@ -41,21 +43,36 @@ public class Grenade {
     private boolean hasTouchedGround = false;
     private boolean isEnemyGrenade;
 
-    private Float impactY = null;
+    private float impactY = Float.NaN; // NaN = tidak meledak karena benturan (float, tanpa boxing)
 
-    public Grenade(float startX, float startY, float angleRad, float power, boolean isEnemyGrenade, Texture grenadeTexture, Texture explosionTexture) { // Parameter Sound dihapus
+    /**
+     * Dibuat oleh ProjectilePools, diisi lewat reset()
+     */
+    public Grenade() {
+    }
+
+    /**
+     * Inisialisasi ulang granat dari pool. Sound milik ProjectilePools (dipinjam sekali untuk semua granat).
+     */
+    public void reset(float startX, float startY, float angleRad, float power, boolean isEnemyGrenade,
+                      Texture grenadeTexture, Texture explosionTexture, Sound explosionSound, Sound groundHitSound) {
         this.x = startX;
         this.y = startY;
         this.vx = MathUtils.cos(angleRad) * power;
         this.vy = MathUtils.sin(angleRad) * power;
         this.timer = explosionDelay;
+        this.postExplodeTimer = 0f;
+        this.groundHitSoundId = -1;
+        this.exploded = false;
+        this.isAlive = true;
+        this.hasDealtDamage = false;
+        this.hasTouchedGround = false;
+        this.impactY = Float.NaN;
         this.isEnemyGrenade = isEnemyGrenade;
         this.grenadeTexture = grenadeTexture;
         this.explosionTexture = explosionTexture;
-
-        // --- BARU: Memuat suara di dalam konstruktor ---
-        this.explosionSound = Gdx.audio.newSound(Gdx.files.internal("player/grenade.mp3"));
-        this.groundHitSound = Gdx.audio.newSound(Gdx.files.internal("player/grenade_ground.mp3"));
+        this.explosionSound = explosionSound;
+        this.groundHitSound = groundHitSound;
     }
 
     public boolean isEnemyGrenade() {
@@ -140,13 +157,13 @@ public class Grenade {
     }
 
 
-    public void render(SpriteBatch spriteBatch) {
+    public void render(RenderQueue queue) {
         if (!isAlive) return;
 
         if (!exploded) {
             // Gambar sprite granat sebelum meledak (tidak ada perubahan di sini)
             if (grenadeTexture != null) {
-                spriteBatch.draw(grenadeTexture, x - width / 2f, y, width, height);
+                queue.draw(RenderQueue.GRENADE, grenadeTexture, x - width / 2f, y, width, height);
             }
         } else {
             // Gambar sprite ledakan setelah meledak
@@ -158,7 +175,7 @@ public class Grenade {
                 // --- PERUBAHAN LOGIKA DIMULAI DI SINI ---
 
                 // Jika granat sudah menyentuh tanah, paksa posisi Y ledakan ke atas permukaan tanah.
-                if (impactY != null) {
+                if (!Float.isNaN(impactY)) {
                     // KASUS 1: Ledakan karena benturan langsung.
                     // Gunakan posisi impact, tapi tidak boleh lebih rendah dari tanah.
                     renderY = Math.max(impactY, Constant.TERRAIN_HEIGHT) - 20f;
@@ -174,7 +191,7 @@ public class Grenade {
                 // --- AKHIR LOGIKA BARU ---
 
                 // Gambar ledakan di posisi yang sudah disesuaikan
-                spriteBatch.draw(explosionTexture, renderX, renderY, explosionDiameter, explosionDiameter);
+                queue.draw(RenderQueue.GRENADE, explosionTexture, renderX, renderY, explosionDiameter, explosionDiameter);
             }
         }
     }
@@ -235,12 +252,6 @@ public class Grenade {
         return y;
     }
 
-    public void dispose() {
-        if (explosionSound != null) {
-            explosionSound.dispose();
-        }
-    }
-
     public float getRadius() {
         return radius;
     }
@@ -1,16 +1,21 @@
 package io.DutchSlayer.attack.player.weapon;
 
-import com.badlogic.gdx.Gdx;
 import com.badlogic.gdx.audio.Sound;
-import com.badlogic.gdx.graphics.Texture;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
 import io.DutchSlayer.attack.player.Player;
+import io.DutchSlayer.utils.Assets;
+import io.DutchSlayer.utils.Atlases;
 
 public class Pistol implements Weapon {
-    private final Sound fireSound; // <-- Deklarasi Sound
+    public static final String FIRE_SOUND = "player/pistol.mp3";
+
+    private Sound fireSound; // <-- Deklarasi Sound
+    private final TextureRegion bulletRegion;
 
     public Pistol() { // <-- Konstruktor untuk memuat suara
-        // Muat suara pistol sekali saat objek Pistol dibuat
-        fireSound = Gdx.audio.newSound(Gdx.files.internal("player/pistol.mp3"));
+        // Suara dipinjam dari Assets, pistol baru setiap respawn tidak decode ulang mp3
+        fireSound = Assets.sound(FIRE_SOUND);
+        bulletRegion = Atlases.region(Atlases.ATTACK, "player/bullet");
     }
 
     @Override
@@ -28,12 +33,8 @@ public class Pistol implements Weapon {
             fireY += 10f;
         }
         float angle = player.getFireAngle();
-        // Sebaiknya Texture juga dimuat sekali dan di-reuse, misalnya via AssetLoader
-        Texture playerBulletTexture = new Texture(Gdx.files.internal("player/bullet.png"));
 
-        Bullet bullet = new Bullet(bulletX, fireY, angle, false);
-        bullet.setTexture(playerBulletTexture); // Sebaiknya setTextureRegion jika Texture dimuat global
-        player.getBullets().add(bullet);
+        player.getBullets().add(player.getProjectilePools().obtainBullet(bulletX, fireY, angle, false, bulletRegion));
     }
 
 
@@ -46,5 +47,13 @@ public class Pistol implements Weapon {
     public String getName() {
         return "Pistol";
     }
+
+    @Override
+    public void dispose() {
+        if (fireSound != null) {
+            Assets.release(FIRE_SOUND);
+            fireSound = null;
+        }
+    }
 }
 
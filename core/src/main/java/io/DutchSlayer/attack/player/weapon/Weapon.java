@@ -52,5 +52,12 @@ public interface Weapon {
         // default no-op untuk senjata yang tidak pakai ammo (misal pistol)
     }
 
+    /**
+     * Dipanggil saat senjata diganti atau player di-dispose.
+     * Senjata yang meminjam asset dari Assets mengembalikannya di sini.
+     */
+    default void dispose() {
+    }
+
 
 }
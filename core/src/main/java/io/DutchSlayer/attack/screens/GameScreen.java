@@ -8,8 +8,6 @@ import com.badlogic.gdx.graphics.OrthographicCamera;
 import com.badlogic.gdx.graphics.Texture;
 import com.badlogic.gdx.graphics.g2d.BitmapFont;
 import com.badlogic.gdx.graphics.g2d.SpriteBatch;
-import com.badlogic.gdx.graphics.glutils.ShapeRenderer;
-import com.badlogic.gdx.math.RandomXS128;
 import com.badlogic.gdx.math.Rectangle;
 import com.badlogic.gdx.math.Vector2;
 import com.badlogic.gdx.utils.Array;
@@ -18,31 +16,53 @@ import com.badlogic.gdx.utils.viewport.FitViewport;
 import com.badlogic.gdx.utils.viewport.Viewport;
 import io.DutchSlayer.Main;
 import io.DutchSlayer.attack.boss.TankBoss;
-import io.DutchSlayer.attack.enemy.AttackType;
 import io.DutchSlayer.attack.enemy.BasicEnemy;
-import io.DutchSlayer.attack.enemy.EnemyFactory;
 import io.DutchSlayer.attack.objects.Building;
-import io.DutchSlayer.attack.objects.BuildingGenerator;
+import io.DutchSlayer.attack.objects.BuildingType;
 import io.DutchSlayer.attack.objects.PickupItem;
 import io.DutchSlayer.attack.objects.Tree;
 import io.DutchSlayer.attack.player.Player;
+import io.DutchSlayer.attack.player.weapon.Bullet;
 import io.DutchSlayer.attack.player.weapon.Grenade;
 import io.DutchSlayer.attack.objects.PickupType;
+import io.DutchSlayer.attack.screens.logic.EnemyActivation;
 import io.DutchSlayer.attack.screens.logic.GameLogicHandler;
+import io.DutchSlayer.attack.screens.logic.WorldStreamer;
+import io.DutchSlayer.attack.screens.logic.ProjectilePools;
 import io.DutchSlayer.attack.screens.render.GameRenderer;
 import io.DutchSlayer.attack.screens.ui.VNManager;
 import io.DutchSlayer.attack.screens.ui.VNScene;
 import io.DutchSlayer.defend.utils.AudioManager;
 import io.DutchSlayer.screens.PauseMenu;
+import io.DutchSlayer.utils.AssetManifest;
+import io.DutchSlayer.utils.Assets;
+import io.DutchSlayer.utils.Atlases;
 import io.DutchSlayer.utils.Constant;
+import io.DutchSlayer.utils.FixedTimestep;
+import io.DutchSlayer.utils.RenderStats;
 
 public class GameScreen implements Screen {
+    private static final String GRENADE_TEXTURE = "player/grenade.png";
+    private static final String EXPLOSION_TEXTURE = "player/explosion.png";
+    private static final String TERRAIN_TEXTURE = "backgrounds/terrain.png";
+    private static final String TERRAIN2_TEXTURE = "backgrounds/terrain2.png";
+    private static final String SKY_TEXTURE = "backgrounds/sky.png";
+    private static final String BG_TREE_TEXTURE = "backgrounds/bgTree.png";
+    private static final String BG_MOUNTAIN_TEXTURE = "backgrounds/bgMountain.png";
+    private static final String WALL_TEXTURE = "boss/wall.png";
+    private static final String TREE_TEXTURE = "trees/tree.png";
+    private static final String[] VN_SCENES = {
+        "story/scene1.png", "story/scene2.png", "story/scene3.png", "story/scene4.png",
+        "story/scene5.png", "story/scene6.png", "story/scene7.png"
+    };
+    private static final String BACKGROUND_MUSIC = "backgrounds/background.mp3";
+    private static final String BOSS_MUSIC = "boss/boss_music.mp3";
+
     private final Main game;
     private final OrthographicCamera camera;
     private final Viewport viewport;
     private final OrthographicCamera uiCamera;
     private final Viewport uiViewport;
-    private final ShapeRenderer shapeRenderer;
     private final SpriteBatch spriteBatch;
     private final BitmapFont font;
 
@@ -50,22 +70,28 @@ public class GameScreen implements Screen {
     private final Array<BasicEnemy> enemies = new Array<>();
     private final Array<PickupItem> pickupItems = new Array<>();
     private final Array<Grenade> grenades = new Array<>();
+    private final Array<Bullet> enemyBullets = new Array<>();   // Peluru semua enemy, lepas dari penembaknya
     private final Array<Tree> trees = new Array<>();
     private final Array<Building> buildings = new Array<>();
     private final Array<Vector2> respawnPoints = new Array<>();
 
     private final GameRenderer renderer;
     private final GameLogicHandler logicHandler;
+    private final ProjectilePools projectilePools = new ProjectilePools();
+    private final EnemyActivation enemyActivation = new EnemyActivation(Constant.ENEMY_ACTIVATION_RADIUS);
+    private final WorldStreamer worldStreamer;
+    private final FixedTimestep timestep = new FixedTimestep();
+    private final RenderStats renderStats = new RenderStats("GameScreen");
     private final PauseMenu pauseMenu;
     private VNManager vnManager;
     private Texture vnScene1Bg, vnScene2Bg, vnScene3Bg;
     private Texture vnScene4Bg, vnScene5Bg, vnScene6Bg, vnScene7Bg;
 
     private final int stageNumber;
-    private final RandomXS128 rng;
     private final float mapWidth;
 
     private Texture backgroundTexture, bgTreeTexture, bgMountainTexture, terrainTexture, terrain2Texture, wallTexture;
+    private Texture treeTexture;
     private Rectangle leftWall, rightWall;
 
     private boolean isPaused = false;
@@ -92,8 +118,7 @@ public class GameScreen implements Screen {
     public GameScreen(Main game, int stageNumber) {
         this.game = game;
         this.stageNumber = stageNumber;
-        this.shapeRenderer = new ShapeRenderer();
-        this.spriteBatch = new SpriteBatch();
+        this.spriteBatch = game.batch; // Batch bersama, dimiliki Main
         this.font = new BitmapFont();
         this.camera = new OrthographicCamera();
         this.viewport = new FitViewport(Constant.SCREEN_WIDTH, Constant.SCREEN_HEIGHT, camera);
@@ -101,15 +126,14 @@ public class GameScreen implements Screen {
         this.uiCamera = new OrthographicCamera();
         this.uiViewport = new FitViewport(Constant.SCREEN_WIDTH, Constant.SCREEN_HEIGHT, uiCamera);
         this.mapWidth = Constant.MAP_WIDTH * (1f + 0.15f * (stageNumber - 1));
-        this.rng = new RandomXS128(stageNumber);
 
         this.player = new Player(camera);
         this.player.setGameScreen(this);
 
         loadTextures();
 
-        this.backgroundMusic = Gdx.audio.newMusic(Gdx.files.internal("backgrounds/background.mp3"));
-        this.bossMusic = Gdx.audio.newMusic(Gdx.files.internal("boss/boss_music.mp3"));
+        this.backgroundMusic = Assets.borrow(BACKGROUND_MUSIC, Music.class);
+        this.bossMusic = Assets.borrow(BOSS_MUSIC, Music.class);
 
         this.backgroundMusic.setLooping(true);
         this.bossMusic.setLooping(true);
@@ -117,11 +141,11 @@ public class GameScreen implements Screen {
         this.backgroundMusic.setVolume(0.2f);
         this.bossMusic.setVolume(0.5f);
 
-        generateTrees();
-        generateBuildings();
-        spawnEnemies();
-        this.renderer = new GameRenderer();
-        this.logicHandler = new GameLogicHandler();
+        // Chunk di sekitar layar pertama; sisanya di-load GameLogicHandler saat kamera mendekat
+        this.worldStreamer = new WorldStreamer(this, stageNumber, mapWidth, treeTexture);
+        worldStreamer.update(0f, Constant.SCREEN_WIDTH);
+        this.renderer = new GameRenderer(this);
+        this.logicHandler = new GameLogicHandler(mapWidth);
         // Pass 'this' (GameScreen instance) to PauseMenu
         this.pauseMenu = new PauseMenu(game, uiViewport, font, this);
 
@@ -131,22 +155,52 @@ public class GameScreen implements Screen {
         logicHandler.setupRespawnPoints(this);
     }
 
+    /**
+     * Asset satu stage untuk LoadingScreen: group "attack-stage<n>" di manifest.json
+     * (bergantung pada group "attack" yang berisi atlas, sound entity dan texture dunia)
+     */
+    public static AssetManifest manifest(int stageNumber) {
+        return AssetManifest.group("attack-stage" + stageNumber);
+    }
+
+    /**
+     * Scene 5 hanya untuk ending stage 1-2, scene 6-7 hanya ending stage terakhir
+     * (harus sama dengan group attack-stage* di build.gradle)
+     */
+    private static boolean usesVnScene(int scene, int stageNumber) {
+        if (scene == 5) return stageNumber < 3;
+        if (scene == 6 || scene == 7) return stageNumber >= 3;
+        return true;
+    }
+
+    private Texture vnScene(int scene) {
+        return usesVnScene(scene, stageNumber) ? Assets.texture(VN_SCENES[scene - 1]) : null;
+    }
+
     private void loadTextures() {
-        terrainTexture = new Texture(Gdx.files.internal("backgrounds/terrain.png"));
-        terrain2Texture = new Texture(Gdx.files.internal("backgrounds/terrain2.png"));
-        backgroundTexture = new Texture(Gdx.files.internal("backgrounds/sky.png"));
-        bgTreeTexture = new Texture(Gdx.files.internal("backgrounds/bgTree.png"));
-        bgMountainTexture = new Texture(Gdx.files.internal("backgrounds/bgMountain.png"));
-        wallTexture = new Texture(Gdx.files.internal("boss/wall.png"));
-        grenadeTexture = new Texture(Gdx.files.internal("player/grenade.png"));
-        explosionTexture = new Texture(Gdx.files.internal("player/explosion.png"));
-        vnScene1Bg = new Texture(Gdx.files.internal("story/scene1.png"));
-        vnScene2Bg = new Texture(Gdx.files.internal("story/scene2.png"));
-        vnScene3Bg = new Texture(Gdx.files.internal("story/scene3.png"));
-        vnScene4Bg = new Texture(Gdx.files.internal("story/scene4.png"));
-        vnScene5Bg = new Texture(Gdx.files.internal("story/scene5.png"));
-        vnScene6Bg = new Texture(Gdx.files.internal("story/scene6.png"));
-        vnScene7Bg = new Texture(Gdx.files.internal("story/scene7.png"));
+        // Semua lewat Assets, instan jika LoadingScreen sudah memuat manifest(stageNumber)
+        terrainTexture = Assets.texture(TERRAIN_TEXTURE);
+        terrain2Texture = Assets.texture(TERRAIN2_TEXTURE);
+        backgroundTexture = Assets.texture(SKY_TEXTURE);
+        bgTreeTexture = Assets.texture(BG_TREE_TEXTURE);
+        treeTexture = Assets.texture(TREE_TEXTURE); // Dipakai semua pohon dari WorldStreamer
+        bgMountainTexture = Assets.texture(BG_MOUNTAIN_TEXTURE);
+        wallTexture = Assets.texture(WALL_TEXTURE);
+
+        // Layer yang diulang horizontal digambar satu quad dengan UV > 1 (lihat GameRenderer/StaticWorldCache)
+        for (Texture repeated : new Texture[]{terrainTexture, terrain2Texture, bgTreeTexture, bgMountainTexture}) {
+            repeated.setWrap(Texture.TextureWrap.Repeat, Texture.TextureWrap.ClampToEdge);
+        }
+        // Dipakai bersama TankBoss lewat Assets
+        grenadeTexture = Assets.texture(GRENADE_TEXTURE);
+        explosionTexture = Assets.texture(EXPLOSION_TEXTURE);
+        vnScene1Bg = vnScene(1);
+        vnScene2Bg = vnScene(2);
+        vnScene3Bg = vnScene(3);
+        vnScene4Bg = vnScene(4);
+        vnScene5Bg = vnScene(5);
+        vnScene6Bg = vnScene(6);
+        vnScene7Bg = vnScene(7);
 
         float wallWidth = 100f;
         float wallHeight = 300f;
@@ -232,80 +286,6 @@ public class GameScreen implements Screen {
         }
     }
 
-    private void generateTrees() {
-        float avgTreeWidth = (Constant.TREE_MIN_WIDTH + Constant.TREE_MAX_WIDTH) / 2f;
-        float spacePerTree = avgTreeWidth + 60f;
-        float densityFactor = 0.8f;
-
-        int targetCount = (int) (mapWidth / spacePerTree * densityFactor);
-        int maxAttempts = targetCount * 5;
-
-        int placed = 0;
-        int attempts = 0;
-
-        Texture treeTexture = new Texture(Gdx.files.internal("trees/tree.png"));
-
-        while (placed < targetCount && attempts < maxAttempts) {
-            Tree candidate = Tree.generateFixed(mapWidth, rng, treeTexture);
-
-            float originalWidth = candidate.getWidth();
-            float originalHeight = candidate.getHeight();
-
-            float scale = 0.9f + rng.nextFloat() * 0.25f;
-
-            float newWidth = originalWidth * scale;
-            float newHeight = originalHeight * scale;
-            candidate.setSize(newWidth, newHeight);
-
-            boolean tooClose = false;
-            for (Tree existing : trees) {
-                float dx = candidate.getX() - existing.getX();
-                float dw = (candidate.getWidth() + existing.getWidth()) / 2f;
-                if (candidate.getWidth() < existing.getWidth() * 0.75f) continue;
-                if (Math.abs(dx) < dw + 10f) {
-                    tooClose = true;
-                    break;
-                }
-            }
-
-            if (!tooClose) {
-                trees.add(candidate);
-                placed++;
-            }
-
-            attempts++;
-        }
-    }
-
-    private void generateBuildings() {
-        buildings.clear();
-        buildings.addAll(BuildingGenerator.generate(mapWidth, stageNumber));
-    }
-
-    private void spawnEnemies() {
-        AttackType[] allowedTypes;
-        int base = (int) (mapWidth / 180f);
-        int bonus = stageNumber * 2;
-        int numberOfEnemy = base + bonus;
-
-        switch (stageNumber) {
-            case 1:
-                allowedTypes = new AttackType[]{AttackType.STRAIGHT_SHOOT};
-                break;
-            case 2:
-                allowedTypes = new AttackType[]{AttackType.STRAIGHT_SHOOT, AttackType.ARC_GRENADE};
-                break;
-            case 3:
-                allowedTypes = new AttackType[]{AttackType.BURST_FIRE, AttackType.ARC_GRENADE};
-                break;
-            default:
-                allowedTypes = new AttackType[]{AttackType.STRAIGHT_SHOOT, AttackType.BURST_FIRE, AttackType.ARC_GRENADE};
-                break;
-        }
-
-        enemies.addAll(EnemyFactory.spawnDeterministicEnemies(stageNumber, numberOfEnemy, Constant.TERRAIN_HEIGHT, allowedTypes, this));
-    }
-
     public void spawnTankBoss() {
         if (this.tankBoss == null || !this.tankBoss.isAlive()) {
             float spawnX = camera.position.x + Constant.SCREEN_WIDTH / 2f + 100f;
@@ -395,7 +375,14 @@ public class GameScreen implements Screen {
         // --- Game Logic Update (only if not paused, no active sequences, and no VN active) ---
         // This block is only reached if vnManager.isActive() is FALSE
         if (!isPaused && !isDefeatSequenceActive && !isVictorySequenceActive) {
-            logicHandler.update(this, delta);
+            player.pollInput();
+            int steps = timestep.advance(delta);
+            for (int i = 0; i < steps && !isGameOver(); i++) {
+                projectilePools.beginFrame();
+                logicHandler.update(this, timestep.getStep());
+                projectilePools.endTick(tankBoss != null && tankBoss.isAlive());
+            }
+            logicHandler.updateCamera(this, timestep.getAlpha());
         }
 
         // --- Handle Player Victory Transition (after VN if any) ---
@@ -415,7 +402,9 @@ public class GameScreen implements Screen {
         }
 
         // --- Render Game World ---
-        renderer.render(this, delta);
+        renderer.render(this, delta, timestep.getAlpha());
+        renderStats.recordQueue(renderer.getRenderQueue().getBatchFlushes(), renderer.getRenderQueue().getShaderSwitches());
+        renderStats.endFrame(delta);
     }
     @Override
     public void resize(int width, int height) {
@@ -450,6 +439,7 @@ public class GameScreen implements Screen {
     public void show() {
         // Ensure input processor is null when GameScreen becomes active (not showing pause menu immediately)
         Gdx.input.setInputProcessor(null);
+        timestep.reset(); // Jangan catch-up waktu selama di screen lain
         // Stop any music playing from AudioManager (e.g., MainMenuScreen music)
         AudioManager.stopMusic();
 
@@ -472,29 +462,40 @@ public class GameScreen implements Screen {
 
     @Override
     public void dispose() {
-        shapeRenderer.dispose();
-        spriteBatch.dispose();
         font.dispose();
-        backgroundTexture.dispose();
-        bgTreeTexture.dispose();
-        bgMountainTexture.dispose();
-        terrainTexture.dispose();
-        terrain2Texture.dispose();
-        wallTexture.dispose();
-        if (grenadeTexture != null) grenadeTexture.dispose();
-        if (explosionTexture != null) explosionTexture.dispose();
-        if (vnScene1Bg != null) vnScene1Bg.dispose();
-        if (vnScene2Bg != null) vnScene2Bg.dispose();
-        if (vnScene3Bg != null) vnScene3Bg.dispose();
-        if (vnScene4Bg != null) vnScene4Bg.dispose();
-        if (vnScene5Bg != null) vnScene5Bg.dispose();
-        if (vnScene6Bg != null) vnScene6Bg.dispose();
-        if (vnScene7Bg != null) vnScene7Bg.dispose();
+        // Texture dan music dipinjam dari Assets, kembalikan (jangan di-dispose langsung)
+        Assets.release(SKY_TEXTURE);
+        Assets.release(BG_TREE_TEXTURE);
+        Assets.release(BG_MOUNTAIN_TEXTURE);
+        Assets.release(TERRAIN_TEXTURE);
+        Assets.release(TERRAIN2_TEXTURE);
+        Assets.release(WALL_TEXTURE);
+        Assets.release(TREE_TEXTURE);
+        Assets.release(GRENADE_TEXTURE);
+        Assets.release(EXPLOSION_TEXTURE);
+        for (int scene = 1; scene <= VN_SCENES.length; scene++) {
+            if (usesVnScene(scene, stageNumber)) Assets.release(VN_SCENES[scene - 1]);
+        }
+        BuildingType.disposeAll();
         player.dispose();
+        for (BasicEnemy enemy : enemies) enemy.dispose();
+        for (BasicEnemy enemy : enemyActivation.getDormant()) enemy.dispose();
+        if (tankBoss != null) tankBoss.dispose();
+        if (Constant.RENDER_STATS) logPoolStats();
+        projectilePools.dispose(); // Sound granat dan texture peluru boss ikut dikembalikan
         vnManager.dispose();
+        renderStats.dispose();
+        renderer.dispose();
+        Atlases.unload(Atlases.ATTACK); // Region player/enemy/bullet
 
-        if (backgroundMusic != null) backgroundMusic.dispose();
-        if (bossMusic != null) bossMusic.dispose();
+        if (backgroundMusic != null) {
+            backgroundMusic.stop();
+            Assets.release(BACKGROUND_MUSIC);
+        }
+        if (bossMusic != null) {
+            bossMusic.stop();
+            Assets.release(BOSS_MUSIC);
+        }
     }
 
     // Add getters for music objects
@@ -534,10 +535,6 @@ public class GameScreen implements Screen {
         return spriteBatch;
     }
 
-    public ShapeRenderer getShapeRenderer() {
-        return shapeRenderer;
-    }
-
     public BitmapFont getFont() {
         return font;
     }
@@ -550,14 +547,43 @@ public class GameScreen implements Screen {
         return player;
     }
 
+    /**
+     * Enemy aktif saja, enemy jauh dari kamera ada di getEnemyActivation()
+     */
     public Array<BasicEnemy> getEnemies() {
         return enemies;
     }
 
+    public EnemyActivation getEnemyActivation() {
+        return enemyActivation;
+    }
+
+    public WorldStreamer getWorldStreamer() {
+        return worldStreamer;
+    }
+
+    public Array<Bullet> getEnemyBullets() {
+        return enemyBullets;
+    }
+
     public Array<Grenade> getGrenades() {
         return grenades;
     }
 
+    public ProjectilePools getProjectilePools() {
+        return projectilePools;
+    }
+
+    /**
+     * Cek steady-state pool: setelah volley pertama boss, tick berikutnya tidak boleh mengalokasi projectile
+     */
+    private void logPoolStats() {
+        Gdx.app.log("ProjectilePools", projectilePools.getTotalAllocations() + " alokasi total, "
+            + projectilePools.getBossAllocatingTicks() + " dari " + projectilePools.getBossTicks()
+            + " tick boss fight mengalokasi (terakhir di tick " + projectilePools.getLastBossAllocatingTick()
+            + "), " + projectilePools.getFreeCount() + " idle");
+    }
+
     public Array<PickupItem> getPickupItems() {
         return pickupItems;
     }
@@ -0,0 +1,102 @@
+package io.DutchSlayer.attack.screens.logic;
+
+import com.badlogic.gdx.utils.Array;
+import io.DutchSlayer.attack.enemy.BasicEnemy;
+import io.DutchSlayer.attack.enemy.fsm.EnemyState;
+
+/**
+ * Aktivasi enemy attack mode berdasarkan jarak ke kamera. Enemy di luar radius aktivasi dari
+ * tepi view disimpan di daftar dormant (urut x) dan sama sekali tidak di-update, di-cek tabrakan
+ * atau di-render. GameScreen.getEnemies() hanya berisi enemy aktif.
+ *
+ * Setiap tick cukup dua binary search di daftar dormant, jadi biaya per frame dibatasi jumlah
+ * enemy di sekitar layar, bukan panjang stage. Enemy bangun dalam urutan x (seri: urutan masuk
+ * dormant), jadi hasilnya sama untuk posisi kamera yang sama.
+ *
+ * Enemy aktif yang tertinggal jauh (lewat radius + SLEEP_MARGIN) ditidurkan lagi; margin mencegah
+ * enemy bolak-balik tidur/bangun di batas radius. Enemy yang sedang animasi mati tidak ditidurkan.
+ */
+public class EnemyActivation {
+    private static final float SLEEP_MARGIN = 256f;
+
+    private final float radius;
+    private final Array<BasicEnemy> dormant = new Array<>();
+
+    /**
+     * @param radius jarak dari tepi kiri/kanan view, enemy di dalamnya aktif
+     */
+    public EnemyActivation(float radius) {
+        this.radius = radius;
+    }
+
+    /**
+     * Enemy baru (dari chunk yang baru di-load WorldStreamer) mulai dormant, bangun lewat update()
+     */
+    public void add(BasicEnemy enemy) {
+        sleep(enemy);
+    }
+
+    /**
+     * Tidurkan enemy aktif yang jauh dari view lalu bangunkan enemy dormant yang masuk radius.
+     * Enemy yang bangun ditambahkan ke akhir active.
+     */
+    public void update(Array<BasicEnemy> active, float viewLeft, float viewRight) {
+        float wakeLeft = viewLeft - radius;
+        float wakeRight = viewRight + radius;
+
+        for (int i = active.size - 1; i >= 0; i--) {
+            BasicEnemy enemy = active.get(i);
+            if (!enemy.isAlive() || enemy.getCurrentState() == EnemyState.DYING) continue;
+            if (enemy.getX() + enemy.getWidth() < wakeLeft - SLEEP_MARGIN || enemy.getX() > wakeRight + SLEEP_MARGIN) {
+                sleep(active.removeIndex(i));
+            }
+        }
+
+        // Kandidat: x di [wakeLeft - SLEEP_MARGIN, wakeRight], sisanya tidak disentuh
+        int from = lowerBound(wakeLeft - SLEEP_MARGIN);
+        int to = lowerBound(Math.nextUp(wakeRight));
+        if (from >= to) return;
+
+        for (int i = from; i < to; i++) {
+            BasicEnemy enemy = dormant.get(i);
+            if (inRange(enemy, wakeLeft, wakeRight)) active.add(enemy);
+        }
+        for (int i = to - 1; i >= from; i--) {
+            if (inRange(dormant.get(i), wakeLeft, wakeRight)) dormant.removeIndex(i);
+        }
+    }
+
+    private static boolean inRange(BasicEnemy enemy, float left, float right) {
+        return enemy.getX() <= right && enemy.getX() + enemy.getWidth() >= left;
+    }
+
+    private void sleep(BasicEnemy enemy) {
+        // Setelah enemy lain dengan x yang sama, urutan bangun tetap stabil
+        dormant.insert(lowerBound(Math.nextUp(enemy.getX())), enemy);
+    }
+
+    /**
+     * Index pertama di dormant dengan x >= value
+     */
+    private int lowerBound(float value) {
+        int lo = 0;
+        int hi = dormant.size;
+        while (lo < hi) {
+            int mid = (lo + hi) >>> 1;
+            if (dormant.get(mid).getX() < value) {
+                lo = mid + 1;
+            } else {
+                hi = mid;
+            }
+        }
+        return lo;
+    }
+
+    public Array<BasicEnemy> getDormant() {
+        return dormant;
+    }
+
+    public int getDormantCount() {
+        return dormant.size;
+    }
+}
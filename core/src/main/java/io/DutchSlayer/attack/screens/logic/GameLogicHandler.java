@@ -3,6 +3,8 @@ package io.DutchSlayer.attack.screens.logic;
 import com.badlogic.gdx.math.Rectangle;
 import com.badlogic.gdx.math.Vector2;
 import com.badlogic.gdx.math.MathUtils;
+import com.badlogic.gdx.utils.Array;
+import io.DutchSlayer.attack.boss.BossBullet;
 import io.DutchSlayer.attack.boss.TankBoss;
 import io.DutchSlayer.attack.boss.fsm.TankBossState;
 import io.DutchSlayer.attack.enemy.BasicEnemy;
@@ -11,6 +13,7 @@ import io.DutchSlayer.attack.player.Player;
 import io.DutchSlayer.attack.player.PlayerState;
 import io.DutchSlayer.attack.player.weapon.Bullet;
 import io.DutchSlayer.attack.player.weapon.Grenade;
+import io.DutchSlayer.attack.objects.PickupItem;
 import io.DutchSlayer.attack.objects.PickupType;
 import io.DutchSlayer.attack.screens.GameScreen;
 import io.DutchSlayer.attack.screens.ui.VNManager;
@@ -20,14 +23,40 @@ public class GameLogicHandler {
     private float pickupSpawnTimer; // <--- Timer untuk spawn pickup item
     private final float PICKUP_SPAWN_INTERVAL = 2.0f;
 
-    public GameLogicHandler() { // <--- Tambahkan konstruktor ini
+    /* ===== BROADPHASE ===== */
+    // Grid di-rebuild tepat sebelum dipakai (posisi berubah di antara pengecekan dalam satu tick)
+    private static final float BOSS_BULLET_HITBOX = 10f;
+    private final SpatialGrid<BasicEnemy> enemyGrid;
+    private final SpatialGrid<Bullet> playerBulletGrid;
+    private final SpatialGrid<Bullet> enemyBulletGrid;
+    private final SpatialGrid<BossBullet> bossBulletGrid;
+    private final SpatialGrid<PickupItem> pickupGrid;
+    private final Array<BasicEnemy> nearbyEnemies = new Array<>();
+    private final Array<Bullet> nearbyBullets = new Array<>();
+    private final Array<BossBullet> nearbyBossBullets = new Array<>();
+    private final Array<PickupItem> nearbyPickups = new Array<>();
+
+    public GameLogicHandler(float mapWidth) { // <--- Tambahkan konstruktor ini
         this.pickupSpawnTimer = 0f;
+        this.enemyGrid = new SpatialGrid<>(mapWidth, BasicEnemy::getX, BasicEnemy::getWidth);
+        this.playerBulletGrid = new SpatialGrid<>(mapWidth, Bullet::getX, Bullet::getWidth);
+        this.enemyBulletGrid = new SpatialGrid<>(mapWidth, Bullet::getX, Bullet::getWidth);
+        this.bossBulletGrid = new SpatialGrid<>(mapWidth, BossBullet::getX, b -> BOSS_BULLET_HITBOX);
+        this.pickupGrid = new SpatialGrid<>(mapWidth, PickupItem::getX, PickupItem::getWidth);
     }
 
     public void update(GameScreen screen, float delta) {
         if (screen.getVnManager().isActive()) { //
             return; // VNManager.update() sudah dipanggil di GameScreen
         }
+        // Load/unload chunk dunia lalu bangunkan/tidurkan enemy sesuai posisi kamera,
+        // sebelum apa pun membaca daftar enemy aktif
+        float camX = screen.getCamera().position.x;
+        float viewLeft = camX - Constant.SCREEN_WIDTH / 2f;
+        float viewRight = camX + Constant.SCREEN_WIDTH / 2f;
+        screen.getWorldStreamer().update(viewLeft, viewRight);
+        screen.getEnemyActivation().update(screen.getEnemies(), viewLeft, viewRight);
+
         if (!screen.isGameOver()) {
             checkEnemyBulletHitsPlayer(screen);
             checkBossBulletHitsPlayer(screen);
@@ -87,8 +116,6 @@ public class GameLogicHandler {
             }
         }
 
-        updateCamera(screen);
-
         // Logika untuk player terperangkap di dinding kiri dan kanan saat wall trap aktif
         if (screen.isTriggerWallTrap()) {
             Rectangle playerBounds = screen.getPlayer().getBounds();
@@ -125,8 +152,11 @@ public class GameLogicHandler {
         System.out.println("[PICKUP] Spawned " + type.name() + " at " + spawnX + ", " + spawnY);
     }
 
-    private void updateCamera(GameScreen screen) {
-        float playerX = screen.getPlayer().getX();
+    /**
+     * Dipanggil sekali per frame setelah semua step logic, mengikuti posisi player yang diinterpolasi
+     */
+    public void updateCamera(GameScreen screen, float alpha) {
+        float playerX = screen.getPlayer().getRenderX(alpha);
         float mapWidth = screen.getMapWidth();
         float screenHalfWidth = Constant.SCREEN_WIDTH / 2f;
 
@@ -151,18 +181,30 @@ public class GameLogicHandler {
 
 
     private void updatePickupItems(GameScreen screen, float delta) {
-        screen.getPickupItems().forEach(item -> item.update(screen.getPlayer(), delta));
+        Array<PickupItem> items = screen.getPickupItems();
+        for (int i = items.size - 1; i >= 0; i--) {
+            if (!items.get(i).isAlive()) items.removeIndex(i); // Sudah diambil
+        }
+        for (PickupItem item : items) {
+            item.update(delta);
+        }
+
+        // Hanya pickup di sekitar player yang dicek overlap
+        Player player = screen.getPlayer();
+        pickupGrid.rebuild(items);
+        nearbyPickups.clear();
+        pickupGrid.query(player.getX(), player.getX() + player.getWidth(), nearbyPickups);
+        for (int i = 0; i < nearbyPickups.size; i++) {
+            nearbyPickups.get(i).tryCollect(player);
+        }
     }
 
     private void updateEnemies(GameScreen screen, float delta) {
-        for (BasicEnemy enemy : screen.getEnemies()) {
+        Array<BasicEnemy> enemies = screen.getEnemies();
+        for (int i = enemies.size - 1; i >= 0; i--) {
+            BasicEnemy enemy = enemies.get(i);
             if (enemy.isAlive()) {
                 enemy.update(delta, screen.getPlayer().getPosition());
-            } else {
-                for (Bullet b : enemy.getBullets()) {
-                    b.update(delta, screen.getCamera().position.x - Constant.SCREEN_WIDTH / 2f,
-                        screen.getCamera().position.x + Constant.SCREEN_WIDTH / 2f);
-                }
             }
             if (!enemy.isAlive() && !enemy.hasDropBeenChecked()) {
                 // Tandai bahwa drop sudah dicek untuk musuh ini, agar tidak drop berkali-kali
@@ -187,10 +229,19 @@ public class GameLogicHandler {
                     screen.spawnPickup(enemy.getX(), enemy.getY() + enemy.getHeight() / 2f, type);
                 }
             }
+            // Animasi mati selesai: peluru sudah di store GameScreen, enemy bisa dibuang
+            // (slot-nya dicatat WorldStreamer supaya tidak muncul lagi saat chunk di-load ulang)
+            if (!enemy.isAlive()) {
+                screen.getWorldStreamer().onEnemyKilled(enemy);
+                enemies.removeIndex(i).dispose();
+            }
         }
 
+        updateEnemyBullets(screen, delta);
+
 
-        boolean allBasicEnemiesDefeated = true;
+        // Enemy dormant dan enemy di chunk yang belum/tidak di-load masih hidup
+        boolean allBasicEnemiesDefeated = screen.getWorldStreamer().allEnemiesDefeated();
         for (BasicEnemy e : screen.getEnemies()) {
             if (e.isAlive()) {
                 allBasicEnemiesDefeated = false;
@@ -221,22 +272,44 @@ public class GameLogicHandler {
         }
     }
 
+    /**
+     * Peluru semua enemy (termasuk yang penembaknya sudah dibuang), hidup selama masih di dalam map
+     */
+    private void updateEnemyBullets(GameScreen screen, float delta) {
+        Array<Bullet> bullets = screen.getEnemyBullets();
+        float mapWidth = screen.getMapWidth();
+        for (Bullet bullet : bullets) {
+            bullet.update(delta, 0f, mapWidth);
+        }
+        for (int i = bullets.size - 1; i >= 0; i--) {
+            if (!bullets.get(i).isAlive()) screen.getProjectilePools().free(bullets.removeIndex(i));
+        }
+    }
+
     private void updateGrenades(GameScreen screen, float delta) {
+        // Enemy tidak bergerak lagi selama sisa tick, grid dipakai untuk tabrakan dan radius ledakan
+        enemyGrid.rebuild(screen.getEnemies());
+
         for (Grenade grenade : screen.getGrenades()) {
             grenade.update(delta);
 
             // Hanya cek tabrakan jika granat belum meledak.
             if (!grenade.isExploded()) { //
-                Rectangle grenadeRect = new Rectangle(grenade.getX() - 6f, grenade.getY() - 6f, 12f, 12f); //
-
-                // 1. Cek tabrakan dengan BasicEnemy
-                for (BasicEnemy enemy : screen.getEnemies()) { //
+                // Hitbox granat 12x12 di sekitar posisinya
+                float grenadeLeft = grenade.getX() - 6f;
+                float grenadeBottom = grenade.getY() - 6f;
+
+                // 1. Cek tabrakan dengan BasicEnemy di sel sekitar granat
+                nearbyEnemies.clear();
+                enemyGrid.query(grenadeLeft, grenadeLeft + 12f, nearbyEnemies);
+                for (int e = 0; e < nearbyEnemies.size; e++) { //
+                    BasicEnemy enemy = nearbyEnemies.get(e);
                     if (enemy.isAlive()) { //
                         if (enemy.getCurrentState() == EnemyState.DYING) { //
                             continue; // Lanjut ke musuh berikutnya.
                         }
-                        Rectangle enemyRect = new Rectangle(enemy.getX(), enemy.getY(), enemy.getWidth(), enemy.getHeight()); //
-                        if (grenadeRect.overlaps(enemyRect)) { //
+                        if (overlaps(grenadeLeft, grenadeBottom, 12f, 12f,
+                            enemy.getX(), enemy.getY(), enemy.getWidth(), enemy.getHeight())) { //
                             // --- MODIFIKASI DIMULAI DI SINI ---
                             // Jika granat adalah granat musuh dan menabrak sesama musuh, JANGAN meledak.
                             // Granat musuh hanya boleh meledak saat menabrak pemain atau karena timer.
@@ -262,8 +335,8 @@ public class GameLogicHandler {
                     // 2. Cek tabrakan dengan TankBoss
                     TankBoss boss = screen.getTankBoss(); //
                     if (boss != null && boss.isAlive()) { //
-                        Rectangle bossRect = new Rectangle(boss.getPosition().x, boss.getPosition().y, boss.getWidth(), boss.getHeight()); //
-                        if (grenadeRect.overlaps(bossRect)) { //
+                        if (overlaps(grenadeLeft, grenadeBottom, 12f, 12f,
+                            boss.getPosition().x, boss.getPosition().y, boss.getWidth(), boss.getHeight())) { //
                             // --- MODIFIKASI DIMULAI DI SINI ---
                             // Jika granat adalah granat musuh dan menabrak boss (sesama musuh), JANGAN meledak.
                             if (grenade.isEnemyGrenade()) { //
@@ -286,9 +359,12 @@ public class GameLogicHandler {
                 float explosionRadius = grenade.getRadius();
                 int explosionDamage = grenade.getDamage();
 
-                // Damage BasicEnemy (tidak ada perubahan)
+                // Damage BasicEnemy: hanya enemy di sel dalam radius ledakan
                 if (!grenade.isEnemyGrenade()) { //
-                    for (BasicEnemy enemy : screen.getEnemies()) { //
+                    nearbyEnemies.clear();
+                    enemyGrid.query(explosionX - explosionRadius, explosionX + explosionRadius, nearbyEnemies);
+                    for (int e = 0; e < nearbyEnemies.size; e++) { //
+                        BasicEnemy enemy = nearbyEnemies.get(e);
                         if (enemy.isAlive()) { //
                             enemy.checkHitByExplosion(explosionX, explosionY, explosionRadius, explosionDamage); //
                         }
@@ -300,12 +376,13 @@ public class GameLogicHandler {
 
                 TankBoss boss = screen.getTankBoss();
                 if (boss != null && boss.isAlive()) {
-                    // Buat Bounding Box untuk boss
-                    Rectangle bossRect = new Rectangle(boss.getPosition().x, boss.getPosition().y, boss.getWidth(), boss.getHeight());
+                    // Bounding box boss
+                    float bossX = boss.getPosition().x;
+                    float bossY = boss.getPosition().y;
 
                     // Temukan titik terdekat pada kotak boss ke pusat lingkaran ledakan
-                    float closestX = Math.max(bossRect.x, Math.min(explosionX, bossRect.x + bossRect.width));
-                    float closestY = Math.max(bossRect.y, Math.min(explosionY, bossRect.y + bossRect.height));
+                    float closestX = Math.max(bossX, Math.min(explosionX, bossX + boss.getWidth()));
+                    float closestY = Math.max(bossY, Math.min(explosionY, bossY + boss.getHeight()));
 
                     // Hitung jarak kuadrat dari titik terdekat ke pusat ledakan
                     float distanceX = explosionX - closestX;
@@ -337,16 +414,22 @@ public class GameLogicHandler {
         // Loop untuk menghapus granat yang sudah selesai (TIDAK PERLU DIUBAH)
         for (int i = screen.getGrenades().size - 1; i >= 0; i--) {
             if (screen.getGrenades().get(i).isFinished()) {
-                screen.getGrenades().removeIndex(i);
+                screen.getProjectilePools().free(screen.getGrenades().removeIndex(i));
             }
         }
     }
 
     private void checkBulletEnemyCollision(GameScreen screen) {
+        playerBulletGrid.rebuild(screen.getPlayer().getBullets());
+
         for (BasicEnemy enemy : screen.getEnemies()) {
             if (!enemy.isAlive()) continue;
 
-            for (Bullet bullet : screen.getPlayer().getBullets()) {
+            // Hanya peluru di sel sekitar enemy, urutan tetap sama dengan array peluru player
+            nearbyBullets.clear();
+            playerBulletGrid.query(enemy.getX(), enemy.getX() + enemy.getWidth(), nearbyBullets);
+            for (int b = 0; b < nearbyBullets.size; b++) {
+                Bullet bullet = nearbyBullets.get(b);
                 if (!bullet.isAlive()) continue;
 
                 boolean overlap = bullet.getX() < enemy.getX() + enemy.getWidth() &&
@@ -380,50 +463,56 @@ public class GameLogicHandler {
         Player player = screen.getPlayer(); // Dapatkan objek player sekali di awal
         PlayerState ps = player.getPlayerState(); // Dapatkan PlayerState untuk pemeriksaan status
 
-        for (BasicEnemy enemy : screen.getEnemies()) {
-            if (!enemy.isAlive()) continue; // Lewati musuh yang sudah mati
-
-            for (Bullet bullet : enemy.getBullets()) {
-                if (!bullet.isAlive()) continue; // Lewati peluru yang sudah tidak aktif
-
-                // Deteksi apakah ada overlap fisik antara peluru dan pemain
-                boolean physicalOverlap = bullet.getX() < ps.x + ps.playerWidth &&
-                    bullet.getX() + bullet.getWidth() > ps.x &&
-                    bullet.getY() < ps.y + ps.playerHeight &&
-                    bullet.getY() + bullet.getHeight() > ps.y;
-
-                if (physicalOverlap) {
-                    // Kondisi di mana pemain dianggap "tidak bisa diserang" (mati permanen atau menunggu respawn)
-                    boolean playerIsOutOfPlay = ps.isDead && !ps.isWaitingToRespawn; // Mati permanen (game over)
-                    boolean playerIsRespawning = ps.isWaitingToRespawn; // Sedang dalam timer 2 detik untuk respawn
-
-                    if (playerIsOutOfPlay || playerIsRespawning) {
-                        // Jika pemain mati permanen atau sedang menunggu respawn, peluru menembus.
-                        // Tidak ada aksi pada peluru (bullet.kill()) atau pemain.
-                        continue; // Lanjut ke peluru berikutnya
-                    }
+        // Peluru enemy ada di store milik GameScreen, tetap aktif meskipun penembaknya sudah mati.
+        // Hanya peluru di sel sekitar player yang dicek.
+        enemyBulletGrid.rebuild(screen.getEnemyBullets());
+        nearbyBullets.clear();
+        enemyBulletGrid.query(ps.x, ps.x + ps.playerWidth, nearbyBullets);
+        for (int b = 0; b < nearbyBullets.size; b++) {
+            Bullet bullet = nearbyBullets.get(b);
+            if (!bullet.isAlive()) continue; // Lewati peluru yang sudah tidak aktif
 
-                    // Jika sampai di sini, pemain tidak mati permanen dan tidak sedang menunggu respawn.
-                    // Sekarang periksa apakah pemain invincible.
-                    if (player.isInvincible()) { // Menggunakan metode isInvincible() dari Player
-                        bullet.kill(); // Peluru mengenai pemain yang invincible, peluru hilang, tidak ada damage.
-                        // Player.isInvincible() mengambil dari ps.invincibilityTimer > 0f.
-                    } else {
-                        // Pemain tidak mati, tidak menunggu respawn, dan tidak invincible. Pemain rentan.
-                        bullet.kill();      // Peluru mengenai pemain, peluru hilang.
-                        player.takeDeath(); // Pemain menerima damage/mati.
-                    }
+            // Deteksi apakah ada overlap fisik antara peluru dan pemain
+            boolean physicalOverlap = bullet.getX() < ps.x + ps.playerWidth &&
+                bullet.getX() + bullet.getWidth() > ps.x &&
+                bullet.getY() < ps.y + ps.playerHeight &&
+                bullet.getY() + bullet.getHeight() > ps.y;
 
-                    // Setelah peluru mengenai (baik vulnerable atau invincible) dan dimatikan,
-                    // hentikan pemeriksaan peluru lain dari musuh ini untuk frame ini.
-                    break;
+            if (physicalOverlap) {
+                // Kondisi di mana pemain dianggap "tidak bisa diserang" (mati permanen atau menunggu respawn)
+                boolean playerIsOutOfPlay = ps.isDead && !ps.isWaitingToRespawn; // Mati permanen (game over)
+                boolean playerIsRespawning = ps.isWaitingToRespawn; // Sedang dalam timer 2 detik untuk respawn
+
+                if (playerIsOutOfPlay || playerIsRespawning) {
+                    // Jika pemain mati permanen atau sedang menunggu respawn, peluru menembus.
+                    // Tidak ada aksi pada peluru (bullet.kill()) atau pemain.
+                    continue; // Lanjut ke peluru berikutnya
+                }
+
+                // Jika sampai di sini, pemain tidak mati permanen dan tidak sedang menunggu respawn.
+                // Sekarang periksa apakah pemain invincible.
+                if (player.isInvincible()) { // Menggunakan metode isInvincible() dari Player
+                    bullet.kill(); // Peluru mengenai pemain yang invincible, peluru hilang, tidak ada damage.
+                    // Player.isInvincible() mengambil dari ps.invincibilityTimer > 0f.
+                } else {
+                    // Pemain tidak mati, tidak menunggu respawn, dan tidak invincible. Pemain rentan.
+                    bullet.kill();      // Peluru mengenai pemain, peluru hilang.
+                    player.takeDeath(); // Pemain menerima damage/mati.
                 }
+
+                // Setelah peluru mengenai (baik vulnerable atau invincible) dan dimatikan,
+                // hentikan pemeriksaan peluru lain untuk tick ini.
+                break;
             }
         }
 
         TankBoss boss = screen.getTankBoss();
         if (boss != null && boss.isAlive()) {
-            for (Bullet bullet : screen.getPlayer().getBullets()) {
+            playerBulletGrid.rebuild(screen.getPlayer().getBullets());
+            nearbyBullets.clear();
+            playerBulletGrid.query(boss.getPosition().x, boss.getPosition().x + boss.getWidth(), nearbyBullets);
+            for (int b = 0; b < nearbyBullets.size; b++) {
+                Bullet bullet = nearbyBullets.get(b);
                 if (!bullet.isAlive()) continue;
 
                 // AABB Collision check (mirip dengan BasicEnemy)
@@ -454,16 +543,18 @@ public class GameLogicHandler {
         Player player = screen.getPlayer();
         PlayerState ps = player.getPlayerState();
 
-        // Iterasi melalui peluru boss
-        for (io.DutchSlayer.attack.boss.BossBullet bullet : boss.getBullets()) { // Gunakan FQN jika ada ambiguitas nama kelas Bullet
+        // Iterasi melalui peluru boss di sel sekitar player
+        bossBulletGrid.rebuild(boss.getBullets());
+        nearbyBossBullets.clear();
+        bossBulletGrid.query(ps.x, ps.x + ps.playerWidth, nearbyBossBullets);
+        for (int b = 0; b < nearbyBossBullets.size; b++) {
+            BossBullet bullet = nearbyBossBullets.get(b);
             if (!bullet.isAlive()) continue;
 
             // Deteksi overlap fisik (AABB collision)
-            // Asumsi BossBullet memiliki getX(), getY(), getWidth(), getHeight()
-            // Jika tidak, Anda perlu menambahkannya atau menyesuaikan logika tabrakan.
-            // Untuk BossBullet dari kode Anda, sepertinya ia dirender sebagai rect kecil, kita bisa asumsikan width/height kecil
-            float bulletWidth = 10f; // Ganti dengan ukuran peluru boss yang sebenarnya
-            float bulletHeight = 10f; // Ganti dengan ukuran peluru boss yang sebenarnya
+            // Hitbox peluru boss lebih kecil dari sprite-nya (40x40)
+            float bulletWidth = BOSS_BULLET_HITBOX;
+            float bulletHeight = BOSS_BULLET_HITBOX;
 
             boolean physicalOverlap = bullet.getX() < ps.x + ps.playerWidth &&
                 bullet.getX() + bulletWidth > ps.x &&
@@ -489,6 +580,13 @@ public class GameLogicHandler {
         }
     }
 
+    /**
+     * Test AABB seperti Rectangle.overlaps, tanpa membuat Rectangle baru
+     */
+    private static boolean overlaps(float x1, float y1, float w1, float h1, float x2, float y2, float w2, float h2) {
+        return x1 < x2 + w2 && x1 + w1 > x2 && y1 < y2 + h2 && y1 + h1 > y2;
+    }
+
     public void setupRespawnPoints(GameScreen screen) {
         screen.getRespawnPoints().add(new Vector2(100, Constant.TERRAIN_HEIGHT));
         screen.getRespawnPoints().add(new Vector2(800, Constant.TERRAIN_HEIGHT));
@@ -0,0 +1,216 @@
+package io.DutchSlayer.attack.screens.logic;
+
+import com.badlogic.gdx.audio.Sound;
+import com.badlogic.gdx.graphics.Texture;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.Disposable;
+import com.badlogic.gdx.utils.Pool;
+import io.DutchSlayer.attack.boss.BossBullet;
+import io.DutchSlayer.attack.boss.BossGrenade;
+import io.DutchSlayer.attack.player.weapon.Bullet;
+import io.DutchSlayer.attack.player.weapon.Grenade;
+import io.DutchSlayer.utils.Assets;
+
+/**
+ * Pool projectile attack mode (bullet player/enemy, bullet dan granat boss, granat), dimiliki GameScreen.
+ * Senjata/enemy/boss obtain dari sini, pemilik array free saat projectile mati.
+ *
+ * Texture peluru boss dan sound granat dipinjam sekali di sini dan dibagi semua instance, jadi
+ * tembakan tidak lagi meminjam/mengembalikan Assets per projectile (dulu texture peluru boss
+ * ter-unload saat peluru terakhir mati lalu di-load ulang dari disk di volley berikutnya).
+ *
+ * Setiap newObject() dihitung seperti ProjectilePools defend: setelah pool terisi (warm-up),
+ * boss fight steady-state harus 0 alokasi per tick (dicek TankBossPoolsTest). Hasilnya juga di-log
+ * GameScreen saat dispose jika Constant.RENDER_STATS aktif.
+ */
+public class ProjectilePools implements Disposable {
+    private int frameAllocations = 0;
+    private int totalAllocations = 0;
+
+    /* ===== STEADY-STATE BOSS FIGHT ===== */
+    private int bossTicks = 0;
+    private int bossAllocatingTicks = 0;
+    private int lastBossAllocatingTick = -1;
+
+    private boolean ownsAssets = false;     // Handle dipinjam dari Assets, dilepas saat dispose
+    private TextureRegion bossBulletRight;
+    private TextureRegion bossBulletLeft;
+    private Sound grenadeExplosionSound;
+    private Sound grenadeGroundHitSound;
+
+    private final Pool<Bullet> bullets = new CountingPool<>() {
+        @Override
+        protected Bullet create() {
+            return new Bullet(0f, 0f, 0f, false);
+        }
+    };
+
+    private final Pool<BossBullet> bossBullets = new CountingPool<>() {
+        @Override
+        protected BossBullet create() {
+            return new BossBullet();
+        }
+    };
+
+    private final Pool<Grenade> grenades = new CountingPool<>() {
+        @Override
+        protected Grenade create() {
+            return new Grenade();
+        }
+    };
+
+    private final Pool<BossGrenade> bossGrenades = new CountingPool<>() {
+        @Override
+        protected BossGrenade create() {
+            return new BossGrenade();
+        }
+    };
+
+    /**
+     * Pool yang menghitung alokasi baru (pool miss)
+     */
+    private abstract class CountingPool<T> extends Pool<T> {
+        @Override
+        protected final T newObject() {
+            frameAllocations++;
+            totalAllocations++;
+            return create();
+        }
+
+        protected abstract T create();
+    }
+
+    public ProjectilePools() {
+        Texture bossBulletTexture = Assets.texture(BossBullet.TEXTURE_PATH);
+        TextureRegion right = new TextureRegion(bossBulletTexture);
+        right.flip(true, false);
+
+        // Ditahan selama screen hidup, suara ledakan boleh masih diputar setelah granatnya di-free
+        setHandles(new TextureRegion(bossBulletTexture), right,
+            Assets.sound(Grenade.EXPLOSION_SOUND), Assets.sound(Grenade.GROUND_HIT_SOUND));
+        ownsAssets = true;
+    }
+
+    /**
+     * Pool dengan handle dari pemanggil (test headless tanpa GL/audio boleh memberi region kosong dan sound null).
+     * Handle tidak dipinjam dari Assets dan tidak dilepas saat dispose.
+     */
+    public ProjectilePools(TextureRegion bossBulletLeft, TextureRegion bossBulletRight,
+                           Sound grenadeExplosionSound, Sound grenadeGroundHitSound) {
+        setHandles(bossBulletLeft, bossBulletRight, grenadeExplosionSound, grenadeGroundHitSound);
+    }
+
+    private void setHandles(TextureRegion bossBulletLeft, TextureRegion bossBulletRight,
+                            Sound grenadeExplosionSound, Sound grenadeGroundHitSound) {
+        this.bossBulletLeft = bossBulletLeft;
+        this.bossBulletRight = bossBulletRight;
+        this.grenadeExplosionSound = grenadeExplosionSound;
+        this.grenadeGroundHitSound = grenadeGroundHitSound;
+    }
+
+    /* ===== BULLET ===== */
+
+    public Bullet obtainBullet(float startX, float startY, float angleRad, boolean fromEnemy, TextureRegion region) {
+        Bullet b = bullets.obtain();
+        b.reset(startX, startY, angleRad, fromEnemy);
+        b.setTextureRegion(region);
+        return b;
+    }
+
+    public void free(Bullet b) {
+        bullets.free(b);
+    }
+
+    /**
+     * Kembalikan semua bullet di array ke pool lalu kosongkan array-nya
+     */
+    public void freeBullets(Array<Bullet> array) {
+        bullets.freeAll(array);
+        array.clear();
+    }
+
+    /* ===== BOSS ===== */
+
+    public BossBullet obtainBossBullet(float startX, float startY, float directionX, boolean bossFacingRight) {
+        BossBullet b = bossBullets.obtain();
+        b.reset(startX, startY, directionX, bossFacingRight ? bossBulletRight : bossBulletLeft);
+        return b;
+    }
+
+    public void free(BossBullet b) {
+        bossBullets.free(b);
+    }
+
+    public BossGrenade obtainBossGrenade(float startX, float startY, float initialVx, float initialVy,
+                                         Texture projectileTexture, Texture explosionTexture, Sound explosionSound) {
+        BossGrenade g = bossGrenades.obtain();
+        g.reset(startX, startY, initialVx, initialVy, projectileTexture, explosionTexture, explosionSound);
+        return g;
+    }
+
+    public void free(BossGrenade g) {
+        bossGrenades.free(g);
+    }
+
+    /* ===== GRENADE ===== */
+
+    public Grenade obtainGrenade(float startX, float startY, float angleRad, float power, boolean isEnemyGrenade,
+                                 Texture grenadeTexture, Texture explosionTexture) {
+        Grenade g = grenades.obtain();
+        g.reset(startX, startY, angleRad, power, isEnemyGrenade, grenadeTexture, explosionTexture,
+            grenadeExplosionSound, grenadeGroundHitSound);
+        return g;
+    }
+
+    public void free(Grenade g) {
+        grenades.free(g);
+    }
+
+    /* ===== ALLOCATION COUNTER ===== */
+
+    public void beginFrame() {
+        frameAllocations = 0;
+    }
+
+    /**
+     * Dipanggil setelah setiap tick logika, tick selama boss hidup dicatat untuk cek steady-state
+     */
+    public void endTick(boolean bossFight) {
+        if (!bossFight) return;
+        bossTicks++;
+        if (frameAllocations > 0) {
+            bossAllocatingTicks++;
+            lastBossAllocatingTick = bossTicks;
+        }
+    }
+
+    public int getFrameAllocations() { return frameAllocations; }
+    public int getTotalAllocations() { return totalAllocations; }
+    public int getBossTicks() { return bossTicks; }
+    public int getBossAllocatingTicks() { return bossAllocatingTicks; }
+    public int getLastBossAllocatingTick() { return lastBossAllocatingTick; }
+
+    /**
+     * Jumlah object idle per pool, untuk debug overlay/log
+     */
+    public int getFreeCount() {
+        return bullets.getFree() + bossBullets.getFree() + grenades.getFree() + bossGrenades.getFree();
+    }
+
+    @Override
+    public void dispose() {
+        bullets.clear();
+        bossBullets.clear();
+        grenades.clear();
+        bossGrenades.clear();
+        if (ownsAssets) {
+            Assets.release(BossBullet.TEXTURE_PATH);
+            Assets.release(Grenade.EXPLOSION_SOUND);
+            Assets.release(Grenade.GROUND_HIT_SOUND);
+            ownsAssets = false;
+        }
+        grenadeExplosionSound = null;
+        grenadeGroundHitSound = null;
+    }
+}
@@ -0,0 +1,94 @@
+package io.DutchSlayer.attack.screens.logic;
+
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.IntArray;
+
+import java.util.function.ToDoubleFunction;
+
+/**
+ * Grid seragam untuk broadphase tabrakan attack mode. Dunia attack pada dasarnya satu strip
+ * horizontal setinggi layar, jadi grid cukup berupa sel selebar CELL_WIDTH di sepanjang lebar
+ * peta. Item dimasukkan ke sel berdasarkan sisi kirinya.
+ *
+ * Query hanya membuka sel di sekitar rentang x yang diminta (diperlebar maxWidth ke kiri untuk
+ * item yang mulai di sel sebelumnya), jadi biaya tergantung kepadatan lokal, bukan panjang level.
+ * Hasil query berurutan sesuai array sumber supaya urutan proses tabrakan sama dengan loop lama.
+ *
+ * Menyimpan index ke array sumber: rebuild lagi setiap kali array atau posisi item berubah.
+ */
+public class SpatialGrid<T> {
+    private static final float CELL_WIDTH = 128f;
+
+    private final ToDoubleFunction<T> leftOf;
+    private final ToDoubleFunction<T> widthOf;
+    private final IntArray[] cells;
+    private final IntArray usedCells = new IntArray();
+    private final IntArray found = new IntArray();
+    private Array<? extends T> source;
+    private float maxWidth = 0f;
+
+    /**
+     * @param worldWidth lebar peta, item di luar peta masuk sel paling tepi
+     * @param leftOf     sisi kiri item
+     * @param widthOf    lebar hitbox item
+     */
+    public SpatialGrid(float worldWidth, ToDoubleFunction<T> leftOf, ToDoubleFunction<T> widthOf) {
+        this.leftOf = leftOf;
+        this.widthOf = widthOf;
+        this.cells = new IntArray[(int) Math.ceil(worldWidth / CELL_WIDTH) + 1];
+        for (int c = 0; c < cells.length; c++) {
+            cells[c] = new IntArray(8);
+        }
+    }
+
+    /**
+     * Isi ulang grid dari items. Hanya sel yang dipakai rebuild sebelumnya yang dikosongkan.
+     */
+    public void rebuild(Array<? extends T> items) {
+        for (int n = 0; n < usedCells.size; n++) {
+            cells[usedCells.get(n)].clear();
+        }
+        usedCells.clear();
+        source = items;
+        maxWidth = 0f;
+
+        for (int i = 0; i < items.size; i++) {
+            T item = items.get(i);
+            int c = cellOf((float) leftOf.applyAsDouble(item));
+            if (cells[c].size == 0) usedCells.add(c);
+            cells[c].add(i);
+            maxWidth = Math.max(maxWidth, (float) widthOf.applyAsDouble(item));
+        }
+    }
+
+    private int cellOf(float x) {
+        return Math.max(0, Math.min(cells.length - 1, (int) (x / CELL_WIDTH)));
+    }
+
+    /**
+     * Kandidat yang rentang x-nya beririsan dengan [left, right], ditambahkan ke out dalam urutan
+     * array sumber (out tidak di-clear). Test y/radius tetap dilakukan pemanggil.
+     */
+    public Array<T> query(float left, float right, Array<T> out) {
+        if (source == null || source.size == 0) return out;
+
+        found.clear();
+        int last = cellOf(right);
+        for (int c = cellOf(left - maxWidth); c <= last; c++) {
+            IntArray cell = cells[c];
+            for (int n = 0; n < cell.size; n++) {
+                T item = source.get(cell.get(n));
+                float itemLeft = (float) leftOf.applyAsDouble(item);
+                if (itemLeft <= right && itemLeft + (float) widthOf.applyAsDouble(item) >= left) {
+                    found.add(cell.get(n));
+                }
+            }
+        }
+
+        found.sort();
+        for (int n = 0; n < found.size; n++) {
+            out.add(source.get(found.get(n)));
+        }
+        return out;
+    }
+}
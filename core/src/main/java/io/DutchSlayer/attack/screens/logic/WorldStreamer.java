@@ -0,0 +1,252 @@
+package io.DutchSlayer.attack.screens.logic;
+
+import com.badlogic.gdx.graphics.Texture;
+import com.badlogic.gdx.math.RandomXS128;
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.Bits;
+import io.DutchSlayer.attack.enemy.AttackType;
+import io.DutchSlayer.attack.enemy.BasicEnemy;
+import io.DutchSlayer.attack.enemy.EnemyFactory;
+import io.DutchSlayer.attack.enemy.fsm.EnemyState;
+import io.DutchSlayer.attack.objects.Building;
+import io.DutchSlayer.attack.objects.BuildingGenerator;
+import io.DutchSlayer.attack.objects.Tree;
+import io.DutchSlayer.attack.screens.GameScreen;
+import io.DutchSlayer.utils.Constant;
+
+/**
+ * Dunia attack mode dibagi chunk selebar CHUNK_WIDTH. Bangunan, pohon dan enemy satu chunk
+ * di-generate dari seed (stage, index chunk) saat chunk mendekati view, lalu dibuang lagi saat
+ * chunk tertinggal jauh. Isi GameScreen.getTrees()/getBuildings() dan enemy di EnemyActivation
+ * hanya berasal dari chunk yang sedang di-load, jadi waktu mulai level dan memori tidak
+ * tergantung panjang peta.
+ *
+ * Seed per chunk membuat chunk yang di-load ulang selalu sama. Yang disimpan permanen per chunk
+ * hanya metadata kecil: jumlah slot enemy dan slot yang sudah dibunuh (tidak di-spawn lagi).
+ *
+ * Load di [kiri view - LOAD_MARGIN, kanan view + LOAD_MARGIN], unload setelah chunk keluar dari
+ * UNLOAD_MARGIN; selisihnya mencegah chunk bolak-balik load/unload di batas. LOAD_MARGIN harus
+ * lebih besar dari radius bangun EnemyActivation supaya enemy sudah ada sebelum dibangunkan.
+ */
+public class WorldStreamer {
+    public static final float CHUNK_WIDTH = 2048f;
+    private static final float LOAD_MARGIN = 1024f;
+    private static final float UNLOAD_MARGIN = 2048f;
+
+    // Kepadatan sama dengan generate seluruh peta dulu
+    private static final float TREE_SPACING = (Constant.TREE_MIN_WIDTH + Constant.TREE_MAX_WIDTH) / 2f + 60f;
+    private static final float TREE_DENSITY = 0.8f;
+    private static final float ENEMY_SPACING = 180f;
+
+    /**
+     * State permanen satu chunk, isinya (pohon, bangunan, enemy) hanya ada selama chunk di-load
+     */
+    private static class Chunk {
+        final int index;
+        final float startX, endX;
+        boolean generated = false;      // Pernah di-load, enemySlots sudah diketahui
+        boolean loaded = false;
+        int enemySlots = 0;
+        int killedCount = 0;
+        final Bits killed = new Bits();
+        final Array<Tree> trees = new Array<>();
+        final Array<Building> buildings = new Array<>();
+
+        Chunk(int index, float startX, float endX) {
+            this.index = index;
+            this.startX = startX;
+            this.endX = endX;
+        }
+    }
+
+    private final GameScreen screen;
+    private final int stageNumber;
+    private final Texture treeTexture;
+    private final AttackType[] enemyTypes;
+    private final Chunk[] chunks;
+    private final float enemyMinX, enemyMaxX, enemyDensity;
+    private final Array<BasicEnemy> spawned = new Array<>();
+    private int generatedCount = 0;
+    private boolean staticChanged = false;
+
+    public WorldStreamer(GameScreen screen, int stageNumber, float mapWidth, Texture treeTexture) {
+        this.screen = screen;
+        this.stageNumber = stageNumber;
+        this.treeTexture = treeTexture;
+        this.enemyTypes = EnemyFactory.allowedTypes(stageNumber);
+
+        int count = Math.max(1, (int) Math.ceil(mapWidth / CHUNK_WIDTH));
+        this.chunks = new Chunk[count];
+        for (int i = 0; i < count; i++) {
+            chunks[i] = new Chunk(i, i * CHUNK_WIDTH, Math.min(mapWidth, (i + 1) * CHUNK_WIDTH));
+        }
+
+        // Tidak ada enemy di layar pertama; jumlah total tetap (lebar / 180) + 2 per stage
+        this.enemyMinX = Constant.WALL_WIDTH + 200f + Constant.SCREEN_WIDTH * 1.2f;
+        this.enemyMaxX = mapWidth - 200f;
+        int total = (int) (mapWidth / ENEMY_SPACING) + stageNumber * 2;
+        this.enemyDensity = enemyMaxX > enemyMinX ? total / (enemyMaxX - enemyMinX) : 0f;
+    }
+
+    /**
+     * Load chunk yang mendekati view dan unload yang sudah tertinggal. Dipanggil setiap tick logika.
+     */
+    public void update(float viewLeft, float viewRight) {
+        boolean changed = false;
+        for (Chunk chunk : chunks) {
+            if (!chunk.loaded && chunk.endX >= viewLeft - LOAD_MARGIN && chunk.startX <= viewRight + LOAD_MARGIN) {
+                load(chunk);
+                changed = true;
+            } else if (chunk.loaded && (chunk.endX < viewLeft - UNLOAD_MARGIN || chunk.startX > viewRight + UNLOAD_MARGIN)) {
+                unload(chunk);
+                changed = true;
+            }
+        }
+        if (changed) collectStatic();
+    }
+
+    /* ===== LOAD / UNLOAD ===== */
+
+    /**
+     * RNG per chunk dan per jenis isi, mengubah satu generator tidak menggeser yang lain
+     */
+    private RandomXS128 rngFor(Chunk chunk, int salt) {
+        long seed = stageNumber * 0x9E3779B97F4A7C15L + chunk.index * 0xC2B2AE3D27D4EB4FL + salt;
+        return new RandomXS128(seed == 0L ? 1L : seed);
+    }
+
+    private void load(Chunk chunk) {
+        chunk.loaded = true;
+
+        BuildingGenerator.generateZone(chunk.startX, chunk.endX, rngFor(chunk, 1), chunk.buildings);
+        generateTrees(chunk, rngFor(chunk, 2));
+
+        float from = Math.max(chunk.startX, enemyMinX);
+        float to = Math.min(chunk.endX, enemyMaxX);
+        if (to > from) {
+            RandomXS128 rng = rngFor(chunk, 3);
+            // Pembulatan acak (dari seed) supaya jumlah total rata-rata tetap sama
+            int count = (int) (enemyDensity * (to - from) + rng.nextFloat());
+            spawned.clear();
+            int slots = EnemyFactory.spawnDeterministicEnemies(rng, count, from, to, Constant.TERRAIN_HEIGHT,
+                enemyTypes, chunk.killed, screen, spawned);
+            for (BasicEnemy enemy : spawned) {
+                enemy.setChunkIndex(chunk.index);
+                screen.getEnemyActivation().add(enemy);
+            }
+            if (!chunk.generated) chunk.enemySlots = slots;
+        }
+
+        if (!chunk.generated) {
+            chunk.generated = true;
+            generatedCount++;
+        }
+    }
+
+    private void unload(Chunk chunk) {
+        chunk.loaded = false;
+        chunk.trees.clear();
+        chunk.buildings.clear();
+
+        removeEnemies(screen.getEnemies(), chunk);
+        removeEnemies(screen.getEnemyActivation().getDormant(), chunk);
+    }
+
+    /**
+     * Buang enemy milik chunk. Enemy yang sedang animasi mati dicatat sudah dibunuh.
+     */
+    private void removeEnemies(Array<BasicEnemy> enemies, Chunk chunk) {
+        for (int i = enemies.size - 1; i >= 0; i--) {
+            BasicEnemy enemy = enemies.get(i);
+            if (enemy.getChunkIndex() != chunk.index) continue;
+            if (!enemy.isAlive() || enemy.getCurrentState() == EnemyState.DYING) {
+                onEnemyKilled(enemy);
+            }
+            enemies.removeIndex(i).dispose();
+        }
+    }
+
+    private void generateTrees(Chunk chunk, RandomXS128 rng) {
+        int targetCount = (int) ((chunk.endX - chunk.startX) / TREE_SPACING * TREE_DENSITY);
+        int maxAttempts = targetCount * 5;
+
+        int placed = 0;
+        int attempts = 0;
+
+        while (placed < targetCount && attempts < maxAttempts) {
+            Tree candidate = Tree.generateFixed(chunk.startX, chunk.endX, rng, treeTexture);
+
+            float scale = 0.9f + rng.nextFloat() * 0.25f;
+            candidate.setSize(candidate.getWidth() * scale, candidate.getHeight() * scale);
+
+            boolean tooClose = false;
+            for (Tree existing : chunk.trees) {
+                float dx = candidate.getX() - existing.getX();
+                float dw = (candidate.getWidth() + existing.getWidth()) / 2f;
+                if (candidate.getWidth() < existing.getWidth() * 0.75f) continue;
+                if (Math.abs(dx) < dw + 10f) {
+                    tooClose = true;
+                    break;
+                }
+            }
+
+            if (!tooClose) {
+                chunk.trees.add(candidate);
+                placed++;
+            }
+
+            attempts++;
+        }
+    }
+
+    /**
+     * Isi ulang array dunia statis GameScreen dari chunk yang di-load, urut chunk supaya urutan
+     * gambar tidak tergantung urutan load
+     */
+    private void collectStatic() {
+        Array<Tree> trees = screen.getTrees();
+        Array<Building> buildings = screen.getBuildings();
+        trees.clear();
+        buildings.clear();
+        for (Chunk chunk : chunks) {
+            if (!chunk.loaded) continue;
+            trees.addAll(chunk.trees);
+            buildings.addAll(chunk.buildings);
+        }
+        staticChanged = true;
+    }
+
+    /* ===== STATE PERMANEN ===== */
+
+    /**
+     * Dipanggil saat enemy mati dibuang dari daftar enemy, slot-nya tidak di-spawn lagi saat chunk di-load ulang
+     */
+    public void onEnemyKilled(BasicEnemy enemy) {
+        int index = enemy.getChunkIndex();
+        if (index < 0 || index >= chunks.length || enemy.getSpawnSlot() < 0) return;
+        Chunk chunk = chunks[index];
+        if (!chunk.killed.getAndSet(enemy.getSpawnSlot())) {
+            chunk.killedCount++;
+        }
+    }
+
+    /**
+     * Semua chunk sudah pernah di-load dan semua slot enemy-nya sudah dibunuh
+     */
+    public boolean allEnemiesDefeated() {
+        if (generatedCount < chunks.length) return false;
+        for (Chunk chunk : chunks) {
+            if (chunk.killedCount < chunk.enemySlots) return false;
+        }
+        return true;
+    }
+
+    /**
+     * true sekali setelah isi pohon/bangunan berubah (StaticWorldCache perlu dikompilasi ulang)
+     */
+    public boolean consumeStaticChanged() {
+        boolean changed = staticChanged;
+        staticChanged = false;
+        return changed;
+    }
+}
@@ -0,0 +1,88 @@
+package io.DutchSlayer.attack.screens.render;
+
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.IntArray;
+
+import java.util.function.ToDoubleFunction;
+
+/**
+ * Index x untuk view culling attack mode: item dikelompokkan ke bucket selebar BUCKET_WIDTH
+ * berdasarkan sisi kirinya, bucket berurutan dari kiri ke kanan peta.
+ *
+ * Query cukup membuka bucket yang beririsan dengan rentang view (diperlebar maxWidth ke kiri
+ * untuk item yang mulai sebelum view), jadi biaya tidak ikut naik saat peta makin panjang.
+ * Hasil query dikembalikan dalam urutan array sumber supaya urutan gambar (z-order) tetap sama.
+ *
+ * Item statis (bangunan, pohon) cukup rebuild sekali, item bergerak di-rebuild per frame.
+ */
+public class CullIndex<T> {
+    private static final float BUCKET_WIDTH = 512f;
+
+    private final ToDoubleFunction<T> leftOf;
+    private final ToDoubleFunction<T> widthOf;
+    private final Array<IntArray> buckets = new Array<>();
+    private final IntArray visible = new IntArray();
+    private Array<? extends T> source;
+    private float maxWidth = 0f;
+
+    /**
+     * @param leftOf  sisi kiri item di koordinat yang sama dengan query
+     * @param widthOf lebar yang dipakai untuk test overlap (boleh lebih lebar dari sprite)
+     */
+    public CullIndex(ToDoubleFunction<T> leftOf, ToDoubleFunction<T> widthOf) {
+        this.leftOf = leftOf;
+        this.widthOf = widthOf;
+    }
+
+    /**
+     * Isi ulang index dari items. Array disimpan sebagai referensi, rebuild lagi jika isinya berubah.
+     */
+    public void rebuild(Array<? extends T> items) {
+        for (IntArray bucket : buckets) {
+            bucket.clear();
+        }
+        source = items;
+        maxWidth = 0f;
+
+        for (int i = 0; i < items.size; i++) {
+            T item = items.get(i);
+            int b = bucketOf((float) leftOf.applyAsDouble(item));
+            while (buckets.size <= b) {
+                buckets.add(new IntArray(8));
+            }
+            buckets.get(b).add(i);
+            maxWidth = Math.max(maxWidth, (float) widthOf.applyAsDouble(item));
+        }
+    }
+
+    private static int bucketOf(float x) {
+        return Math.max(0, (int) (x / BUCKET_WIDTH));
+    }
+
+    /**
+     * Item yang rentang [left, left + width]-nya beririsan dengan [viewLeft, viewRight],
+     * ditambahkan ke out dalam urutan array sumber (out tidak di-clear)
+     */
+    public Array<T> query(float viewLeft, float viewRight, Array<T> out) {
+        if (source == null || buckets.size == 0) return out;
+
+        visible.clear();
+        int last = Math.min(buckets.size - 1, bucketOf(viewRight));
+        for (int b = bucketOf(viewLeft - maxWidth); b <= last; b++) {
+            IntArray bucket = buckets.get(b);
+            for (int n = 0; n < bucket.size; n++) {
+                T item = source.get(bucket.get(n));
+                float left = (float) leftOf.applyAsDouble(item);
+                if (left <= viewRight && left + (float) widthOf.applyAsDouble(item) >= viewLeft) {
+                    visible.add(bucket.get(n));
+                }
+            }
+        }
+
+        visible.sort();
+        for (int n = 0; n < visible.size; n++) {
+            out.add(source.get(visible.get(n)));
+        }
+        return out;
+    }
+}
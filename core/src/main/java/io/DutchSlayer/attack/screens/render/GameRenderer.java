@@ -3,230 +3,209 @@ package io.DutchSlayer.attack.screens.render;
 import com.badlogic.gdx.graphics.OrthographicCamera;
 import com.badlogic.gdx.graphics.Texture;
 import com.badlogic.gdx.graphics.g2d.BitmapFont;
+import com.badlogic.gdx.graphics.g2d.GlyphLayout;
 import com.badlogic.gdx.graphics.g2d.SpriteBatch;
-import com.badlogic.gdx.graphics.g2d.TextureRegion;
-import com.badlogic.gdx.graphics.glutils.ShapeRenderer;
+import com.badlogic.gdx.utils.Array;
 import io.DutchSlayer.attack.boss.TankBoss;
 import io.DutchSlayer.attack.enemy.BasicEnemy;
-import io.DutchSlayer.attack.objects.Building;
 import io.DutchSlayer.attack.objects.PickupItem;
-import io.DutchSlayer.attack.objects.Tree;
 import io.DutchSlayer.attack.player.Player;
 import io.DutchSlayer.attack.player.weapon.Bullet;
+import io.DutchSlayer.attack.player.weapon.Grenade;
 import io.DutchSlayer.attack.screens.GameScreen;
 import io.DutchSlayer.utils.Constant;
 
 public class GameRenderer {
+    // Ruang ekstra di tepi view untuk health bar, ledakan dan posisi interpolasi
+    private static final float CULL_MARGIN = 64f;
+
+    // Bangunan, pohon dan terrain; dikompilasi ulang saat WorldStreamer load/unload chunk
+    private final StaticWorldCache staticWorld;
+    private final RenderQueue queue = new RenderQueue();
+
+    /* ===== VIEW CULLING ===== */
+    private final CullIndex<BasicEnemy> enemyIndex = new CullIndex<>(BasicEnemy::getX, BasicEnemy::getWidth);
+    private final Array<BasicEnemy> visibleEnemies = new Array<>();
+    private float viewLeft, viewRight;
+
+    /**
+     * Dibuat setelah loadTextures()
+     */
+    public GameRenderer(GameScreen screen) {
+        this.staticWorld = new StaticWorldCache(screen.getTerrainTexture(), screen.getMapWidth());
+    }
+
+    /**
+     * Hitung batas view frame ini dan kumpulkan item dunia yang terlihat
+     */
+    private void cull(GameScreen screen, OrthographicCamera camera) {
+        float halfWidth = camera.viewportWidth * camera.zoom / 2f;
+        viewLeft = camera.position.x - halfWidth - CULL_MARGIN;
+        viewRight = camera.position.x + halfWidth + CULL_MARGIN;
+
+        enemyIndex.rebuild(screen.getEnemies());
+        visibleEnemies.clear();
+        enemyIndex.query(viewLeft, viewRight, visibleEnemies);
+    }
+
+    private boolean inView(float left, float width) {
+        return left <= viewRight && left + width >= viewLeft;
+    }
 
-    public void render(GameScreen screen, float delta) {
+    /**
+     * Semua entity submit ke RenderQueue, lalu antrean di-flush lewat satu SpriteBatch bersama:
+     * background/parallax, dunia statis (SpriteCache), sisa layer, lalu teks HUD di pass yang sama.
+     *
+     * @param alpha sisa accumulator FixedTimestep (0..1), untuk interpolasi posisi entity
+     */
+    public void render(GameScreen screen, float delta, float alpha) {
         OrthographicCamera camera = screen.getCamera();
         SpriteBatch spriteBatch = screen.getSpriteBatch();
-        ShapeRenderer shapeRenderer = screen.getShapeRenderer();
-
-        // Ambil semua texture yang dibutuhkan
-        Texture backgroundTexture = screen.getBackgroundTexture();
-        Texture bgTreeTexture = screen.getBgTreeTexture();
-        Texture bgMountainTexture = screen.getBgMountainTexture();
-        Texture terrainTexture = screen.getTerrainTexture();
-        Texture terrain2Texture = screen.getTerrain2Texture();
-        Texture wallTexture = screen.getWallTexture();
         BitmapFont font = screen.getFont();
+        TankBoss boss = screen.getTankBoss();
+
+        if (screen.getWorldStreamer().consumeStaticChanged()) {
+            staticWorld.rebuild(screen.getBuildings(), screen.getTrees());
+        }
+        cull(screen, camera);
+        queue.beginFrame();
 
         // =======================================================================
-        // FASE 1: RENDERING DENGAN SpriteBatch (sebelum Boss dan Shape)
+        // SUBMIT
         // =======================================================================
-        spriteBatch.setProjectionMatrix(camera.combined);
-        spriteBatch.begin();
 
         // 1. Background
-        spriteBatch.draw(backgroundTexture, camera.position.x - Constant.SCREEN_WIDTH / 2f, 0, Constant.SCREEN_WIDTH, Constant.SCREEN_HEIGHT);
+        queue.draw(RenderQueue.BACKGROUND, screen.getBackgroundTexture(),
+            camera.position.x - Constant.SCREEN_WIDTH / 2f, 0, Constant.SCREEN_WIDTH, Constant.SCREEN_HEIGHT);
 
         // 2. Parallax Layers
-        drawParallaxLayer(spriteBatch, camera, bgMountainTexture, 0.1f, Constant.TERRAIN_HEIGHT + 100f, 0.5f * 4);
-        drawParallaxLayer(spriteBatch, camera, bgTreeTexture, 0.2f, Constant.TERRAIN_HEIGHT + 200f, 0.175f * 4);
-        drawParallaxLayer(spriteBatch, camera, terrain2Texture, 0.2f, Constant.TERRAIN_HEIGHT + 50f, 0.27f * 4);
-
-        // 3. Background Objects (Pohon & Bangunan)
-        float worldViewLeft = camera.position.x - Constant.SCREEN_WIDTH / 2f;
-        for (Building b : screen.getBuildings()) {
-            float offsetX = (1f - 0.8f) * (b.getX() - worldViewLeft);
-            b.render(spriteBatch, offsetX);
-        }
-        for (Tree t : screen.getTrees()) {
-            t.render(spriteBatch, 0);
-        }
+        submitParallaxLayer(camera, screen.getBgMountainTexture(), 0.1f, Constant.TERRAIN_HEIGHT + 100f, 0.5f * 4);
+        submitParallaxLayer(camera, screen.getBgTreeTexture(), 0.2f, Constant.TERRAIN_HEIGHT + 200f, 0.175f * 4);
+        submitParallaxLayer(camera, screen.getTerrain2Texture(), 0.2f, Constant.TERRAIN_HEIGHT + 50f, 0.27f * 4);
 
-        // 4. Terrain
-        float scaledWidth = 550f;
-        float scaledHeight = Constant.TERRAIN_HEIGHT + 225f;
-        for (float x = 0; x < screen.getMapWidth(); x += scaledWidth) {
-            spriteBatch.draw(terrainTexture, x, -50f, scaledWidth, scaledHeight);
-        }
+        // 5. Player (beserta pelurunya)
+        screen.getPlayer().render(queue, delta, alpha);
 
-        // 5. Player
-        screen.getPlayer().render(spriteBatch, delta);
-
-        // 6. Enemies
-        for (BasicEnemy enemy : screen.getEnemies()) {
-            enemy.render(spriteBatch, delta);
+        // 6. Enemies dan health bar-nya
+        for (BasicEnemy enemy : visibleEnemies) {
+            enemy.render(queue, delta, alpha);
+            enemy.renderHealthBar(queue);
         }
 
-        // 7. Player Grenades
-        for (io.DutchSlayer.attack.player.weapon.Grenade grenade : screen.getGrenades()) {
-            grenade.render(spriteBatch);
+        // 7. Player Grenades (lebar ledakan = 2 * radius)
+        for (Grenade grenade : screen.getGrenades()) {
+            if (inView(grenade.getX() - grenade.getRadius(), grenade.getRadius() * 2f)) {
+                grenade.render(queue);
+            }
         }
 
         // 8. Wall Trap
         if (screen.isTriggerWallTrap()) {
-            spriteBatch.draw(wallTexture, screen.getLeftWall().x, screen.getLeftWall().y, screen.getLeftWall().width, screen.getLeftWall().height);
-            spriteBatch.draw(wallTexture, screen.getRightWall().x, screen.getRightWall().y, screen.getRightWall().width, screen.getRightWall().height);
+            Texture wallTexture = screen.getWallTexture();
+            queue.draw(RenderQueue.WALL, wallTexture, screen.getLeftWall().x, screen.getLeftWall().y, screen.getLeftWall().width, screen.getLeftWall().height);
+            queue.draw(RenderQueue.WALL, wallTexture, screen.getRightWall().x, screen.getRightWall().y, screen.getRightWall().width, screen.getRightWall().height);
         }
 
-        spriteBatch.end(); // <-- Akhiri batch utama SEBELUM memanggil render boss/shape
-
-        // =======================================================================
-        // FASE 2: RENDERING DENGAN ShapeRenderer DAN RENDER BOSS
-        // =======================================================================
-        TankBoss boss = screen.getTankBoss();
-        shapeRenderer.setProjectionMatrix(camera.combined);
-
-        // Mulai ShapeRenderer untuk debug musuh biasa, pickup, dan boss
-        shapeRenderer.begin(ShapeRenderer.ShapeType.Filled);
-
-        // 1. Render debug untuk musuh biasa dan pickup
-        for (BasicEnemy e : screen.getEnemies()) {
-            e.render(shapeRenderer);
+        // 9. Boss dan proyektilnya, kotak pickup
+        if (boss != null) {
+            boss.render(queue, alpha);
         }
         for (PickupItem p : screen.getPickupItems()) {
-            p.renderShape(shapeRenderer);
+            if (inView(p.getX(), p.getWidth())) p.renderShape(queue);
         }
 
-        // 2. Panggil metode render gabungan milik boss.
-        // Metode ini mengharapkan ShapeRenderer sudah aktif.
-        if (boss != null) {
-            boss.render(shapeRenderer, spriteBatch); // <-- PANGGIL METODE ASLI DI SINI
+        // 10. Enemy Bullets (peluru bisa jauh dari penembaknya, jadi dicek per peluru)
+        for (Bullet bullet : screen.getEnemyBullets()) {
+            if (bullet.isAlive() && inView(bullet.getX(), bullet.getWidth())) {
+                bullet.render(queue, RenderQueue.ENEMY_BULLET, alpha);
+            }
         }
 
-        shapeRenderer.end(); // Akhiri ShapeRenderer setelah semua shape digambar
-
-        // Gambar Health Bar Boss (metode ini sudah mandiri dan aman dipanggil di sini)
-        drawBossHealthBar(screen, boss);
+        // 11. Bar HP boss
+        submitBossHealthBar(camera, boss);
 
         // =======================================================================
-        // FASE 3: RENDERING DENGAN SpriteBatch (setelah Boss dan Shape)
+        // FLUSH
         // =======================================================================
         spriteBatch.setProjectionMatrix(camera.combined);
-        spriteBatch.begin(); // <-- Mulai batch baru untuk UI dan proyektil
+        queue.begin(spriteBatch);
+        queue.flush(spriteBatch, RenderQueue.BACKGROUND, RenderQueue.PARALLAX);
+        queue.end(spriteBatch);
 
-        // 1. Enemy Bullets
-        for (BasicEnemy enemy : screen.getEnemies()) {
-            for (Bullet bullet : enemy.getBullets()) {
-                if (bullet.isAlive()) bullet.render(spriteBatch);
-            }
-        }
+        // 3-4. Bangunan, pohon dan terrain: chunk SpriteCache yang terlihat saja
+        queue.externalPass(staticWorld.draw(camera));
 
-        // 2. HUD dan label pickup
+        queue.begin(spriteBatch);
+        queue.flush(spriteBatch, RenderQueue.PLAYER, RenderQueue.HUD);
+
+        // Teks BitmapFont di atas semua layer, masih di pass batch yang sama
+        drawBossName(camera, spriteBatch, font, boss);
         drawHUD(screen, spriteBatch, font);
         for (PickupItem item : screen.getPickupItems()) {
-            item.renderLabel(spriteBatch, font);
+            if (inView(item.getX(), item.getWidth())) item.renderLabel(spriteBatch, font);
         }
-
-        spriteBatch.end();
+        queue.end(spriteBatch);
     }
 
-    // Helper method untuk parallax yang lebih efisien
-    private void drawParallaxLayer(SpriteBatch batch, OrthographicCamera camera, Texture texture, float parallaxFactor, float yPosition, float scale) {
+    /**
+     * Satu quad selebar view, texture diulang lewat UV (wrap Repeat, diset di GameScreen.loadTextures).
+     * Offset u sama dengan fase tile lama: (kamera.x * parallaxFactor) mod lebar tile.
+     */
+    private void submitParallaxLayer(OrthographicCamera camera, Texture texture, float parallaxFactor, float yPosition, float scale) {
         float texWidth = texture.getWidth() * scale;
         float texHeight = texture.getHeight() * scale;
-        float offsetX = (camera.position.x * parallaxFactor) % texWidth;
-        float startX = camera.position.x - Constant.SCREEN_WIDTH / 2f - offsetX - texWidth;
+        float viewWidth = camera.viewportWidth * camera.zoom;
+        float viewLeft = camera.position.x - viewWidth / 2f;
+        float u = (camera.position.x * parallaxFactor) % texWidth / texWidth;
 
-        for (float x = startX; x < camera.position.x + Constant.SCREEN_WIDTH / 2f + texWidth; x += texWidth) {
-            batch.draw(texture, x, yPosition, texWidth, texHeight);
-        }
+        queue.draw(RenderQueue.PARALLAX, texture, viewLeft, yPosition, viewWidth, texHeight, u, 1f, u + viewWidth / texWidth, 0f);
     }
 
-    // Kode di bawah ini tidak perlu diubah
-    private void drawBossHealthBar(GameScreen screen, TankBoss boss) {
+    /* ===== BAR HP BOSS ===== */
+    private static final float BOSS_BAR_WIDTH = Constant.SCREEN_WIDTH * 0.7f;
+    private static final float BOSS_BAR_HEIGHT = 30f;
+    private static final float BOSS_BAR_Y = 20f;
+    private final GlyphLayout bossNameLayout = new GlyphLayout();
+
+    private void submitBossHealthBar(OrthographicCamera camera, TankBoss boss) {
         if (boss == null || !boss.isAlive()) {
             return;
         }
-        OrthographicCamera camera = screen.getCamera();
-        ShapeRenderer shapeRenderer = screen.getShapeRenderer();
-        SpriteBatch spriteBatch = screen.getSpriteBatch();
-        BitmapFont font = screen.getFont();
-        float barWidth = Constant.SCREEN_WIDTH * 0.7f;
-        float barHeight = 30f;
-        float barX = camera.position.x - barWidth / 2f;
-        float barY = 20f;
-
-        shapeRenderer.setProjectionMatrix(camera.combined);
-        shapeRenderer.begin(ShapeRenderer.ShapeType.Filled);
-        shapeRenderer.setColor(0.2f, 0.2f, 0.2f, 1f);
-        shapeRenderer.rect(barX, barY, barWidth, barHeight);
+        float barX = camera.position.x - BOSS_BAR_WIDTH / 2f;
+
+        queue.rect(RenderQueue.HUD, barX, BOSS_BAR_Y, BOSS_BAR_WIDTH, BOSS_BAR_HEIGHT, 0.2f, 0.2f, 0.2f, 1f);
         float healthRatio = boss.getHealthRatio();
-        float currentHealthWidth = barWidth * healthRatio;
+        float currentHealthWidth = BOSS_BAR_WIDTH * healthRatio;
         if (healthRatio > 0.5f) {
-            shapeRenderer.setColor(0.1f, 0.8f, 0.1f, 1f);
+            queue.rect(RenderQueue.HUD, barX, BOSS_BAR_Y, currentHealthWidth, BOSS_BAR_HEIGHT, 0.1f, 0.8f, 0.1f, 1f);
         } else if (healthRatio > 0.2f) {
-            shapeRenderer.setColor(0.8f, 0.8f, 0.1f, 1f);
+            queue.rect(RenderQueue.HUD, barX, BOSS_BAR_Y, currentHealthWidth, BOSS_BAR_HEIGHT, 0.8f, 0.8f, 0.1f, 1f);
         } else {
-            shapeRenderer.setColor(0.8f, 0.1f, 0.1f, 1f);
+            queue.rect(RenderQueue.HUD, barX, BOSS_BAR_Y, currentHealthWidth, BOSS_BAR_HEIGHT, 0.8f, 0.1f, 0.1f, 1f);
         }
-        shapeRenderer.rect(barX, barY, currentHealthWidth, barHeight);
-        shapeRenderer.end();
 
-        shapeRenderer.begin(ShapeRenderer.ShapeType.Line);
-        shapeRenderer.setColor(0.1f, 0.1f, 0.1f, 1f);
-        shapeRenderer.rect(barX, barY, barWidth, barHeight);
-        shapeRenderer.end();
+        // Outline 1px (dulu ShapeType.Line)
+        queue.rect(RenderQueue.HUD, barX, BOSS_BAR_Y, BOSS_BAR_WIDTH, 1f, 0.1f, 0.1f, 0.1f, 1f);
+        queue.rect(RenderQueue.HUD, barX, BOSS_BAR_Y + BOSS_BAR_HEIGHT - 1f, BOSS_BAR_WIDTH, 1f, 0.1f, 0.1f, 0.1f, 1f);
+        queue.rect(RenderQueue.HUD, barX, BOSS_BAR_Y, 1f, BOSS_BAR_HEIGHT, 0.1f, 0.1f, 0.1f, 1f);
+        queue.rect(RenderQueue.HUD, barX + BOSS_BAR_WIDTH - 1f, BOSS_BAR_Y, 1f, BOSS_BAR_HEIGHT, 0.1f, 0.1f, 0.1f, 1f);
+    }
 
-        spriteBatch.setProjectionMatrix(camera.combined);
-        spriteBatch.begin();
+    private void drawBossName(OrthographicCamera camera, SpriteBatch spriteBatch, BitmapFont font, TankBoss boss) {
+        if (boss == null || !boss.isAlive()) {
+            return;
+        }
+        float barX = camera.position.x - BOSS_BAR_WIDTH / 2f;
         String bossName = boss.getName();
         font.setColor(1f, 1f, 1f, 1f);
         float originalScaleX = font.getScaleX();
         float originalScaleY = font.getScaleY();
         font.getData().setScale(1.0f);
-        com.badlogic.gdx.graphics.g2d.GlyphLayout layout = new com.badlogic.gdx.graphics.g2d.GlyphLayout();
-        layout.setText(font, bossName);
-        float textWidth = layout.width;
-        float textHeight = layout.height;
-        float textX = barX + (barWidth - textWidth) / 2f;
-        float textY = barY + (barHeight + textHeight) / 2f - 2f;
+        bossNameLayout.setText(font, bossName);
+        float textX = barX + (BOSS_BAR_WIDTH - bossNameLayout.width) / 2f;
+        float textY = BOSS_BAR_Y + (BOSS_BAR_HEIGHT + bossNameLayout.height) / 2f - 2f;
         font.draw(spriteBatch, bossName, textX, textY);
         font.getData().setScale(originalScaleX, originalScaleY);
-        spriteBatch.end();
-    }
-
-
-    private void drawParallax(SpriteBatch batch, OrthographicCamera camera, Texture texture,
-                              float parallaxFactor, float yPosition, float scale) {
-        float texWidth = texture.getWidth() * scale;
-        float texHeight = texture.getHeight() * scale;
-        float offsetX = (camera.position.x * parallaxFactor) % texWidth;
-        float startX = camera.position.x - Constant.SCREEN_WIDTH / 2f - offsetX - texWidth;
-
-        batch.setProjectionMatrix(camera.combined);
-        batch.begin();
-        for (float x = startX; x < camera.position.x + Constant.SCREEN_WIDTH / 2f + texWidth; x += texWidth) {
-            batch.draw(texture, x, yPosition, texWidth, texHeight);
-        }
-        batch.end();
-    }
-
-    private void drawTerrain(SpriteBatch batch, OrthographicCamera camera, Texture terrainTexture, float mapWidth) {
-        batch.setProjectionMatrix(camera.combined);
-        batch.begin();
-
-        float scaledWidth = 550f;
-        float scaledHeight = Constant.TERRAIN_HEIGHT + 225f;
-
-        for (float x = 0; x < mapWidth; x += scaledWidth) {
-            batch.draw(terrainTexture, x, -50f, scaledWidth, scaledHeight);
-        }
-
-        batch.end();
     }
 
     private void drawHUD(GameScreen screen, SpriteBatch batch, BitmapFont font) {
@@ -255,9 +234,16 @@ public class GameRenderer {
             font.draw(batch, "Dash Cooldown: " + String.format("%.1f", player.getDashCooldownRemaining()) + "s",
                 baseX + 20, Constant.SCREEN_HEIGHT - 110);
         }
+    }
 
-        for (PickupItem item : screen.getPickupItems()) {
-            item.renderLabel(batch, font);
-        }
+    /**
+     * Statistik flush/shader switch frame terakhir
+     */
+    public RenderQueue getRenderQueue() {
+        return queue;
+    }
+
+    public void dispose() {
+        staticWorld.dispose();
     }
 }
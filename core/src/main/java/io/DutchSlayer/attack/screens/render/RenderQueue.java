@@ -0,0 +1,224 @@
+package io.DutchSlayer.attack.screens.render;
+
+import com.badlogic.gdx.graphics.Color;
+import com.badlogic.gdx.graphics.Texture;
+import com.badlogic.gdx.graphics.g2d.SpriteBatch;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.ObjectIntMap;
+import com.badlogic.gdx.utils.Sort;
+import io.DutchSlayer.utils.Atlases;
+
+import java.util.Comparator;
+
+/**
+ * Antrean draw attack mode. Entity tidak menggambar langsung, tapi submit perintah draw dengan
+ * layer; GameRenderer lalu mengurutkan (layer, texture, urutan submit) dan menggambar semuanya
+ * lewat satu SpriteBatch bersama (Main.batch).
+ *
+ * Layer menentukan urutan gambar. Di dalam satu layer perintah dikelompokkan per texture supaya
+ * batch tidak flush setiap ganti texture, jadi sprite yang harus saling menimpa dengan urutan
+ * tertentu ditaruh di layer berbeda.
+ *
+ * Kotak (health bar, pickup, bar boss) digambar dari region "atlas-only/rect" di atlas attack, bukan
+ * ShapeRenderer, jadi ikut pass batch yang sama. Sprite-nya sendiri (bukan white.png yang juga
+ * di-load terpisah oleh PauseMenu dan defend), jadi isi atlas tidak mempengaruhi pemakai lain.
+ *
+ * Texture dan UV disalin saat submit, region boleh di-flip/diubah pemanggil sesudahnya.
+ */
+public class RenderQueue {
+    /* ===== LAYER (kecil digambar dulu) ===== */
+    public static final int BACKGROUND = 0;
+    public static final int PARALLAX = 1;
+    // Dunia statis (StaticWorldCache) digambar di antara PARALLAX dan PLAYER
+    public static final int PLAYER = 2;
+    public static final int ENEMY = 3;
+    public static final int GRENADE = 4;
+    public static final int WALL = 5;
+    public static final int BOSS = 6;
+    public static final int BOSS_PROJECTILE = 7;
+    public static final int OVERLAY = 8;        // Health bar enemy, kotak pickup (dulu ShapeRenderer, di atas boss)
+    public static final int ENEMY_BULLET = 9;
+    public static final int HUD = 10;           // Bar boss, di bawah teks HUD
+
+    private static final String WHITE_REGION = "atlas-only/rect";
+
+    private static class Command {
+        long key;
+        Texture texture;
+        float x, y, width, height;
+        float u, v, u2, v2;             // Konvensi SpriteBatch.draw(Texture, ..., u, v, u2, v2)
+        float color;
+    }
+
+    private final Array<Command> commands = new Array<>(false, 256);
+    private final Array<Command> free = new Array<>(false, 256);
+    private final ObjectIntMap<Texture> textureIds = new ObjectIntMap<>();
+    private final Comparator<Command> byKey = (a, b) -> Long.compare(a.key, b.key);
+    private final TextureRegion white;
+    private int sequence = 0;
+    private boolean sorted = true;
+
+    /* ===== STATISTIK FRAME ===== */
+    private int batchFlushes = 0;
+    private int textureSwitches = 0;
+    private int shaderSwitches = 0;
+    private int passes = 0;
+
+    public RenderQueue() {
+        this.white = Atlases.region(Atlases.ATTACK, WHITE_REGION);
+    }
+
+    /**
+     * Kosongkan antrean dan statistik, panggil sekali di awal frame
+     */
+    public void beginFrame() {
+        free.addAll(commands);
+        commands.clear();
+        textureIds.clear();
+        sequence = 0;
+        sorted = true;
+        batchFlushes = 0;
+        textureSwitches = 0;
+        shaderSwitches = 0;
+        passes = 0;
+    }
+
+    /* ===== SUBMIT ===== */
+
+    public void draw(int layer, TextureRegion region, float x, float y, float width, float height) {
+        if (region == null) return;
+        add(layer, region.getTexture(), x, y, width, height,
+            region.getU(), region.getV2(), region.getU2(), region.getV(), Color.WHITE_FLOAT_BITS);
+    }
+
+    public void draw(int layer, Texture texture, float x, float y, float width, float height) {
+        if (texture == null) return;
+        add(layer, texture, x, y, width, height, 0f, 1f, 1f, 0f, Color.WHITE_FLOAT_BITS);
+    }
+
+    /**
+     * Texture dengan UV sendiri (wrap Repeat untuk layer parallax)
+     */
+    public void draw(int layer, Texture texture, float x, float y, float width, float height,
+                     float u, float v, float u2, float v2) {
+        if (texture == null) return;
+        add(layer, texture, x, y, width, height, u, v, u2, v2, Color.WHITE_FLOAT_BITS);
+    }
+
+    /**
+     * Kotak terisi warna, pengganti ShapeRenderer.rect
+     */
+    public void rect(int layer, float x, float y, float width, float height, float r, float g, float b, float a) {
+        if (white == null) return;
+        // Semua sudut memakai texel tengah, warna tidak bocor dari tetangga di page atlas
+        float u = (white.getU() + white.getU2()) / 2f;
+        float v = (white.getV() + white.getV2()) / 2f;
+        add(layer, white.getTexture(), x, y, width, height, u, v, u, v, Color.toFloatBits(r, g, b, a));
+    }
+
+    public void rect(int layer, float x, float y, float width, float height, Color color) {
+        rect(layer, x, y, width, height, color.r, color.g, color.b, color.a);
+    }
+
+    private void add(int layer, Texture texture, float x, float y, float width, float height,
+                     float u, float v, float u2, float v2, float color) {
+        Command command = free.size > 0 ? free.pop() : new Command();
+        int textureId = textureIds.get(texture, -1);
+        if (textureId < 0) {
+            textureId = textureIds.size;
+            textureIds.put(texture, textureId);
+        }
+
+        command.key = ((long) layer << 48) | ((long) textureId << 24) | sequence++;
+        command.texture = texture;
+        command.x = x;
+        command.y = y;
+        command.width = width;
+        command.height = height;
+        command.u = u;
+        command.v = v;
+        command.u2 = u2;
+        command.v2 = v2;
+        command.color = color;
+
+        if (sorted && commands.size > 0 && commands.peek().key > command.key) sorted = false;
+        commands.add(command);
+    }
+
+    /* ===== FLUSH ===== */
+
+    /**
+     * Mulai pass SpriteBatch. Pass kedua dan seterusnya dalam satu frame dihitung sebagai
+     * shader switch (di antaranya ada SpriteCache atau pass lain dengan shader sendiri).
+     */
+    public void begin(SpriteBatch batch) {
+        if (passes++ > 0) shaderSwitches++;
+        batch.begin();
+    }
+
+    public void end(SpriteBatch batch) {
+        batch.end();
+        batchFlushes += batch.renderCalls;
+    }
+
+    /**
+     * Catat pass di luar batch (SpriteCache dunia statis): satu draw per chunk, satu shader switch
+     */
+    public void externalPass(int draws) {
+        passes++;
+        shaderSwitches++;
+        batchFlushes += draws;
+    }
+
+    /**
+     * Gambar semua perintah dengan layer fromLayer..toLayer. Harus di antara begin/end.
+     */
+    public void flush(SpriteBatch batch, int fromLayer, int toLayer) {
+        if (!sorted) {
+            Sort.instance().sort(commands, byKey);
+            sorted = true;
+        }
+
+        float savedColor = batch.getPackedColor();
+        Texture last = null;
+        for (int i = 0; i < commands.size; i++) {
+            Command c = commands.get(i);
+            int layer = (int) (c.key >>> 48);
+            if (layer < fromLayer) continue;
+            if (layer > toLayer) break;
+
+            if (c.texture != last) {
+                if (last != null) textureSwitches++;
+                last = c.texture;
+            }
+            batch.setPackedColor(c.color);
+            batch.draw(c.texture, c.x, c.y, c.width, c.height, c.u, c.v, c.u2, c.v2);
+        }
+        batch.setPackedColor(savedColor);
+    }
+
+    /* ===== STATISTIK ===== */
+
+    /**
+     * Flush SpriteBatch (draw call) frame ini, termasuk draw chunk SpriteCache
+     */
+    public int getBatchFlushes() {
+        return batchFlushes;
+    }
+
+    /**
+     * Pergantian texture di antara perintah yang di-flush (masing-masing memaksa batch flush)
+     */
+    public int getTextureSwitches() {
+        return textureSwitches;
+    }
+
+    public int getShaderSwitches() {
+        return shaderSwitches;
+    }
+
+    public int size() {
+        return commands.size;
+    }
+}
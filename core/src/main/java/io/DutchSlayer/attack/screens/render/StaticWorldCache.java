@@ -0,0 +1,183 @@
+package io.DutchSlayer.attack.screens.render;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.graphics.GL20;
+import com.badlogic.gdx.graphics.OrthographicCamera;
+import com.badlogic.gdx.graphics.Texture;
+import com.badlogic.gdx.graphics.g2d.SpriteCache;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
+import com.badlogic.gdx.math.Matrix4;
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.Disposable;
+import com.badlogic.gdx.utils.IntArray;
+import io.DutchSlayer.attack.objects.Building;
+import io.DutchSlayer.attack.objects.Tree;
+import io.DutchSlayer.utils.Constant;
+
+/**
+ * Dunia statis attack mode (bangunan, pohon, terrain) dikompilasi ke SpriteCache, dipotong per
+ * chunk selebar CHUNK_WIDTH. Setiap frame hanya chunk yang beririsan dengan view yang di-draw,
+ * jadi biaya CPU-nya beberapa draw mesh ter-cache, tidak tergantung panjang peta.
+ *
+ * Pohon dan bangunan berasal dari chunk WorldStreamer yang sedang di-load; setiap kali isinya
+ * berubah seluruh cache dikompilasi ulang lewat rebuild() (hanya beberapa puluh sprite).
+ *
+ * Setiap layer punya cache per chunk sendiri supaya urutan gambar tetap bangunan -> pohon -> terrain
+ * meskipun sprite melewati batas chunk.
+ *
+ * Bangunan bergeser 0.8x kamera: posisi layar = 0.8 * x + 0.2 * kiriView. Bangunan dicache di
+ * 0.8 * x lalu seluruh layer digeser 0.2 * kiriView lewat transform matrix.
+ *
+ * Terrain satu quad sepanjang peta dengan u = jumlah tile (texture wrap Repeat), bukan satu quad per tile.
+ */
+public class StaticWorldCache implements Disposable {
+    private static final float BUILDING_PARALLAX = 0.8f;
+    private static final float TERRAIN_TILE_WIDTH = 550f;
+    private static final float CHUNK_WIDTH = 1024f;
+
+    private SpriteCache cache;
+    private int capacity = 0;
+    private final Matrix4 transform = new Matrix4();
+    private final Layer buildingLayer = new Layer();
+    private final Layer treeLayer = new Layer();
+    private final Layer terrainLayer = new Layer();
+
+    /**
+     * Satu sprite statis sebelum dikompilasi
+     */
+    private static class Quad {
+        final TextureRegion region;
+        final float x, y, width, height;
+
+        Quad(Texture texture, float x, float y, float width, float height) {
+            this(new TextureRegion(texture), x, y, width, height);
+        }
+
+        Quad(TextureRegion region, float x, float y, float width, float height) {
+            this.region = region;
+            this.x = x;
+            this.y = y;
+            this.width = width;
+            this.height = height;
+        }
+    }
+
+    /**
+     * Id cache per chunk (-1 = chunk kosong) untuk satu layer
+     */
+    private static class Layer {
+        final Array<Quad> quads = new Array<>();
+        final IntArray chunkIds = new IntArray();
+        float maxWidth = 0f;
+
+        void compile(SpriteCache cache) {
+            chunkIds.clear();
+            maxWidth = 0f;
+            for (Quad quad : quads) {
+                int chunk = chunkOf(quad.x);
+                while (chunkIds.size <= chunk) chunkIds.add(-1);
+                maxWidth = Math.max(maxWidth, quad.width);
+            }
+
+            for (int chunk = 0; chunk < chunkIds.size; chunk++) {
+                boolean started = false;
+                for (Quad quad : quads) {
+                    if (chunkOf(quad.x) != chunk) continue;
+                    if (!started) {
+                        cache.beginCache();
+                        started = true;
+                    }
+                    cache.add(quad.region, quad.x, quad.y, quad.width, quad.height);
+                }
+                if (started) chunkIds.set(chunk, cache.endCache());
+            }
+        }
+
+        int draw(SpriteCache cache, float viewLeft, float viewRight) {
+            int draws = 0;
+            int last = Math.min(chunkIds.size - 1, chunkOf(viewRight));
+            for (int chunk = chunkOf(viewLeft - maxWidth); chunk <= last; chunk++) {
+                int id = chunkIds.get(chunk);
+                if (id >= 0) {
+                    cache.draw(id);
+                    draws++;
+                }
+            }
+            return draws;
+        }
+    }
+
+    private static int chunkOf(float x) {
+        return Math.max(0, (int) (x / CHUNK_WIDTH));
+    }
+
+    public StaticWorldCache(Texture terrainTexture, float mapWidth) {
+        // Dibulatkan ke tile utuh seperti loop tile lama
+        float tiles = (float) Math.ceil(mapWidth / TERRAIN_TILE_WIDTH);
+        TextureRegion terrain = new TextureRegion(terrainTexture, 0f, 0f, tiles, 1f);
+        terrainLayer.quads.add(new Quad(terrain, 0f, -50f, tiles * TERRAIN_TILE_WIDTH, Constant.TERRAIN_HEIGHT + 225f));
+    }
+
+    /**
+     * Kompilasi ulang cache dengan bangunan dan pohon yang sedang di-load (terrain tetap)
+     */
+    public void rebuild(Array<Building> buildings, Array<Tree> trees) {
+        buildingLayer.quads.clear();
+        treeLayer.quads.clear();
+        for (Building b : buildings) {
+            buildingLayer.quads.add(new Quad(b.getType().getTexture(),
+                b.getX() * BUILDING_PARALLAX, b.getY(), b.getWidth(), b.getHeight()));
+        }
+        for (Tree t : trees) {
+            treeLayer.quads.add(new Quad(t.getTexture(), t.getX(), t.getY(), t.getWidth(), t.getHeight()));
+        }
+
+        // SpriteCache tidak bisa diperbesar, buat baru jika isi chunk yang di-load melebihi kapasitas
+        int count = buildingLayer.quads.size + treeLayer.quads.size + terrainLayer.quads.size;
+        if (cache == null || count > capacity) {
+            if (cache != null) cache.dispose();
+            capacity = Math.max(count, capacity * 2);
+            cache = new SpriteCache(capacity, false);
+        } else {
+            cache.clear();
+        }
+        buildingLayer.compile(cache);
+        treeLayer.compile(cache);
+        terrainLayer.compile(cache);
+    }
+
+    /**
+     * Gambar chunk yang terlihat. Dipanggil di luar SpriteBatch begin/end.
+     *
+     * @return jumlah draw chunk (untuk statistik RenderQueue)
+     */
+    public int draw(OrthographicCamera camera) {
+        if (cache == null) return 0;
+        float halfWidth = camera.viewportWidth * camera.zoom / 2f;
+        float viewLeft = camera.position.x - halfWidth;
+        float viewRight = camera.position.x + halfWidth;
+
+        // SpriteCache tidak mengatur blending sendiri (SpriteBatch.end mematikannya)
+        Gdx.gl.glEnable(GL20.GL_BLEND);
+        Gdx.gl.glBlendFunc(GL20.GL_SRC_ALPHA, GL20.GL_ONE_MINUS_SRC_ALPHA);
+        cache.setProjectionMatrix(camera.combined);
+
+        float shift = (1f - BUILDING_PARALLAX) * viewLeft;
+        cache.setTransformMatrix(transform.setToTranslation(shift, 0f, 0f));
+        cache.begin();
+        int draws = buildingLayer.draw(cache, viewLeft - shift, viewRight - shift);
+        cache.end();
+
+        cache.setTransformMatrix(transform.idt());
+        cache.begin();
+        draws += treeLayer.draw(cache, viewLeft, viewRight);
+        draws += terrainLayer.draw(cache, viewLeft, viewRight);
+        cache.end();
+        return draws;
+    }
+
+    @Override
+    public void dispose() {
+        if (cache != null) cache.dispose();
+    }
+}
@@ -0,0 +1,72 @@
+package io.DutchSlayer.defend.game;
+
+import io.DutchSlayer.defend.utils.AudioManager;
+
+/**
+ * Menerjemahkan GameEvent dari GameLogic ke audio dan UI (win/lose panel)
+ */
+public class GameEventHandler implements GameEventListener {
+    private final GameState gameState;
+    private final UIManager uiManager;
+
+    public GameEventHandler(GameState gameState, UIManager uiManager) {
+        this.gameState = gameState;
+        this.uiManager = uiManager;
+    }
+
+    @Override
+    public void onEvent(GameEvent event) {
+        switch (event) {
+            case AOE_TOWER_SHOT:
+                AudioManager.playAOEShootWithVolume(0.7f);
+                break;
+            case FAST_TOWER_SHOT:
+                AudioManager.playTowerShootWithVolume(0.5f);
+                break;
+            case SLOW_TOWER_SHOT:
+                AudioManager.playSlowProjectileWithVolume(1f);
+                break;
+            case ENEMY_SHOT:
+                AudioManager.playEnemyShoot();
+                break;
+            case BOSS_SHOT:
+                AudioManager.playBossShoot();
+                break;
+            case ENEMY_KILLED:
+                AudioManager.playEnemyDeath();
+                break;
+            case ATTACK_TRAP_TRIGGERED:
+                AudioManager.playTrapAttackHit();
+                break;
+            case SLOW_TRAP_TRIGGERED:
+                AudioManager.playTrapSlowHit();
+                break;
+            case EXPLOSION_TRAP_TRIGGERED:
+            case BOMB_EXPLODED:
+                AudioManager.playTrapExplosionHit();
+                break;
+            case BOSS_APPROACHING:
+                AudioManager.fadeOutCurrentMusic(2f);
+                break;
+            case BOSS_IN_POSITION:
+                AudioManager.playBossMusicWithTransition(2f);
+                break;
+            case GAME_OVER:
+                AudioManager.playDefeatMusic();
+                uiManager.setupLoseUI();
+                break;
+            case GAME_WON:
+                uiManager.setupWinUI(gameState.currentStage);
+                if (AudioManager.isMusicPlaying()) {
+                    AudioManager.stopMusic();
+                }
+                AudioManager.playVictoryMusic();
+                if (gameState.currentStage == GameConstants.FINAL_STAGE) {
+                    AudioManager.stopMusic();
+                }
+                break;
+            default:
+                break;
+        }
+    }
+}
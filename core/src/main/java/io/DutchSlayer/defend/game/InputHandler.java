@@ -15,7 +15,6 @@ import io.DutchSlayer.screens.ModeSelectionScreen;
 import io.DutchSlayer.screens.SettingScreen;
 import io.DutchSlayer.screens.StageSelectionScreen;
 import io.DutchSlayer.defend.screens.TowerDefenseScreen;
-import io.DutchSlayer.defend.ui.ImageLoader;
 import io.DutchSlayer.defend.utils.AudioManager;
 
 /**
@@ -87,7 +86,7 @@ public class InputHandler extends InputAdapter {
         }
 
         // Remove mode handling
-        if (gameState.selectedType == TowerDefenseScreen.NavItem.REMOVE) {
+        if (gameState.selectedType == NavItem.REMOVE) {
             return handleRemoveMode(x, y);
         }
 
@@ -267,7 +266,7 @@ public class InputHandler extends InputAdapter {
 
     private boolean handleRemoveMode(float x, float y) {
         // Remove tower
-        for (int i = gameState.towers.size - 1; i >= 0; i--) {
+        for (int i = gameState.towers.size() - 1; i >= 0; i--) {
             Tower t = gameState.towers.get(i);
             if (t.getBounds().contains(x, y)) {
                 if (t.isMain) {
@@ -285,11 +284,11 @@ public class InputHandler extends InputAdapter {
                 gameState.gold += refund;
 
                 // Remove dari deployed zones juga
-                TowerDefenseScreen.Zone zoneToReset = t.getOccupiedZone();
+                Zone zoneToReset = t.getOccupiedZone();
                 if (zoneToReset != null) {
                     zoneToReset.occupied = false;
                 }
-                gameState.towers.removeIndex(i);
+                screen.removeTower(t);
 
                 gameState.selectedType = null;
                 return true;
@@ -321,14 +320,14 @@ public class InputHandler extends InputAdapter {
 
     private boolean handleNavbarSelection(float x, float y) {
         if (uiManager.btnRemove.contains(x, y)) {
-            gameState.selectedType = TowerDefenseScreen.NavItem.REMOVE;
+            gameState.selectedType = NavItem.REMOVE;
             return true;
         }
 
         // Tower selection
         for (int i = 0; i < GameConstants.NAV_TOWERS.length; i++) {
             if (x >= uiManager.navTowerX[i] && x <= uiManager.navTowerX[i] + uiManager.navTowerW[i]) {
-                gameState.selectedType = TowerDefenseScreen.NavItem.values()[i];
+                gameState.selectedType = NavItem.values()[i];
                 AudioManager.PlayBtnPaper();
                 return true;
             }
@@ -337,7 +336,7 @@ public class InputHandler extends InputAdapter {
         // Trap selection
         for (int i = 0; i < GameConstants.NAV_TRAPS.length; i++) {
             if (x >= uiManager.navTrapX[i] && x <= uiManager.navTrapX[i] + uiManager.navTrapW[i]) {
-                gameState.selectedType = TowerDefenseScreen.NavItem.values()[GameConstants.NAV_TOWERS.length + i];
+                gameState.selectedType = NavItem.values()[GameConstants.NAV_TOWERS.length + i];
                 AudioManager.PlayBtnPaper();
                 return true;
             }
@@ -349,11 +348,11 @@ public class InputHandler extends InputAdapter {
     private boolean handleDeployment(float x, float y) {
         switch(gameState.selectedType) {
             case T1:
-                return deployTower(x, y, 0, TowerType.AOE, ImageLoader.tower1Tex, ImageLoader.aoeProjTex);
+                return deployTower(x, y, 0, TowerType.AOE);
             case T2:
-                return deployTower(x, y, 1, TowerType.FAST, ImageLoader.tower2Tex, ImageLoader.projtowtex);
+                return deployTower(x, y, 1, TowerType.FAST);
             case T3:
-                return deployTower(x, y, 2, TowerType.SLOW, ImageLoader.tower3Tex, ImageLoader.slowProjTex);
+                return deployTower(x, y, 2, TowerType.SLOW);
             case TRAP1:
                 return deployTrap(x, y, TrapType.ATTACK);
             case TRAP2:
@@ -365,31 +364,18 @@ public class InputHandler extends InputAdapter {
         return false;
     }
 
-    private boolean deployTower(float x, float y, int towerIndex, TowerType type,
-                                com.badlogic.gdx.graphics.Texture texture,
-                                com.badlogic.gdx.graphics.Texture projTexture) {
+    private boolean deployTower(float x, float y, int towerIndex, TowerType type) {
         if (!screen.canDeployTower(towerIndex)) {
             return true;
         }
 
         int cost = screen.getTowerCost(gameState.selectedType);
         for (int zoneIdx = 0; zoneIdx < gameState.zones.size; zoneIdx++) {
-            TowerDefenseScreen.Zone z = gameState.zones.get(zoneIdx);
+            Zone z = gameState.zones.get(zoneIdx);
             if (!z.occupied && z.contains(x, y)) {
                 if (gameState.gold >= cost) {
                     gameState.gold -= cost;
-                    float cx = (z.verts[0] + z.verts[2] + z.verts[4] + z.verts[6]) / 4f;
-
-                    float cy = getProperTowerY(type);
-                    float towerScale = getTowerScale(type);
-
-                    Tower tower = new Tower(texture, projTexture, cx, cy, towerScale, true, false,
-                        type, getTowerHP(type), getProjectileScaleForTowerType(type));
-
-                    tower.setOccupiedZone(z);
-                    gameState.towers.add(tower);
-                    gameState.deployedTowerZones.add(z);
-                    z.occupied = true;
+                    screen.deployTower(z, type);
                     gameState.selectedType = null;
                     screen.startTowerCooldown(towerIndex);
                     AudioManager.playTowerDeploy();
@@ -418,8 +404,7 @@ public class InputHandler extends InputAdapter {
                 gameState.gold >= cost) {
 
                 gameState.gold -= cost;
-                gameState.trapZones.set(trapIdx, new Trap(trapVert, 0.2f, trapType));
-                gameState.trapZones.get(trapIdx).occupied = true;
+                screen.deployTrap(trapIdx, trapType);
                 gameState.selectedType = null;
                 screen.startTrapCooldown(trapIndex);
                 AudioManager.playTrapDeploy();
@@ -429,43 +414,6 @@ public class InputHandler extends InputAdapter {
         return false;
     }
 
-    private int getTowerHP(TowerType type) {
-        return switch (type) {
-            case AOE -> 5;
-            case FAST -> 3;
-            case SLOW -> 10;
-            default -> 5;
-        };
-    }
-
-    private float getProjectileScaleForTowerType(TowerType type) {
-        return switch (type) {
-            case AOE -> 0.05f;
-            case FAST -> 0.015f;
-            case SLOW -> 0.5f;
-            default -> 0.1f;
-        };
-    }
-
-    private float getTowerScale(TowerType type) {
-        return switch (type) {
-            case AOE -> 0.45f;
-            case FAST -> 0.55f;
-            case SLOW -> 0.2f;
-            case BASIC -> 0.20f;
-        };
-    }
-
-    private float getProperTowerY(TowerType type) {
-        float baseY = GameConstants.GROUND_Y + 15f;  // 15px di atas ground
-        return switch (type) {
-            case AOE -> baseY + 15f;
-            case FAST -> baseY + 5f;
-            case SLOW -> baseY + 40f;
-            default -> baseY;
-        };
-    }
-
     private void scheduleAction(Runnable action) {
         new Thread(() -> {
             try {
@@ -286,7 +286,7 @@ public class UIManager {
         float barY = 20f;
 
         float spawnProgress = (float) gameState.spawnCount / (float) gameState.enemiesThisWave;
-        int enemiesKilled = gameState.spawnCount - gameState.enemies.size;
+        int enemiesKilled = gameState.spawnCount - gameState.enemies.size();
         float killProgress = (float) enemiesKilled / (float) gameState.enemiesThisWave;
 
         // Background bar
@@ -335,7 +335,7 @@ public class UIManager {
         font.draw(batch, progressText, progressX, progressY);
 
         // Next wave indicator
-        if (gameState.spawnCount >= gameState.enemiesThisWave && gameState.enemies.size == 0 && gameState.currentWave < GameConstants.MAX_WAVE) {
+        if (gameState.spawnCount >= gameState.enemiesThisWave && gameState.enemies.isEmpty() && gameState.currentWave < GameConstants.MAX_WAVE) {
             String nextWaveText = "Preparing Wave " + (gameState.currentWave + 1) + "...";
             layout.setText(font, nextWaveText);
             float nextX = barX;
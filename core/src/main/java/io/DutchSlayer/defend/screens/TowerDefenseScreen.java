@@ -4,12 +4,10 @@ import com.badlogic.gdx.Screen;
 import com.badlogic.gdx.Gdx;
 import com.badlogic.gdx.graphics.GL20;
 import com.badlogic.gdx.graphics.OrthographicCamera;
-import com.badlogic.gdx.graphics.Texture;
 import com.badlogic.gdx.graphics.g2d.BitmapFont;
 import com.badlogic.gdx.graphics.g2d.GlyphLayout;
 import com.badlogic.gdx.graphics.glutils.ShapeRenderer;
 import com.badlogic.gdx.graphics.Color;
-import com.badlogic.gdx.math.Intersector;
 import com.badlogic.gdx.math.Vector3;
 import com.badlogic.gdx.utils.viewport.FitViewport;
 import io.DutchSlayer.Main;
@@ -21,9 +19,15 @@ import io.DutchSlayer.defend.entities.towers.TowerType;
 import io.DutchSlayer.defend.entities.traps.Trap;
 import io.DutchSlayer.defend.entities.traps.TrapType;
 import io.DutchSlayer.defend.game.*;
+import io.DutchSlayer.defend.ui.EntityRenderer;
+import io.DutchSlayer.defend.ui.HealthBarRenderer;
 import io.DutchSlayer.defend.ui.ImageLoader;
+import io.DutchSlayer.defend.ui.StaticLayerCache;
 import io.DutchSlayer.defend.utils.AudioManager;
 import io.DutchSlayer.screens.PauseMenu;
+import io.DutchSlayer.utils.AssetManifest;
+import io.DutchSlayer.utils.FixedTimestep;
+import io.DutchSlayer.utils.RenderStats;
 
 
 public class TowerDefenseScreen implements Screen {
@@ -34,15 +38,27 @@ public class TowerDefenseScreen implements Screen {
     private final ShapeRenderer shapes;
     private final BitmapFont font;
     private final GlyphLayout layout = new GlyphLayout();
+    private final HealthBarRenderer healthBars;
+    private final StaticLayerCache staticLayer = new StaticLayerCache();
 
     // Refactored components
     public final GameState gameState;
     private final GameLogic gameLogic;
     private final UIManager uiManager;
     private final InputHandler inputHandler;
+    private final FixedTimestep timestep = new FixedTimestep();
+    private final RenderStats renderStats = new RenderStats("TowerDefenseScreen");
 
     // Tambahkan flag untuk track apakah sedang ke settings
     public final PauseMenu pauseMenu;
+
+    /**
+     * Asset untuk LoadingScreen, group "defend" di manifest.json (sama untuk semua stage)
+     */
+    public static AssetManifest manifest(int stage) {
+        return AssetManifest.group("defend");
+    }
+
     public TowerDefenseScreen(final Main game, int stage) {
         this.game = game;
 
@@ -54,17 +70,18 @@ public class TowerDefenseScreen implements Screen {
         AudioManager.initialize();
         shapes = new ShapeRenderer();
         font = new BitmapFont();
+        healthBars = new HealthBarRenderer();
 
         // Initialize refactored components
         gameState = new GameState(stage);
         uiManager = new UIManager(camera, font, layout);
-        gameLogic = new GameLogic(gameState, uiManager);
+        gameLogic = new GameLogic(gameState, new GameEventHandler(gameState, uiManager));
         inputHandler = new InputHandler(this, gameState, uiManager, camera, game);
         // UBAH BARIS INI: Lewatkan 'this' (instance TowerDefenseScreen) ke PauseMenu
         this.pauseMenu = new PauseMenu(game, new FitViewport(1280, 720), font, this); //
 
         // Initialize game world
-        initializeGameWorld();
+        gameLogic.initializeGameWorld();
 
         // Set input processor (This is the initial set, and needs to be re-set after pause/resume from menu)
         Gdx.input.setInputProcessor(inputHandler);
@@ -75,69 +92,6 @@ public class TowerDefenseScreen implements Screen {
     }
 
 
-    private void initializeGameWorld() {
-        // Initialize main tower
-        float tyMain = GameConstants.GROUND_Y + 95f;
-        gameState.towers.add(new Tower(
-            ImageLoader.maintowertex,
-            ImageLoader.projTex,
-            100, tyMain,
-            0.3f,
-            false,
-            true,
-            TowerType.BASIC,
-            10, 0.1f
-        ));
-
-        float baseSpacing = 150f;          // Base jarak antar zone (bisa diubah)
-        float additionalGap = 20f;         // Extra gap antar tower (bisa diubah)
-        float totalSpacing = baseSpacing + additionalGap;
-
-        float firstCenter = 100f + totalSpacing;
-        float[] zoneCenters = {
-            firstCenter,
-            firstCenter + totalSpacing,
-            firstCenter + totalSpacing*2
-        };
-
-        for (float cx : zoneCenters) {
-            float w = 40f;
-            float h = 40f;
-            float x0 = cx - w / 2f;
-            float y0 = GameConstants.GROUND_Y;
-            float skew = 50f;
-            float[] verts = new float[]{
-                x0, y0,
-                x0 + w, y0,
-                x0 + w + skew, y0 - h,
-                x0 + skew, y0 - h
-            };
-            gameState.zones.add(new Zone(verts));
-        }
-
-        // Initialize trap zones
-        int numTrapZones = 3;
-        float trapFirstCx = firstCenter + totalSpacing*3;
-        float trapY0 = GameConstants.GROUND_Y;
-        float trapWidth = 40f;
-        float trapHeight = 40f;
-        float skew = 50f;
-
-        for (int i = 0; i < numTrapZones; i++) {
-            float cx = trapFirstCx + i * totalSpacing;
-            float x0 = cx - trapWidth/2;
-            float y0 = trapY0;
-            float[] v = {
-                x0, y0,
-                x0 + trapWidth, y0,
-                x0 + trapWidth + skew, y0 - trapHeight,
-                x0 + skew, y0 - trapHeight
-            };
-            gameState.trapVerts.add(v);
-            gameState.trapZones.add(new Trap(v, 0.2f, TrapType.ATTACK));
-        }
-    }
-
     @Override
     public void render(float delta) {
         if (Gdx.input.isKeyJustPressed(com.badlogic.gdx.Input.Keys.ESCAPE)) {
@@ -150,15 +104,23 @@ public class TowerDefenseScreen implements Screen {
             return;
         }
 
-        gameLogic.update(delta);
+        if (!gameState.isPaused && !gameState.isGameOver) {
+            AudioManager.updateMusicTransition(delta);
+        }
+
+        // Logic jalan dengan step tetap, render diinterpolasi dengan sisa accumulator
+        int steps = timestep.advance(delta);
+        for (int i = 0; i < steps; i++) {
+            gameLogic.update(timestep.getStep());
+        }
+        float alpha = timestep.getAlpha();
 
         Gdx.gl.glClearColor(0, 0, 0, 1);
         Gdx.gl.glClear(GL20.GL_COLOR_BUFFER_BIT);
         Gdx.gl.glEnable(GL20.GL_BLEND);
         Gdx.gl.glBlendFunc(GL20.GL_SRC_ALPHA, GL20.GL_ONE_MINUS_SRC_ALPHA);
 
-        renderBackground();
-        renderGameWorld();
+        renderGameWorld(alpha);
         renderUI();
 
         if (gameState.isGameOver) {
@@ -172,152 +134,53 @@ public class TowerDefenseScreen implements Screen {
         }
 
         renderTowerUpgradePanel();
+        renderStats.endFrame(delta);
     }
 
-    private void renderBackground() {
-        float vw = camera.viewportWidth;
-        float vy = camera.viewportHeight;
+    /**
+     * Satu pass batch untuk dunia: layer statis (FrameBuffer) lalu entity dinamis per layer
+     * (trap, health bar, tower, enemy, projectile, bomb). Shape hanya untuk fallback texture yang hilang.
+     */
+    private void renderGameWorld(float alpha) {
+        staticLayer.prepare(game.batch, shapes, camera, gameState);
 
-        // Background sky
         game.batch.setProjectionMatrix(camera.combined);
         game.batch.begin();
-        if (ImageLoader.skytex != null) {
-            game.batch.draw(ImageLoader.skytex, 0, 0, vw, vy);
-        }
-        game.batch.end();
-
-        // Ground tiles
-        Texture grass = ImageLoader.terratex;
-        float tileSize = 150f;
-        float overlap = 20f;
-        float step = tileSize - overlap;
-        int cols = 100;
-
-        game.batch.begin();
-        for (int c = 0; c < cols; c++) {
-            float x = c * step;
-            game.batch.draw(grass, x, 0, tileSize, tileSize);
-        }
-        game.batch.end();
-    }
-
-    private void renderGameWorld() {
-        // Draw main tower
-        game.batch.begin();
-        for (Tower t : gameState.towers) {
-            if (t.isMain) {
-                t.drawBatch(game.batch);
-                break;
-            }
-        }
-
-        // Draw boss if present
-        if (gameState.currentBoss != null) {
-            gameState.currentBoss.drawBatch(game.batch);
-        }
-        game.batch.end();
-
-        // Draw deploy zones
-        shapes.setProjectionMatrix(camera.combined);
-        shapes.begin(ShapeRenderer.ShapeType.Line);
-        shapes.setColor(Color.LIGHT_GRAY);
-        for (Zone z : gameState.zones) {
-            if (!z.occupied) shapes.polygon(z.verts);
-        }
-        shapes.end();
-
-        // Draw trap zones
-        shapes.begin(ShapeRenderer.ShapeType.Line);
-        shapes.setColor(Color.ORANGE);
-        for (int i = 0; i < gameState.trapZones.size; i++) {
-            if (!gameState.trapZones.get(i).occupied) {
-                shapes.polygon(gameState.trapVerts.get(i));
-            }
-        }
-        shapes.end();
+        staticLayer.draw(game.batch, camera);
 
         // Draw traps
-        game.batch.begin();
-        for (Trap t : gameState.trapZones) t.drawBatch(game.batch);
-        game.batch.end();
-
-        renderEnemyHealthBars();
+        for (Trap t : gameState.trapZones) EntityRenderer.drawTrap(game.batch, t);
 
-        // Draw game entities
-        game.batch.begin();
-        for (Tower t : gameState.towers) t.drawBatch(game.batch);
+        // Draw game entities (health bar di bawah sprite)
+        healthBars.draw(game.batch, gameState.enemies, alpha);
+        for (Tower t : gameState.towers) EntityRenderer.drawTower(game.batch, t);
 
         // Draw enemies with health indicators
         for (Enemy e : gameState.enemies) {
-            e.drawBatch(game.batch);
+            EntityRenderer.drawEnemy(game.batch, e, alpha);
         }
 
-        for (io.DutchSlayer.defend.entities.projectiles.Projectile p : gameState.projectiles) p.drawBatch(game.batch);
-        for (EnemyProjectile ep : gameState.enemyProjectiles) ep.drawBatch(game.batch);
+        for (io.DutchSlayer.defend.entities.projectiles.Projectile p : gameState.projectiles) EntityRenderer.drawProjectile(game.batch, p, alpha);
+        for (EnemyProjectile ep : gameState.enemyProjectiles) EntityRenderer.drawEnemyProjectile(game.batch, ep, alpha);
 
         // Draw bombs with status indicators
         for (BombAsset bomb : gameState.bombs) {
-            bomb.drawBatch(game.batch);
+            EntityRenderer.drawBomb(game.batch, bomb, alpha);
         }
 
         font.setColor(1f, 1f, 1f, 1f);
         game.batch.end();
 
         // Draw fallback shapes for missing textures
+        shapes.setProjectionMatrix(camera.combined);
         shapes.begin(ShapeRenderer.ShapeType.Filled);
-        for (Tower t : gameState.towers) t.drawShape(shapes);
-        for (Enemy e : gameState.enemies) e.drawShape(shapes);
-        for (io.DutchSlayer.defend.entities.projectiles.Projectile p : gameState.projectiles) p.drawShape(shapes);
-        for (EnemyProjectile ep : gameState.enemyProjectiles) ep.drawShape(shapes);
+        for (Tower t : gameState.towers) EntityRenderer.drawTowerShape(shapes, t);
+        for (Enemy e : gameState.enemies) EntityRenderer.drawEnemyShape(shapes, e, alpha);
+        for (io.DutchSlayer.defend.entities.projectiles.Projectile p : gameState.projectiles) EntityRenderer.drawProjectileShape(shapes, p, alpha);
+        for (EnemyProjectile ep : gameState.enemyProjectiles) EntityRenderer.drawEnemyProjectileShape(shapes, ep, alpha);
         shapes.end();
     }
 
-    private void renderEnemyHealthBars() {
-        shapes.setProjectionMatrix(camera.combined);
-
-        for (Enemy e : gameState.enemies) {
-            float enemyX = e.getBounds().x;
-            float enemyY = e.getBounds().y;
-            float enemyWidth = e.getBounds().width;
-            float enemyHeight = e.getBounds().height;
-
-            // ===== HP BAR CONFIGURATION =====
-            float barWidth = Math.min(enemyWidth * 0.6f, 30f);  // Max 30px, 60% dari enemy width
-            float barHeight = 3f;                               // Lebih tipis: 3px
-            float barX = enemyX + (enemyWidth - barWidth) / 2f; // Center horizontal
-            float barY = enemyY + enemyHeight + 4f;             // Lebih dekat: 4px di atas enemy
-
-            // ===== CALCULATE HP PERCENTAGE =====
-            float healthPercent = (float)e.getHealth() / e.getMaxHealth();
-            float filledWidth = barWidth * healthPercent;
-
-            // ===== DRAW HP BAR BACKGROUND =====
-            shapes.begin(ShapeRenderer.ShapeType.Filled);
-            shapes.setColor(0.2f, 0.2f, 0.2f, 0.9f);
-            shapes.rect(barX, barY, barWidth, barHeight);
-
-            // ===== DRAW HP BAR FILL =====
-            Color healthColor;
-            if (healthPercent > 0.6f) {
-                healthColor = Color.GREEN;
-            } else if (healthPercent > 0.3f) {
-                healthColor = Color.YELLOW;
-            } else {
-                healthColor = Color.RED;
-            }
-
-            shapes.setColor(healthColor);
-            shapes.rect(barX, barY, filledWidth, barHeight);
-            shapes.end();
-
-            // ===== DRAW HP BAR BORDER =====
-            shapes.begin(ShapeRenderer.ShapeType.Line);
-            shapes.setColor(Color.WHITE);
-            shapes.rect(barX, barY, barWidth, barHeight);
-            shapes.end();
-        }
-    }
-
     private void renderUI() {
         float vw = camera.viewportWidth;
         float vy = camera.viewportHeight;
@@ -509,18 +372,14 @@ public class TowerDefenseScreen implements Screen {
         gameState.goldTimer = 0f;
         gameState.spawnTimer = 0f;
 
-        gameState.enemies.clear();
-        gameState.projectiles.clear();
-        gameState.enemyProjectiles.clear();
-        gameState.bombs.clear();
+        gameState.enemyPool.freeAllAndClear(gameState.enemies);
+        gameState.pools.freeAll(gameState);
 
         // Reset towers
         gameState.towers.clear();
-        float towerMainH = ImageLoader.maintowertex.getHeight() * 0.6f;
+        float towerMainH = SpriteSizes.MAIN_TOWER_H * 0.6f;
         float tyMain = GameConstants.GROUND_Y + towerMainH/5f;
-        gameState.towers.add(new Tower(
-            ImageLoader.maintowertex, ImageLoader.projTex, 100, tyMain, 0.3f, false, true, TowerType.BASIC, 10, 0.1f
-        ));
+        gameLogic.spawnMainTower(tyMain);
 
         // Reset zones
         for (Zone z : gameState.zones) {
@@ -544,7 +403,7 @@ public class TowerDefenseScreen implements Screen {
         // ===== RESET UI SELECTIONS =====
         gameState.selectedType = null;
         gameState.selectedTowerUI = null;
-        gameState.currentBoss = null;
+        gameState.clearBossReference();
 
         // ===== RESET CAMERA =====
         gameState.isBossIntroduction = false;
@@ -596,31 +455,14 @@ public class TowerDefenseScreen implements Screen {
         return (int)(GameConstants.BASE_SPEED_UPGRADE_COST * Math.pow(GameConstants.UPGRADE_COST_MULTIPLIER, tower.getSpeedLevel()));
     }
 
-    // Navigation enum
-    public enum NavItem {
-        T1, T2, T3,
-        TRAP1, TRAP2, TRAP3,
-        REMOVE
-    }
-
-    // Zone class
-    public static class Zone {
-        public final float[] verts;
-        public boolean occupied;
-
-        public Zone(float[] verts) {
-            this.verts = verts;
-        }
-
-        public boolean contains(float x, float y) {
-            return Intersector.isPointInPolygon(verts, 0, verts.length, x, y);
-        }
+    @Override
+    public void resize(int w, int h) {
+        staticLayer.invalidate();
     }
-
-    @Override public void resize(int w, int h) {}
     @Override
     public void show() {
         Gdx.input.setInputProcessor(inputHandler);
+        timestep.reset(); // Jangan catch-up waktu selama di screen lain
         if (!gameState.isPaused) {
             AudioManager.playTowerDefenseMusic();
         }
@@ -635,6 +477,14 @@ public class TowerDefenseScreen implements Screen {
         gameLogic.startTowerCooldown(towerIndex);
     }
 
+    public Tower deployTower(Zone zone, TowerType type) {
+        return gameLogic.deployTower(zone, type);
+    }
+
+    public void removeTower(Tower tower) {
+        gameLogic.removeTower(tower);
+    }
+
     // TRAP METHODS
     public boolean canDeployTrap(int trapIndex) {
         return gameLogic.canDeployTrap(trapIndex);
@@ -644,6 +494,10 @@ public class TowerDefenseScreen implements Screen {
         gameLogic.startTrapCooldown(trapIndex);
     }
 
+    public Trap deployTrap(int trapIdx, TrapType trapType) {
+        return gameLogic.deployTrap(trapIdx, trapType);
+    }
+
     // TRAP INDEX MAPPING
     public int getTrapIndex(NavItem navItem) {
         return switch (navItem) {
@@ -678,6 +532,9 @@ public class TowerDefenseScreen implements Screen {
         AudioManager.stopMusic();
         shapes.dispose();
         font.dispose();
+        healthBars.dispose();
+        staticLayer.dispose();
+        renderStats.dispose();
         ImageLoader.dispose();
         pauseMenu.getStage().dispose();
     }
@@ -0,0 +1,326 @@
+package io.DutchSlayer.defend.ui;
+
+import com.badlogic.gdx.graphics.Color;
+import com.badlogic.gdx.graphics.g2d.SpriteBatch;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
+import com.badlogic.gdx.graphics.glutils.ShapeRenderer;
+import io.DutchSlayer.defend.entities.enemies.Enemy;
+import io.DutchSlayer.defend.entities.enemies.EnemyType;
+import io.DutchSlayer.defend.entities.projectiles.AoeProjectile;
+import io.DutchSlayer.defend.entities.projectiles.BombAsset;
+import io.DutchSlayer.defend.entities.projectiles.EnemyProjectile;
+import io.DutchSlayer.defend.entities.projectiles.Projectile;
+import io.DutchSlayer.defend.entities.towers.Tower;
+import io.DutchSlayer.defend.entities.towers.TowerType;
+import io.DutchSlayer.defend.entities.traps.Trap;
+
+/**
+ * Rendering untuk entity defend mode.
+ * Entity di modul simulation hanya menyimpan state, region (atlas defend) dipilih di sini dari ImageLoader.
+ * Semua sprite entity ada di atlas yang sama, jadi ganti sprite antar entity tidak memaksa flush batch.
+ * Jika texture null, entity digambar sebagai shape (drawXxxShape).
+ * Parameter alpha = FixedTimestep.getAlpha(), untuk interpolasi posisi entity yang bergerak.
+ */
+public final class EntityRenderer {
+
+    private EntityRenderer() {}
+
+    /* ===== ENEMY ===== */
+
+    public static TextureRegion getEnemyTexture(EnemyType type) {
+        TextureRegion tex = switch (type) {
+            case BASIC -> ImageLoader.enemyBasicTex;
+            case SHOOTER -> ImageLoader.enemyShooterTex;
+            case BOMBER -> ImageLoader.enemyBomberTex;
+            case SHIELD -> ImageLoader.enemyShieldTex;
+            case BOSS -> ImageLoader.enemyBossTex;
+        };
+        return tex != null ? tex : ImageLoader.dutchtex;
+    }
+
+    private static TextureRegion[] getEnemyFrames(EnemyType type) {
+        return switch (type) {
+            case BASIC -> ImageLoader.enemyBasicFrames;
+            case SHIELD -> ImageLoader.enemyShieldFrames;
+            case SHOOTER -> ImageLoader.enemyShooterFrames;
+            case BOMBER -> ImageLoader.enemyBomberFrames;
+            default -> null;
+        };
+    }
+
+    private static TextureRegion getEnemyFrameTexture(Enemy e) {
+        TextureRegion[] frames = getEnemyFrames(e.getType());
+        int frame = e.getCurrentFrame();
+
+        if (frames != null && frame >= 0 && frame < frames.length && frames[frame] != null) {
+            return frames[frame];
+        }
+        return getEnemyTexture(e.getType()); // Fallback to original texture
+    }
+
+    public static void drawEnemy(SpriteBatch batch, Enemy e, float alpha) {
+        if (getEnemyTexture(e.getType()) == null) return;
+
+        // Set color berdasarkan status
+        if (e.isKnockedBack()) {
+            batch.setColor(1f, 0.5f, 0.5f, 1f);
+        } else if (e.isSlowed()) {
+            batch.setColor(0.5f, 0.5f, 1f, 1f);
+        } else {
+            batch.setColor(1f, 1f, 1f, 1f);
+        }
+
+        batch.draw(
+            getEnemyFrameTexture(e),
+            e.getRenderX(alpha) - e.getWidth() / 2f,
+            e.getRenderY(alpha) - e.getHeight() / 2f,
+            e.getWidth(),
+            e.getHeight()
+        );
+
+        batch.setColor(1f, 1f, 1f, 1f);
+    }
+
+    public static void drawEnemyShape(ShapeRenderer shapes, Enemy e, float alpha) {
+        if (getEnemyTexture(e.getType()) != null) return;
+
+        if (e.isKnockedBack()) {
+            shapes.setColor(Color.ORANGE);
+        } else if (e.isSlowed()) {
+            shapes.setColor(Color.BLUE);
+        } else {
+            shapes.setColor(Color.RED);
+        }
+
+        shapes.circle(e.getRenderX(alpha), e.getRenderY(alpha), e.getWidth() / 2f);
+    }
+
+    /* ===== TOWER ===== */
+
+    private static TextureRegion getTowerBaseTexture(Tower t) {
+        if (t.isMain) return ImageLoader.maintowertex;
+        return switch (t.type) {
+            case AOE -> ImageLoader.tower1Tex;
+            case FAST -> ImageLoader.tower2Tex;
+            case SLOW -> ImageLoader.tower3Tex;
+            case BASIC -> ImageLoader.towerTex;
+        };
+    }
+
+    private static TextureRegion getTowerTexture(Tower t) {
+        TextureRegion[] frames = ImageLoader.getTowerAnimationFrames(t.type);
+
+        // Shooting animation (priority)
+        if (t.isAnimating() && frames != null && frames.length > 1 && frames[1] != null) {
+            return frames[1];
+        }
+        // Idle animation
+        if (t.hasIdleAnimation() && frames != null && frames.length > 0) {
+            int frame = t.getCurrentFrame();
+            if (frame < frames.length && frames[frame] != null) {
+                return frames[frame];
+            }
+            return frames[0];
+        }
+        // Fallback
+        if (frames != null && frames.length > 0 && frames[0] != null) {
+            return frames[0];
+        }
+        return getTowerBaseTexture(t);
+    }
+
+    public static void drawTower(SpriteBatch batch, Tower t) {
+        TextureRegion tex = getTowerTexture(t);
+        if (tex == null) return;
+
+        // Visual flash effect saat shooting
+        if (t.isAnimating() && t.type != TowerType.BASIC) {
+            batch.setColor(1.2f, 1.2f, 1.2f, 1f);
+        }
+
+        batch.draw(tex, t.x - t.scaledW / 2, t.y - t.scaledH / 2, t.scaledW, t.scaledH);
+
+        // Reset color
+        batch.setColor(1f, 1f, 1f, 1f);
+    }
+
+    public static void drawTowerShape(ShapeRenderer shapes, Tower t) {
+        if (getTowerBaseTexture(t) != null) return;
+
+        shapes.setColor(t.canShoot ? Color.CYAN : Color.BLUE);
+        shapes.rect(t.x - t.scaledW / 2, t.y - t.scaledH / 2, t.scaledW, t.scaledH);
+    }
+
+    /* ===== PROJECTILES ===== */
+
+    private static TextureRegion getProjectileTexture(Projectile p) {
+        return switch (p.sourceType) {
+            case AOE -> ImageLoader.aoeProjTex;
+            case FAST -> ImageLoader.projtowtex;
+            case SLOW -> ImageLoader.slowProjTex;
+            case BASIC -> ImageLoader.projTex;
+        };
+    }
+
+    public static void drawProjectile(SpriteBatch batch, Projectile p, float alpha) {
+        TextureRegion tex = getProjectileTexture(p);
+        if (!p.isActive() || tex == null) return; // Early exit
+        if (p instanceof AoeProjectile aoe && aoe.hasExploded()) return;
+
+        batch.draw(tex,
+            p.getRenderX(alpha) - p.bounds.width / 2f,
+            p.getRenderY(alpha) - p.bounds.height / 2f,
+            p.bounds.width, p.bounds.height);
+    }
+
+    public static void drawProjectileShape(ShapeRenderer shapes, Projectile p, float alpha) {
+        if (!p.isActive() || getProjectileTexture(p) != null) return;
+
+        shapes.setColor(Color.YELLOW);
+        shapes.circle(p.getRenderX(alpha), p.getRenderY(alpha), p.bounds.width / 2f);
+    }
+
+    private static TextureRegion getEnemyProjectileTexture(EnemyProjectile ep) {
+        if (ep.isFromBoss() && ImageLoader.enemyProjectileTex == null) {
+            return ImageLoader.projTex;
+        }
+        return ImageLoader.enemyProjectileTex;
+    }
+
+    public static void drawEnemyProjectile(SpriteBatch batch, EnemyProjectile ep, float alpha) {
+        TextureRegion tex = getEnemyProjectileTexture(ep);
+        if (tex == null) return;
+
+        batch.draw(tex, ep.getRenderX(alpha) - ep.getWidth() / 2, ep.getRenderY(alpha) - ep.getHeight() / 2,
+            ep.getWidth(), ep.getHeight());
+    }
+
+    public static void drawEnemyProjectileShape(ShapeRenderer shapes, EnemyProjectile ep, float alpha) {
+        if (getEnemyProjectileTexture(ep) != null) return;
+
+        shapes.setColor(Color.RED);
+        shapes.circle(ep.getRenderX(alpha), ep.getRenderY(alpha), ep.getWidth() / 2);
+    }
+
+    /* ===== BOMB ===== */
+
+    private static TextureRegion getBombTexture() {
+        return ImageLoader.bombAssetTex != null ? ImageLoader.bombAssetTex : ImageLoader.trapTex;
+    }
+
+    /**
+     * Render bomb atau explosion
+     */
+    public static void drawBomb(SpriteBatch batch, BombAsset bomb, float alpha) {
+        TextureRegion tex = getBombTexture();
+        if (tex == null) return;
+
+        // ===== EXPLOSION RENDERING =====
+        if (bomb.isShowingExplosion()) {
+            drawExplosion(batch, bomb, tex);
+            return;
+        }
+
+        // ===== NORMAL BOMB RENDERING =====
+        if (bomb.hasExploded()) return;
+
+        if (bomb.isFalling()) {
+            // Flying effect
+            float fade = 0.7f + (0.3f * Math.max(0, bomb.getAltitude() / 100f));
+            batch.setColor(1f, 1f, 1f, fade);
+        } else {
+            batch.setColor(1f, 1f, 1f, 1f);
+        }
+
+        float w = bomb.getWidth();
+        float h = bomb.getHeight();
+        batch.draw(tex, bomb.getX() - w/2, bomb.getRenderY(alpha) - h/2, w, h);
+        batch.setColor(1f, 1f, 1f, 1f);
+    }
+
+    private static void drawExplosion(SpriteBatch batch, BombAsset bomb, TextureRegion bombTex) {
+        float progress = bomb.getExplosionProgress();
+
+        if (ImageLoader.explosionTex != null) {
+            // ⭐ EXPLOSION COLOR PROGRESSION
+            if (progress <= 0.2f) {
+                batch.setColor(1.3f, 1.3f, 1.3f, 1f); // Bright white flash
+            } else if (progress <= 0.5f) {
+                batch.setColor(1f, 0.8f, 0.3f, 1f); // Orange fire
+            } else {
+                float alpha = 1f - ((progress - 0.5f) / 0.5f) * 0.7f;
+                batch.setColor(1f, 0.4f, 0.1f, alpha); // Red fade
+            }
+
+            float explosionW = bomb.getWidth() * bomb.getExplosionScale();
+            float explosionH = bomb.getHeight() * bomb.getExplosionScale();
+
+            batch.draw(ImageLoader.explosionTex,
+                bomb.getX() - explosionW/2,
+                bomb.getY() - explosionH/2,
+                explosionW, explosionH);
+        } else {
+            // ⭐ FALLBACK: Multi-layer bomb texture
+            for (int i = 0; i < 3; i++) {
+                float layerScale = bomb.getExplosionScale() * (1f + i * 0.4f);
+                float layerW = bomb.getWidth() * layerScale;
+                float layerH = bomb.getHeight() * layerScale;
+
+                switch(i) {
+                    case 0: // Inner white core
+                        batch.setColor(1.2f, 1.2f, 1.2f, 0.9f);
+                        break;
+                    case 1: // Middle orange
+                        batch.setColor(1f, 0.7f, 0.2f, 0.7f);
+                        break;
+                    case 2: // Outer red
+                        float alpha = (1f - progress) * 0.5f;
+                        batch.setColor(1f, 0.3f, 0.1f, alpha);
+                        break;
+                }
+
+                batch.draw(bombTex,
+                    bomb.getX() - layerW/2,
+                    bomb.getY() - layerH/2,
+                    layerW, layerH);
+            }
+        }
+
+        batch.setColor(1f, 1f, 1f, 1f);
+    }
+
+    /* ===== TRAP ===== */
+
+    private static TextureRegion getTrapTexture(Trap trap) {
+        TextureRegion tex = switch (trap.getType()) {
+            case ATTACK -> ImageLoader.trapAttackTex;
+            case SLOW -> ImageLoader.trapSlowTex;
+            case EXPLOSION -> ImageLoader.trapBombTex;
+        };
+        return tex != null ? tex : ImageLoader.trapTex;
+    }
+
+    /**
+     * Render trap dengan visual effects
+     */
+    public static void drawTrap(SpriteBatch batch, Trap trap) {
+        if (!trap.occupied || trap.isUsed()) return;
+
+        TextureRegion tex = getTrapTexture(trap);
+        if (tex == null) return;
+
+        if (trap.isOnCooldown()) {
+            // Trap on cooldown - warna agak redup
+            batch.setColor(0.5f, 0.5f, 0.5f, 0.8f);
+        } else {
+            // Trap ready - warna normal
+            batch.setColor(1f, 1f, 1f, 1f);
+        }
+
+        float spriteX = trap.getCenterX() - trap.getWidth()/2f;
+        float spriteY = trap.getTowerAlignedY();
+
+        batch.draw(tex, spriteX, spriteY, trap.getWidth(), trap.getHeight());
+        batch.setColor(1f, 1f, 1f, 1f);
+    }
+}
@@ -0,0 +1,122 @@
+package io.DutchSlayer.defend.ui;
+
+import com.badlogic.gdx.graphics.Color;
+import com.badlogic.gdx.graphics.Pixmap;
+import com.badlogic.gdx.graphics.Texture;
+import com.badlogic.gdx.graphics.g2d.SpriteBatch;
+import com.badlogic.gdx.utils.Disposable;
+import io.DutchSlayer.defend.entities.enemies.Enemy;
+
+/**
+ * Health bar semua enemy dalam satu pass SpriteBatch.
+ * Setiap bar = beberapa quad dari texture putih 1x1 dengan warna vertex (batch.setColor),
+ * jadi tidak ada begin/end ShapeRenderer per enemy dan jumlah draw call tetap walau enemy bertambah.
+ * Harus dipanggil di antara batch.begin() dan batch.end().
+ */
+public class HealthBarRenderer implements Disposable {
+    /* ===== HP BAR CONFIGURATION ===== */
+    private static final float MAX_BAR_WIDTH = 30f;     // Max 30px
+    private static final float WIDTH_RATIO = 0.6f;      // 60% dari enemy width
+    private static final float BAR_HEIGHT = 3f;
+    private static final float OFFSET_Y = 4f;           // Jarak di atas enemy
+    private static final float BORDER = 1f;
+
+    private static final Color BACKGROUND = new Color(0.2f, 0.2f, 0.2f, 0.9f);
+
+    private final Texture white;
+    private final boolean ownsTexture;
+
+    // Warna per ambang HP (persen > high = hijau, > low = kuning, sisanya merah)
+    private float highThreshold = 0.6f;
+    private float lowThreshold = 0.3f;
+    private final Color highColor = new Color(Color.GREEN);
+    private final Color midColor = new Color(Color.YELLOW);
+    private final Color lowColor = new Color(Color.RED);
+    private final Color borderColor = new Color(Color.WHITE);
+
+    private boolean hideAtFullHealth = false;
+    private final Color savedColor = new Color();
+
+    /**
+     * Pakai ImageLoader.whiteTex jika ada, kalau tidak buat texture 1x1 sendiri
+     */
+    public HealthBarRenderer() {
+        if (ImageLoader.whiteTex != null) {
+            white = ImageLoader.whiteTex;
+            ownsTexture = false;
+        } else {
+            Pixmap pixmap = new Pixmap(1, 1, Pixmap.Format.RGBA8888);
+            pixmap.setColor(Color.WHITE);
+            pixmap.fill();
+            white = new Texture(pixmap);
+            pixmap.dispose();
+            ownsTexture = true;
+        }
+    }
+
+    public void draw(SpriteBatch batch, Iterable<Enemy> enemies, float alpha) {
+        savedColor.set(batch.getColor());
+
+        for (Enemy e : enemies) {
+            int health = e.getHealth();
+            int maxHealth = e.getMaxHealth();
+            if (health <= 0 || (hideAtFullHealth && health >= maxHealth)) continue;
+
+            float enemyWidth = e.getWidth();
+            float enemyX = e.getRenderX(alpha) - enemyWidth / 2f;
+            float enemyY = e.getRenderY(alpha) - e.getHeight() / 2f;
+
+            float barWidth = Math.min(enemyWidth * WIDTH_RATIO, MAX_BAR_WIDTH);
+            float barX = enemyX + (enemyWidth - barWidth) / 2f;     // Center horizontal
+            float barY = enemyY + e.getHeight() + OFFSET_Y;
+
+            float healthPercent = (float) health / maxHealth;
+
+            batch.setColor(BACKGROUND);
+            batch.draw(white, barX, barY, barWidth, BAR_HEIGHT);
+
+            batch.setColor(colorFor(healthPercent));
+            batch.draw(white, barX, barY, barWidth * healthPercent, BAR_HEIGHT);
+
+            batch.setColor(borderColor);
+            batch.draw(white, barX, barY, barWidth, BORDER);
+            batch.draw(white, barX, barY + BAR_HEIGHT - BORDER, barWidth, BORDER);
+            batch.draw(white, barX, barY, BORDER, BAR_HEIGHT);
+            batch.draw(white, barX + barWidth - BORDER, barY, BORDER, BAR_HEIGHT);
+        }
+
+        batch.setColor(savedColor);
+    }
+
+    private Color colorFor(float healthPercent) {
+        if (healthPercent > highThreshold) return highColor;
+        if (healthPercent > lowThreshold) return midColor;
+        return lowColor;
+    }
+
+    /* ===== OPTIONS ===== */
+
+    public void setThresholds(float high, float low) {
+        this.highThreshold = high;
+        this.lowThreshold = low;
+    }
+
+    public void setColors(Color high, Color mid, Color low) {
+        highColor.set(high);
+        midColor.set(mid);
+        lowColor.set(low);
+    }
+
+    public void setHideAtFullHealth(boolean hideAtFullHealth) {
+        this.hideAtFullHealth = hideAtFullHealth;
+    }
+
+    public boolean isHideAtFullHealth() {
+        return hideAtFullHealth;
+    }
+
+    @Override
+    public void dispose() {
+        if (ownsTexture) white.dispose();
+    }
+}
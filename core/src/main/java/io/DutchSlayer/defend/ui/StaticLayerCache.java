@@ -0,0 +1,142 @@
+package io.DutchSlayer.defend.ui;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.graphics.Color;
+import com.badlogic.gdx.graphics.GL20;
+import com.badlogic.gdx.graphics.OrthographicCamera;
+import com.badlogic.gdx.graphics.Pixmap;
+import com.badlogic.gdx.graphics.Texture;
+import com.badlogic.gdx.graphics.g2d.SpriteBatch;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
+import com.badlogic.gdx.graphics.glutils.FrameBuffer;
+import com.badlogic.gdx.graphics.glutils.ShapeRenderer;
+import com.badlogic.gdx.utils.Disposable;
+import io.DutchSlayer.defend.game.GameState;
+import io.DutchSlayer.defend.game.Zone;
+
+/**
+ * Layer statis defend mode (sky, ground tile, outline deploy zone dan trap zone kosong)
+ * di-bake sekali ke FrameBuffer lalu digambar sebagai satu quad setiap frame.
+ * Bake ulang hanya saat occupancy zone/trap berubah atau ukuran layar berubah.
+ *
+ * Pemakaian per frame: prepare() di luar batch.begin/end, lalu draw() di dalam pass batch.
+ */
+public class StaticLayerCache implements Disposable {
+    private static final float TILE_SIZE = 150f;
+    private static final float TILE_OVERLAP = 20f;
+
+    private FrameBuffer buffer;
+    private final TextureRegion region = new TextureRegion();
+    private long bakedSignature = -1L;
+    private boolean dirty = true;
+
+    /**
+     * Bake ulang jika perlu. Tidak boleh dipanggil di dalam batch.begin/end.
+     */
+    public void prepare(SpriteBatch batch, ShapeRenderer shapes, OrthographicCamera camera, GameState gameState) {
+        long signature = occupancySignature(gameState);
+        if (!dirty && buffer != null && signature == bakedSignature) return;
+
+        int width = Gdx.graphics.getBackBufferWidth();
+        int height = Gdx.graphics.getBackBufferHeight();
+        if (width <= 0 || height <= 0) return;
+
+        if (buffer == null || buffer.getWidth() != width || buffer.getHeight() != height) {
+            if (buffer != null) buffer.dispose();
+            buffer = new FrameBuffer(Pixmap.Format.RGBA8888, width, height, false);
+            buffer.getColorBufferTexture().setFilter(Texture.TextureFilter.Linear, Texture.TextureFilter.Linear);
+            region.setRegion(buffer.getColorBufferTexture());
+            region.flip(false, true); // FrameBuffer tersimpan terbalik (origin GL di kiri bawah)
+        }
+
+        buffer.begin();
+        Gdx.gl.glClearColor(0, 0, 0, 1);
+        Gdx.gl.glClear(GL20.GL_COLOR_BUFFER_BIT);
+        bake(batch, shapes, camera, gameState);
+        buffer.end();
+
+        bakedSignature = signature;
+        dirty = false;
+    }
+
+    private void bake(SpriteBatch batch, ShapeRenderer shapes, OrthographicCamera camera, GameState gameState) {
+        float vw = camera.viewportWidth;
+        float vh = camera.viewportHeight;
+
+        batch.setProjectionMatrix(camera.combined);
+        batch.begin();
+        if (ImageLoader.skytex != null) {
+            batch.draw(ImageLoader.skytex, 0, 0, vw, vh);
+        }
+
+        // Ground tiles, cukup yang terlihat (dulu 100 kolom padahal hanya ~10 yang masuk layar)
+        Texture grass = ImageLoader.terratex;
+        if (grass != null) {
+            float step = TILE_SIZE - TILE_OVERLAP;
+            int cols = (int) Math.ceil(vw / step) + 1;
+            for (int c = 0; c < cols; c++) {
+                batch.draw(grass, c * step, 0, TILE_SIZE, TILE_SIZE);
+            }
+        }
+        batch.end();
+
+        Gdx.gl.glEnable(GL20.GL_BLEND);
+        shapes.setProjectionMatrix(camera.combined);
+        shapes.begin(ShapeRenderer.ShapeType.Line);
+
+        // Deploy zones
+        shapes.setColor(Color.LIGHT_GRAY);
+        for (Zone z : gameState.zones) {
+            if (!z.occupied) shapes.polygon(z.verts);
+        }
+
+        // Trap zones
+        shapes.setColor(Color.ORANGE);
+        for (int i = 0; i < gameState.trapZones.size; i++) {
+            if (!gameState.trapZones.get(i).occupied) {
+                shapes.polygon(gameState.trapVerts.get(i));
+            }
+        }
+        shapes.end();
+    }
+
+    /**
+     * Gambar layer yang sudah di-bake, di dalam batch.begin/end dengan projection kamera dunia
+     */
+    public void draw(SpriteBatch batch, OrthographicCamera camera) {
+        if (buffer == null) return;
+        batch.draw(region, 0, 0, camera.viewportWidth, camera.viewportHeight);
+    }
+
+    /**
+     * Paksa bake ulang di prepare berikutnya (resize, ganti texture)
+     */
+    public void invalidate() {
+        dirty = true;
+    }
+
+    /**
+     * Bit per zone/trap zone yang terisi, berubah = outline yang digambar berubah
+     */
+    private static long occupancySignature(GameState gameState) {
+        long signature = 0L;
+        int bit = 0;
+        for (Zone z : gameState.zones) {
+            if (z.occupied) signature |= 1L << (bit & 63);
+            bit++;
+        }
+        for (int i = 0; i < gameState.trapZones.size; i++) {
+            if (gameState.trapZones.get(i).occupied) signature |= 1L << (bit & 63);
+            bit++;
+        }
+        return signature ^ ((long) bit << 56);
+    }
+
+    @Override
+    public void dispose() {
+        if (buffer != null) {
+            buffer.dispose();
+            buffer = null;
+        }
+    }
+}
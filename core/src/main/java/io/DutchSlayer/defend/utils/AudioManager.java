@@ -1,8 +1,8 @@
 package io.DutchSlayer.defend.utils;
 
-import com.badlogic.gdx.Gdx;
 import com.badlogic.gdx.audio.Music;
 import com.badlogic.gdx.audio.Sound;
+import io.DutchSlayer.utils.Assets;
 import java.util.HashMap;
 import java.util.Map;
 
@@ -83,27 +83,27 @@ public class AudioManager {
      */
     private static void initializeConfigurations() {
         // Sound file paths
-        soundPaths.put(SoundType.BUILDING, "assets/SFX/Building.mp3");
-        soundPaths.put(SoundType.TRAP, "assets/SFX/trap.mp3");
-        soundPaths.put(SoundType.BUTTON_CLICK, "assets/SFX/BtnClick.mp3");
-        soundPaths.put(SoundType.NAVBAR_SELECT, "assets/SFX/SelectNavbar.mp3");
+        soundPaths.put(SoundType.BUILDING, "SFX/Building.mp3");
+        soundPaths.put(SoundType.TRAP, "SFX/trap.mp3");
+        soundPaths.put(SoundType.BUTTON_CLICK, "SFX/BtnClick.mp3");
+        soundPaths.put(SoundType.NAVBAR_SELECT, "SFX/SelectNavbar.mp3");
         soundPaths.put(SoundType.TOWER_SHOOT, "SFX/TowerShoot.mp3");
-        soundPaths.put(SoundType.AOE_SHOOT, "assets/SFX/TowerAoe.mp3");
-        soundPaths.put(SoundType.SLOW_SHOOT, "assets/SFX/WindPassing.mp3");
-        soundPaths.put(SoundType.ENEMY_SHOOT, "assets/SFX/EnemyShoot.mp3");
-        soundPaths.put(SoundType.BOSS_SHOOT, "assets/SFX/BossShoot.mp3");
-        soundPaths.put(SoundType.ENEMY_DEATH, "assets/SFX/EnemyDeath.mp3");
-        soundPaths.put(SoundType.TRAP_ATTACK, "assets/SFX/TrapSpike.mp3");
-        soundPaths.put(SoundType.TRAP_SLOW, "assets/SFX/TrapSlow.mp3");
-        soundPaths.put(SoundType.TRAP_EXPLOSION, "assets/SFX/TrapBomb.mp3");
-        soundPaths.put(SoundType.TOWER_BREAK, "assets/SFX/TowerBreak.mp3");
+        soundPaths.put(SoundType.AOE_SHOOT, "SFX/TowerAoe.mp3");
+        soundPaths.put(SoundType.SLOW_SHOOT, "SFX/WindPassing.mp3");
+        soundPaths.put(SoundType.ENEMY_SHOOT, "SFX/EnemyShoot.mp3");
+        soundPaths.put(SoundType.BOSS_SHOOT, "SFX/BossShoot.mp3");
+        soundPaths.put(SoundType.ENEMY_DEATH, "SFX/EnemyDeath.mp3");
+        soundPaths.put(SoundType.TRAP_ATTACK, "SFX/TrapSpike.mp3");
+        soundPaths.put(SoundType.TRAP_SLOW, "SFX/TrapSlow.mp3");
+        soundPaths.put(SoundType.TRAP_EXPLOSION, "SFX/TrapBomb.mp3");
+        soundPaths.put(SoundType.TOWER_BREAK, "SFX/TowerBreak.mp3");
 
         // Music file paths
-        musicPaths.put(MusicType.MAIN_MENU, "assets/Music/MainSound.mp3");
-        musicPaths.put(MusicType.TOWER_DEFENSE, "assets/Music/Backsound.mp3");
-        musicPaths.put(MusicType.BOSS_BATTLE, "assets/Music/BossMusic.mp3");
-        musicPaths.put(MusicType.VICTORY, "assets/Music/VictoryMusic.mp3");
-        musicPaths.put(MusicType.DEFEAT, "assets/Music/DefeatMusic.mp3");
+        musicPaths.put(MusicType.MAIN_MENU, "Music/MainSound.mp3");
+        musicPaths.put(MusicType.TOWER_DEFENSE, "Music/Backsound.mp3");
+        musicPaths.put(MusicType.BOSS_BATTLE, "Music/BossMusic.mp3");
+        musicPaths.put(MusicType.VICTORY, "Music/VictoryMusic.mp3");
+        musicPaths.put(MusicType.DEFEAT, "Music/DefeatMusic.mp3");
 
 
         // Default volume multipliers
@@ -124,7 +124,7 @@ public class AudioManager {
     }
 
     /**
-     * Initialize AudioManager - load semua audio assets
+     * Initialize AudioManager - pinjam semua audio dari Assets (instan jika group "boot" sudah di-load)
      */
     public static void initialize() {
         if (isInitialized) {
@@ -158,8 +158,7 @@ public class AudioManager {
      */
     private static Sound loadSoundSafe(String filePath, String soundName) {
         try {
-            Sound sound = Gdx.audio.newSound(Gdx.files.internal(filePath));
-            return sound;
+            return Assets.sound(filePath);
         } catch (Exception e) {
             System.err.println("❌ Failed to load " + soundName + " from " + filePath + ": " + e.getMessage());
             return null;
@@ -171,7 +170,7 @@ public class AudioManager {
      */
     private static Music loadMusicSafe(String filePath, String musicName) {
         try {
-            Music music = Gdx.audio.newMusic(Gdx.files.internal(filePath));
+            Music music = Assets.borrow(filePath, Music.class);
             music.setLooping(true);
             return music;
         } catch (Exception e) {
@@ -411,29 +410,25 @@ public class AudioManager {
 
 
         try {
-            // Dispose all sounds
+            // Kembalikan semua sound ke Assets
             sounds.forEach((type, sound) -> {
                 if (sound != null) {
-                    try {
-                        sound.dispose();
-                    } catch (Exception e) {
-                        System.err.println("❌ Error disposing " + type.name() + ": " + e.getMessage());
-                    }
+                    Assets.release(soundPaths.get(type));
                 }
             });
             sounds.clear();
 
-            // Dispose all musics
+            // Kembalikan semua music ke Assets
             musics.forEach((type, music) -> {
                 if (music != null) {
                     try {
                         if (music.isPlaying()) {
                             music.stop();
                         }
-                        music.dispose();
                     } catch (Exception e) {
-                        System.err.println("❌ Error disposing " + type.name() + ": " + e.getMessage());
+                        System.err.println("❌ Error stopping " + type.name() + ": " + e.getMessage());
                     }
+                    Assets.release(musicPaths.get(type));
                 }
             });
             musics.clear();
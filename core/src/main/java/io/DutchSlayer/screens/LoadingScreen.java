@@ -8,32 +8,61 @@ import com.badlogic.gdx.graphics.g2d.BitmapFont; // Import BitmapFont
 import com.badlogic.gdx.graphics.Color; // Import Color
 import com.badlogic.gdx.scenes.scene2d.Stage;
 import com.badlogic.gdx.scenes.scene2d.ui.Label;
+import com.badlogic.gdx.scenes.scene2d.ui.ProgressBar;
 import com.badlogic.gdx.scenes.scene2d.ui.Skin;
+import com.badlogic.gdx.scenes.scene2d.utils.Drawable;
+import com.badlogic.gdx.utils.GdxRuntimeException;
 import com.badlogic.gdx.utils.viewport.FitViewport;
 import io.DutchSlayer.Main;
 
 import io.DutchSlayer.attack.screens.GameScreen;
 import io.DutchSlayer.defend.screens.TowerDefenseScreen;
 
+import io.DutchSlayer.utils.AssetManifest;
+import io.DutchSlayer.utils.Assets;
 import io.DutchSlayer.utils.Constant;
 
+import java.util.function.Supplier;
+
+/**
+ * Memuat manifest asset screen berikutnya secara async (Assets.update dengan budget per frame),
+ * menampilkan progress bar, lalu membuat screen tujuan setelah semua asset siap.
+ *
+ * Selama loading, LoadingScreen memegang satu pinjaman untuk setiap asset di manifest.
+ * Pinjaman itu baru dikembalikan setelah screen tujuan dibuat (dan meminjam asset-nya sendiri),
+ * jadi asset tidak sempat ter-unload di antaranya.
+ */
 public class LoadingScreen implements Screen {
+    private static final int LOAD_BUDGET_MS = 12;       // Sisa frame 60 fps untuk render progress
+    private static final String BACKGROUND = "backgrounds/Main Menu.png";
 
     private final Main game;
-    private final int stageNumber;
-    private final boolean isDefendMode;
+    private final AssetManifest manifest;
+    private final Supplier<Screen> nextScreen;
 
     private Stage stage;
     private Skin skin;
     private Label loadingLabel;
+    private ProgressBar progressBar;
     private Texture backgroundTexture;
 
+    private boolean queued = false;
     private boolean gameScreenInitialized = false;
 
     public LoadingScreen(Main game, int stageNumber, boolean isDefendMode) {
+        this(game,
+            isDefendMode ? TowerDefenseScreen.manifest(stageNumber) : GameScreen.manifest(stageNumber),
+            () -> isDefendMode ? new TowerDefenseScreen(game, stageNumber) : new GameScreen(game, stageNumber));
+    }
+
+    /**
+     * @param manifest   asset yang di-load sebelum nextScreen dipanggil
+     * @param nextScreen pembuat screen tujuan, dipanggil sekali setelah manifest selesai
+     */
+    public LoadingScreen(Main game, AssetManifest manifest, Supplier<Screen> nextScreen) {
         this.game = game;
-        this.stageNumber = stageNumber;
-        this.isDefendMode = isDefendMode;
+        this.manifest = manifest;
+        this.nextScreen = nextScreen;
     }
 
     @Override
@@ -43,7 +72,7 @@ public class LoadingScreen implements Screen {
         Gdx.input.setInputProcessor(stage);
 
         skin = new Skin(Gdx.files.internal("uiskin/uiskin.json"));
-        backgroundTexture = new Texture(Gdx.files.internal("backgrounds/Main Menu.png"));
+        backgroundTexture = Assets.texture(BACKGROUND);
 
         // Mengambil font default dari skin untuk diubah warnanya
         BitmapFont defaultFont = skin.getFont("default-font");
@@ -72,9 +101,47 @@ public class LoadingScreen implements Screen {
         );
         stage.addActor(loadingLabel);
 
+        // Progress bar: isi coklat di atas latar gelap transparan, dari drawable "white" uiskin
+        ProgressBar.ProgressBarStyle barStyle = new ProgressBar.ProgressBarStyle();
+        barStyle.background = bar(new Color(0f, 0f, 0f, 0.35f));
+        barStyle.knobBefore = bar(darkBrown);
+        progressBar = new ProgressBar(0f, 1f, 0.001f, false, barStyle);
+        progressBar.setAnimateDuration(0.1f);
+        progressBar.setSize(Constant.SCREEN_WIDTH * 0.4f, 18f);
+        progressBar.setPosition(
+            (Constant.SCREEN_WIDTH - progressBar.getWidth()) / 2,
+            loadingLabel.getY() - 60f
+        );
+        stage.addActor(progressBar);
+
+        if (!queued) {
+            Assets.queue(manifest);
+            queued = true;
+            Gdx.app.log("LoadingScreen", "Memuat " + manifest.name + " (" + manifest.size() + " asset)");
+        }
         gameScreenInitialized = false;
     }
 
+    private Drawable bar(Color color) {
+        Drawable drawable = skin.newDrawable("white", color);
+        drawable.setMinHeight(18f);
+        drawable.setMinWidth(0f);
+        return drawable;
+    }
+
+    /**
+     * Satu langkah loading dalam budget, error satu asset tidak menghentikan sisanya
+     * (asset itu akan dicoba lagi secara sinkron saat dipinjam screen tujuan)
+     */
+    private boolean updateLoading() {
+        try {
+            return Assets.update(LOAD_BUDGET_MS);
+        } catch (GdxRuntimeException e) {
+            Gdx.app.error("LoadingScreen", "Gagal memuat asset", e);
+            return false;
+        }
+    }
+
     @Override
     public void render(float delta) {
         Gdx.gl.glClearColor(0.1f, 0.1f, 0.15f, 1);
@@ -84,17 +151,16 @@ public class LoadingScreen implements Screen {
         game.batch.draw(backgroundTexture, 0, 0, Constant.SCREEN_WIDTH, Constant.SCREEN_HEIGHT);
         game.batch.end();
 
+        boolean loaded = updateLoading();
+        progressBar.setValue(loaded ? 1f : manifest.loadedFraction());
+
         stage.act(delta);
         stage.draw();
 
-        if (!gameScreenInitialized) {
+        if (loaded && !gameScreenInitialized) {
             gameScreenInitialized = true;
             Gdx.app.postRunnable(() -> {
-                if (isDefendMode) {
-                    game.setScreen(new TowerDefenseScreen(game, stageNumber));
-                } else {
-                    game.setScreen(new GameScreen(game, stageNumber));
-                }
+                game.setScreen(nextScreen.get());
                 dispose();
             });
         }
@@ -123,7 +189,13 @@ public class LoadingScreen implements Screen {
             skin.dispose();
         }
         if (backgroundTexture != null) {
-            backgroundTexture.dispose();
+            Assets.release(BACKGROUND);
+            backgroundTexture = null;
+        }
+        // Screen tujuan sudah meminjam sendiri, pinjaman loading dikembalikan
+        if (queued) {
+            Assets.release(manifest);
+            queued = false;
         }
     }
 }
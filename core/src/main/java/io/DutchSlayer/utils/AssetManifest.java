@@ -0,0 +1,185 @@
+package io.DutchSlayer.utils;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.audio.Music;
+import com.badlogic.gdx.audio.Sound;
+import com.badlogic.gdx.files.FileHandle;
+import com.badlogic.gdx.graphics.Texture;
+import com.badlogic.gdx.graphics.g2d.TextureAtlas;
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.JsonReader;
+import com.badlogic.gdx.utils.JsonValue;
+import com.badlogic.gdx.utils.ObjectSet;
+
+/**
+ * Daftar asset (path + tipe) yang dibutuhkan satu stage/mode, di-load async oleh LoadingScreen
+ * lewat Assets.queue() sebelum screen tujuan dibuat.
+ *
+ * Isi group berasal dari assets/manifest.json yang ditulis task Gradle generateAssetList
+ * (definisi group ada di assetGroups build.gradle). Group dependency dimasukkan lebih dulu,
+ * lalu atlas, lalu file terpisah. Jika manifest.json belum di-generate, group kosong dan
+ * screen tujuan memuat asset-nya sendiri secara sinkron seperti dulu.
+ */
+public class AssetManifest {
+    private static final String INDEX_FILE = "manifest.json";
+
+    public static class Entry {
+        public final String path;
+        public final Class<?> type;
+        public final long weight;           // Perkiraan biaya load (byte decode), untuk progress bar
+
+        Entry(String path, Class<?> type, long weight) {
+            this.path = path;
+            this.type = type;
+            this.weight = weight;
+        }
+    }
+
+    public final String name;
+    private final Array<Entry> entries;
+    private final ObjectSet<String> paths;
+    private long totalWeight = 0L;
+
+    public AssetManifest(String name) {
+        this(name, 16);
+    }
+
+    public AssetManifest(String name, int capacity) {
+        this.name = name;
+        this.entries = new Array<>(capacity);
+        this.paths = new ObjectSet<>(capacity);
+    }
+
+    /**
+     * Tambah asset, path yang sama hanya dicatat sekali
+     */
+    public AssetManifest add(String path, Class<?> type, long weight) {
+        if (path == null || !paths.add(path)) return this;
+        entries.add(new Entry(path, type, Math.max(1L, weight)));
+        totalWeight += Math.max(1L, weight);
+        return this;
+    }
+
+    /**
+     * Atlas sprite satu mode sesuai QualityTier (tidak ditambahkan jika belum di-generate)
+     */
+    public AssetManifest atlas(String atlasName, long weight) {
+        return add(Atlases.path(atlasName), TextureAtlas.class, weight);
+    }
+
+    public Array<Entry> getEntries() {
+        return entries;
+    }
+
+    public int size() {
+        return entries.size;
+    }
+
+    /**
+     * Bagian manifest yang sudah ter-load, ditimbang dengan weight (texture besar lebih berat dari sound)
+     */
+    public float loadedFraction() {
+        if (totalWeight == 0L) return 1f;
+        long loaded = 0L;
+        for (Entry entry : entries) {
+            if (Assets.manager().isLoaded(entry.path)) loaded += entry.weight;
+        }
+        return (float) ((double) loaded / totalWeight);
+    }
+
+    /* ===== MANIFEST.JSON ===== */
+
+    private static JsonValue index;
+    private static boolean indexRead = false;
+
+    /**
+     * Manifest untuk group di manifest.json beserta semua dependency-nya (dependency lebih dulu)
+     */
+    public static AssetManifest group(String groupName) {
+        JsonValue root = index();
+        if (root == null) return new AssetManifest(groupName, 0);
+
+        AssetManifest manifest = new AssetManifest(groupName, root.get("assets").size);
+        addGroup(manifest, root, groupName, new ObjectSet<>());
+        return manifest;
+    }
+
+    private static void addGroup(AssetManifest manifest, JsonValue root, String groupName, ObjectSet<String> visited) {
+        if (!visited.add(groupName)) return;
+
+        JsonValue group = root.get("groups").get(groupName);
+        if (group == null) {
+            Gdx.app.error("AssetManifest", "Group tidak ada di " + INDEX_FILE + ": " + groupName);
+            return;
+        }
+
+        for (JsonValue depend = group.get("depends").child; depend != null; depend = depend.next) {
+            addGroup(manifest, root, depend.asString(), visited);
+        }
+
+        JsonValue assets = root.get("assets");
+        for (JsonValue atlas = group.get("atlases").child; atlas != null; atlas = atlas.next) {
+            manifest.atlas(atlas.asString(), atlasWeight(assets, atlas.asString()));
+        }
+
+        for (JsonValue path = group.get("assets").child; path != null; path = path.next) {
+            JsonValue info = assets.get(path.asString());
+            Class<?> type = info != null ? typeOf(info.getString("type", "")) : null;
+            if (type != null) {
+                manifest.add(path.asString(), type, weightOf(info));
+            }
+        }
+    }
+
+    private static Class<?> typeOf(String type) {
+        return switch (type) {
+            case "texture" -> Texture.class;
+            case "sound" -> Sound.class;
+            case "music" -> Music.class;
+            default -> null;            // "other" (font, skin json, dll) tidak lewat Assets
+        };
+    }
+
+    /**
+     * Texture ditimbang ukuran decode RGBA, audio ukuran file
+     */
+    private static long weightOf(JsonValue info) {
+        if (info.has("width")) {
+            return info.getLong("width") * info.getLong("height") * 4L;
+        }
+        return info.getLong("size", 1L);
+    }
+
+    /**
+     * Batas atas: jumlah decode semua sprite anggota atlas (varian tier lebih kecil)
+     */
+    private static long atlasWeight(JsonValue assets, String atlasName) {
+        long weight = 0L;
+        for (JsonValue info = assets.child; info != null; info = info.next) {
+            if (atlasName.equals(info.getString("atlas", null))) weight += weightOf(info);
+        }
+        return weight;
+    }
+
+    /**
+     * manifest.json dibaca sekali. Registry Assets di-pre-size sesuai jumlah asset.
+     */
+    private static JsonValue index() {
+        if (indexRead) return index;
+        indexRead = true;
+
+        FileHandle file = Gdx.files.internal(INDEX_FILE);
+        if (!file.exists()) {
+            Gdx.app.log("AssetManifest", INDEX_FILE + " belum di-generate (gradlew generateAssetList), asset dimuat sinkron");
+            return null;
+        }
+        try {
+            index = new JsonReader().parse(file);
+            Assets.ensureCapacity(index.get("assets").size);
+        } catch (Exception e) {
+            Gdx.app.error("AssetManifest", "Gagal membaca " + INDEX_FILE, e);
+            index = null;
+        }
+        return index;
+    }
+}
@@ -0,0 +1,164 @@
+package io.DutchSlayer.utils;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.assets.AssetManager;
+import com.badlogic.gdx.audio.Sound;
+import com.badlogic.gdx.graphics.Texture;
+import com.badlogic.gdx.utils.GdxRuntimeException;
+import com.badlogic.gdx.utils.ObjectIntMap;
+
+/**
+ * Registry asset bersama di atas AssetManager, dengan reference count per path.
+ *
+ * Entity meminjam handle lewat borrow()/texture()/sound() dan mengembalikannya dengan release()
+ * saat dispose (atau saat dibuang dari list). Asset hanya di-decode saat peminjam pertama datang
+ * dan baru di-unload setelah peminjam terakhir melepasnya, jadi 40 enemy berbagi satu Sound/Texture
+ * yang sama. Handle hasil borrow TIDAK boleh di-dispose oleh pemanggil.
+ *
+ * queue() meminjam tanpa menunggu: asset masuk antrean AssetManager dan dikerjakan sedikit demi
+ * sedikit oleh update(budget) di LoadingScreen. borrow() untuk asset yang masih antre cukup
+ * menyelesaikan asset itu saja.
+ *
+ * Setiap path di registry hanya satu kali manager.load() (saat count 0 -> 1) dan satu kali
+ * manager.unload() (saat count kembali 0), ref count internal AssetManager tidak dipakai.
+ */
+public final class Assets {
+    private static AssetManager manager;
+    private static final ObjectIntMap<String> refs = new ObjectIntMap<>();
+
+    private Assets() {}
+
+    public static AssetManager manager() {
+        if (manager == null) {
+            manager = new AssetManager();
+        }
+        return manager;
+    }
+
+    /**
+     * Pinjam asset di path, load sinkron jika belum ada. Setiap borrow harus dibalas satu release.
+     *
+     * @throws GdxRuntimeException jika file tidak ada atau gagal di-decode
+     */
+    public static synchronized <T> T borrow(String path, Class<T> type) {
+        if (refs.get(path, 0) == 0 && !Gdx.files.internal(path).exists()) {
+            throw new GdxRuntimeException("File not found: " + path);
+        }
+
+        acquire(path, type);
+        AssetManager assets = manager();
+        if (!assets.isLoaded(path, type)) {
+            try {
+                assets.finishLoadingAsset(path);
+            } catch (RuntimeException e) {
+                release(path);
+                throw e;
+            }
+        }
+        return assets.get(path, type);
+    }
+
+    public static Texture texture(String path) {
+        return borrow(path, Texture.class);
+    }
+
+    public static Sound sound(String path) {
+        return borrow(path, Sound.class);
+    }
+
+    /**
+     * Pinjam asset tanpa menunggu selesai load (dikerjakan oleh update()).
+     * Mengembalikan false dan tidak menambah count jika file tidak ada.
+     */
+    public static synchronized boolean queue(String path, Class<?> type) {
+        if (refs.get(path, 0) == 0 && !Gdx.files.internal(path).exists()) {
+            Gdx.app.error("Assets", "File tidak ada, dilewati: " + path);
+            return false;
+        }
+        acquire(path, type);
+        return true;
+    }
+
+    /**
+     * Antrekan semua isi manifest, pasangannya release(manifest)
+     */
+    public static void queue(AssetManifest manifest) {
+        for (AssetManifest.Entry entry : manifest.getEntries()) {
+            queue(entry.path, entry.type);
+        }
+    }
+
+    private static void acquire(String path, Class<?> type) {
+        // Kedua: load sebelumnya gagal, AssetManager sudah membuang catatannya
+        if (refs.getAndIncrement(path, 0, 1) == 0 || !manager().contains(path)) {
+            manager().load(path, type);
+        }
+    }
+
+    /**
+     * Kerjakan antrean selama kira-kira budgetMs (decode di thread loader, upload GPU
+     * satu asset per langkah di thread GL). True jika antrean sudah kosong.
+     */
+    public static synchronized boolean update(int budgetMs) {
+        return manager().update(budgetMs);
+    }
+
+    /**
+     * Progress antrean saat ini, 0..1
+     */
+    public static synchronized float progress() {
+        return manager().getProgress();
+    }
+
+    /**
+     * Kembalikan satu pinjaman, asset di-unload saat count mencapai 0
+     */
+    public static synchronized void release(String path) {
+        int count = refs.get(path, 0);
+        if (count <= 0) {
+            Gdx.app.error("Assets", "Release tanpa borrow: " + path);
+            return;
+        }
+
+        if (count == 1) {
+            refs.remove(path, 0);
+            if (manager != null && manager.contains(path)) {
+                manager.unload(path);
+            }
+        } else {
+            refs.put(path, count - 1);
+        }
+    }
+
+    /**
+     * Kembalikan semua pinjaman dari queue(manifest). File yang dilewati saat queue juga
+     * dilewati di sini.
+     */
+    public static synchronized void release(AssetManifest manifest) {
+        for (AssetManifest.Entry entry : manifest.getEntries()) {
+            if (refs.get(entry.path, 0) > 0) release(entry.path);
+        }
+    }
+
+    /**
+     * Siapkan kapasitas registry untuk jumlah asset yang diketahui (dari manifest.json)
+     */
+    public static synchronized void ensureCapacity(int assetCount) {
+        refs.ensureCapacity(assetCount);
+    }
+
+    public static synchronized int refCount(String path) {
+        return refs.get(path, 0);
+    }
+
+    /**
+     * Buang semua asset sekaligus (keluar aplikasi)
+     */
+    public static synchronized void dispose() {
+        refs.clear();
+        if (manager != null) {
+            manager.dispose();
+            manager = null;
+        }
+    }
+}
@@ -0,0 +1,144 @@
+package io.DutchSlayer.utils;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.files.FileHandle;
+import com.badlogic.gdx.graphics.Texture;
+import com.badlogic.gdx.graphics.g2d.TextureAtlas;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
+import com.badlogic.gdx.utils.ObjectMap;
+
+/**
+ * Akses sprite entity lewat TextureAtlas hasil task Gradle packTextures (assets/atlas/&lt;tier&gt;/&lt;nama&gt;.atlas).
+ *
+ * Nama region = path asset relatif tanpa ".png", misal "player/player_run1" atau
+ * "Defend/Enemy/enemyBasic/EnemyB1". Semua sprite satu mode ada di page atlas yang sama,
+ * jadi SpriteBatch tidak flush setiap ganti sprite.
+ *
+ * Varian yang dipakai mengikuti QualityTier.current(). Sprite di varian sudah diperkecil, tapi
+ * ukuran gambar di dunia tidak berubah karena renderer selalu memberi width/height sendiri.
+ *
+ * Jika file atlas belum di-generate atau region tidak ada, PNG aslinya dimuat sebagai Texture
+ * terpisah (sekali per path) supaya game tetap jalan, hanya tanpa keuntungan batching.
+ * Atlas dan texture fallback dipinjam dari Assets oleh kelas ini, pemanggil tidak boleh dispose region-nya.
+ */
+public final class Atlases {
+    public static final String DEFEND = "defend";
+    public static final String ATTACK = "attack";
+
+    private static final ObjectMap<String, TextureAtlas> atlases = new ObjectMap<>();
+    private static final ObjectMap<String, String> atlasPaths = new ObjectMap<>();
+    private static final ObjectMap<String, ObjectMap<String, Texture>> fallbacks = new ObjectMap<>();
+
+    private Atlases() {}
+
+    /**
+     * Region baru (copy) untuk sprite di atlas, aman di-flip oleh pemanggil.
+     * Mengembalikan null jika atlas dan PNG aslinya sama-sama tidak ada.
+     */
+    public static TextureRegion region(String atlasName, String name) {
+        TextureAtlas atlas = atlas(atlasName);
+        if (atlas != null) {
+            TextureAtlas.AtlasRegion region = atlas.findRegion(name);
+            if (region != null) return new TextureRegion(region);
+        }
+
+        Texture texture = fallback(atlasName, name);
+        return texture != null ? new TextureRegion(texture) : null;
+    }
+
+    /**
+     * True jika sprite dilayani atlas (bukan fallback texture terpisah)
+     */
+    public static boolean isPacked(String atlasName) {
+        return atlas(atlasName) != null;
+    }
+
+    private static TextureAtlas atlas(String atlasName) {
+        if (atlases.containsKey(atlasName)) return atlases.get(atlasName);
+
+        TextureAtlas atlas = null;
+        FileHandle file = Constant.NO_ATLAS ? null : find(atlasName, QualityTier.current());
+        if (Constant.NO_ATLAS) {
+            Gdx.app.log("Atlases", "Atlas dimatikan (dutchslayer.noAtlas), pakai texture terpisah");
+        } else if (file != null) {
+            try {
+                atlas = Assets.borrow(file.path(), TextureAtlas.class);
+                atlasPaths.put(atlasName, file.path());
+                Gdx.app.log("Atlases", "Load " + file.path());
+            } catch (Exception e) {
+                Gdx.app.error("Atlases", "Gagal load " + file.path() + ", pakai texture terpisah", e);
+            }
+        } else {
+            Gdx.app.log("Atlases", "atlas/*/" + atlasName + ".atlas belum di-generate (gradlew packTextures), pakai texture terpisah");
+        }
+        atlases.put(atlasName, atlas);  // null juga disimpan supaya tidak dicek ulang
+        return atlas;
+    }
+
+    /**
+     * Path atlas yang akan dipakai region(), untuk di-load async lebih dulu (AssetManifest).
+     * Null jika atlas dimatikan atau belum di-generate.
+     */
+    public static String path(String atlasName) {
+        if (Constant.NO_ATLAS) return null;
+        FileHandle file = find(atlasName, QualityTier.current());
+        return file != null ? file.path() : null;
+    }
+
+    /**
+     * File atlas untuk tier yang diminta, jika tidak ada coba tier lain (terdekat lebih dulu)
+     */
+    private static FileHandle find(String atlasName, QualityTier preferred) {
+        QualityTier[] tiers = QualityTier.values();
+        for (int distance = 0; distance < tiers.length; distance++) {
+            for (int sign = -1; sign <= 1; sign += 2) {
+                int index = preferred.ordinal() + distance * sign;
+                if (index < 0 || index >= tiers.length || (distance == 0 && sign > 0)) continue;
+
+                FileHandle file = Gdx.files.internal("atlas/" + tiers[index].folder + "/" + atlasName + ".atlas");
+                if (file.exists()) return file;
+            }
+        }
+        return null;
+    }
+
+    private static Texture fallback(String atlasName, String name) {
+        ObjectMap<String, Texture> textures = fallbacks.get(atlasName);
+        if (textures == null) {
+            textures = new ObjectMap<>();
+            fallbacks.put(atlasName, textures);
+        }
+
+        Texture texture = textures.get(name);
+        if (texture == null && !textures.containsKey(name)) {
+            try {
+                texture = Assets.texture(name + ".png");
+            } catch (Exception e) {
+                Gdx.app.error("Atlases", "Gagal load " + name + ".png", e);
+            }
+            textures.put(name, texture);
+        }
+        return texture;
+    }
+
+    /**
+     * Lepas atlas satu mode beserta texture fallback-nya (dispose screen mode tersebut)
+     */
+    public static void unload(String atlasName) {
+        atlases.remove(atlasName);
+        String path = atlasPaths.remove(atlasName);
+        if (path != null) Assets.release(path);
+
+        ObjectMap<String, Texture> textures = fallbacks.remove(atlasName);
+        if (textures != null) {
+            for (ObjectMap.Entry<String, Texture> entry : textures) {
+                if (entry.value != null) Assets.release(entry.key + ".png");
+            }
+        }
+    }
+
+    public static void dispose() {
+        unload(DEFEND);
+        unload(ATTACK);
+    }
+}
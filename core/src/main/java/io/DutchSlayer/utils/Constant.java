@@ -11,10 +11,23 @@ public class Constant {
     public static final float PLAYER_HEIGHT = 96f;
     public static final float PLAYER_SPEED = 300f;
 
+    // === Simulation ===
+    public static final int SIMULATION_TICK_RATE = 60;    // Logic step per detik (FixedTimestep)
+    public static final int MAX_STEPS_PER_FRAME = 5;      // Batas catch-up agar tidak spiral of death
+
+    // === Debug ===
+    // -Ddutchslayer.renderStats=true : log draw call & texture bind per frame (RenderStats)
+    // -Ddutchslayer.noAtlas=true     : abaikan atlas, pakai texture terpisah (pembanding sebelum atlas)
+    public static final boolean RENDER_STATS = Boolean.getBoolean("dutchslayer.renderStats");
+    public static final boolean NO_ATLAS = Boolean.getBoolean("dutchslayer.noAtlas");
+
     // === Map ===
     public static final float MAP_WIDTH = 5000f;         // Lebar total map
     public static final float WALL_WIDTH = 32f;          // Wall kiri
     public static final float TERRAIN_HEIGHT = 84f;      // Tinggi tanah di bawah
+    // Enemy attack mode di luar jarak ini dari tepi view tidur (EnemyActivation). Harus lebih jauh
+    // dari jarak lepas chase enemy (15x lebar enemy dari player) dikurangi setengah layar.
+    public static final float ENEMY_ACTIVATION_RADIUS = 640f;
 
     // === Tree Randomization ===
     public static final int TREE_MIN_COUNT = 12;
@@ -0,0 +1,65 @@
+package io.DutchSlayer.utils;
+
+/**
+ * Accumulator untuk menjalankan game logic dengan delta tetap, terpisah dari frame rate.
+ *
+ * Pemakaian per frame:
+ * <pre>
+ * int steps = timestep.advance(delta);
+ * for (int i = 0; i < steps; i++) logic.update(timestep.getStep());
+ * render(timestep.getAlpha());
+ * </pre>
+ * Alpha (0..1) adalah sisa waktu di accumulator, dipakai renderer untuk interpolasi
+ * antara posisi step sebelumnya dan posisi sekarang.
+ */
+public class FixedTimestep {
+    private float step;
+    private final int maxStepsPerFrame;
+    private float accumulator = 0f;
+    private float alpha = 0f;
+
+    public FixedTimestep() {
+        this(Constant.SIMULATION_TICK_RATE, Constant.MAX_STEPS_PER_FRAME);
+    }
+
+    public FixedTimestep(int tickRate, int maxStepsPerFrame) {
+        setTickRate(tickRate);
+        this.maxStepsPerFrame = maxStepsPerFrame;
+    }
+
+    /**
+     * Tambah waktu frame ke accumulator dan kembalikan jumlah step yang harus dijalankan.
+     * Jika frame terlalu lama (hitch, window di-drag), step dibatasi maxStepsPerFrame
+     * dan sisa waktu dibuang supaya tidak terus tertinggal (spiral of death).
+     */
+    public int advance(float frameDelta) {
+        accumulator += frameDelta;
+
+        int steps = (int) (accumulator / step);
+        if (steps > maxStepsPerFrame) {
+            steps = maxStepsPerFrame;
+            accumulator = 0f;
+        } else {
+            accumulator -= steps * step;
+        }
+
+        alpha = accumulator / step;
+        return steps;
+    }
+
+    public void setTickRate(int tickRate) {
+        if (tickRate <= 0) {
+            throw new IllegalArgumentException("Tick rate harus > 0: " + tickRate);
+        }
+        this.step = 1f / tickRate;
+    }
+
+    /** Buang sisa waktu, dipanggil saat resume/pindah screen supaya tidak ada burst step */
+    public void reset() {
+        accumulator = 0f;
+        alpha = 0f;
+    }
+
+    public float getStep() { return step; }
+    public float getAlpha() { return alpha; }
+}
@@ -0,0 +1,47 @@
+package io.DutchSlayer.utils;
+
+import com.badlogic.gdx.Gdx;
+
+/**
+ * Varian resolusi sprite yang di-load (folder assets/atlas/&lt;tier&gt;, dibuat task Gradle packTextures).
+ * Setiap tier = ukuran tampil sprite di layar 720p dikali multiplier, jadi layar kecil / mesin low-end
+ * tidak perlu upload PNG resolusi penuh ke GPU.
+ *
+ * Dibaca setiap kali atlas di-load (Atlases): pilihan user di SaveManager jika ada,
+ * selain itu otomatis dari tinggi layar monitor.
+ */
+public enum QualityTier {
+    LOW("low", 1.0f),       // <= 720p
+    MEDIUM("medium", 1.5f), // <= 1080p
+    HIGH("high", 3.0f);     // 1440p - 2160p
+
+    public final String folder;
+    public final float multiplier;  // Harus sama dengan qualityTiers di build.gradle
+
+    QualityTier(String folder, float multiplier) {
+        this.folder = folder;
+        this.multiplier = multiplier;
+    }
+
+    public static QualityTier fromName(String name) {
+        for (QualityTier tier : values()) {
+            if (tier.folder.equalsIgnoreCase(name) || tier.name().equalsIgnoreCase(name)) return tier;
+        }
+        return null;
+    }
+
+    /**
+     * Tier terkecil yang masih setajam layar monitor sekarang
+     */
+    public static QualityTier detect() {
+        int height = Gdx.graphics.getDisplayMode().height;
+        if (height <= 720 * LOW.multiplier) return LOW;
+        if (height <= 720 * MEDIUM.multiplier) return MEDIUM;
+        return HIGH;
+    }
+
+    public static QualityTier current() {
+        QualityTier saved = SaveManager.getQualityTier();
+        return saved != null ? saved : detect();
+    }
+}
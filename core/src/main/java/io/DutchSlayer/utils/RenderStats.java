@@ -0,0 +1,82 @@
+package io.DutchSlayer.utils;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.graphics.profiling.GLProfiler;
+
+/**
+ * Hitung draw call dan texture bind per frame lewat GLProfiler, di-log rata-ratanya setiap interval.
+ * Hanya aktif jika Constant.RENDER_STATS (-Ddutchslayer.renderStats=true), selain itu semua method no-op.
+ *
+ * Pembanding atlas: jalankan sekali dengan -Ddutchslayer.noAtlas=true (texture terpisah)
+ * dan sekali tanpa, lalu bandingkan angka di log untuk scene yang sama.
+ */
+public class RenderStats {
+    private static final float LOG_INTERVAL = 2f;
+
+    private final String tag;
+    private final GLProfiler profiler;
+
+    private float timer = 0f;
+    private int frames = 0;
+    private long drawCalls = 0;
+    private long textureBindings = 0;
+    private int maxDrawCalls = 0;
+    private long batchFlushes = 0;
+    private long shaderSwitches = 0;
+    private boolean queueRecorded = false;
+
+    public RenderStats(String tag) {
+        this.tag = tag;
+        this.profiler = Constant.RENDER_STATS ? new GLProfiler(Gdx.graphics) : null;
+        if (profiler != null) {
+            profiler.enable();
+            profiler.reset();
+        }
+    }
+
+    /**
+     * Angka dari render queue (attack mode) untuk frame ini, panggil sebelum endFrame()
+     */
+    public void recordQueue(int flushes, int switches) {
+        if (profiler == null) return;
+        batchFlushes += flushes;
+        shaderSwitches += switches;
+        queueRecorded = true;
+    }
+
+    /**
+     * Panggil sekali di akhir render(), setelah semua batch.end()
+     */
+    public void endFrame(float delta) {
+        if (profiler == null) return;
+
+        int calls = profiler.getDrawCalls();
+        drawCalls += calls;
+        textureBindings += profiler.getTextureBindings();
+        maxDrawCalls = Math.max(maxDrawCalls, calls);
+        frames++;
+        profiler.reset();
+
+        timer += delta;
+        if (timer >= LOG_INTERVAL) {
+            String queue = queueRecorded
+                ? String.format(" batch flushes/frame=%.1f shader switches/frame=%.1f",
+                    (float) batchFlushes / frames, (float) shaderSwitches / frames)
+                : "";
+            Gdx.app.log(tag, String.format("atlas=%s draw calls/frame=%.1f (max %d) texture binds/frame=%.1f",
+                Constant.NO_ATLAS ? "off" : "on",
+                (float) drawCalls / frames, maxDrawCalls, (float) textureBindings / frames) + queue);
+            timer = 0f;
+            frames = 0;
+            drawCalls = 0;
+            textureBindings = 0;
+            maxDrawCalls = 0;
+            batchFlushes = 0;
+            shaderSwitches = 0;
+        }
+    }
+
+    public void dispose() {
+        if (profiler != null) profiler.disable();
+    }
+}
@@ -8,6 +8,7 @@ public class SaveManager {
 
     private static final String PREFS_NAME = "game_save";
     private static final String MAX_STAGE_KEY = "max_stage";
+    private static final String QUALITY_TIER_KEY = "quality_tier";
 
     public static int getUnlockedStage() {
         Preferences prefs = Gdx.app.getPreferences(PREFS_NAME);
@@ -22,4 +23,25 @@ public class SaveManager {
             prefs.flush();
         }
     }
+
+    /**
+     * Tier sprite pilihan user, null = otomatis dari resolusi layar (QualityTier.detect)
+     */
+    public static QualityTier getQualityTier() {
+        Preferences prefs = Gdx.app.getPreferences(PREFS_NAME);
+        return QualityTier.fromName(prefs.getString(QUALITY_TIER_KEY, ""));
+    }
+
+    /**
+     * Berlaku saat atlas di-load berikutnya (masuk mode/screen baru)
+     */
+    public static void setQualityTier(QualityTier tier) {
+        Preferences prefs = Gdx.app.getPreferences(PREFS_NAME);
+        if (tier == null) {
+            prefs.remove(QUALITY_TIER_KEY);
+        } else {
+            prefs.putString(QUALITY_TIER_KEY, tier.folder);
+        }
+        prefs.flush();
+    }
 }
@@ -0,0 +1,92 @@
+package io.DutchSlayer.attack;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.Input;
+import com.badlogic.gdx.backends.headless.HeadlessFiles;
+import com.badlogic.gdx.backends.headless.mock.audio.MockAudio;
+import com.badlogic.gdx.backends.headless.mock.input.MockInput;
+import io.DutchSlayer.attack.boss.BossBullet;
+import io.DutchSlayer.attack.player.PlayerMovement;
+import io.DutchSlayer.attack.player.PlayerState;
+import io.DutchSlayer.attack.player.weapon.Bullet;
+import io.DutchSlayer.utils.Constant;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Stage yang jauh lebih panjang dari Constant.MAP_WIDTH harus tetap bisa diselesaikan:
+ * player sampai ujung map (jadi semua enemy WorldStreamer sempat bangun) dan peluru
+ * enemy/boss tidak mati di Constant.MAP_WIDTH.
+ */
+public class LongStageSmokeTest {
+    private static final float MAP_WIDTH = Constant.MAP_WIDTH * 2.5f;
+    private static final float STEP = 1f / 60f;
+
+    private PlayerMovement movement;
+
+    @Before
+    public void setUp() {
+        Gdx.files = new HeadlessFiles();
+        Gdx.audio = new MockAudio();
+        // Tombol D ditahan terus (jalan ke kanan)
+        Gdx.input = new MockInput() {
+            @Override
+            public boolean isKeyPressed(int key) {
+                return key == Input.Keys.D;
+            }
+        };
+        movement = new PlayerMovement();
+    }
+
+    @After
+    public void tearDown() {
+        movement.dispose();
+    }
+
+    @Test
+    public void playerReachesEndOfLongStage() {
+        PlayerState state = new PlayerState();
+        state.x = Constant.PLAYER_START_X;
+        state.y = Constant.TERRAIN_HEIGHT;
+        state.mapWidth = MAP_WIDTH;
+
+        int ticks = (int) ((MAP_WIDTH / Constant.PLAYER_SPEED + 1f) / STEP);
+        for (int i = 0; i < ticks; i++) {
+            movement.update(STEP, state);
+        }
+
+        assertEquals(MAP_WIDTH - state.playerWidth, state.x, 0.01f);
+
+        // Kamera mengikuti player (di-clamp ke map), enemy terjauh WorldStreamer ada di mapWidth - 200
+        float viewRight = Math.min(state.x + state.playerWidth / 2f + Constant.SCREEN_WIDTH / 2f, MAP_WIDTH);
+        assertTrue(viewRight + Constant.ENEMY_ACTIVATION_RADIUS >= MAP_WIDTH - 200f);
+    }
+
+    @Test
+    public void enemyBulletsLiveUntilEndOfLongStage() {
+        Bullet bullet = new Bullet(Constant.MAP_WIDTH + 1000f, 200f, 0f, true);
+        bullet.update(STEP, 0f, MAP_WIDTH);
+        assertTrue(bullet.isAlive());
+
+        bullet.reset(MAP_WIDTH + 50f, 200f, 0f, true);
+        bullet.update(STEP, 0f, MAP_WIDTH);
+        assertFalse(bullet.isAlive());
+    }
+
+    @Test
+    public void bossBulletsLiveUntilEndOfLongStage() {
+        BossBullet bullet = new BossBullet();
+        bullet.reset(Constant.MAP_WIDTH + 1000f, 200f, 1f, null);
+        bullet.update(STEP, MAP_WIDTH);
+        assertTrue(bullet.isAlive());
+
+        bullet.reset(MAP_WIDTH, 200f, 1f, null);
+        bullet.update(STEP, MAP_WIDTH);
+        assertFalse(bullet.isAlive());
+    }
+}
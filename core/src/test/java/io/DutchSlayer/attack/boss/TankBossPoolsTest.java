@@ -0,0 +1,116 @@
+package io.DutchSlayer.attack.boss;
+
+import com.badlogic.gdx.graphics.OrthographicCamera;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
+import com.badlogic.gdx.math.Vector2;
+import io.DutchSlayer.attack.screens.logic.ProjectilePools;
+import io.DutchSlayer.utils.Constant;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Boss fight steady-state: TankBoss asli (FSM, fireBurst, lempar granat, loop free peluru/granat)
+ * di-tick headless seperti GameScreen (beginFrame, update, endTick). Setelah warm-up,
+ * tidak boleh ada tick boss fight yang mengalokasi projectile baru.
+ */
+public class TankBossPoolsTest {
+    private static final float STEP = 1f / 60f;
+    private static final float MAP_WIDTH = Constant.MAP_WIDTH;
+    private static final int WARM_UP_TICKS = 40 * 60;
+    private static final int FIGHT_TICKS = 180 * 60;
+
+    private ProjectilePools pools;
+    private HeadlessBoss boss;
+
+    /**
+     * Boss tanpa asset dengan player diam di tanah (tidak pernah mati)
+     */
+    private static class HeadlessBoss extends TankBoss {
+        private final Vector2 player = new Vector2();
+        int explosions = 0;
+
+        HeadlessBoss(float x, float y, OrthographicCamera camera, ProjectilePools pools, float playerX) {
+            super(x, y, camera, pools, MAP_WIDTH);
+            player.set(playerX, Constant.TERRAIN_HEIGHT);
+        }
+
+        @Override
+        public Vector2 getPlayerPosition() {
+            return player;
+        }
+
+        @Override
+        protected float getPlayerX() {
+            return player.x;
+        }
+
+        @Override
+        protected float getPlayerWidth() {
+            return Constant.PLAYER_WIDTH;
+        }
+
+        @Override
+        protected void damagePlayerInExplosion(float x, float y, float radius) {
+            explosions++;
+        }
+    }
+
+    @Before
+    public void setUp() {
+        // Hanya position yang dibaca FSM, camera.update() (native) tidak perlu
+        OrthographicCamera camera = new OrthographicCamera();
+        camera.position.set(MAP_WIDTH / 2f, Constant.SCREEN_HEIGHT / 2f, 0f);
+
+        // Sama dengan GameScreen.spawnTankBoss: boss masuk dari luar tepi kanan layar
+        float spawnX = camera.position.x + Constant.SCREEN_WIDTH / 2f + 100f;
+        pools = new ProjectilePools(new TextureRegion(), new TextureRegion(), null, null);
+        boss = new HeadlessBoss(spawnX, Constant.TERRAIN_HEIGHT, camera, pools, camera.position.x - 300f);
+    }
+
+    @After
+    public void tearDown() {
+        boss.dispose();
+    }
+
+    @Test
+    public void bossFightStopsAllocatingAfterWarmUp() {
+        for (int i = 0; i < WARM_UP_TICKS; i++) {
+            tick();
+        }
+        int warmUpAllocatingTicks = pools.getBossAllocatingTicks();
+        int warmUpAllocations = pools.getTotalAllocations();
+        assertTrue("Boss harus sudah menembak selama warm-up", warmUpAllocations > 0);
+
+        for (int i = WARM_UP_TICKS; i < FIGHT_TICKS; i++) {
+            tick();
+        }
+
+        assertTrue("Boss harus melempar granat yang meledak", boss.explosions > 0);
+        assertEquals(FIGHT_TICKS, pools.getBossTicks());
+        assertEquals("Tick boss fight yang mengalokasi bertambah setelah warm-up (last: "
+                + pools.getLastBossAllocatingTick() + ")",
+            warmUpAllocatingTicks, pools.getBossAllocatingTicks());
+        assertEquals(warmUpAllocations, pools.getTotalAllocations());
+    }
+
+    @Test
+    public void disposeReturnsEveryProjectileToThePools() {
+        for (int i = 0; i < WARM_UP_TICKS; i++) {
+            tick();
+        }
+        boss.dispose();
+        assertEquals(0, boss.getBullets().size);
+        assertEquals(0, boss.getGrenades().size);
+        assertEquals(pools.getTotalAllocations(), pools.getFreeCount());
+    }
+
+    private void tick() {
+        pools.beginFrame();
+        boss.update(STEP);
+        pools.endTick(boss.isAlive());
+    }
+}
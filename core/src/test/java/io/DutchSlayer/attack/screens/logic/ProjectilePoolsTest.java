@@ -0,0 +1,29 @@
+package io.DutchSlayer.attack.screens.logic;
+
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
+import io.DutchSlayer.attack.boss.BossBullet;
+import io.DutchSlayer.attack.player.weapon.Grenade;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+
+/**
+ * Projectile yang di-free dipakai ulang oleh obtain berikutnya. Steady-state boss fight
+ * (TankBoss asli yang menembak dan free) dicek di TankBossPoolsTest.
+ */
+public class ProjectilePoolsTest {
+    private final ProjectilePools pools = new ProjectilePools(new TextureRegion(), new TextureRegion(), null, null);
+
+    @Test
+    public void freedProjectilesAreReused() {
+        BossBullet first = pools.obtainBossBullet(0f, 0f, -1f, false);
+        pools.free(first);
+        assertSame(first, pools.obtainBossBullet(10f, 0f, 1f, true));
+
+        Grenade grenade = pools.obtainGrenade(0f, 0f, 0f, 100f, false, null, null);
+        pools.free(grenade);
+        assertSame(grenade, pools.obtainGrenade(0f, 0f, 1f, 200f, true, null, null));
+        assertEquals(2, pools.getTotalAllocations());
+    }
+}
@@ -0,0 +1,253 @@
+package io.DutchSlayer.defend.ecs;
+
+import com.badlogic.ashley.core.Engine;
+import com.badlogic.ashley.core.Entity;
+import com.badlogic.ashley.core.EntitySystem;
+import com.badlogic.gdx.math.Rectangle;
+import com.badlogic.gdx.math.Vector2;
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.IdentityMap;
+import io.DutchSlayer.defend.ecs.components.BombComponent;
+import io.DutchSlayer.defend.ecs.components.BoundsComponent;
+import io.DutchSlayer.defend.ecs.components.EnemyComponent;
+import io.DutchSlayer.defend.ecs.components.EnemyProjectileComponent;
+import io.DutchSlayer.defend.ecs.components.PositionComponent;
+import io.DutchSlayer.defend.ecs.components.ProjectileComponent;
+import io.DutchSlayer.defend.ecs.components.ShooterComponent;
+import io.DutchSlayer.defend.ecs.components.StatusEffectComponent;
+import io.DutchSlayer.defend.ecs.components.TowerComponent;
+import io.DutchSlayer.defend.ecs.components.VelocityComponent;
+import io.DutchSlayer.defend.ecs.systems.PhaseSystem;
+import io.DutchSlayer.defend.entities.enemies.Enemy;
+import io.DutchSlayer.defend.entities.enemies.EnemyType;
+import io.DutchSlayer.defend.entities.projectiles.AoeProjectile;
+import io.DutchSlayer.defend.entities.projectiles.BombAsset;
+import io.DutchSlayer.defend.entities.projectiles.EnemyProjectile;
+import io.DutchSlayer.defend.entities.projectiles.Projectile;
+import io.DutchSlayer.defend.entities.towers.Tower;
+import io.DutchSlayer.defend.game.EntityStore;
+import io.DutchSlayer.defend.game.GameState;
+
+/**
+ * Backend Ashley untuk entity defend mode.
+ *
+ * Setiap object di EntityStore GameState punya satu Entity Ashley yang dibuat sekali lalu dipakai ulang
+ * (object enemy/projectile berasal dari pool, jadi Entity-nya ikut "di-pool" lewat map ini).
+ * Component berisi state milik object itu sendiri (pos, bounds, HP/senjata/target tower), jadi system
+ * dan kode lama membaca/menulis data yang sama tanpa sinkronisasi. Component enemy hanya berisi index row
+ * EnemyData (struct-of-arrays), system enemy membaca/menulis array di sana.
+ * Entity masuk/keluar Engine mengikuti listener store: add() langsung, destroy baru efektif saat flush.
+ *
+ * Engine memegang entity dan family; system (gerak projectile, tembak tower, hit projectile, cleanup enemy)
+ * didaftarkan ke Engine dan iterasi di atas family-nya. Family enemy hanya menentukan row aktif EnemyData,
+ * EnemyStepSystem meng-update row itu dalam satu loop. Fase global tanpa family (cooldown deploy,
+ * rebuild broadphase, wave, gold) adalah PhaseSystem di luar Engine, karena Engine hanya menerima satu
+ * system per class. DefendEcs menjalankan keduanya dalam satu urutan (seperti Engine.update, urut priority).
+ * Karena Engine tidak sedang updating, add/remove entity langsung mengubah family, jadi projectile yang
+ * ditembak di satu system sudah ikut bergerak di system berikutnya pada tick yang sama.
+ */
+public class DefendEcs {
+    private final Engine engine = new Engine();
+    private final IdentityMap<Object, Entity> entities = new IdentityMap<>();
+    private final Array<EntitySystem> steps = new Array<>();
+
+    public DefendEcs(GameState gameState) {
+        gameState.enemies.setListener(new Link<Enemy>(true) {
+            @Override
+            protected Entity create(Enemy e) {
+                // State enemy ada di EnemyData (SoA), component hanya membawa index row-nya
+                EnemyComponent tag = new EnemyComponent();
+                tag.enemy = e;
+                tag.row = e.getRow();
+                StatusEffectComponent effects = new StatusEffectComponent();
+                effects.row = e.getRow();
+                return new Entity().add(tag).add(effects);
+            }
+
+            @Override
+            protected void refresh(Enemy e, Entity entity) {
+                // Object dari pool bisa dipakai ulang dengan type lain, hanya shooter/boss yang punya cooldown tembak
+                boolean ranged = e.getType() == EnemyType.SHOOTER || e.getType() == EnemyType.BOSS;
+                if (ranged && entity.getComponent(ShooterComponent.class) == null) {
+                    ShooterComponent shooter = new ShooterComponent();
+                    shooter.row = e.getRow();
+                    entity.add(shooter);
+                } else if (!ranged) {
+                    entity.remove(ShooterComponent.class);
+                }
+            }
+        });
+
+        gameState.towers.setListener(new Link<Tower>(false) {
+            @Override
+            protected Entity create(Tower t) {
+                TowerComponent tag = new TowerComponent();
+                tag.tower = t;
+                Entity entity = new Entity()
+                    .add(tag)
+                    .add(bounds(t.getBounds(), t.scaledW, t.scaledH))
+                    .add(t.getHealthComponent())
+                    .add(t.getTarget());
+
+                // Main tower tidak menembak, jadi tidak masuk family TowerShootingSystem
+                if (t.canShoot) {
+                    entity.add(t.getWeapon());
+                }
+                return entity;
+            }
+        });
+
+        gameState.projectiles.setListener(new Link<Projectile>(true) {
+            @Override
+            protected Entity create(Projectile p) {
+                ProjectileComponent tag = new ProjectileComponent();
+                tag.projectile = p;
+                Entity entity = new Entity()
+                    .add(tag)
+                    .add(position(p.getPosition(), p.getPrevPosition()))
+                    .add(bounds(p.getBounds(), p.getBounds().width, p.getBounds().height));
+
+                // AOE punya trajectory parabola sendiri (ArcProjectileSystem), sisanya gerak lurus
+                if (!(p instanceof AoeProjectile)) {
+                    VelocityComponent v = new VelocityComponent();
+                    v.vel = p.getVelocity();
+                    entity.add(v);
+                }
+                return entity;
+            }
+
+            @Override
+            protected void refresh(Projectile p, Entity entity) {
+                // Scale bisa beda per tower, ukuran bounds di-set ulang setiap obtain
+                BoundsComponent b = entity.getComponent(BoundsComponent.class);
+                b.halfWidth = p.getBounds().width / 2f;
+                b.halfHeight = p.getBounds().height / 2f;
+            }
+        });
+
+        gameState.enemyProjectiles.setListener(new Link<EnemyProjectile>(true) {
+            @Override
+            protected Entity create(EnemyProjectile ep) {
+                EnemyProjectileComponent tag = new EnemyProjectileComponent();
+                tag.projectile = ep;
+                VelocityComponent v = new VelocityComponent();
+                v.vel = ep.getVelocity();
+                return new Entity()
+                    .add(tag)
+                    .add(position(ep.getPosition(), ep.getPrevPosition()))
+                    .add(bounds(ep.getBounds(), ep.getWidth(), ep.getHeight()))
+                    .add(v);
+            }
+
+            @Override
+            protected void refresh(EnemyProjectile ep, Entity entity) {
+                // Shooter dan boss berbagi pool dengan ukuran berbeda
+                BoundsComponent b = entity.getComponent(BoundsComponent.class);
+                b.halfWidth = ep.getWidth() / 2;
+                b.halfHeight = ep.getHeight() / 2;
+            }
+        });
+
+        gameState.bombs.setListener(new Link<BombAsset>(true) {
+            @Override
+            protected Entity create(BombAsset bomb) {
+                BombComponent tag = new BombComponent();
+                tag.bomb = bomb;
+                return new Entity().add(tag);
+            }
+        });
+    }
+
+    /* ===== SYSTEMS ===== */
+
+    /**
+     * Daftarkan system berbasis family, dijalankan setelah semua step yang didaftarkan sebelumnya.
+     * Engine Ashley hanya menyimpan satu system per class, system yang sama dengan family lain
+     * harus subclass bernama sendiri (lihat MovementSystem).
+     */
+    public <S extends EntitySystem> S addSystem(S system) {
+        if (engine.getSystem(system.getClass()) != null) {
+            throw new IllegalArgumentException("System already registered: " + system.getClass().getName());
+        }
+        system.priority = steps.size;
+        engine.addSystem(system);
+        steps.add(system);
+        return system;
+    }
+
+    /**
+     * Daftarkan fase lintas entity (tidak butuh family, tidak masuk Engine)
+     */
+    public PhaseSystem addPhase(String name, PhaseSystem.Phase phase) {
+        PhaseSystem system = new PhaseSystem(name, phase);
+        system.priority = steps.size;
+        steps.add(system);
+        return system;
+    }
+
+    public void update(float delta) {
+        for (int i = 0; i < steps.size; i++) {
+            EntitySystem step = steps.get(i);
+            if (step.checkProcessing()) {
+                step.update(delta);
+            }
+        }
+    }
+
+    public Engine getEngine() {
+        return engine;
+    }
+
+    /* ===== STORE -> ENGINE ===== */
+
+    /**
+     * Listener EntityStore yang menyambungkan object ke Entity-nya.
+     * pooled = object dipakai ulang (Entity disimpan untuk add berikutnya), selain itu dilepas saat remove.
+     */
+    private abstract class Link<T> implements EntityStore.Listener<T> {
+        private final boolean pooled;
+
+        Link(boolean pooled) {
+            this.pooled = pooled;
+        }
+
+        @Override
+        public void added(T item) {
+            Entity entity = entities.get(item);
+            if (entity == null) {
+                entity = create(item);
+                entities.put(item, entity);
+            }
+            refresh(item, entity);
+            engine.addEntity(entity);
+        }
+
+        @Override
+        public void removed(T item) {
+            Entity entity = pooled ? entities.get(item) : entities.remove(item);
+            if (entity != null) {
+                engine.removeEntity(entity);
+            }
+        }
+
+        protected abstract Entity create(T item);
+
+        protected void refresh(T item, Entity entity) {
+        }
+    }
+
+    private static PositionComponent position(Vector2 pos, Vector2 prev) {
+        PositionComponent p = new PositionComponent();
+        p.pos = pos;
+        p.prev = prev;
+        return p;
+    }
+
+    private static BoundsComponent bounds(Rectangle rect, float width, float height) {
+        BoundsComponent b = new BoundsComponent();
+        b.bounds = rect;
+        b.halfWidth = width / 2f;
+        b.halfHeight = height / 2f;
+        return b;
+    }
+}
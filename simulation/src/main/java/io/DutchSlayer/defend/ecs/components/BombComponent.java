@@ -0,0 +1,11 @@
+package io.DutchSlayer.defend.ecs.components;
+
+import com.badlogic.ashley.core.Component;
+import io.DutchSlayer.defend.entities.projectiles.BombAsset;
+
+/**
+ * Penanda entity BombAsset, menunjuk balik ke object aslinya
+ */
+public class BombComponent implements Component {
+    public BombAsset bomb;
+}
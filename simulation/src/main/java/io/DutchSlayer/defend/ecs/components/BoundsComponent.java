@@ -0,0 +1,13 @@
+package io.DutchSlayer.defend.ecs.components;
+
+import com.badlogic.ashley.core.Component;
+import com.badlogic.gdx.math.Rectangle;
+
+/**
+ * Collision bounds, di-set ulang dari center setiap kali posisi berubah
+ */
+public class BoundsComponent implements Component {
+    public Rectangle bounds;
+    public float halfWidth;
+    public float halfHeight;
+}
@@ -0,0 +1,12 @@
+package io.DutchSlayer.defend.ecs.components;
+
+import com.badlogic.ashley.core.Component;
+import io.DutchSlayer.defend.entities.enemies.Enemy;
+
+/**
+ * Penanda entity Enemy, menunjuk balik ke object aslinya dan ke row-nya di EnemyData
+ */
+public class EnemyComponent implements Component {
+    public Enemy enemy;
+    public int row;
+}
@@ -0,0 +1,11 @@
+package io.DutchSlayer.defend.ecs.components;
+
+import com.badlogic.ashley.core.Component;
+import io.DutchSlayer.defend.entities.projectiles.EnemyProjectile;
+
+/**
+ * Penanda entity EnemyProjectile, menunjuk balik ke object aslinya
+ */
+public class EnemyProjectileComponent implements Component {
+    public EnemyProjectile projectile;
+}
@@ -0,0 +1,16 @@
+package io.DutchSlayer.defend.ecs.components;
+
+import com.badlogic.ashley.core.Component;
+
+/**
+ * HP sekarang dan maksimum (enemy, tower)
+ */
+public class HealthComponent implements Component {
+    public int health;
+    public int maxHealth;
+
+    public void set(int health) {
+        this.health = health;
+        this.maxHealth = health;
+    }
+}
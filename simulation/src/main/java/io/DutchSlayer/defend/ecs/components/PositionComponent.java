@@ -0,0 +1,13 @@
+package io.DutchSlayer.defend.ecs.components;
+
+import com.badlogic.ashley.core.Component;
+import com.badlogic.gdx.math.Vector2;
+
+/**
+ * Posisi center dan posisi step sebelumnya (untuk interpolasi render).
+ * Vector2 milik entity asal, component hanya menunjuk ke object yang sama.
+ */
+public class PositionComponent implements Component {
+    public Vector2 pos;
+    public Vector2 prev;
+}
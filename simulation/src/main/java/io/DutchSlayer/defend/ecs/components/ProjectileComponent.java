@@ -0,0 +1,11 @@
+package io.DutchSlayer.defend.ecs.components;
+
+import com.badlogic.ashley.core.Component;
+import io.DutchSlayer.defend.entities.projectiles.Projectile;
+
+/**
+ * Penanda entity Projectile, menunjuk balik ke object aslinya
+ */
+public class ProjectileComponent implements Component {
+    public Projectile projectile;
+}
@@ -0,0 +1,10 @@
+package io.DutchSlayer.defend.ecs.components;
+
+import com.badlogic.ashley.core.Component;
+
+/**
+ * Enemy ranged (shooter/boss). Cooldown tembak ada di row EnemyData ini, dikurangi EnemyStepSystem
+ */
+public class ShooterComponent implements Component {
+    public int row;
+}
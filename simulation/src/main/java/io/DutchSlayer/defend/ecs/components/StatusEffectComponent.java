@@ -0,0 +1,10 @@
+package io.DutchSlayer.defend.ecs.components;
+
+import com.badlogic.ashley.core.Component;
+
+/**
+ * Enemy dengan efek slow/knockback dan jeda serang. Timer-nya ada di row EnemyData ini, dikurangi EnemyStepSystem
+ */
+public class StatusEffectComponent implements Component {
+    public int row;
+}
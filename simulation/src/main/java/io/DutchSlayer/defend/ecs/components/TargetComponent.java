@@ -0,0 +1,15 @@
+package io.DutchSlayer.defend.ecs.components;
+
+import com.badlogic.ashley.core.Component;
+import io.DutchSlayer.defend.entities.towers.TargetingPolicy;
+import io.DutchSlayer.defend.game.EntityStore;
+
+/**
+ * Target tower: handle enemy di GameState.enemies plus range dan policy pemilihan
+ */
+public class TargetComponent implements Component {
+    public int handle = EntityStore.NULL_HANDLE;
+    public float range;
+    public TargetingPolicy policy;
+    public float recheckTimer;
+}
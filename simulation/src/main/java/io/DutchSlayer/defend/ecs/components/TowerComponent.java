@@ -0,0 +1,11 @@
+package io.DutchSlayer.defend.ecs.components;
+
+import com.badlogic.ashley.core.Component;
+import io.DutchSlayer.defend.entities.towers.Tower;
+
+/**
+ * Penanda entity Tower, menunjuk balik ke object aslinya
+ */
+public class TowerComponent implements Component {
+    public Tower tower;
+}
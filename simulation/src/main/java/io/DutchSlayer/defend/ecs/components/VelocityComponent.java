@@ -0,0 +1,11 @@
+package io.DutchSlayer.defend.ecs.components;
+
+import com.badlogic.ashley.core.Component;
+import com.badlogic.gdx.math.Vector2;
+
+/**
+ * Kecepatan konstan (pixel/detik) untuk projectile lurus
+ */
+public class VelocityComponent implements Component {
+    public Vector2 vel;
+}
@@ -0,0 +1,12 @@
+package io.DutchSlayer.defend.ecs.components;
+
+import com.badlogic.ashley.core.Component;
+
+/**
+ * Senjata tower: cooldown sampai tembakan berikutnya dan jeda antar tembakan (turun saat upgrade speed).
+ * Hanya tower yang bisa menembak punya component ini, main tower tidak.
+ */
+public class WeaponComponent implements Component {
+    public float cooldown;
+    public float fireRate;
+}
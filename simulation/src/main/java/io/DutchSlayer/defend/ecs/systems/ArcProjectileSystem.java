@@ -0,0 +1,24 @@
+package io.DutchSlayer.defend.ecs.systems;
+
+import com.badlogic.ashley.core.ComponentMapper;
+import com.badlogic.ashley.core.Entity;
+import com.badlogic.ashley.core.Family;
+import com.badlogic.ashley.systems.IteratingSystem;
+import io.DutchSlayer.defend.ecs.components.ProjectileComponent;
+import io.DutchSlayer.defend.ecs.components.VelocityComponent;
+
+/**
+ * Projectile tower tanpa velocity konstan (AOE parabola) memakai trajectory-nya sendiri
+ */
+public class ArcProjectileSystem extends IteratingSystem {
+    private final ComponentMapper<ProjectileComponent> projectiles = ComponentMapper.getFor(ProjectileComponent.class);
+
+    public ArcProjectileSystem() {
+        super(Family.all(ProjectileComponent.class).exclude(VelocityComponent.class).get());
+    }
+
+    @Override
+    protected void processEntity(Entity entity, float deltaTime) {
+        projectiles.get(entity).projectile.update(deltaTime);
+    }
+}
@@ -0,0 +1,52 @@
+package io.DutchSlayer.defend.ecs.systems;
+
+import com.badlogic.ashley.core.ComponentMapper;
+import com.badlogic.ashley.core.Entity;
+import com.badlogic.ashley.core.Family;
+import com.badlogic.ashley.systems.IteratingSystem;
+import io.DutchSlayer.defend.ecs.components.EnemyComponent;
+import io.DutchSlayer.defend.entities.enemies.Enemy;
+import io.DutchSlayer.defend.entities.enemies.EnemyType;
+import io.DutchSlayer.defend.game.GameEvent;
+import io.DutchSlayer.defend.game.GameEventListener;
+import io.DutchSlayer.defend.game.GameState;
+
+/**
+ * Enemy yang HP-nya habis tick ini: beri gold, kirim event kill, lalu destroy (kembali ke pool saat flush).
+ * Enemy yang sudah diantri destroy karena alasan lain (bomber meledak, keluar layar) tidak diberi reward.
+ */
+public class EnemyCleanupSystem extends IteratingSystem {
+    private final ComponentMapper<EnemyComponent> enemies = ComponentMapper.getFor(EnemyComponent.class);
+
+    private final GameState gameState;
+    private final GameEventListener events;
+    private final Runnable onBossDefeated;
+
+    /**
+     * @param onBossDefeated dipanggil sebelum event BOSS_DEFEATED (reset state musik boss)
+     */
+    public EnemyCleanupSystem(GameState gameState, GameEventListener events, Runnable onBossDefeated) {
+        super(Family.all(EnemyComponent.class).get());
+        this.gameState = gameState;
+        this.events = events;
+        this.onBossDefeated = onBossDefeated;
+    }
+
+    @Override
+    protected void processEntity(Entity entity, float deltaTime) {
+        Enemy e = enemies.get(entity).enemy;
+        if (!e.isDestroyed() || gameState.enemies.isPendingDestroy(e)) return;
+
+        if (e.getType() == EnemyType.BOSS) {
+            System.out.println("👑 BOSS DEFEATED! Returning to normal music...");
+            gameState.clearBossReference();
+            onBossDefeated.run();
+            events.onEvent(GameEvent.BOSS_DEFEATED);
+        } else {
+            events.onEvent(GameEvent.ENEMY_KILLED);
+        }
+
+        gameState.gold += e.getPrototype().goldReward;
+        gameState.enemies.destroy(e);
+    }
+}
@@ -0,0 +1,17 @@
+package io.DutchSlayer.defend.ecs.systems;
+
+import com.badlogic.ashley.core.Family;
+import io.DutchSlayer.defend.ecs.components.BoundsComponent;
+import io.DutchSlayer.defend.ecs.components.EnemyProjectileComponent;
+import io.DutchSlayer.defend.ecs.components.PositionComponent;
+import io.DutchSlayer.defend.ecs.components.VelocityComponent;
+
+/**
+ * Gerak lurus projectile shooter dan boss, dijalankan sebelum collision ke tower
+ */
+public class EnemyProjectileMovementSystem extends MovementSystem {
+    public EnemyProjectileMovementSystem() {
+        super(Family.all(EnemyProjectileComponent.class, PositionComponent.class, VelocityComponent.class,
+            BoundsComponent.class).get());
+    }
+}
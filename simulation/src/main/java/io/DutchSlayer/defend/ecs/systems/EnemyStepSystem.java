@@ -0,0 +1,83 @@
+package io.DutchSlayer.defend.ecs.systems;
+
+import com.badlogic.ashley.core.ComponentMapper;
+import com.badlogic.ashley.core.Engine;
+import com.badlogic.ashley.core.Entity;
+import com.badlogic.ashley.core.EntityListener;
+import com.badlogic.ashley.core.EntitySystem;
+import com.badlogic.ashley.core.Family;
+import com.badlogic.ashley.utils.ImmutableArray;
+import io.DutchSlayer.defend.ecs.components.EnemyComponent;
+import io.DutchSlayer.defend.ecs.components.ShooterComponent;
+import io.DutchSlayer.defend.ecs.components.StatusEffectComponent;
+import io.DutchSlayer.defend.entities.enemies.EnemyData;
+
+/**
+ * Decay efek, cooldown tembak, gerak dan animasi enemy dalam satu loop di atas row EnemyData.
+ *
+ * Family hanya dipakai untuk keanggotaan: listener-nya menyalakan/mematikan row di daftar active
+ * EnemyData dan menandai row shooter/boss, update-nya sendiri tidak iterasi entity sama sekali.
+ * Dijalankan setelah AI enemy menentukan kecepatan tick ini.
+ */
+public class EnemyStepSystem extends EntitySystem {
+    private static final Family ENEMIES = Family.all(EnemyComponent.class, StatusEffectComponent.class).get();
+    private static final Family SHOOTERS = Family.all(EnemyComponent.class, ShooterComponent.class).get();
+
+    private final ComponentMapper<EnemyComponent> enemies = ComponentMapper.getFor(EnemyComponent.class);
+    private final EnemyData data;
+
+    private final EntityListener activeRows = new EntityListener() {
+        @Override
+        public void entityAdded(Entity entity) {
+            data.activate(enemies.get(entity).row);
+        }
+
+        @Override
+        public void entityRemoved(Entity entity) {
+            data.deactivate(enemies.get(entity).row);
+        }
+    };
+
+    private final EntityListener shooterRows = new EntityListener() {
+        @Override
+        public void entityAdded(Entity entity) {
+            data.setShooter(enemies.get(entity).row, true);
+        }
+
+        @Override
+        public void entityRemoved(Entity entity) {
+            data.setShooter(enemies.get(entity).row, false);
+        }
+    };
+
+    public EnemyStepSystem(EnemyData data) {
+        this.data = data;
+    }
+
+    @Override
+    public void addedToEngine(Engine engine) {
+        engine.addEntityListener(ENEMIES, activeRows);
+        engine.addEntityListener(SHOOTERS, shooterRows);
+
+        // Entity yang sudah ada sebelum system didaftarkan
+        ImmutableArray<Entity> existing = engine.getEntitiesFor(ENEMIES);
+        for (int i = 0; i < existing.size(); i++) {
+            activeRows.entityAdded(existing.get(i));
+        }
+        existing = engine.getEntitiesFor(SHOOTERS);
+        for (int i = 0; i < existing.size(); i++) {
+            shooterRows.entityAdded(existing.get(i));
+        }
+    }
+
+    @Override
+    public void removedFromEngine(Engine engine) {
+        engine.removeEntityListener(activeRows);
+        engine.removeEntityListener(shooterRows);
+    }
+
+    @Override
+    public void update(float deltaTime) {
+        data.step(deltaTime);
+    }
+}
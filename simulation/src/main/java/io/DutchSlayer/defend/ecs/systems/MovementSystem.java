@@ -0,0 +1,34 @@
+package io.DutchSlayer.defend.ecs.systems;
+
+import com.badlogic.ashley.core.ComponentMapper;
+import com.badlogic.ashley.core.Entity;
+import com.badlogic.ashley.core.Family;
+import com.badlogic.ashley.systems.IteratingSystem;
+import io.DutchSlayer.defend.ecs.components.BoundsComponent;
+import io.DutchSlayer.defend.ecs.components.PositionComponent;
+import io.DutchSlayer.defend.ecs.components.VelocityComponent;
+
+/**
+ * Gerak lurus: simpan posisi lama, pos += vel * delta, lalu geser bounds.
+ * Family ditentukan subclass supaya projectile tower dan enemy bergerak di fase masing-masing
+ * (Engine Ashley hanya menerima satu system per class).
+ */
+public abstract class MovementSystem extends IteratingSystem {
+    private final ComponentMapper<PositionComponent> positions = ComponentMapper.getFor(PositionComponent.class);
+    private final ComponentMapper<VelocityComponent> velocities = ComponentMapper.getFor(VelocityComponent.class);
+    private final ComponentMapper<BoundsComponent> bounds = ComponentMapper.getFor(BoundsComponent.class);
+
+    protected MovementSystem(Family family) {
+        super(family);
+    }
+
+    @Override
+    protected void processEntity(Entity entity, float deltaTime) {
+        PositionComponent p = positions.get(entity);
+        BoundsComponent b = bounds.get(entity);
+
+        p.prev.set(p.pos);
+        p.pos.mulAdd(velocities.get(entity).vel, deltaTime);
+        b.bounds.setPosition(p.pos.x - b.halfWidth, p.pos.y - b.halfHeight);
+    }
+}
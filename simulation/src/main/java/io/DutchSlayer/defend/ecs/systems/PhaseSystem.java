@@ -0,0 +1,33 @@
+package io.DutchSlayer.defend.ecs.systems;
+
+import com.badlogic.ashley.core.EntitySystem;
+
+/**
+ * Satu fase GameLogic yang melibatkan banyak jenis entity sekaligus (collision, spawn, flush, dst).
+ * Urutan fase = urutan didaftarkan ke DefendEcs (priority di-set sesuai urutan itu).
+ */
+public class PhaseSystem extends EntitySystem {
+    public interface Phase {
+        void run(float delta);
+    }
+
+    private final String name;
+    private final Phase phase;
+
+    public PhaseSystem(String name, Phase phase) {
+        this.name = name;
+        this.phase = phase;
+    }
+
+    @Override
+    public void update(float deltaTime) {
+        phase.run(deltaTime);
+    }
+
+    public String getName() { return name; }
+
+    @Override
+    public String toString() {
+        return "PhaseSystem[" + name + ", priority=" + priority + "]";
+    }
+}
@@ -0,0 +1,85 @@
+package io.DutchSlayer.defend.ecs.systems;
+
+import com.badlogic.ashley.core.ComponentMapper;
+import com.badlogic.ashley.core.Entity;
+import com.badlogic.ashley.core.Family;
+import com.badlogic.ashley.systems.IteratingSystem;
+import com.badlogic.gdx.math.Rectangle;
+import com.badlogic.gdx.utils.Array;
+import io.DutchSlayer.defend.ecs.components.BoundsComponent;
+import io.DutchSlayer.defend.ecs.components.PositionComponent;
+import io.DutchSlayer.defend.ecs.components.ProjectileComponent;
+import io.DutchSlayer.defend.entities.enemies.Enemy;
+import io.DutchSlayer.defend.entities.projectiles.AoeProjectile;
+import io.DutchSlayer.defend.entities.projectiles.Projectile;
+import io.DutchSlayer.defend.game.EntityStore;
+import io.DutchSlayer.defend.game.LaneIndex;
+
+/**
+ * Damage projectile tower ke enemy, posisi sudah di-step ProjectileMovementSystem/ArcProjectileSystem.
+ * Projectile lurus mengenai enemy hidup pertama di lane yang overlap, AOE memberi damage area saat meledak.
+ * Projectile yang kena atau keluar layar di-destroy (dikembalikan ke pool saat flush).
+ *
+ * Diproses urut family (urutan projectile masuk Engine, yang lebih dulu ditembak lebih dulu).
+ */
+public class ProjectileHitSystem extends IteratingSystem {
+    private static final float SCREEN_WIDTH = 1280f;
+
+    private final ComponentMapper<ProjectileComponent> projectiles = ComponentMapper.getFor(ProjectileComponent.class);
+    private final ComponentMapper<PositionComponent> positions = ComponentMapper.getFor(PositionComponent.class);
+    private final ComponentMapper<BoundsComponent> bounds = ComponentMapper.getFor(BoundsComponent.class);
+
+    private final LaneIndex<Enemy> enemyIndex;
+    private final EntityStore<Projectile> store;
+    private final Array<Enemy> hits = new Array<>();
+
+    /**
+     * @param enemyIndex broadphase enemy, harus sudah di-rebuild tick ini
+     */
+    public ProjectileHitSystem(LaneIndex<Enemy> enemyIndex, EntityStore<Projectile> store) {
+        super(Family.all(ProjectileComponent.class, PositionComponent.class, BoundsComponent.class).get());
+        this.enemyIndex = enemyIndex;
+        this.store = store;
+    }
+
+    @Override
+    protected void processEntity(Entity entity, float deltaTime) {
+        Projectile p = projectiles.get(entity).projectile;
+        Rectangle rect = bounds.get(entity).bounds;
+        boolean shouldRemove;
+
+        if (p instanceof AoeProjectile aoe) {
+            // AOE: x dari trajectory parabola, bukan PositionComponent
+            if (aoe.hasExploded()) {
+                aoe.triggerAOEDamage(enemyIndex, hits);
+                shouldRemove = true;
+                System.out.println("🎯 AOE Projectile exploded and triggered damage");
+            } else {
+                shouldRemove = aoe.getX() > SCREEN_WIDTH + rect.width / 2 || aoe.getX() < -rect.width / 2;
+                if (shouldRemove) System.out.println("AOE Projectile removed - out of bounds");
+            }
+        } else {
+            Enemy target = findTarget(rect);
+            if (target != null) {
+                p.onHit(target);
+            }
+            shouldRemove = target != null || positions.get(entity).pos.x > SCREEN_WIDTH + rect.width / 2;
+        }
+
+        if (shouldRemove) {
+            store.destroy(p);
+        }
+    }
+
+    /**
+     * Enemy hidup pertama di lane yang overlap projectile, atau null
+     */
+    private Enemy findTarget(Rectangle rect) {
+        hits.clear();
+        enemyIndex.queryOverlaps(rect, hits);
+        for (Enemy e : hits) {
+            if (!e.isDestroyed()) return e;
+        }
+        return null;
+    }
+}
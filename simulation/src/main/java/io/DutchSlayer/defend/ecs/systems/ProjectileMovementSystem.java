@@ -0,0 +1,17 @@
+package io.DutchSlayer.defend.ecs.systems;
+
+import com.badlogic.ashley.core.Family;
+import io.DutchSlayer.defend.ecs.components.BoundsComponent;
+import io.DutchSlayer.defend.ecs.components.PositionComponent;
+import io.DutchSlayer.defend.ecs.components.ProjectileComponent;
+import io.DutchSlayer.defend.ecs.components.VelocityComponent;
+
+/**
+ * Gerak lurus projectile tower (AOE tidak punya velocity, lihat ArcProjectileSystem)
+ */
+public class ProjectileMovementSystem extends MovementSystem {
+    public ProjectileMovementSystem() {
+        super(Family.all(ProjectileComponent.class, PositionComponent.class, VelocityComponent.class,
+            BoundsComponent.class).get());
+    }
+}
@@ -0,0 +1,27 @@
+package io.DutchSlayer.defend.ecs.systems;
+
+import com.badlogic.ashley.core.ComponentMapper;
+import com.badlogic.ashley.core.Entity;
+import com.badlogic.ashley.core.Family;
+import com.badlogic.ashley.systems.IteratingSystem;
+import io.DutchSlayer.defend.ecs.components.HealthComponent;
+import io.DutchSlayer.defend.ecs.components.TowerComponent;
+
+/**
+ * Animasi idle/tembak semua tower, dijalankan sebelum TowerShootingSystem.
+ * Tower yang hancur tick ini (HP habis, menunggu flush) dilewati.
+ */
+public class TowerAnimationSystem extends IteratingSystem {
+    private final ComponentMapper<TowerComponent> towers = ComponentMapper.getFor(TowerComponent.class);
+    private final ComponentMapper<HealthComponent> healths = ComponentMapper.getFor(HealthComponent.class);
+
+    public TowerAnimationSystem() {
+        super(Family.all(TowerComponent.class, HealthComponent.class).get());
+    }
+
+    @Override
+    protected void processEntity(Entity entity, float deltaTime) {
+        if (healths.get(entity).health <= 0) return;
+        towers.get(entity).tower.updateAnimation(deltaTime);
+    }
+}
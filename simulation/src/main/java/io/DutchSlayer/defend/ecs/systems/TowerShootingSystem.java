@@ -0,0 +1,78 @@
+package io.DutchSlayer.defend.ecs.systems;
+
+import com.badlogic.ashley.core.ComponentMapper;
+import com.badlogic.ashley.core.Entity;
+import com.badlogic.ashley.core.Family;
+import com.badlogic.ashley.systems.IteratingSystem;
+import com.badlogic.gdx.math.Rectangle;
+import io.DutchSlayer.defend.ecs.components.HealthComponent;
+import io.DutchSlayer.defend.ecs.components.TargetComponent;
+import io.DutchSlayer.defend.ecs.components.TowerComponent;
+import io.DutchSlayer.defend.ecs.components.WeaponComponent;
+import io.DutchSlayer.defend.entities.enemies.Enemy;
+import io.DutchSlayer.defend.entities.towers.Tower;
+import io.DutchSlayer.defend.game.EntityStore;
+import io.DutchSlayer.defend.game.GameEventListener;
+import io.DutchSlayer.defend.game.GameState;
+import io.DutchSlayer.defend.game.TargetQuery;
+
+/**
+ * Cooldown, pemilihan target dan tembakan tower yang punya senjata.
+ *
+ * TargetQuery dibangun sekali di awal update (HP/slow sudah termasuk efek trap tick ini), lalu setiap
+ * tower memakai ulang target lama selama masih hidup dan dalam range, dan mencari ulang lewat policy-nya
+ * bila TARGET_CHECK_INTERVAL sudah lewat sejak pencarian terakhir (dihitung juga selama cooldown). Cooldown tidak berjalan selama tidak ada enemy hidup.
+ */
+public class TowerShootingSystem extends IteratingSystem {
+    private static final float TARGET_CHECK_INTERVAL = 0.1f;
+
+    private final ComponentMapper<TowerComponent> towers = ComponentMapper.getFor(TowerComponent.class);
+    private final ComponentMapper<WeaponComponent> weapons = ComponentMapper.getFor(WeaponComponent.class);
+    private final ComponentMapper<TargetComponent> targets = ComponentMapper.getFor(TargetComponent.class);
+    private final ComponentMapper<HealthComponent> healths = ComponentMapper.getFor(HealthComponent.class);
+
+    private final TargetQuery query;
+    private final GameState gameState;
+    private final GameEventListener events;
+
+    public TowerShootingSystem(TargetQuery query, GameState gameState, GameEventListener events) {
+        super(Family.all(TowerComponent.class, WeaponComponent.class, TargetComponent.class, HealthComponent.class).get());
+        this.query = query;
+        this.gameState = gameState;
+        this.events = events;
+    }
+
+    @Override
+    public void update(float deltaTime) {
+        query.build();
+        super.update(deltaTime);
+    }
+
+    @Override
+    protected void processEntity(Entity entity, float deltaTime) {
+        if (healths.get(entity).health <= 0 || query.isEmpty()) return;
+
+        // Timer recheck jalan setiap tick, bukan hanya saat senjata siap, supaya policy dievaluasi ulang saat menembak
+        TargetComponent target = targets.get(entity);
+        target.recheckTimer -= deltaTime;
+
+        WeaponComponent weapon = weapons.get(entity);
+        weapon.cooldown -= deltaTime;
+        if (weapon.cooldown > 0) return;
+
+        Tower tower = towers.get(entity).tower;
+        Enemy current = query.resolve(target.handle);
+        if (target.recheckTimer <= 0f || current == null || current.isDestroyed()
+            || !TargetQuery.inRange(current, tower.x, target.range)) {
+            current = query.find(target.policy, tower.x, target.range);
+            target.handle = current != null ? current.getHandle() : EntityStore.NULL_HANDLE;
+            target.recheckTimer = TARGET_CHECK_INTERVAL;
+        }
+
+        if (current == null) return;
+
+        Rectangle b = current.getBounds();
+        tower.fire(gameState.pools, gameState.projectiles, events, b.x + b.width * 0.5f, b.y + b.height * 0.5f);
+        weapon.cooldown = weapon.fireRate;
+    }
+}
@@ -0,0 +1,318 @@
+package io.DutchSlayer.defend.entities.enemies;
+
+import com.badlogic.gdx.math.Rectangle;
+import com.badlogic.gdx.math.Vector2;
+import com.badlogic.gdx.utils.Array;
+import io.DutchSlayer.defend.entities.projectiles.EnemyProjectile;
+import io.DutchSlayer.defend.entities.towers.Tower;
+import io.DutchSlayer.defend.game.EntityStore;
+import io.DutchSlayer.defend.game.GameEvent;
+import io.DutchSlayer.defend.game.GameEventListener;
+import io.DutchSlayer.defend.game.ProjectilePools;
+import io.DutchSlayer.defend.game.StoredEntity;
+
+/**
+ * Optimized Enemy class dengan efficient memory management
+ * Stats dan ukuran dari EnemyPrototype (per type), rendering ada di EntityRenderer (core)
+ * State yang berubah tiap tick (posisi, HP, efek, animasi) ada di satu row EnemyData (struct-of-arrays):
+ * Enemy hanya view ke row itu plus AI per type. Decay efek, gerak dan animasi dijalankan
+ * EnemyStepSystem sebagai satu loop di atas row aktif EnemyData.
+ */
+public class Enemy implements StoredEntity {
+    private int handle = EntityStore.NULL_HANDLE;   // Handle di GameState.enemies
+
+    /* ===== Size Enemy ===== */
+    public static final float BASIC_SCALE = 0.2f;
+    public static final float SHOOTER_SCALE = 0.18f;
+    public static final float BOMBER_SCALE = 0.2f;
+    public static final float SHIELD_SCALE = 0.25f;
+    public static final float BOSS_SCALE = 0.4f;
+
+    /* ===== CONSTANTS ===== */
+    private static final float KNOCKBACK_DURATION = 0.5f;
+    private static final float ATTACK_COOLDOWN_DURATION = 1f;
+
+    /* ===== SOA ROW ===== */
+    private final EnemyData data;
+    private final int row;
+
+    /* ===== OPTIMIZATIONS: CACHED VALUES ===== */
+    private final Vector2 reusableVector = new Vector2();
+
+    /* ===== SIZE & COLLISION ===== */
+    private float scaledWidth;
+    private float scaledHeight;
+    private final Rectangle bounds = new Rectangle();   // Di-isi dari EnemyData setiap getBounds()
+
+    /* ===== ENEMY STATS ===== */
+    private EnemyPrototype prototype;
+    private EnemyType type;
+
+    /* ===== AI STATE MACHINE ===== */
+    private EnemyState state = EnemyState.MOVING;
+
+    /* ===== SPECIAL BEHAVIORS ===== */
+    private float targetX = 0f;
+
+    /* ===== REFERENCES FOR INTERACTIONS ===== */
+    private EntityStore<Tower> towersRef;
+    private EntityStore<EnemyProjectile> enemyProjectilesRef;
+    private ProjectilePools poolsRef;
+    private GameEventListener events = GameEventListener.NONE;
+
+    private boolean hasReachedTargetPosition = false;
+
+    /**
+     * Constructor Enemy, ambil row baru di EnemyData lalu isi dari EnemyPrototype
+     */
+    public Enemy(EnemyData data, EnemyType type, float xCenter, float yCenter) {
+        this.data = data;
+        this.row = data.allocateRow();
+        reset(EnemyPrototype.of(type), xCenter, yCenter);
+    }
+
+    /**
+     * Reset semua state dari prototype, dipakai constructor dan EnemyPool saat spawn ulang
+     */
+    public void reset(EnemyPrototype prototype, float xCenter, float yCenter) {
+        this.prototype = prototype;
+        this.type = prototype.type;
+        this.targetX = prototype.targetX;
+        this.scaledWidth = prototype.width;
+        this.scaledHeight = prototype.height;
+
+        int r = row;
+        data.x[r] = xCenter;
+        data.y[r] = yCenter;
+        data.prevX[r] = xCenter;
+        data.prevY[r] = yCenter;
+        data.halfWidth[r] = scaledWidth / 2f;
+        data.halfHeight[r] = scaledHeight / 2f;
+        data.boundsX[r] = xCenter - data.halfWidth[r];
+        data.boundsY[r] = yCenter - data.halfHeight[r];
+
+        // Stats dari prototype
+        data.type[r] = type.ordinal();
+        data.health[r] = prototype.health;
+        data.maxHealth[r] = prototype.health;
+        data.baseSpeed[r] = prototype.speed;
+        data.speed[r] = prototype.speed;
+
+        // AI & efek
+        setState(EnemyState.MOVING);
+        this.hasReachedTargetPosition = false;
+        data.shootCooldown[r] = 0f;
+        data.slowed[r] = false;
+        data.slowTimer[r] = 0f;
+        data.slowStrength[r] = 0.5f;
+        data.knockedBack[r] = false;
+        data.knockbackTimer[r] = 0f;
+        data.attackCooldown[r] = 0f;
+
+        // Animasi
+        data.animTimer[r] = 0f;
+        data.frame[r] = 0;
+    }
+
+    /**
+     * AI per type (state machine, kecepatan, tembak). Dipanggil GameLogic sebelum
+     * EnemyStepSystem (decay efek, gerak, animasi) pada tick yang sama.
+     */
+    public void updateAI() {
+        switch(type) {
+            case BASIC:
+            case BOMBER:
+            case SHIELD:
+                data.applyMoveSpeed(row);
+                break;
+            case SHOOTER:
+                updateShooter();
+                break;
+            case BOSS:
+                updateBoss();
+                break;
+        }
+    }
+
+    private void setState(EnemyState state) {
+        this.state = state;
+        data.direction[row] = (type == EnemyType.BOMBER && state == EnemyState.RETREATING) ? 1f : -1f;
+    }
+
+    private void updateShooter() {
+        switch(state) {
+            case MOVING:
+                data.applyMoveSpeed(row);
+                if (data.x[row] <= 1000f) {
+                    setState(EnemyState.ATTACKING);
+                    data.speed[row] = 0f;
+                }
+                break;
+
+            case ATTACKING:
+                data.speed[row] = 0f;
+                if (data.shootCooldown[row] <= 0f && towersRef != null && !towersRef.isEmpty()) {
+                    shoot();
+                    data.shootCooldown[row] = prototype.shootInterval;
+                }
+                break;
+        }
+    }
+
+    private void updateBoss() {
+        switch(state) {
+            case MOVING:
+                data.applyMoveSpeed(row);
+                if (data.x[row] <= targetX) {
+                    setState(EnemyState.STATIONARY);
+                    data.speed[row] = 0f;
+                    hasReachedTargetPosition = true;
+                }
+                break;
+
+            case STATIONARY:
+                data.speed[row] = 0f;
+                if (data.shootCooldown[row] <= 0f && towersRef != null && !towersRef.isEmpty()) {
+                    shootBoss();
+                    data.shootCooldown[row] = prototype.shootInterval;
+                }
+                break;
+        }
+    }
+
+    /**
+     * Shooting dengan reusable vector
+     */
+    private void shoot() {
+        if (towersRef == null || towersRef.isEmpty() || enemyProjectilesRef == null || poolsRef == null) return;
+
+        events.onEvent(GameEvent.ENEMY_SHOT);
+        getProjectileOrigin(reusableVector);
+
+        EnemyProjectile projectile = poolsRef.obtainShooterProjectile(
+            reusableVector.x,
+            reusableVector.y,
+            1
+        );
+        enemyProjectilesRef.add(projectile);
+    }
+
+    private void shootBoss() {
+        if (towersRef == null || towersRef.isEmpty() || enemyProjectilesRef == null || poolsRef == null) return;
+
+        events.onEvent(GameEvent.BOSS_SHOT);
+        getProjectileOrigin(reusableVector);
+
+        EnemyProjectile projectile = poolsRef.obtainBossProjectile(
+            reusableVector.x,
+            reusableVector.y,
+            3
+        );
+        enemyProjectilesRef.add(projectile);
+    }
+
+    /**
+     *  No object creation, use passed vector
+     */
+    private void getProjectileOrigin(Vector2 result) {
+        float x = data.x[row], y = data.y[row];
+        switch(type) {
+            case SHOOTER:
+                result.set(x - scaledWidth * 0.40f, y + scaledHeight * 0.01f);
+                break;
+            case BOSS:
+                result.set(x - scaledWidth * 0.45f, y + scaledHeight * 0.09f);
+                break;
+            default:
+                result.set(x - scaledWidth * 0.3f, y);
+                break;
+        }
+    }
+
+    public void seekProtection(Array<Enemy> allEnemies) {
+        if (type != EnemyType.BASIC) return;
+
+        Enemy nearestShield = null;
+        float nearestDistance = Float.MAX_VALUE;
+
+        float[] xs = data.x;
+        float x = xs[row];
+        for (Enemy e : allEnemies) {
+            if (e.type == EnemyType.SHIELD && !e.isDestroyed()) {
+                float distance = Math.abs(x - xs[e.row]);
+                if (distance < nearestDistance && distance < 100f) {
+                    nearestDistance = distance;
+                    nearestShield = e;
+                }
+            }
+        }
+
+        // Bounds sengaja tidak digeser di sini, baru ikut saat enemy bergerak lagi
+        if (nearestShield != null && x < xs[nearestShield.row]) {
+            xs[row] = xs[nearestShield.row] + 30f;
+        }
+    }
+
+    public void knockback() {
+        if (!data.knockedBack[row]) {
+            data.knockedBack[row] = true;
+            data.knockbackTimer[row] = KNOCKBACK_DURATION;
+            data.attackCooldown[row] = ATTACK_COOLDOWN_DURATION;
+        }
+    }
+
+    public void setReferences(EntityStore<Tower> towers, EntityStore<EnemyProjectile> enemyProjectiles,
+                              ProjectilePools pools, GameEventListener events) {
+        this.towersRef = towers;
+        this.enemyProjectilesRef = enemyProjectiles;
+        this.poolsRef = pools;
+        this.events = events;
+    }
+
+    public boolean canAttack() { return data.attackCooldown[row] <= 0 && !data.knockedBack[row]; }
+    public void takeDamage(int dmg) { data.health[row] = Math.max(0, data.health[row] - dmg); }
+    public boolean isDestroyed() { return data.health[row] <= 0; }
+
+    public void slow(float duration) {
+        slowHeavy(duration, 0.5f);
+    }
+
+    public void slowHeavy(float duration, float strength) {
+        data.slowTimer[row] = duration;
+        data.slowStrength[row] = strength;
+        data.slowed[row] = true;
+    }
+
+    public boolean hasReachedTarget() {
+        return type == EnemyType.BOSS && (hasReachedTargetPosition || state == EnemyState.STATIONARY);
+    }
+
+    /**
+     * Bounds dari row EnemyData, Rectangle yang sama dipakai ulang (jangan disimpan pemanggil)
+     */
+    public Rectangle getBounds() {
+        return bounds.set(data.boundsX[row], data.boundsY[row], scaledWidth, scaledHeight);
+    }
+
+    public float getX() { return data.x[row]; }
+    public float getY() { return data.y[row]; }
+    public float getRenderX(float alpha) { return data.prevX[row] + (data.x[row] - data.prevX[row]) * alpha; }
+    public float getRenderY(float alpha) { return data.prevY[row] + (data.y[row] - data.prevY[row]) * alpha; }
+    public float getWidth() { return scaledWidth; }
+    public float getHeight() { return scaledHeight; }
+    public int getHealth() { return data.health[row]; }
+    public int getMaxHealth() { return data.maxHealth[row]; }
+    public EnemyType getType() { return type; }
+    public EnemyPrototype getPrototype() { return prototype; }
+    public EnemyState getState() { return state; }
+    public boolean isSlowed() { return data.slowed[row]; }
+    public boolean isKnockedBack() { return data.knockedBack[row]; }
+    public int getCurrentFrame() { return data.frame[row]; }
+    public int getRow() { return row; }
+
+    @Override
+    public int getHandle() { return handle; }
+
+    @Override
+    public void setHandle(int handle) { this.handle = handle; }
+}
@@ -0,0 +1,241 @@
+package io.DutchSlayer.defend.entities.enemies;
+
+/**
+ * Struct-of-arrays untuk state enemy yang berubah setiap tick.
+ *
+ * Setiap Enemy (dari EnemyPool) memegang satu row permanen di sini, Enemy sendiri hanya view
+ * untuk AI, renderer dan UI. Family Ashley enemy hanya menentukan keanggotaan: listener EnemyStepSystem
+ * memasukkan row ke daftar active yang rapat (dan menandai row shooter), lalu decay efek, gerak dan
+ * animasi dijalankan sebagai satu loop lurus di atas array float/int ini, tanpa dispatch per entity
+ * dan tanpa loncat ke object Enemy satu per satu.
+ */
+public class EnemyData {
+    private static final float KNOCKBACK_SPEED = 200f;
+    private static final float ANIMATION_SPEED = 0.2f;
+    private static final float BOMBER_ANIMATION_SPEED = 0.15f;
+    private static final float SHIELD_ANIMATION_SPEED = 0.25f;
+
+    private static final int BOSS = EnemyType.BOSS.ordinal();
+    private static final int BOMBER = EnemyType.BOMBER.ordinal();
+    private static final int SHIELD = EnemyType.SHIELD.ordinal();
+
+    /* ===== POSITION & MOVEMENT ===== */
+    public float[] x, y;
+    public float[] prevX, prevY;            // Posisi step sebelumnya untuk interpolasi render
+    public float[] boundsX, boundsY;        // Pojok kiri bawah collision bounds
+    public float[] halfWidth, halfHeight;
+    public float[] speed;                   // Kecepatan sekarang (0 = diam, negatif = terpental)
+    public float[] baseSpeed;
+    public float[] direction;               // -1 maju ke kiri, +1 mundur
+
+    /* ===== STATS & STATUS EFFECTS ===== */
+    public int[] health, maxHealth;
+    public int[] type;                      // EnemyType.ordinal()
+    public boolean[] slowed;
+    public float[] slowTimer, slowStrength;
+    public boolean[] knockedBack;
+    public float[] knockbackTimer;
+    public float[] attackCooldown;
+    public float[] shootCooldown;
+
+    /* ===== ANIMATION ===== */
+    public float[] animTimer;
+    public int[] frame;
+
+    private boolean[] shooter;              // Cooldown tembak hanya dikurangi untuk shooter/boss
+
+    private int rows = 0;
+    private int[] active;
+    private int[] activeIndex;              // Row -> posisi di active, -1 jika tidak aktif
+    private int activeCount = 0;
+
+    public EnemyData() {
+        this(64);
+    }
+
+    public EnemyData(int capacity) {
+        allocate(Math.max(1, capacity));
+    }
+
+    /**
+     * Row baru untuk satu Enemy, dipanggil sekali saat Enemy dibuat
+     */
+    public int allocateRow() {
+        if (rows == x.length) {
+            allocate(rows * 2);
+        }
+        activeIndex[rows] = -1;
+        return rows++;
+    }
+
+    public void activate(int row) {
+        if (activeIndex[row] >= 0) return;
+        activeIndex[row] = activeCount;
+        active[activeCount++] = row;
+    }
+
+    /**
+     * Keluarkan row dari daftar active (swap-remove)
+     */
+    public void deactivate(int row) {
+        int index = activeIndex[row];
+        if (index < 0) return;
+
+        int last = active[--activeCount];
+        active[index] = last;
+        activeIndex[last] = index;
+        activeIndex[row] = -1;
+    }
+
+    public void setShooter(int row, boolean value) {
+        shooter[row] = value;
+    }
+
+    public int getActiveCount() { return activeCount; }
+    public int getActiveRow(int i) { return active[i]; }
+    public int getRowCount() { return rows; }
+
+    /* ===== BULK UPDATE ===== */
+
+    /**
+     * Satu pass di atas semua row aktif: decay efek, gerak, lalu animasi.
+     * Dipanggil setelah AI enemy menentukan kecepatan tick ini.
+     */
+    public void step(float delta) {
+        for (int i = 0; i < activeCount; i++) {
+            int r = active[i];
+            decayEffects(r, delta);
+            integrate(r, delta);
+            animate(r, delta);
+        }
+    }
+
+    /**
+     * Hitung mundur knockback, jeda serang, slow dan cooldown tembak (shooter/boss)
+     */
+    private void decayEffects(int r, float delta) {
+        if (knockedBack[r]) {
+            knockbackTimer[r] -= delta;
+            if (knockbackTimer[r] <= 0) {
+                knockedBack[r] = false;
+            }
+        }
+
+        if (attackCooldown[r] > 0) {
+            attackCooldown[r] -= delta;
+        }
+
+        if (slowed[r] && slowTimer[r] > 0) {
+            slowTimer[r] -= delta;
+            if (slowTimer[r] <= 0) {
+                slowed[r] = false;
+            }
+        }
+
+        if (shooter[r]) {
+            shootCooldown[r] -= delta;
+        }
+    }
+
+    /**
+     * Kecepatan dari efek status (knockback > slow > normal), untuk enemy yang sedang berjalan
+     */
+    public void applyMoveSpeed(int r) {
+        if (knockedBack[r]) {
+            speed[r] = -KNOCKBACK_SPEED;
+        } else if (slowed[r]) {
+            speed[r] = baseSpeed[r] * slowStrength[r];
+        } else {
+            speed[r] = baseSpeed[r];
+        }
+    }
+
+    /**
+     * Simpan posisi lama lalu gerakkan enemy, bounds ikut digeser jika bergerak
+     */
+    private void integrate(int r, float delta) {
+        prevX[r] = x[r];
+        prevY[r] = y[r];
+
+        if (speed[r] != 0f) {
+            x[r] += direction[r] * speed[r] * delta;
+            boundsX[r] = x[r] - halfWidth[r];
+            boundsY[r] = y[r] - halfHeight[r];
+        }
+    }
+
+    /**
+     * Frame jalan 4 langkah, berhenti di frame 0 saat diam/terpental. Boss tidak dianimasikan.
+     */
+    private void animate(int r, float delta) {
+        int t = type[r];
+        if (t == BOSS) return;
+
+        if (Math.abs(speed[r]) > 0 && !knockedBack[r]) {
+            animTimer[r] += delta;
+
+            float animSpeed = t == BOMBER ? BOMBER_ANIMATION_SPEED
+                : t == SHIELD ? SHIELD_ANIMATION_SPEED : ANIMATION_SPEED;
+
+            if (animTimer[r] >= animSpeed) {
+                animTimer[r] = 0f;
+                frame[r] = (frame[r] + 1) % 4;
+            }
+        } else if (frame[r] != 0) {
+            frame[r] = 0;
+            animTimer[r] = 0f;
+        }
+    }
+
+    /* ===== STORAGE ===== */
+
+    private void allocate(int capacity) {
+        x = grow(x, capacity);
+        y = grow(y, capacity);
+        prevX = grow(prevX, capacity);
+        prevY = grow(prevY, capacity);
+        boundsX = grow(boundsX, capacity);
+        boundsY = grow(boundsY, capacity);
+        halfWidth = grow(halfWidth, capacity);
+        halfHeight = grow(halfHeight, capacity);
+        speed = grow(speed, capacity);
+        baseSpeed = grow(baseSpeed, capacity);
+        direction = grow(direction, capacity);
+        slowTimer = grow(slowTimer, capacity);
+        slowStrength = grow(slowStrength, capacity);
+        knockbackTimer = grow(knockbackTimer, capacity);
+        attackCooldown = grow(attackCooldown, capacity);
+        shootCooldown = grow(shootCooldown, capacity);
+        animTimer = grow(animTimer, capacity);
+
+        health = grow(health, capacity);
+        maxHealth = grow(maxHealth, capacity);
+        type = grow(type, capacity);
+        frame = grow(frame, capacity);
+
+        slowed = grow(slowed, capacity);
+        knockedBack = grow(knockedBack, capacity);
+        shooter = grow(shooter, capacity);
+
+        active = grow(active, capacity);
+        activeIndex = grow(activeIndex, capacity);
+    }
+
+    private static float[] grow(float[] src, int n) {
+        float[] dst = new float[n];
+        if (src != null) System.arraycopy(src, 0, dst, 0, src.length);
+        return dst;
+    }
+
+    private static int[] grow(int[] src, int n) {
+        int[] dst = new int[n];
+        if (src != null) System.arraycopy(src, 0, dst, 0, src.length);
+        return dst;
+    }
+
+    private static boolean[] grow(boolean[] src, int n) {
+        boolean[] dst = new boolean[n];
+        if (src != null) System.arraycopy(src, 0, dst, 0, src.length);
+        return dst;
+    }
+}
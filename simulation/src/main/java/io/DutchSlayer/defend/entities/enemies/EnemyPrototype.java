@@ -0,0 +1,54 @@
+package io.DutchSlayer.defend.entities.enemies;
+
+import io.DutchSlayer.defend.game.SpriteSizes;
+
+/**
+ * Data tetap per EnemyType (flyweight), dibangun sekali saat class load.
+ * Enemy hanya menyimpan state yang berubah (posisi, HP, efek) dan di-reset dari prototype ini,
+ * jadi spawn tidak lagi membuat object stats baru.
+ * Texture tetap dipilih di EntityRenderer (core) berdasarkan type, simulasi tidak punya GL.
+ */
+public final class EnemyPrototype {
+    public final EnemyType type;
+    public final int health;
+    public final float speed;
+    public final float scale;
+    public final float shootInterval;
+    public final float targetX;         // Posisi berhenti (boss), 0 = tidak berhenti
+    public final float width, height;   // Ukuran sprite setelah scale
+    public final float yOffset;         // Offset spawn dari GROUND_Y
+    public final int goldReward;
+
+    private static final EnemyPrototype[] PROTOTYPES = new EnemyPrototype[EnemyType.values().length];
+
+    static {
+        //                          type               hp   speed  scale                 shoot  targetX  yOff  gold
+        register(new EnemyPrototype(EnemyType.BASIC,    3,  100f, Enemy.BASIC_SCALE,   0f,    0f,     40f,  10));
+        register(new EnemyPrototype(EnemyType.SHOOTER,  2,   80f, Enemy.SHOOTER_SCALE, 1.5f,  0f,     45f,  15));
+        register(new EnemyPrototype(EnemyType.BOMBER,   2,  120f, Enemy.BOMBER_SCALE,  0f,    0f,     50f,  12));
+        register(new EnemyPrototype(EnemyType.SHIELD,   8,   60f, Enemy.SHIELD_SCALE,  0f,    0f,     70f,  20));
+        register(new EnemyPrototype(EnemyType.BOSS,   100,   50f, Enemy.BOSS_SCALE,    8f,    1100f,  60f,  50));
+    }
+
+    private EnemyPrototype(EnemyType type, int health, float speed, float scale,
+                           float shootInterval, float targetX, float yOffset, int goldReward) {
+        this.type = type;
+        this.health = health;
+        this.speed = speed;
+        this.scale = scale;
+        this.shootInterval = shootInterval;
+        this.targetX = targetX;
+        this.width = SpriteSizes.enemyWidth(type) * scale;
+        this.height = SpriteSizes.enemyHeight(type) * scale;
+        this.yOffset = yOffset;
+        this.goldReward = goldReward;
+    }
+
+    private static void register(EnemyPrototype prototype) {
+        PROTOTYPES[prototype.type.ordinal()] = prototype;
+    }
+
+    public static EnemyPrototype of(EnemyType type) {
+        return PROTOTYPES[type.ordinal()];
+    }
+}
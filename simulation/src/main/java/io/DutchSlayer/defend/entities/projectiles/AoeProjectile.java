@@ -1,10 +1,10 @@
 package io.DutchSlayer.defend.entities.projectiles;
 
-import com.badlogic.gdx.graphics.Texture;
-import com.badlogic.gdx.graphics.g2d.SpriteBatch;
 import com.badlogic.gdx.math.Vector2;
 import com.badlogic.gdx.utils.Array;
 import io.DutchSlayer.defend.entities.enemies.Enemy;
+import io.DutchSlayer.defend.entities.towers.TowerType;
+import io.DutchSlayer.defend.game.LaneIndex;
 
 /**
  * AoeProjectile adalah projectile yang memberikan damage area (AOE - Area of Effect)
@@ -25,8 +25,8 @@ public class AoeProjectile extends Projectile {
     // ===== PRE-CALCULATED VALUES - OPTIMIZED =====
     private final float maxHeight;
     private float totalTime;
-    private final float halfWidth;
-    private final float halfHeight;
+    private float halfWidth;
+    private float halfHeight;
 
     private static final float EXPLOSION_THRESHOLD = 50f;
     private static final float TIMEOUT_DURATION = 8f;
@@ -34,17 +34,16 @@ public class AoeProjectile extends Projectile {
     /**
      * Constructor untuk AOE Projectile - OPTIMIZED
      */
-    public AoeProjectile(Texture tex,
-                         float startX, float startY,
+    public AoeProjectile(float startX, float startY,
                          float targetX, float targetY,
                          float radius, float scale, int damage, float customSpeed) {
-        super(tex, startX, startY, targetX, scale, customSpeed, damage);
+        super(TowerType.AOE, startX, startY, targetX, scale, customSpeed, damage);
 
         this.aoeRadius = (int)radius;
         this.aoeDamage = damage;
 
-        this.halfWidth = tex.getWidth() * scale / 2f;
-        this.halfHeight = tex.getHeight() * scale / 2f;
+        this.halfWidth = bounds.width / 2f;
+        this.halfHeight = bounds.height / 2f;
 
         this.startPos = new Vector2(startX, startY);
         this.targetPos = new Vector2(targetX, targetY);
@@ -67,6 +66,7 @@ public class AoeProjectile extends Projectile {
     public void update(float delta) {
         if (hasExploded || !isActive()) return;
 
+        savePreviousPosition();
         boolean useParabola = true;
         if (useParabola) {
             updateParabolaTrajectory(delta);
@@ -124,49 +124,25 @@ public class AoeProjectile extends Projectile {
     /**
      * METHOD BARU: Trigger AOE damage secara manual - OPTIMIZED
      */
-    public void triggerAOEDamage(Array<Enemy> enemies) {
+    public void triggerAOEDamage(LaneIndex<Enemy> enemyIndex, Array<Enemy> scratch) {
         if (!hasExploded) return;
 
-        float explosionX = targetPos.x;
-        float explosionY = targetPos.y;
+        scratch.clear();
+        enemyIndex.queryRadius(targetPos.x, targetPos.y, aoeRadius, scratch);
 
-        float radiusSquared = aoeRadius * aoeRadius;
-
-        for (int i = 0; i < enemies.size; i++) {
-            Enemy e = enemies.get(i);
-            if (e.isDestroyed()) continue;
-
-            float enemyX = e.getBounds().x + e.getBounds().width * 0.5f;
-            float enemyY = e.getBounds().y + e.getBounds().height * 0.5f;
-
-            float dx = explosionX - enemyX;
-            float dy = explosionY - enemyY;
-            float distanceSquared = dx * dx + dy * dy;
-
-            if (distanceSquared <= radiusSquared) {
+        for (int i = 0; i < scratch.size; i++) {
+            Enemy e = scratch.get(i);
+            if (!e.isDestroyed()) {
                 e.takeDamage(aoeDamage);
             }
         }
     }
 
     /**
-     * Override onHit untuk AOE damage - OPTIMIZED dengan VOID return type
+     * AOE tidak damage target tunggal, damage area dipicu lewat triggerAOEDamage
      */
     @Override
-    public void onHit(Array<Enemy> enemies) {
-        if (hasExploded) {
-            triggerAOEDamage(enemies);
-        }
-    }
-
-    /**
-     * Override drawBatch - OPTIMIZED
-     */
-    @Override
-    public void drawBatch(SpriteBatch batch) {
-        if (tex == null || hasExploded || !isActive()) return; // Early exit
-
-        batch.draw(tex, bounds.x, bounds.y, bounds.width, bounds.height);
+    public void onHit(Enemy target) {
     }
 
     /**
@@ -188,8 +164,10 @@ public class AoeProjectile extends Projectile {
      * BARU: Reset method untuk object pooling - OPTIMIZED
      */
     public void reset(float startX, float startY, float targetX, float targetY,
-                      float radius, int damage, float customSpeed) {
-        super.reset(startX, startY, targetX, customSpeed, damage);
+                      float radius, float scale, int damage, float customSpeed) {
+        super.reset(startX, startY, targetX, scale, customSpeed, damage);
+        this.halfWidth = bounds.width / 2f;
+        this.halfHeight = bounds.height / 2f;
 
         this.hasExploded = false;
         this.timeElapsed = 0f;
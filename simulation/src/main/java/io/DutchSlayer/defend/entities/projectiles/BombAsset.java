@@ -2,28 +2,30 @@
 // File: BombAsset.java
 package io.DutchSlayer.defend.entities.projectiles;
 
-import com.badlogic.gdx.graphics.Texture;
-import com.badlogic.gdx.graphics.g2d.SpriteBatch;
 import com.badlogic.gdx.math.Rectangle;
 import com.badlogic.gdx.utils.Array;
 import io.DutchSlayer.defend.entities.towers.Tower;
-import io.DutchSlayer.defend.ui.ImageLoader;
-import io.DutchSlayer.defend.utils.AudioManager;
+import io.DutchSlayer.defend.game.EntityStore;
+import io.DutchSlayer.defend.game.LaneIndex;
+import io.DutchSlayer.defend.game.SpriteSizes;
+import io.DutchSlayer.defend.game.StoredEntity;
 
 /**
  * BombAsset dengan instant explosion saat menyentuh tanah
  */
-public class BombAsset {
+public class BombAsset implements StoredEntity {
+    private int handle = EntityStore.NULL_HANDLE;
+
     /* ===== VISUAL COMPONENTS ===== */
-    private final Texture tex;
     private final float scaledW;
     private final float scaledH;
     private final Rectangle bounds;
 
     /* ===== POSITION & PHYSICS ===== */
-    private final float baseX, baseY;
-    private final float currentX;
+    private float baseX, baseY;
+    private float currentX;
     private float currentY;
+    private float prevY;
     private float offsetY = 0f;
 
     /* ===== PHYSICS ===== */
@@ -34,6 +36,7 @@ public class BombAsset {
     /* ===== INSTANT EXPLOSION ===== */
     private boolean hasExploded = false;
     private boolean isShowingExplosion = false;
+    private boolean damageDealt = false;
     private float explosionTimer = 0f;
     private float explosionScale = 2.0f;
 
@@ -44,19 +47,19 @@ public class BombAsset {
     private static final float EXPLOSION_DISPLAY_TIME = 0.3f;
     private static final float EXPLOSION_MAX_SCALE = 5.0f;
 
-    public BombAsset(Texture tex, float dropX, float dropY) {
-        this.tex = tex;
+    public BombAsset(float dropX, float dropY) {
         this.baseX = dropX;
         this.baseY = dropY;
         this.currentX = dropX;
         this.currentY = dropY;
+        this.prevY = dropY;
 
         // ⭐ FIXED SCALING: No animation scaling
         /* ===== VISUAL SCALING ===== */
         // ⭐ FIXED: Constant scale untuk bomb
         float bombScale = 0.1f;
-        this.scaledW = tex.getWidth() * bombScale;
-        this.scaledH = tex.getHeight() * bombScale;
+        this.scaledW = SpriteSizes.BOMB_W * bombScale;
+        this.scaledH = SpriteSizes.BOMB_H * bombScale;
 
         this.bounds = new Rectangle(
             currentX - scaledW/2,
@@ -67,10 +70,36 @@ public class BombAsset {
         System.out.println("💣 Bomb created with INSTANT explosion on ground contact!");
     }
 
+    /**
+     * Reset untuk object pooling: bomb baru dijatuhkan dari posisi bomber
+     */
+    public void reset(float dropX, float dropY) {
+        this.baseX = dropX;
+        this.baseY = dropY;
+        this.currentX = dropX;
+        this.currentY = dropY;
+        this.prevY = dropY;
+        this.offsetY = 0f;
+
+        this.velocityY = 150f;
+        this.falling = true;
+        this.isLanded = false;
+
+        this.hasExploded = false;
+        this.isShowingExplosion = false;
+        this.damageDealt = false;
+        this.explosionTimer = 0f;
+        this.explosionScale = 2.0f;
+
+        updateVisuals();
+    }
+
     /**
      * ⭐ SIMPLIFIED: Update dengan instant explosion
      */
     public void update(float delta) {
+        prevY = currentY;
+
         // ===== EXPLOSION UPDATE =====
         if (isShowingExplosion) {
             updateExplosion(delta);
@@ -115,9 +144,6 @@ public class BombAsset {
         explosionTimer = 0f;
         explosionScale = 1.0f;
 
-        // ⭐ PLAY EXPLOSION SOUND
-        AudioManager.playTrapExplosionHit();
-
         // ⭐ DAMAGE TOWERS IMMEDIATELY
         damageTowersInRadius();
 
@@ -169,158 +195,46 @@ public class BombAsset {
 
     /**
      * ⭐ INSTANT: Check apakah bomb siap meledak (immediately after landing)
+     * Explosion visual sudah jalan saat landing, damage diberikan sekali oleh GameLogic
      */
     public boolean shouldExplode() {
-        return isLanded && !hasExploded && !isShowingExplosion;
+        return isLanded && !damageDealt;
     }
 
     /**
      * ⭐ UPDATED: Ledakkan bomb (called by GameLogic)
      */
-    public void explode(Array<Tower> towers) {
-        if (hasExploded || isShowingExplosion) return;
+    public void explode(LaneIndex<Tower> towerIndex, Array<Tower> hits) {
+        if (damageDealt) return;
+        damageDealt = true;
 
         System.out.println("💣 BOMB EXPLODING - damaging towers in radius!");
 
         int hitCount = 0;
 
         // Damage towers dalam radius
-        for (Tower tower : towers) {
+        towerIndex.queryRadius(currentX, currentY, EXPLOSION_RADIUS, hits);
+        for (Tower tower : hits) {
             if (tower.isDestroyed()) continue;
 
-            float distance = (float) Math.sqrt(
-                Math.pow(currentX - tower.x, 2) + Math.pow(currentY - tower.y, 2)
-            );
-
-            if (distance <= EXPLOSION_RADIUS) {
-                int oldHp = tower.getHealth();
-                tower.takeDamage(DAMAGE);
-                int newHp = tower.getHealth();
-                hitCount++;
-                System.out.println("💥 Tower hit! HP: " + oldHp + " → " + newHp);
+            int oldHp = tower.getHealth();
+            tower.takeDamage(DAMAGE);
+            int newHp = tower.getHealth();
+            hitCount++;
+            System.out.println("💥 Tower hit! HP: " + oldHp + " → " + newHp);
 
-                if (tower.isDestroyed()) {
-                    System.out.println("🏗️ Tower destroyed by bomb!");
-                }
+            if (tower.isDestroyed()) {
+                System.out.println("🏗️ Tower destroyed by bomb!");
             }
         }
 
         System.out.println("💥 Bomb hit " + hitCount + " towers");
     }
 
-    /**
-     * ⭐ SIMPLIFIED: Render bomb atau explosion
-     */
-    public void drawBatch(SpriteBatch batch) {
-        if (tex == null) return;
-
-        // ===== EXPLOSION RENDERING =====
-        if (isShowingExplosion) {
-            drawExplosion(batch);
-            return;
-        }
-
-        // ===== NORMAL BOMB RENDERING =====
-        if (hasExploded) return;
-
-        // ⭐ SIMPLE: No flashing, no scaling animation
-        if (falling) {
-            // Flying effect
-            float altitude = currentY - GROUND_Y;
-            float alpha = 0.7f + (0.3f * Math.max(0, altitude / 100f));
-            batch.setColor(1f, 1f, 1f, alpha);
-        } else {
-            // Normal color (no flashing since it explodes instantly)
-            batch.setColor(1f, 1f, 1f, 1f);
-        }
-
-        batch.draw(tex, currentX - scaledW/2, currentY - scaledH/2, scaledW, scaledH);
-        batch.setColor(1f, 1f, 1f, 1f);
-    }
-
-    /**
-     * ⭐ EXPLOSION RENDERING
-     */
-    private void drawExplosion(SpriteBatch batch) {
-        Texture explosionTex = getExplosionTexture();
-
-        if (explosionTex != null) {
-            // ⭐ EXPLOSION COLOR PROGRESSION
-            float progress = explosionTimer / EXPLOSION_DISPLAY_TIME;
-
-            if (progress <= 0.2f) {
-                batch.setColor(1.3f, 1.3f, 1.3f, 1f); // Bright white flash
-            } else if (progress <= 0.5f) {
-                batch.setColor(1f, 0.8f, 0.3f, 1f); // Orange fire
-            } else {
-                float alpha = 1f - ((progress - 0.5f) / 0.5f) * 0.7f;
-                batch.setColor(1f, 0.4f, 0.1f, alpha); // Red fade
-            }
-
-            // ⭐ CALCULATE EXPLOSION SIZE
-            float explosionW = scaledW * explosionScale;
-            float explosionH = scaledH * explosionScale;
-
-            batch.draw(explosionTex,
-                currentX - explosionW/2,
-                currentY - explosionH/2,
-                explosionW, explosionH);
-
-        } else {
-            // ⭐ FALLBACK: Multi-layer bomb texture
-            drawFallbackExplosion(batch);
-        }
-
-        batch.setColor(1f, 1f, 1f, 1f);
-    }
-
-    private Texture getExplosionTexture() {
-        if (ImageLoader.explosionTex != null) {
-            return ImageLoader.explosionTex;
-        }
-        return tex; // Fallback
-    }
-
-    private void drawFallbackExplosion(SpriteBatch batch) {
-        float progress = explosionTimer / EXPLOSION_DISPLAY_TIME;
-
-        // ⭐ MULTI-LAYER FALLBACK
-        for (int i = 0; i < 3; i++) {
-            float layerScale = explosionScale * (1f + i * 0.4f);
-            float layerW = scaledW * layerScale;
-            float layerH = scaledH * layerScale;
-
-            switch(i) {
-                case 0: // Inner white core
-                    batch.setColor(1.2f, 1.2f, 1.2f, 0.9f);
-                    break;
-                case 1: // Middle orange
-                    batch.setColor(1f, 0.7f, 0.2f, 0.7f);
-                    break;
-                case 2: // Outer red
-                    float alpha = (1f - progress) * 0.5f;
-                    batch.setColor(1f, 0.3f, 0.1f, alpha);
-                    break;
-            }
-
-            batch.draw(tex,
-                currentX - layerW/2,
-                currentY - layerH/2,
-                layerW, layerH);
-        }
-    }
-
-    public boolean willDamageTower(Tower tower) {
-        if (hasExploded()) return false;
-        float distance = (float) Math.sqrt(
-            Math.pow(baseX - tower.x, 2) + Math.pow(baseY - tower.y, 2)
-        );
-        return distance <= EXPLOSION_RADIUS;
-    }
-
     /* ===== GETTERS ===== */
     public float getX() { return currentX; }
     public float getY() { return currentY; }
+    public float getRenderY(float alpha) { return prevY + (currentY - prevY) * alpha; }
     public boolean hasExploded() { return hasExploded; }
     public boolean isLanded() { return isLanded; }
 
@@ -328,4 +242,15 @@ public class BombAsset {
     public float getTimeLeft() { return falling ? 1f : 0f; }
     public float getAltitude() { return Math.max(0, currentY - GROUND_Y); }
     public boolean isFalling() { return falling; }
+    public boolean isShowingExplosion() { return isShowingExplosion; }
+    public float getExplosionProgress() { return explosionTimer / EXPLOSION_DISPLAY_TIME; }
+    public float getExplosionScale() { return explosionScale; }
+    public float getWidth() { return scaledW; }
+    public float getHeight() { return scaledH; }
+
+    @Override
+    public int getHandle() { return handle; }
+
+    @Override
+    public void setHandle(int handle) { this.handle = handle; }
 }
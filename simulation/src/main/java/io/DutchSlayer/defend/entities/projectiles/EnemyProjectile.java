@@ -0,0 +1,118 @@
+// ===== 3) BUAT ENEMY PROJECTILE CLASS =====
+// File: EnemyProjectile.java
+package io.DutchSlayer.defend.entities.projectiles;
+
+import com.badlogic.gdx.math.Rectangle;
+import com.badlogic.gdx.math.Vector2;
+import io.DutchSlayer.defend.game.EntityStore;
+import io.DutchSlayer.defend.game.SpriteSizes;
+import io.DutchSlayer.defend.game.StoredEntity;
+
+/**
+ * EnemyProjectile adalah projectile yang ditembakkan oleh enemy (shooter/boss)
+ * untuk menyerang tower. Bergerak horizontal ke kiri (menuju tower)
+ * Posisi di-step oleh MovementSystem lewat component yang menunjuk ke pos/vel di sini
+ */
+public class EnemyProjectile implements StoredEntity {
+    private int handle = EntityStore.NULL_HANDLE;
+
+    private boolean fromBoss;
+    private float scaledW;
+    private float scaledH;
+    private final Rectangle bounds;
+
+    private final Vector2 pos;
+    private final Vector2 prevPos;
+    private final Vector2 vel;
+
+    private int damage;
+
+    private static final float SHOOTER_SPEED = 1200f;
+    private static final float BOSS_SPEED = 700f;
+
+    // Scale configurations per enemy type
+    private static final float SHOOTER_SCALE = 0.01f;
+    private static final float BOSS_SCALE = 0.07f;
+
+    /**
+     * Constructor utama dengan custom speed
+     */
+    public EnemyProjectile(float startX, float startY, int damage, float speed, float scale, boolean fromBoss) {
+        this.fromBoss = fromBoss;
+        this.damage = damage;
+        this.pos = new Vector2(startX, startY);
+        this.prevPos = new Vector2(startX, startY);
+
+        this.scaledW = SpriteSizes.ENEMY_PROJ_W * scale;
+        this.scaledH = SpriteSizes.ENEMY_PROJ_H * scale;
+
+        this.vel = new Vector2(-speed, 0f);
+
+        this.bounds = new Rectangle(
+            pos.x - scaledW/2,
+            pos.y - scaledH/2,
+            scaledW,
+            scaledH
+        );
+    }
+
+
+    /**
+     * Buat projectile untuk SHOOTER enemy
+     */
+    public static EnemyProjectile createShooterProjectile(float startX, float startY, int damage) {
+        return new EnemyProjectile(startX, startY, damage, SHOOTER_SPEED, SHOOTER_SCALE, false);
+    }
+
+    /**
+     * Buat projectile untuk BOSS enemy
+     */
+    public static EnemyProjectile createBossProjectile(float startX, float startY, int damage) {
+        return new EnemyProjectile(startX, startY, damage, BOSS_SPEED, BOSS_SCALE, true);
+    }
+
+    /**
+     * Reset untuk object pooling (lihat ProjectilePools)
+     */
+    public void reset(float startX, float startY, int damage, float speed, float scale, boolean fromBoss) {
+        this.fromBoss = fromBoss;
+        this.damage = damage;
+        this.pos.set(startX, startY);
+        this.prevPos.set(startX, startY);
+
+        this.scaledW = SpriteSizes.ENEMY_PROJ_W * scale;
+        this.scaledH = SpriteSizes.ENEMY_PROJ_H * scale;
+
+        this.vel.set(-speed, 0f);
+        bounds.set(pos.x - scaledW/2, pos.y - scaledH/2, scaledW, scaledH);
+    }
+
+    public void resetAsShooter(float startX, float startY, int damage) {
+        reset(startX, startY, damage, SHOOTER_SPEED, SHOOTER_SCALE, false);
+    }
+
+    public void resetAsBoss(float startX, float startY, int damage) {
+        reset(startX, startY, damage, BOSS_SPEED, BOSS_SCALE, true);
+    }
+
+    public float getX() { return pos.x; }
+    public float getY() { return pos.y; }
+    public float getRenderX(float alpha) { return prevPos.x + (pos.x - prevPos.x) * alpha; }
+    public float getRenderY(float alpha) { return prevPos.y + (pos.y - prevPos.y) * alpha; }
+    public float getWidth() { return scaledW; }
+    public float getHeight() { return scaledH; }
+    public boolean isFromBoss() { return fromBoss; }
+    public Rectangle getBounds() { return bounds; }
+    public int getDamage() { return damage; }
+
+    // State bersama untuk DefendEcs
+    public Vector2 getPosition() { return pos; }
+    public Vector2 getPrevPosition() { return prevPos; }
+    public Vector2 getVelocity() { return vel; }
+
+    @Override
+    public int getHandle() { return handle; }
+
+    @Override
+    public void setHandle(int handle) { this.handle = handle; }
+}
@@ -0,0 +1,137 @@
+package io.DutchSlayer.defend.entities.projectiles;
+
+import com.badlogic.gdx.math.Rectangle;
+import com.badlogic.gdx.math.Vector2;
+import io.DutchSlayer.defend.entities.enemies.Enemy;
+import io.DutchSlayer.defend.entities.towers.TowerType;
+import io.DutchSlayer.defend.game.EntityStore;
+import io.DutchSlayer.defend.game.SpriteSizes;
+import io.DutchSlayer.defend.game.StoredEntity;
+
+/**
+ * Base class untuk semua projectile yang ditembakkan oleh tower
+ * Menghandle movement, collision, dan basic damage - OPTIMIZED VERSION
+ */
+public class Projectile implements StoredEntity {
+    private int handle = EntityStore.NULL_HANDLE;
+
+    public final TowerType sourceType;
+    private float scaledW;
+    private float scaledH;
+    public final Rectangle bounds;
+
+    private final Vector2 pos;
+    private final Vector2 prev;                   // Center step sebelumnya untuk interpolasi render
+    private final Vector2 vel;
+    private float halfWidth;
+    private float halfHeight;
+
+    protected float speed;
+    protected int damage;
+
+    private boolean active = true;
+
+    public Projectile(TowerType sourceType, float startX, float startY, float targetX, float scale, float customSpeed, int damage) {
+        this.sourceType = sourceType;
+        this.speed = customSpeed;
+        this.damage = damage;
+        this.pos = new Vector2(startX, startY);
+        this.prev = new Vector2(startX, startY);
+
+        this.bounds = new Rectangle();
+        applyScale(scale);
+
+        float direction = Math.signum(targetX - startX);
+        this.vel = new Vector2(direction * speed, 0f);
+
+        bounds.setPosition(pos.x - halfWidth, pos.y - halfHeight);
+    }
+
+    /**
+     * Hitung ulang ukuran sprite untuk scale tertentu (projectile dari pool bisa dipakai tower dengan scale lain)
+     */
+    private void applyScale(float scale) {
+        this.scaledW = SpriteSizes.projectileWidth(sourceType) * scale;
+        this.scaledH = SpriteSizes.projectileHeight(sourceType) * scale;
+        this.halfWidth = scaledW / 2f;
+        this.halfHeight = scaledH / 2f;
+        bounds.setSize(scaledW, scaledH);
+    }
+
+
+    /**
+     * Update projectile position - OPTIMIZED
+     * Di game loop projectile lurus digerakkan MovementSystem, method ini untuk trajectory turunan
+     */
+    public void update(float delta) {
+        if (!active) return;
+
+        savePreviousPosition();
+        pos.mulAdd(vel, delta);
+
+        bounds.x = pos.x - halfWidth;
+        bounds.y = pos.y - halfHeight;
+    }
+
+    /**
+     * Handle hit ke target yang sudah dicari GameLogic lewat LaneIndex
+     * Bisa di-override subclass untuk efek tambahan
+     */
+    public void onHit(Enemy target) {
+        if (!active) return;
+
+        target.takeDamage(this.damage);
+        this.active = false;
+    }
+
+    /**
+     * BARU: Reset projectile untuk object pooling
+     */
+    public void reset(float startX, float startY, float targetX, float customSpeed, int damage) {
+        this.pos.set(startX, startY);
+        this.prev.set(startX, startY);
+        this.speed = customSpeed;
+        this.damage = damage;
+        this.active = true;
+
+        float direction = Math.signum(targetX - startX);
+        this.vel.set(direction * speed, 0f);
+
+        bounds.setPosition(pos.x - halfWidth, pos.y - halfHeight);
+    }
+
+    /**
+     * Reset dengan scale baru, dipakai ProjectilePools saat obtain
+     */
+    public void reset(float startX, float startY, float targetX, float scale, float customSpeed, int damage) {
+        applyScale(scale);
+        reset(startX, startY, targetX, customSpeed, damage);
+    }
+
+    /**
+     * Simpan center sekarang sebelum step, subclass dengan trajectory sendiri wajib memanggil ini
+     */
+    protected void savePreviousPosition() {
+        prev.set(getX(), getY());
+    }
+
+    public float getX() { return pos.x; }
+    public float getY() { return pos.y; }
+    public float getRenderX(float alpha) { return prev.x + (getX() - prev.x) * alpha; }
+    public float getRenderY(float alpha) { return prev.y + (getY() - prev.y) * alpha; }
+    public Rectangle getBounds() { return bounds; }
+    public boolean isActive() { return active; }
+    public void setActive(boolean active) { this.active = active; }
+    public int getDamage() { return damage; }
+
+    // State bersama untuk DefendEcs (component menunjuk ke Vector2 yang sama)
+    public Vector2 getPosition() { return pos; }
+    public Vector2 getPrevPosition() { return prev; }
+    public Vector2 getVelocity() { return vel; }
+
+    @Override
+    public int getHandle() { return handle; }
+
+    @Override
+    public void setHandle(int handle) { this.handle = handle; }
+}
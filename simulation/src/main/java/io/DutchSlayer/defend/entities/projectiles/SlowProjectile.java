@@ -1,25 +1,23 @@
 package io.DutchSlayer.defend.entities.projectiles;
 
-import com.badlogic.gdx.graphics.Texture;
-import com.badlogic.gdx.utils.Array;
 import io.DutchSlayer.defend.entities.enemies.Enemy;
+import io.DutchSlayer.defend.entities.towers.TowerType;
 
 /**
  * SlowProjectile adalah projectile yang memberikan efek slow pada enemy
  * Bisa juga memberikan damage (opsional) - OPTIMIZED VERSION
  */
 public class SlowProjectile extends Projectile {
-    private final float slowDuration;
-    private final int slowDamage;
+    private float slowDuration;
+    private int slowDamage;
 
     /**
      * Constructor lengkap dengan damage - OPTIMIZED
      */
-    public SlowProjectile(Texture tex,
-                          float startX, float startY,
+    public SlowProjectile(float startX, float startY,
                           float targetX,
                           float slowDuration, float scale, int damage, float customSpeed) {
-        super(tex, startX, startY, targetX, scale, customSpeed, damage);
+        super(TowerType.SLOW, startX, startY, targetX, scale, customSpeed, damage);
         this.slowDuration = slowDuration;
         this.slowDamage = damage;
     }
@@ -27,12 +25,11 @@ public class SlowProjectile extends Projectile {
     /**
      * Constructor dengan speed (tanpa damage) - OPTIMIZED
      */
-    public SlowProjectile(Texture tex,
-                          float startX, float startY,
+    public SlowProjectile(float startX, float startY,
                           float targetX,
                           float slowDuration, float scale,
                           float customSpeed) {
-        this(tex, startX, startY, targetX, slowDuration, scale, 0, customSpeed);
+        this(startX, startY, targetX, slowDuration, scale, 0, customSpeed);
     }
 
     /**
@@ -40,32 +37,26 @@ public class SlowProjectile extends Projectile {
      * Return type VOID untuk compatibility, dengan optimasi performa
      */
     @Override
-    public void onHit(Array<Enemy> enemies) {
+    public void onHit(Enemy target) {
         if (!isActive()) return;
 
-        for (int i = 0; i < enemies.size; i++) {
-            Enemy e = enemies.get(i);
-            if (e.isDestroyed()) continue;
+        target.slow(slowDuration);
 
-            if (getBounds().overlaps(e.getBounds())) {
-                e.slow(slowDuration);
-
-                if (slowDamage > 0) {
-                    e.takeDamage(slowDamage);
-                }
-
-                setActive(false);
-                return;
-            }
+        if (slowDamage > 0) {
+            target.takeDamage(slowDamage);
         }
+
+        setActive(false);
     }
 
     /**
      * BARU: Reset method untuk object pooling support
      */
     public void reset(float startX, float startY, float targetX,
-                      float customSpeed, int damage) {
-        super.reset(startX, startY, targetX, customSpeed, damage);
+                      float slowDuration, float scale, int damage, float customSpeed) {
+        super.reset(startX, startY, targetX, scale, customSpeed, damage);
+        this.slowDuration = slowDuration;
+        this.slowDamage = damage;
     }
 
 }
@@ -0,0 +1,13 @@
+package io.DutchSlayer.defend.entities.towers;
+
+/**
+ * Cara tower memilih target di dalam range-nya (dijawab oleh TargetQuery)
+ */
+public enum TargetingPolicy {
+    FIRST,      // Paling depan di lane (paling dekat ke main tower)
+    CLOSEST,    // Sisi kiri (bounds.x) paling dekat ke posisi tower
+    STRONGEST,  // HP tertinggi
+    WEAKEST,    // HP terendah
+    UNSLOWED,   // Paling depan yang belum kena slow (fallback FIRST)
+    SLOWED      // Paling depan yang sedang kena slow (fallback FIRST)
+}
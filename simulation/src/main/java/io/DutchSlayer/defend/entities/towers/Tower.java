@@ -1,37 +1,38 @@
 package io.DutchSlayer.defend.entities.towers;
 
-import com.badlogic.gdx.graphics.Color;
-import com.badlogic.gdx.graphics.Texture;
-import com.badlogic.gdx.graphics.g2d.SpriteBatch;
-import com.badlogic.gdx.graphics.glutils.ShapeRenderer;
 import com.badlogic.gdx.math.Rectangle;
 import com.badlogic.gdx.math.Vector2;
-import com.badlogic.gdx.utils.Array;
-import io.DutchSlayer.defend.entities.enemies.Enemy;
-import io.DutchSlayer.defend.entities.projectiles.AoeProjectile;
+import io.DutchSlayer.defend.ecs.components.HealthComponent;
+import io.DutchSlayer.defend.ecs.components.TargetComponent;
+import io.DutchSlayer.defend.ecs.components.WeaponComponent;
 import io.DutchSlayer.defend.entities.projectiles.Projectile;
-import io.DutchSlayer.defend.entities.projectiles.SlowProjectile;
-import io.DutchSlayer.defend.ui.ImageLoader;
-import io.DutchSlayer.defend.utils.AudioManager;
-import io.DutchSlayer.defend.screens.TowerDefenseScreen;
+import io.DutchSlayer.defend.game.EntityStore;
+import io.DutchSlayer.defend.game.GameEvent;
+import io.DutchSlayer.defend.game.GameEventListener;
+import io.DutchSlayer.defend.game.ProjectilePools;
+import io.DutchSlayer.defend.game.SpriteSizes;
+import io.DutchSlayer.defend.game.StoredEntity;
+import io.DutchSlayer.defend.game.Zone;
 
 /**
  * Optimized Tower class dengan sistem upgrade dan berbagai type tower
  * Support 4 type: BASIC, AOE, FAST, SLOW dengan stats dan projectile berbeda
  * OPTIMIZATIONS:
  * - Pre-calculated upgrade costs
- * - Cached textures and targeting
+ * - Cached targeting
  * - Reusable objects (Vector2, Rectangle)
  * - Reduced string operations
  * - Efficient animation system
+ * HP, senjata dan state targeting disimpan di component Ashley milik tower ini (lihat DefendEcs),
+ * animasi dan tembakan dijalankan TowerAnimationSystem dan TowerShootingSystem
  */
-public class Tower {
+public class Tower implements StoredEntity {
+    private int handle = EntityStore.NULL_HANDLE;
 
     /* ===== STATIC CONSTANTS & PRE-CALCULATED VALUES ===== */
     private static final int MAX_TOTAL_UPGRADES = 10;
     private static final float ANIMATION_DURATION = 0.2f;
     private static final float IDLE_ANIMATION_SPEED = 0.6f;
-    private static final float TARGET_CHECK_INTERVAL = 0.1f;
     private static final float MIN_FIRE_RATE = 0.05f;
 
     // Pre-calculated upgrade costs (menghindari Math.pow berulang)
@@ -68,25 +69,21 @@ public class Tower {
     /* ===== POSITION & VISUAL ===== */
     public final float x, y;
     public final float scaledW, scaledH;
-    private final Texture towerTex;
-    private final Texture projTex;
     private final float projScale;
 
     /* ===== COMBAT STATS ===== */
-    private int health;
+    private final HealthComponent health = new HealthComponent();
     private final int baseHealth;
     private int damage;
     private final int baseDamage;
-    private float fireRate;
     private final float baseFireRate;
     private float slowDuration;
 
     /* ===== SHOOTING MECHANICS ===== */
-    private float cooldown = 0f;
+    private final WeaponComponent weapon = new WeaponComponent();
 
     /* ===== TARGETING OPTIMIZATION ===== */
-    private Enemy currentTarget;
-    private float targetCheckCooldown = 0f;
+    private final TargetComponent target = new TargetComponent();
 
     /* ===== UPGRADE SYSTEM ===== */
     private int totalUpgradeCount = 0;
@@ -100,66 +97,42 @@ public class Tower {
     private int currentFrame = 0;
     private float animationTimer = 0f;
 
-    // Cached texture untuk menghindari getCurrentTexture() setiap frame
-    private Texture cachedCurrentTexture;
-    private boolean textureNeedsUpdate = true;
-
     /* ===== REUSABLE OBJECTS (menghindari garbage collection) ===== */
     private final Vector2 tempOrigin = new Vector2();
     private final Rectangle tempBounds = new Rectangle();
 
-    private TowerDefenseScreen.Zone occupiedZone;
-
-    /* ===== TOWER TYPE CONFIGS ===== */
-    private static final TowerConfig[] TOWER_CONFIGS = {
-        new TowerConfig(5f, 1, false),      // BASIC
-        new TowerConfig(4f, 2, false),      // AOE
-        new TowerConfig(0.5f, 1, false),    // FAST
-        new TowerConfig(1.5f, 0, true)      // SLOW
-    };
-
-    private static class TowerConfig {
-        final float baseFireRate;
-        final int baseDamage;
-        final boolean hasIdleAnim;
-
-        TowerConfig(float fireRate, int damage, boolean idleAnim) {
-            this.baseFireRate = fireRate;
-            this.baseDamage = damage;
-            this.hasIdleAnim = idleAnim;
-        }
-    }
+    private Zone occupiedZone;
 
     /**
      * Constructor dengan optimasi initialization
      */
-    public Tower(Texture towerTex, Texture projTex, float xCenter, float yCenter,
+    public Tower(float xCenter, float yCenter,
                  float scale, boolean canShoot, boolean isMain, TowerType type,
                  int initialHealth, float projScale) {
 
-        this.towerTex = towerTex;
-        this.projTex = projTex;
         this.canShoot = canShoot;
         this.isMain = isMain;
         this.type = type;
-        this.health = initialHealth;
+        this.health.set(initialHealth);
         this.baseHealth = initialHealth;
         this.projScale = projScale;
 
         // Calculate sprite dimensions
-        this.scaledW = towerTex.getWidth() * scale;
-        this.scaledH = towerTex.getHeight() * scale;
+        this.scaledW = SpriteSizes.towerWidth(type, isMain) * scale;
+        this.scaledH = SpriteSizes.towerHeight(type, isMain) * scale;
         this.x = xCenter;
         this.y = yCenter;
 
         // Initialize bounds
         tempBounds.set(x - scaledW / 2, y - scaledH / 2, scaledW, scaledH);
 
-        // Set stats berdasarkan tower type menggunakan config array
-        TowerConfig config = TOWER_CONFIGS[type.ordinal()];
-        this.baseFireRate = config.baseFireRate;
-        this.baseDamage = config.baseDamage;
-        this.hasIdleAnimation = config.hasIdleAnim;
+        // Set stats berdasarkan tower type dari prototype
+        TowerPrototype prototype = TowerPrototype.of(type);
+        this.baseFireRate = prototype.fireRate;
+        this.baseDamage = prototype.damage;
+        this.hasIdleAnimation = prototype.hasIdleAnim;
+        this.target.range = prototype.range;
+        this.target.policy = prototype.defaultPolicy;
 
         // Special case untuk SLOW tower
         if (type == TowerType.SLOW) {
@@ -167,11 +140,8 @@ public class Tower {
         }
 
         // Initialize current stats
-        this.fireRate = this.baseFireRate;
+        this.weapon.fireRate = this.baseFireRate;
         this.damage = this.baseDamage;
-
-        // Cache initial texture
-        updateCachedTexture();
     }
 
     /**
@@ -199,85 +169,38 @@ public class Tower {
     }
 
     /**
-     * targeting
-     */
-    private Enemy findBestTarget(Array<Enemy> enemies) {
-        if (enemies.isEmpty()) return null;
-
-        // Simple targeting: return first alive enemy
-        for (Enemy enemy : enemies) {
-            if (!enemy.isDestroyed()) {
-                return enemy;
-            }
-        }
-        return null;
-    }
-
-    /**
-     * update method
+     * Tembak ke arah target dari origin sesuai type, dipanggil TowerShootingSystem saat cooldown habis.
+     * Projectile diambil dari pool, dikembalikan oleh GameLogic saat dihapus
      */
-    public void update(float delta, Array<Enemy> enemies, Array<Projectile> projs) {
-        updateAnimation(delta);
-
-        // Early return untuk kondisi yang tidak bisa shoot
-        if (!canShoot || isDestroyed() || enemies.isEmpty()) {
-            return;
-        }
-
-        // Update cooldown
-        cooldown -= delta;
-        if (cooldown > 0) return;
-
-        targetCheckCooldown -= delta;
-        if (targetCheckCooldown <= 0f || currentTarget == null || currentTarget.isDestroyed()) {
-            currentTarget = findBestTarget(enemies);
-            targetCheckCooldown = TARGET_CHECK_INTERVAL;
-        }
-
-        if (currentTarget == null) return;
-
-        // Get target position
-        Rectangle targetBounds = currentTarget.getBounds();
-        float targetX = targetBounds.x + targetBounds.width * 0.5f;
-        float targetY = targetBounds.y + targetBounds.height * 0.5f;
-
+    public void fire(ProjectilePools pools, EntityStore<Projectile> projs, GameEventListener events,
+                     float targetX, float targetY) {
         Vector2 origin = getProjectileOrigin();
+        float originX = origin.x;
+        float originY = origin.y;
 
-        // Create projectile berdasarkan tower type
-        createProjectile(projs, origin.x, origin.y, targetX, targetY);
-
-        // Reset cooldown
-        cooldown = fireRate;
-    }
-
-    /**
-     * Optimized projectile creation
-     */
-    private void createProjectile(Array<Projectile> projs, float originX, float originY,
-                                  float targetX, float targetY) {
         switch (type) {
             case BASIC:
-                projs.add(new Projectile(projTex, originX, originY, targetX,
+                projs.add(pools.obtainProjectile(TowerType.BASIC, originX, originY, targetX,
                     projScale, 900f, damage));
                 break;
 
             case AOE:
-                AudioManager.playAOEShootWithVolume(0.7f);
+                events.onEvent(GameEvent.AOE_TOWER_SHOT);
                 triggerShootAnimation();
-                projs.add(new AoeProjectile(projTex, originX, originY, targetX, targetY,
+                projs.add(pools.obtainAoe(originX, originY, targetX, targetY,
                     100f, projScale, damage, 800f));
                 break;
 
             case FAST:
-                AudioManager.playTowerShootWithVolume(0.5f);
+                events.onEvent(GameEvent.FAST_TOWER_SHOT);
                 triggerShootAnimation();
-                projs.add(new Projectile(projTex, originX, originY, targetX,
+                projs.add(pools.obtainProjectile(TowerType.FAST, originX, originY, targetX,
                     projScale, 1500f, damage));
                 break;
 
             case SLOW:
-                AudioManager.playSlowProjectileWithVolume(1f);
-                projs.add(new SlowProjectile(projTex, originX, originY, targetX,
+                events.onEvent(GameEvent.SLOW_TOWER_SHOT);
+                projs.add(pools.obtainSlow(originX, originY, targetX,
                     slowDuration, projScale, 500f));
                 break;
         }
@@ -290,17 +213,13 @@ public class Tower {
         if (type == TowerType.FAST || type == TowerType.AOE || type == TowerType.SLOW) {
             isAnimating = true;
             animationTimer = 0f;
-            textureNeedsUpdate = true;
         }
     }
 
     /**
-     * Optimized animation update
+     * Optimized animation update, dijalankan TowerAnimationSystem setiap tick
      */
-    private void updateAnimation(float delta) {
-        boolean wasAnimating = isAnimating;
-        int oldFrame = currentFrame;
-
+    public void updateAnimation(float delta) {
         // Update shooting animation
         if (isAnimating) {
             animationTimer += delta;
@@ -318,59 +237,20 @@ public class Tower {
                 currentFrame = (currentFrame + 1) % 3;
             }
         }
-
-        // Update texture cache hanya jika ada perubahan
-        if (wasAnimating != isAnimating || oldFrame != currentFrame) {
-            textureNeedsUpdate = true;
-        }
-    }
-
-    /**
-     * Update cached texture hanya ketika diperlukan
-     */
-    private void updateCachedTexture() {
-        if (!textureNeedsUpdate) return;
-
-        Texture[] frames = ImageLoader.getTowerAnimationFrames(type);
-
-        // Shooting animation (priority)
-        if (isAnimating && frames != null && frames.length > 1 && frames[1] != null) {
-            cachedCurrentTexture = frames[1];
-        }
-        // Idle animation
-        else if (hasIdleAnimation && frames != null && frames.length > 0) {
-            if (currentFrame == 0 && frames[0] != null) {
-                cachedCurrentTexture = frames[0];
-            } else if (currentFrame == 1 && frames.length > 1 && frames[1] != null) {
-                cachedCurrentTexture = frames[1];
-            } else if (currentFrame == 2 && frames.length > 2 && frames[2] != null) {
-                cachedCurrentTexture = frames[2];
-            } else {
-                cachedCurrentTexture = frames[0];
-            }
-        }
-        // Fallback
-        else if (frames != null && frames.length > 0 && frames[0] != null) {
-            cachedCurrentTexture = frames[0];
-        } else {
-            cachedCurrentTexture = towerTex;
-        }
-
-        textureNeedsUpdate = false;
     }
 
     /**
      * Optimized damage handling
      */
     public void takeDamage(int dmg) {
-        health -= dmg;
+        health.health -= dmg;
     }
 
     /**
      * Check destroyed status
      */
     public boolean isDestroyed() {
-        return health <= 0;
+        return health.health <= 0;
     }
 
     /* ===== OPTIMIZED UPGRADE METHODS ===== */
@@ -399,7 +279,8 @@ public class Tower {
 
         int healthIncrease = defenseLevel * 2;
         int newMaxHealth = baseHealth + healthIncrease;
-        health = Math.min(health + 2, newMaxHealth);
+        health.maxHealth = newMaxHealth;
+        health.health = Math.min(health.health + 2, newMaxHealth);
     }
 
     /**
@@ -417,35 +298,7 @@ public class Tower {
             default -> 0.15f;
         };
 
-        fireRate = Math.max(MIN_FIRE_RATE, baseFireRate - (speedLevel * speedBonus));
-    }
-
-    /**
-     * Optimized batch drawing dengan cached texture
-     */
-    public void drawBatch(SpriteBatch batch) {
-        // Update cached texture hanya jika diperlukan
-        updateCachedTexture();
-
-        // Visual flash effect saat shooting
-        if (isAnimating && type != TowerType.BASIC) {
-            batch.setColor(1.2f, 1.2f, 1.2f, 1f);
-        }
-
-        batch.draw(cachedCurrentTexture, x - scaledW / 2, y - scaledH / 2, scaledW, scaledH);
-
-        // Reset color
-        batch.setColor(1f, 1f, 1f, 1f);
-    }
-
-    /**
-     * Shape renderer fallback
-     */
-    public void drawShape(ShapeRenderer shapes) {
-        if (towerTex == null) {
-            shapes.setColor(canShoot ? Color.CYAN : Color.BLUE);
-            shapes.rect(x - scaledW / 2, y - scaledH / 2, scaledW, scaledH);
-        }
+        weapon.fireRate = Math.max(MIN_FIRE_RATE, baseFireRate - (speedLevel * speedBonus));
     }
 
     public Rectangle getBounds() {
@@ -456,7 +309,7 @@ public class Tower {
 
     // Basic getters
     public int getHealth() {
-        return health;
+        return health.health;
     }
 
     public int getRemainingUpgrades() {
@@ -484,11 +337,56 @@ public class Tower {
         return String.valueOf(getRemainingUpgrades());
     }
 
-    public void setOccupiedZone(TowerDefenseScreen.Zone occupiedZone) {
+    public void setOccupiedZone(Zone occupiedZone) {
         this.occupiedZone = occupiedZone;
     }
 
-    public TowerDefenseScreen.Zone getOccupiedZone() {
+    public Zone getOccupiedZone() {
         return occupiedZone;
     }
+
+    public float getRange() {
+        return target.range;
+    }
+
+    public TargetingPolicy getTargetingPolicy() {
+        return target.policy;
+    }
+
+    public void setTargetingPolicy(TargetingPolicy targetingPolicy) {
+        target.policy = targetingPolicy;
+        target.handle = EntityStore.NULL_HANDLE; // Paksa retarget di tembakan berikutnya
+    }
+
+    // Component untuk DefendEcs
+    public HealthComponent getHealthComponent() {
+        return health;
+    }
+
+    public TargetComponent getTarget() {
+        return target;
+    }
+
+    public WeaponComponent getWeapon() {
+        return weapon;
+    }
+
+    // Animation state (dipakai renderer)
+    public boolean isAnimating() {
+        return isAnimating;
+    }
+
+    public boolean hasIdleAnimation() {
+        return hasIdleAnimation;
+    }
+
+    public int getCurrentFrame() {
+        return currentFrame;
+    }
+
+    @Override
+    public int getHandle() { return handle; }
+
+    @Override
+    public void setHandle(int handle) { this.handle = handle; }
 }
@@ -0,0 +1,52 @@
+package io.DutchSlayer.defend.entities.towers;
+
+/**
+ * Data tetap per TowerType (flyweight): stats tembak, targeting default, ukuran dan HP awal.
+ * Menggantikan TowerConfig di Tower dan switch getTowerHP/getTowerScale/... di GameLogic.
+ * BASIC hanya dipakai main tower.
+ */
+public final class TowerPrototype {
+    public final TowerType type;
+    public final float fireRate;
+    public final int damage;
+    public final boolean hasIdleAnim;
+    public final float range;
+    public final TargetingPolicy defaultPolicy;
+    public final float scale;
+    public final int health;
+    public final float projectileScale;
+    public final float yOffset;         // Offset center dari GROUND_Y saat deploy
+
+    private static final TowerPrototype[] PROTOTYPES = new TowerPrototype[TowerType.values().length];
+
+    static {
+        //                          type           fire  dmg idle   range  policy                     scale  hp  projScale yOff
+        register(new TowerPrototype(TowerType.BASIC, 5f,   1, false, 0f,    TargetingPolicy.FIRST,     0.3f,  10, 0.1f,     15f));
+        register(new TowerPrototype(TowerType.AOE,   4f,   2, false, 1000f, TargetingPolicy.FIRST,     0.45f, 5,  0.05f,    30f));
+        register(new TowerPrototype(TowerType.FAST,  0.5f, 1, false, 900f,  TargetingPolicy.FIRST,     0.55f, 3,  0.015f,   20f));
+        register(new TowerPrototype(TowerType.SLOW,  1.5f, 0, true,  800f,  TargetingPolicy.UNSLOWED,  0.2f,  10, 0.5f,     55f));
+    }
+
+    private TowerPrototype(TowerType type, float fireRate, int damage, boolean hasIdleAnim,
+                           float range, TargetingPolicy defaultPolicy,
+                           float scale, int health, float projectileScale, float yOffset) {
+        this.type = type;
+        this.fireRate = fireRate;
+        this.damage = damage;
+        this.hasIdleAnim = hasIdleAnim;
+        this.range = range;
+        this.defaultPolicy = defaultPolicy;
+        this.scale = scale;
+        this.health = health;
+        this.projectileScale = projectileScale;
+        this.yOffset = yOffset;
+    }
+
+    private static void register(TowerPrototype prototype) {
+        PROTOTYPES[prototype.type.ordinal()] = prototype;
+    }
+
+    public static TowerPrototype of(TowerType type) {
+        return PROTOTYPES[type.ordinal()];
+    }
+}
@@ -1,9 +1,7 @@
 package io.DutchSlayer.defend.entities.traps;
 
-import com.badlogic.gdx.graphics.Texture;
-import com.badlogic.gdx.graphics.g2d.SpriteBatch;
 import com.badlogic.gdx.math.Rectangle;
-import io.DutchSlayer.defend.ui.ImageLoader;
+import io.DutchSlayer.defend.game.SpriteSizes;
 
 public class Trap {
     /* ===== GEOMETRY & COLLISION ===== */
@@ -13,7 +11,6 @@ public class Trap {
     private final float[] verts;                  // Vertex array untuk polygon shape
 
     private final float w, h;               // Ukuran sprite setelah scaling
-    private Texture tex;                    // Texture trap berdasarkan type
 
     // ===== TRAP TYPE SYSTEM =====
     private final TrapType type;                  // Jenis trap (ATTACK/SLOW/EXPLOSION)
@@ -21,8 +18,6 @@ public class Trap {
     /* ===== TRAP MECHANICS ===== */
     private float cooldown = 0f;            // Cooldown setelah aktivasi
 
-    private static final boolean SINGLE_USE = true;     // Trap hilang setelah sekali pakai
-
     /**
      * Constructor untuk membuat trap dengan type tertentu
      * @param verts Vertex array untuk hit-zone polygon
@@ -56,30 +51,9 @@ public class Trap {
         this.centerX = minX + (maxX-minX)/2f;
         this.centerY = minY + (maxY-minY)/2f;
 
-        // ===== SET TEXTURE BASED ON TRAP TYPE =====
-        switch(type) {
-            case ATTACK:
-                this.tex = ImageLoader.trapAttackTex;
-                break;
-            case SLOW:
-                this.tex = ImageLoader.trapSlowTex;
-                break;
-            case EXPLOSION:
-                this.tex = ImageLoader.trapBombTex;
-                break;
-            default:
-                this.tex = ImageLoader.trapTex; // Fallback
-                break;
-        }
-
-        // Ultimate fallback jika texture null
-        if (tex == null) {
-            tex = ImageLoader.trapTex;
-        }
-
         // Calculate sprite dimensions
-        this.w       = tex.getWidth()  * scale;
-        this.h       = tex.getHeight() * scale;
+        this.w       = SpriteSizes.trapWidth(type)  * scale;
+        this.h       = SpriteSizes.trapHeight(type) * scale;
     }
 
     /**
@@ -98,35 +72,11 @@ public class Trap {
         }
     }
 
-    /**
-     * Render trap dengan visual effects
-     */
-    public void drawBatch(SpriteBatch batch) {
-        boolean isUsed = false;
-        if (occupied && !(SINGLE_USE && isUsed)) {
-            if (isOnCooldown()) {
-                // Trap on cooldown - warna agak redup
-                batch.setColor(0.5f, 0.5f, 0.5f, 0.8f);
-            } else {
-                // Trap ready - warna normal
-                batch.setColor(1f, 1f, 1f, 1f);
-            }
-
-            // Calculate sprite position
-            float spriteX = centerX - w/2f;
-            float spriteY = getTowerAlignedY();
-
-            batch.draw(tex, spriteX, spriteY, w, h);
-
-            batch.setColor(1f, 1f, 1f, 1f);
-        }
-    }
-
     /**
      * Calculate Y position yang aligned dengan tower deployment
      * Formula sama dengan tower deployment di GameScreen
      */
-    private float getTowerAlignedY() {
+    public float getTowerAlignedY() {
         float y0 = verts[1];
         float y1 = verts[3];
         float y2 = verts[5];
@@ -150,4 +100,10 @@ public class Trap {
     public float getCenterY() {
         return centerY;
     }
+    public float getWidth() {
+        return w;
+    }
+    public float getHeight() {
+        return h;
+    }
 }
@@ -0,0 +1,50 @@
+package io.DutchSlayer.defend.game;
+
+import com.badlogic.gdx.utils.Pool;
+import io.DutchSlayer.defend.entities.enemies.Enemy;
+import io.DutchSlayer.defend.entities.enemies.EnemyData;
+import io.DutchSlayer.defend.entities.enemies.EnemyPrototype;
+import io.DutchSlayer.defend.entities.enemies.EnemyType;
+
+/**
+ * Pool Enemy untuk wave spawning. Enemy di-reset dari EnemyPrototype saat obtain,
+ * GameLogic free saat enemy mati/keluar layar. Alokasi dihitung sama seperti ProjectilePools.
+ * Setiap Enemy punya row permanen di EnemyData, row enemy yang sedang dipakai diproses system
+ * ECS lewat family entity-nya (entity masuk/keluar Engine bersama GameState.enemies).
+ */
+public class EnemyPool extends Pool<Enemy> {
+    private final EnemyData data;
+    private int frameAllocations = 0;
+    private int totalAllocations = 0;
+
+    public EnemyPool(EnemyData data) {
+        this.data = data;
+    }
+
+    @Override
+    protected Enemy newObject() {
+        frameAllocations++;
+        totalAllocations++;
+        return new Enemy(data, EnemyType.BASIC, 0f, 0f);
+    }
+
+    public Enemy obtain(EnemyType type, float xCenter, float yCenter) {
+        Enemy e = obtain();
+        e.reset(EnemyPrototype.of(type), xCenter, yCenter);
+        return e;
+    }
+
+    /**
+     * Kembalikan semua enemy ke pool lalu kosongkan store-nya (restart stage)
+     */
+    public void freeAllAndClear(EntityStore<Enemy> enemies) {
+        enemies.clear(this::free);
+    }
+
+    public void beginFrame() {
+        frameAllocations = 0;
+    }
+
+    public int getFrameAllocations() { return frameAllocations; }
+    public int getTotalAllocations() { return totalAllocations; }
+}
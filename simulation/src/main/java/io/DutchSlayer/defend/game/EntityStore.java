@@ -0,0 +1,194 @@
+package io.DutchSlayer.defend.game;
+
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.IntArray;
+
+import java.util.Iterator;
+import java.util.function.Consumer;
+
+/**
+ * Koleksi entity dengan handle generasional (slot 16 bit + generation 16 bit).
+ *
+ * Item disimpan rapat (dense) untuk iterasi, removal pakai swap-remove O(1) jadi urutan tidak dijaga.
+ * destroy() hanya mengantri, item tetap ada sampai flush() yang dipanggil GameLogic sekali per tick,
+ * jadi loop yang sedang berjalan tidak pernah melihat array bergeser.
+ * Referensi antar entity (target tower, boss) disimpan sebagai handle dan di-resolve tiap kali dipakai:
+ * handle dari entity yang sudah di-destroy (atau slot yang dipakai ulang) resolve ke null.
+ * Listener opsional diberi tahu setiap item masuk/keluar (dipakai DefendEcs untuk sinkron ke Ashley Engine).
+ */
+public class EntityStore<T extends StoredEntity> implements Iterable<T> {
+    public static final int NULL_HANDLE = 0;  // Generation mulai dari 1, jadi 0 tidak pernah valid
+
+    private static final int SLOT_BITS = 16;
+    private static final int SLOT_MASK = (1 << SLOT_BITS) - 1;
+    private static final int MAX_GENERATION = 0xFFFF;
+
+    private final Array<T> dense = new Array<>();
+    private int[] denseSlot = new int[16];        // Dense index -> slot
+    private int[] slotDense = new int[16];        // Slot -> dense index
+    private int[] slotGeneration = new int[16];
+    private boolean[] slotPending = new boolean[16];
+    private int slotCount = 0;
+
+    private final IntArray freeSlots = new IntArray();
+    private final IntArray pending = new IntArray();
+    private Listener<? super T> listener;
+
+    public interface Listener<T> {
+        void added(T item);
+        void removed(T item);
+    }
+
+    public void setListener(Listener<? super T> listener) {
+        this.listener = listener;
+    }
+
+    /**
+     * Tambah item, handle langsung di-set ke item dan dikembalikan
+     */
+    public int add(T item) {
+        int slot;
+        if (freeSlots.size > 0) {
+            slot = freeSlots.pop();
+        } else {
+            if (slotCount > SLOT_MASK) {
+                throw new IllegalStateException("EntityStore full (" + slotCount + " slots)");
+            }
+            slot = slotCount++;
+            ensureSlotCapacity(slotCount);
+        }
+
+        int index = dense.size;
+        dense.add(item);
+        if (denseSlot.length < dense.size) {
+            denseSlot = resize(denseSlot, dense.size * 2);
+        }
+        denseSlot[index] = slot;
+        slotDense[slot] = index;
+        slotPending[slot] = false;
+
+        int gen = slotGeneration[slot];
+        if (gen == 0) gen = slotGeneration[slot] = 1;
+        int handle = (gen << SLOT_BITS) | slot;
+        item.setHandle(handle);
+        if (listener != null) listener.added(item);
+        return handle;
+    }
+
+    /**
+     * Item untuk handle, null jika handle basi atau item sudah diantri untuk destroy
+     */
+    public T resolve(int handle) {
+        int slot = handle & SLOT_MASK;
+        int gen = handle >>> SLOT_BITS;
+        if (gen == 0 || slot >= slotCount || slotGeneration[slot] != gen || slotPending[slot]) {
+            return null;
+        }
+        return dense.get(slotDense[slot]);
+    }
+
+    /**
+     * Antri item untuk dihapus di flush berikutnya (aman dipanggil berkali-kali)
+     */
+    public void destroy(T item) {
+        int handle = item.getHandle();
+        if (resolve(handle) != item) return;
+
+        int slot = handle & SLOT_MASK;
+        slotPending[slot] = true;
+        pending.add(slot);
+    }
+
+    public boolean isPendingDestroy(T item) {
+        int handle = item.getHandle();
+        int slot = handle & SLOT_MASK;
+        return slot < slotCount && slotGeneration[slot] == handle >>> SLOT_BITS && slotPending[slot];
+    }
+
+    public boolean isPendingDestroyAt(int index) {
+        return slotPending[denseSlot[index]];
+    }
+
+    /**
+     * Hapus semua item yang diantri dengan swap-remove, onRemoved dipanggil per item (mis. free ke pool)
+     */
+    public void flush(Consumer<T> onRemoved) {
+        for (int i = 0; i < pending.size; i++) {
+            int slot = pending.get(i);
+            int index = slotDense[slot];
+            int last = dense.size - 1;
+
+            T removed = dense.get(index);
+            if (index != last) {
+                int movedSlot = denseSlot[last];
+                dense.set(index, dense.get(last));
+                denseSlot[index] = movedSlot;
+                slotDense[movedSlot] = index;
+            }
+            dense.removeIndex(last);
+
+            releaseSlot(slot);
+            removed.setHandle(NULL_HANDLE);
+            if (listener != null) listener.removed(removed);
+            if (onRemoved != null) onRemoved.accept(removed);
+        }
+        pending.clear();
+    }
+
+    /**
+     * Hapus semua item langsung (restart stage), semua handle lama jadi basi
+     */
+    public void clear(Consumer<T> onRemoved) {
+        for (int i = 0; i < dense.size; i++) {
+            T item = dense.get(i);
+            releaseSlot(denseSlot[i]);
+            item.setHandle(NULL_HANDLE);
+            if (listener != null) listener.removed(item);
+            if (onRemoved != null) onRemoved.accept(item);
+        }
+        dense.clear();
+        pending.clear();
+    }
+
+    public void clear() {
+        clear(null);
+    }
+
+    private void releaseSlot(int slot) {
+        slotPending[slot] = false;
+        slotGeneration[slot] = slotGeneration[slot] >= MAX_GENERATION ? 1 : slotGeneration[slot] + 1;
+        freeSlots.add(slot);
+    }
+
+    private void ensureSlotCapacity(int count) {
+        if (slotDense.length >= count) return;
+        int n = Math.max(count, slotDense.length * 2);
+        slotDense = resize(slotDense, n);
+        slotGeneration = resize(slotGeneration, n);
+        boolean[] p = new boolean[n];
+        System.arraycopy(slotPending, 0, p, 0, slotPending.length);
+        slotPending = p;
+    }
+
+    private static int[] resize(int[] src, int n) {
+        int[] dst = new int[n];
+        System.arraycopy(src, 0, dst, 0, src.length);
+        return dst;
+    }
+
+    /* ===== DENSE ACCESS ===== */
+
+    public T get(int index) { return dense.get(index); }
+    public int size() { return dense.size; }
+    public boolean isEmpty() { return dense.size == 0; }
+
+    /**
+     * Array dense untuk iterasi/render, jangan dimodifikasi langsung
+     */
+    public Array<T> items() { return dense; }
+
+    @Override
+    public Iterator<T> iterator() {
+        return dense.iterator();
+    }
+}
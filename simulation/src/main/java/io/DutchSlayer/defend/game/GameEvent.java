@@ -0,0 +1,32 @@
+package io.DutchSlayer.defend.game;
+
+/**
+ * Event yang dikirim GameLogic sebagai pengganti side effect langsung
+ * (audio, setup UI win/lose, transisi musik boss).
+ */
+public enum GameEvent {
+    // Combat
+    AOE_TOWER_SHOT,
+    FAST_TOWER_SHOT,
+    SLOW_TOWER_SHOT,
+    ENEMY_SHOT,
+    BOSS_SHOT,
+    ENEMY_KILLED,
+    BOSS_DEFEATED,
+    TOWER_DESTROYED,
+
+    // Trap & bomb
+    ATTACK_TRAP_TRIGGERED,
+    SLOW_TRAP_TRIGGERED,
+    EXPLOSION_TRAP_TRIGGERED,
+    BOMB_EXPLODED,
+
+    // Boss music (Stage 4)
+    BOSS_APPROACHING,
+    BOSS_IN_POSITION,
+
+    // Progression
+    WAVE_STARTED,
+    GAME_OVER,
+    GAME_WON
+}
@@ -0,0 +1,11 @@
+package io.DutchSlayer.defend.game;
+
+/**
+ * Penerima event dari GameLogic. Screen memakai ini untuk audio dan UI,
+ * simulasi headless memakainya untuk statistik.
+ */
+public interface GameEventListener {
+    GameEventListener NONE = event -> { };
+
+    void onEvent(GameEvent event);
+}
@@ -0,0 +1,621 @@
+package io.DutchSlayer.defend.game;
+
+import com.badlogic.gdx.utils.Array;
+import io.DutchSlayer.defend.ecs.DefendEcs;
+import io.DutchSlayer.defend.ecs.systems.ArcProjectileSystem;
+import io.DutchSlayer.defend.ecs.systems.EnemyCleanupSystem;
+import io.DutchSlayer.defend.ecs.systems.EnemyProjectileMovementSystem;
+import io.DutchSlayer.defend.ecs.systems.EnemyStepSystem;
+import io.DutchSlayer.defend.ecs.systems.ProjectileHitSystem;
+import io.DutchSlayer.defend.ecs.systems.ProjectileMovementSystem;
+import io.DutchSlayer.defend.ecs.systems.TowerAnimationSystem;
+import io.DutchSlayer.defend.ecs.systems.TowerShootingSystem;
+import io.DutchSlayer.defend.entities.enemies.Enemy;
+import io.DutchSlayer.defend.entities.enemies.EnemyPrototype;
+import io.DutchSlayer.defend.entities.enemies.EnemyType;
+import io.DutchSlayer.defend.entities.projectiles.BombAsset;
+import io.DutchSlayer.defend.entities.projectiles.EnemyProjectile;
+import io.DutchSlayer.defend.entities.towers.Tower;
+import io.DutchSlayer.defend.entities.towers.TowerPrototype;
+import io.DutchSlayer.defend.entities.towers.TowerType;
+import io.DutchSlayer.defend.entities.traps.Trap;
+import io.DutchSlayer.defend.entities.traps.TrapType;
+
+/**
+ * Contains all game logic and update methods
+ * Tidak menyentuh audio/UI/texture secara langsung: semua side effect dikirim
+ * sebagai GameEvent, jadi bisa di-tick headless (lihat DefendSimulation)
+ *
+ * Satu tick = urutan step DefendEcs: efek/gerak/animasi enemy (satu loop di row EnemyData aktif), gerak
+ * projectile, tembak tower, hit projectile dan cleanup enemy dijalankan system di atas family component;
+ * fase global (cooldown, broadphase, AI enemy, collision enemy/trap/bomb, spawn, flush) didaftarkan
+ * sebagai PhaseSystem.
+ */
+public class GameLogic {
+    private final GameState gameState;
+    private final GameEventListener events;
+
+    private boolean musicFadeStarted = false;
+    private boolean bossMusicTriggered = false;
+
+    // Broadphase, di-rebuild tiap tick (lihat LaneIndex)
+    private final LaneIndex<Enemy> enemyIndex = new LaneIndex<>(Enemy::getBounds);
+    private final LaneIndex<Tower> towerIndex = new LaneIndex<>(Tower::getBounds);
+    private final TargetQuery targetQuery;
+    private final Array<Enemy> enemyHits = new Array<>();
+    private final Array<Tower> towerHits = new Array<>();
+
+    private final DefendEcs ecs;
+
+    public GameLogic(GameState gameState, GameEventListener events) {
+        this.gameState = gameState;
+        this.events = events;
+        this.targetQuery = new TargetQuery(enemyIndex, gameState.enemies);
+        this.ecs = new DefendEcs(gameState);
+        registerSystems();
+    }
+
+    /**
+     * Urutan tick. System dijalankan sesuai urutan daftar ini.
+     */
+    private void registerSystems() {
+        ecs.addPhase("cooldowns", this::updateCooldowns);
+        ecs.addPhase("traps", this::updateTraps);
+        ecs.addPhase("towerIndex", dt -> towerIndex.rebuild(gameState.towers));
+
+        ecs.addPhase("enemyAI", dt -> updateEnemyAI());
+        ecs.addSystem(new EnemyStepSystem(gameState.enemyData));
+        ecs.addPhase("enemies", dt -> updateEnemies());
+        ecs.addSystem(new EnemyProjectileMovementSystem());
+        ecs.addPhase("enemyProjectiles", dt -> updateEnemyProjectiles());
+        ecs.addPhase("bombs", this::updateBombs);
+
+        ecs.addPhase("enemyIndex", dt -> enemyIndex.rebuild(gameState.enemies));
+        ecs.addPhase("trapCollisions", dt -> updateTrapCollisions());
+        ecs.addSystem(new TowerAnimationSystem());
+        ecs.addSystem(new TowerShootingSystem(targetQuery, gameState, events));
+        ecs.addSystem(new ProjectileMovementSystem());
+        ecs.addSystem(new ArcProjectileSystem());
+        ecs.addSystem(new ProjectileHitSystem(enemyIndex, gameState.projectiles));
+        ecs.addSystem(new EnemyCleanupSystem(gameState, events, this::onBossDefeated));
+        ecs.addPhase("flush", dt -> flushDestroyed());
+        ecs.addPhase("waveSpawning", this::updateWaveSpawning);
+        ecs.addPhase("gold", this::updateGoldIncome);
+        ecs.addPhase("bossMusic", dt -> {
+            if (!gameState.isGameWon && !gameState.isGameOver) {
+                updateBossMusicTransition();
+            }
+        });
+    }
+
+    /**
+     * Setup main tower, deploy zones dan trap zones untuk stage baru
+     */
+    public void initializeGameWorld() {
+        // Initialize main tower
+        spawnMainTower(GameConstants.GROUND_Y + 95f);
+
+        float baseSpacing = 150f;          // Base jarak antar zone (bisa diubah)
+        float additionalGap = 20f;         // Extra gap antar tower (bisa diubah)
+        float totalSpacing = baseSpacing + additionalGap;
+
+        float firstCenter = 100f + totalSpacing;
+        float[] zoneCenters = {
+            firstCenter,
+            firstCenter + totalSpacing,
+            firstCenter + totalSpacing*2
+        };
+
+        for (float cx : zoneCenters) {
+            float w = 40f;
+            float h = 40f;
+            float x0 = cx - w / 2f;
+            float y0 = GameConstants.GROUND_Y;
+            float skew = 50f;
+            float[] verts = new float[]{
+                x0, y0,
+                x0 + w, y0,
+                x0 + w + skew, y0 - h,
+                x0 + skew, y0 - h
+            };
+            gameState.zones.add(new Zone(verts));
+        }
+
+        // Initialize trap zones
+        int numTrapZones = 3;
+        float trapFirstCx = firstCenter + totalSpacing*3;
+        float trapY0 = GameConstants.GROUND_Y;
+        float trapWidth = 40f;
+        float trapHeight = 40f;
+        float skew = 50f;
+
+        for (int i = 0; i < numTrapZones; i++) {
+            float cx = trapFirstCx + i * totalSpacing;
+            float x0 = cx - trapWidth/2;
+            float y0 = trapY0;
+            float[] v = {
+                x0, y0,
+                x0 + trapWidth, y0,
+                x0 + trapWidth + skew, y0 - trapHeight,
+                x0 + skew, y0 - trapHeight
+            };
+            gameState.trapVerts.add(v);
+            gameState.trapZones.add(new Trap(v, 0.2f, TrapType.ATTACK));
+        }
+    }
+
+    public Tower spawnMainTower(float centerY) {
+        TowerPrototype prototype = TowerPrototype.of(TowerType.BASIC);
+        Tower mainTower = new Tower(100, centerY, prototype.scale, false, true, TowerType.BASIC,
+            prototype.health, prototype.projectileScale);
+        gameState.towers.add(mainTower);
+        return mainTower;
+    }
+
+    /**
+     * Pasang tower di zone (tanpa cek gold/cooldown, itu tugas pemanggil)
+     */
+    public Tower deployTower(Zone z, TowerType type) {
+        TowerPrototype prototype = TowerPrototype.of(type);
+        float cx = z.getCenterX();
+        float cy = GameConstants.GROUND_Y + prototype.yOffset;
+
+        Tower tower = new Tower(cx, cy, prototype.scale, true, false,
+            type, prototype.health, prototype.projectileScale);
+
+        tower.setOccupiedZone(z);
+        gameState.towers.add(tower);
+        gameState.deployedTowerZones.add(z);
+        z.occupied = true;
+        return tower;
+    }
+
+    /**
+     * Pasang trap di trap zone (tanpa cek gold/cooldown, itu tugas pemanggil)
+     */
+    public Trap deployTrap(int trapIdx, TrapType trapType) {
+        Trap trap = new Trap(gameState.trapVerts.get(trapIdx), 0.2f, trapType);
+        trap.occupied = true;
+        gameState.trapZones.set(trapIdx, trap);
+        return trap;
+    }
+
+    public void update(float delta) {
+        if (gameState.isPaused || gameState.isGameOver) {
+            gameState.updateButtonPressTimer(delta);
+            return;
+        }
+        gameState.updateButtonPressTimer(delta);
+        gameState.pools.beginFrame();
+        gameState.enemyPool.beginFrame();
+
+        ecs.update(delta);
+    }
+
+    private void updateCooldowns(float delta) {
+        // Update tower cooldowns
+        for (int i = 0; i < 3; i++) {
+            if (gameState.towerCooldownActive[i]) {
+                gameState.towerCooldowns[i] -= delta;
+                if (gameState.towerCooldowns[i] <= 0f) {
+                    gameState.towerCooldownActive[i] = false;
+                    gameState.towerCooldowns[i] = 0f;
+                }
+            }
+        }
+
+        // Update trap cooldowns
+        for (int i = 0; i < 3; i++) {
+            if (gameState.trapCooldownActive[i]) {
+                gameState.trapCooldowns[i] -= delta;
+                if (gameState.trapCooldowns[i] <= 0f) {
+                    gameState.trapCooldownActive[i] = false;
+                    gameState.trapCooldowns[i] = 0f;
+                }
+            }
+        }
+    }
+
+    private void updateTraps(float delta) {
+        for (Trap trap : gameState.trapZones) {
+            trap.update(delta);
+        }
+    }
+
+    /**
+     * AI per enemy (state machine, tembak), decay efek, gerak dan animasi menyusul di EnemyStepSystem
+     */
+    private void updateEnemyAI() {
+        for (int i = gameState.enemies.size() - 1; i >= 0; i--) {
+            gameState.enemies.get(i).updateAI();
+        }
+    }
+
+    /**
+     * Collision enemy ke tower, enemy keluar layar dan shield, posisi sudah di-step EnemyStepSystem
+     */
+    private void updateEnemies() {
+        for (int i = gameState.enemies.size() - 1; i >= 0; i--) {
+            Enemy e = gameState.enemies.get(i);
+
+            // Check collision with towers
+            Tower t = towerIndex.firstOverlap(e.getBounds());
+            if (t != null) {
+                handleEnemyTowerCollision(e, t);
+            }
+
+            // Remove enemies that went off-screen
+            if (e.getX() < -e.getWidth()/2) {
+                gameState.enemies.destroy(e);
+            }
+        }
+
+        // Shield protection mechanism
+        for (int i = 0; i < gameState.enemies.size(); i++) {
+            Enemy e = gameState.enemies.get(i);
+            if (e.getType() == EnemyType.BASIC) {
+                e.seekProtection(gameState.enemies.items());
+            }
+        }
+    }
+
+    private void handleEnemyTowerCollision(Enemy e, Tower t) {
+        if (e.getType() == EnemyType.BOMBER) {
+            // Bomber drops bomb
+            float dropX = e.getX();
+            float dropY = e.getBounds().y + e.getBounds().height/2;
+
+            gameState.bombs.add(gameState.pools.obtainBomb(dropX, dropY));
+
+            gameState.enemies.destroy(e);
+        } else if (e.canAttack()) {
+            int damage = 1;
+
+            if (damage > 0) {
+                t.takeDamage(damage);
+            }
+            e.knockback();
+
+            if (t.isDestroyed()) {
+                gameState.towers.destroy(t);
+                onTowerDestroyed(t);
+            }
+        }
+    }
+
+    /**
+     * Collision enemy projectile ke tower, posisi sudah di-step MovementSystem
+     */
+    private void updateEnemyProjectiles() {
+        for (int i = gameState.enemyProjectiles.size() - 1; i >= 0; i--) {
+            EnemyProjectile ep = gameState.enemyProjectiles.get(i);
+
+            Tower t = towerIndex.firstOverlap(ep.getBounds());
+            boolean hit = t != null;
+            if (hit) {
+                t.takeDamage(ep.getDamage());
+
+                if (t.isDestroyed()) {
+                    gameState.towers.destroy(t);
+                    onTowerDestroyed(t);
+                }
+            }
+
+            if (hit || ep.getX() < -50f) {
+                gameState.enemyProjectiles.destroy(ep);
+            }
+        }
+    }
+
+    private void updateBombs(float delta) {
+        for (int i = gameState.bombs.size() - 1; i >= 0; i--) {
+            BombAsset bomb = gameState.bombs.get(i);
+            bomb.update(delta);
+
+            if (bomb.shouldExplode()) {
+                events.onEvent(GameEvent.BOMB_EXPLODED);
+                handleBombExplosion(bomb);
+            }
+
+            if (bomb.hasExploded()) {
+                gameState.bombs.destroy(bomb);
+            }
+        }
+    }
+
+    private void updateTrapCollisions() {
+        for (int trapIdx = 0; trapIdx < gameState.trapZones.size; trapIdx++) {
+            Trap trap = gameState.trapZones.get(trapIdx);
+
+            if (!trap.occupied || trap.isUsed()) continue;
+
+            Enemy e = enemyIndex.firstOverlap(trap.bounds);
+            if (e == null) continue;
+
+            switch (trap.getType()) {
+                case ATTACK:
+                    events.onEvent(GameEvent.ATTACK_TRAP_TRIGGERED);
+                    e.takeDamage(1);
+                    e.slow(2f);
+                    break;
+                case SLOW:
+                    events.onEvent(GameEvent.SLOW_TRAP_TRIGGERED);
+                    e.slowHeavy(5f, 0.1f);
+                    break;
+                case EXPLOSION:
+                    events.onEvent(GameEvent.EXPLOSION_TRAP_TRIGGERED);
+                    handleExplosionTrap(trap);
+                    break;
+            }
+
+            trap.occupied = false;
+            System.out.println("💥 Trap consumed!");
+        }
+    }
+
+    /**
+     * Handle bomb explosion dengan proper zone reset
+     */
+    private void handleBombExplosion(BombAsset bomb) {
+        // Explode bomb (damage towers dalam radius, dikumpulkan di towerHits)
+        towerHits.clear();
+        bomb.explode(towerIndex, towerHits);
+
+        // Check dan reset zones untuk towers yang hancur
+        for (Tower t : towerHits) {
+            if (t.isDestroyed() && !gameState.towers.isPendingDestroy(t)) {
+                gameState.towers.destroy(t);
+                onTowerDestroyed(t);
+            }
+        }
+    }
+
+    private void handleExplosionTrap(Trap trap) {
+        float trapX = trap.getCenterX();
+        float trapY = trap.getCenterY();
+        float explosionRadius = 250f;
+        int explosionDamage = 2;
+
+        enemyHits.clear();
+        enemyIndex.queryRadius(trapX, trapY, explosionRadius, enemyHits);
+        for (Enemy target : enemyHits) {
+            if (!target.isDestroyed()) {
+                target.takeDamage(explosionDamage);
+            }
+        }
+    }
+
+    /**
+     * Hapus semua entity yang di-destroy selama tick ini (swap-remove) dan kembalikan ke pool
+     */
+    private void flushDestroyed() {
+        gameState.enemies.flush(gameState.enemyPool::free);
+        gameState.towers.flush(null);
+        gameState.projectiles.flush(gameState.pools::free);
+        gameState.enemyProjectiles.flush(gameState.pools::free);
+        gameState.bombs.flush(gameState.pools::free);
+    }
+
+    /**
+     * Hapus tower di luar tick (remove mode di UI), langsung di-flush karena tidak ada loop yang berjalan
+     */
+    public void removeTower(Tower t) {
+        gameState.towers.destroy(t);
+        gameState.towers.flush(null);
+        towerIndex.rebuild(gameState.towers);
+    }
+
+    private void updateWaveSpawning(float delta) {
+        if (gameState.spawnCount < gameState.enemiesThisWave) {
+            gameState.spawnTimer += delta;
+            if (gameState.spawnTimer > 2f) {
+                gameState.spawnTimer = 0f;
+                spawnEnemy();
+                gameState.spawnCount++;
+            }
+        }
+
+        // Wave completion check
+        if (gameState.spawnCount >= gameState.enemiesThisWave && gameState.enemies.isEmpty()) {
+            if (!gameState.isWaveTransition && !gameState.waveCompleteBonusGiven) {
+                int waveBonus = 50 + (gameState.currentWave * 10);
+                gameState.gold += waveBonus;
+                gameState.waveCompleteBonusGiven = true;
+
+                if (gameState.currentWave < GameConstants.MAX_WAVE) {
+                    gameState.isWaveTransition = true;
+                    gameState.waveTransitionTimer = 0f;
+                } else {
+                    gameState.isGameWon = true;
+                    events.onEvent(GameEvent.GAME_WON);
+                }
+            }
+
+            if (gameState.isWaveTransition) {
+                gameState.waveTransitionTimer += delta;
+
+                if (gameState.waveTransitionTimer >= GameConstants.WAVE_TRANSITION_DELAY) {
+                    gameState.currentWave++;
+                    gameState.enemiesThisWave += 5;
+                    gameState.spawnCount = 0;
+                    gameState.bossSpawned = false;
+                    gameState.isWaveTransition = false;
+                    gameState.waveTransitionTimer = 0f;
+                    gameState.waveCompleteBonusGiven = false;
+                    events.onEvent(GameEvent.WAVE_STARTED);
+
+                    System.out.println("🚀 Starting Wave " + gameState.currentWave + " with " + gameState.enemiesThisWave + " enemies!");
+                }
+            }
+        }
+    }
+
+    private void spawnEnemy() {
+        EnemyType enemyType = determineEnemyType();
+        float enemyY = GameConstants.GROUND_Y + EnemyPrototype.of(enemyType).yOffset;
+        Enemy newEnemy = gameState.enemyPool.obtain(enemyType, 1280, enemyY);
+        newEnemy.setReferences(gameState.towers, gameState.enemyProjectiles, gameState.pools, events);
+        gameState.enemies.add(newEnemy);
+
+        if (enemyType == EnemyType.BOSS) {
+            gameState.currentBossHandle = newEnemy.getHandle(); // Set boss reference immediately
+        }
+    }
+
+    private EnemyType determineEnemyType() {
+        switch(gameState.currentStage) {
+            case 1:
+                return gameState.random.nextFloat() < 0.7f ? EnemyType.BASIC : EnemyType.SHIELD;
+            case 2:
+                float rand2 = gameState.random.nextFloat();
+                if (rand2 < 0.5f) return EnemyType.BASIC;
+                else if (rand2 < 0.8f) return EnemyType.SHIELD;
+                else return EnemyType.SHOOTER;
+            case 3:
+                float rand3 = gameState.random.nextFloat();
+                if (rand3 < 0.3f) return EnemyType.BASIC;
+                else if (rand3 < 0.5f) return EnemyType.SHOOTER;
+                else if (rand3 < 0.7f) return EnemyType.BOMBER;
+                else return EnemyType.SHIELD;
+            case 4:
+                if (gameState.currentWave == 3 && !gameState.bossSpawned) {
+                    if (gameState.spawnCount >= gameState.enemiesThisWave - 1) {
+                        gameState.bossSpawned = true;
+                        return EnemyType.BOSS;
+                    }
+                    if (gameState.random.nextFloat() < 0.8f) {
+                        gameState.bossSpawned = true;
+                        return EnemyType.BOSS;
+                    }
+                }
+                float rand4 = gameState.random.nextFloat();
+                if (rand4 < GameConstants.BASIC_SPAWN_CHANCE) {
+                    return EnemyType.BASIC;
+                } else if (rand4 < GameConstants.BASIC_SPAWN_CHANCE + GameConstants.SHOOTER_SPAWN_CHANCE) {
+                    return EnemyType.SHOOTER;
+                } else if (rand4 < GameConstants.BASIC_SPAWN_CHANCE + GameConstants.SHOOTER_SPAWN_CHANCE + GameConstants.BOMBER_SPAWN_CHANCE) {
+                    return EnemyType.BOMBER;
+                } else {
+                    return EnemyType.SHIELD;
+                }
+            default:
+                return EnemyType.BASIC;
+        }
+    }
+
+    private void updateGoldIncome(float delta) {
+        gameState.goldTimer += delta;
+        if (gameState.goldTimer >= GameConstants.INCOME_INTERVAL) {
+            gameState.gold += GameConstants.INCOME_AMOUNT;
+            gameState.goldTimer -= GameConstants.INCOME_INTERVAL;
+        }
+    }
+
+    /**
+     * Handle music transition untuk Stage 4 Boss
+     */
+    private void updateBossMusicTransition() {
+        // Hanya untuk Stage 4
+
+        if (gameState.isGameWon || gameState.isGameOver) {
+            return; // Prevent boss music interference dengan victory/defeat music
+        }
+
+        if (gameState.currentStage != 4) return;
+
+        // ===== TRIGGER 1: Wave 2 Complete -> Start Fade Out =====
+        Enemy currentBoss = null;
+        for (Enemy enemy : gameState.enemies) {
+            if (enemy.getType() == EnemyType.BOSS && !enemy.isDestroyed()) {
+                currentBoss = enemy;
+                gameState.currentBossHandle = enemy.getHandle();
+                break;
+            }
+        }
+
+        // ===== TRIGGER 2: Boss Detection and Position Monitoring =====
+        // ===== STEP 2: Jika ada boss, mulai music transition =====
+        if (currentBoss != null) {
+            if (!musicFadeStarted && currentBoss.getX() <= 1200f) {
+                events.onEvent(GameEvent.BOSS_APPROACHING);
+                musicFadeStarted = true;
+            }
+
+            if (musicFadeStarted && !bossMusicTriggered) {
+                boolean bossInPosition = currentBoss.getX() <= 1100f ||
+                    currentBoss.hasReachedTarget() ||
+                    currentBoss.getState().name().equals("STATIONARY");
+
+                if (bossInPosition) {
+                    events.onEvent(GameEvent.BOSS_IN_POSITION);
+                    bossMusicTriggered = true;
+                }
+            }
+        }
+    }
+
+    /**
+     * Dipanggil setelah tower hancur di-destroy dari gameState.towers (index dibangun ulang tanpa tower itu)
+     */
+    private void onTowerDestroyed(Tower t) {
+        towerIndex.rebuild(gameState.towers);
+        resetTowerZone(t);
+        events.onEvent(GameEvent.TOWER_DESTROYED);
+
+        if (t.isMain) {
+            gameState.isGameOver = true;
+            gameState.isGameWon = false;
+            events.onEvent(GameEvent.GAME_OVER);
+            System.out.println("💀 MAIN TOWER DESTROYED! GAME OVER!");
+        }
+    }
+
+    /**
+     * Reset zone ketika tower hancur
+     * param destroyedTower Objek Tower yang baru saja hancur
+     */
+    private void resetTowerZone(Tower destroyedTower) {
+        if (destroyedTower.isMain) {
+            return;
+        }
+
+        Zone zoneToReset = destroyedTower.getOccupiedZone();
+
+        if (zoneToReset != null) {
+            zoneToReset.occupied = false;
+            gameState.deployedTowerZones.removeValue(zoneToReset, true);
+        }
+    }
+
+    /**
+     * Boss mati (EnemyCleanupSystem), flag musik di-reset untuk wave berikutnya
+     */
+    private void onBossDefeated() {
+        bossMusicTriggered = false;
+        musicFadeStarted = false;
+    }
+
+    public void resetBossMusicState() {
+        musicFadeStarted = false;
+        bossMusicTriggered = false;
+        gameState.clearBossReference();
+    }
+
+    public void startTowerCooldown(int towerIndex) {
+        gameState.towerCooldowns[towerIndex] = GameConstants.TOWER_MAX_COOLDOWNS[towerIndex];
+        gameState.towerCooldownActive[towerIndex] = true;
+    }
+
+    public void startTrapCooldown(int trapIndex) {
+        gameState.trapCooldowns[trapIndex] = GameConstants.TRAP_MAX_COOLDOWNS[trapIndex];
+        gameState.trapCooldownActive[trapIndex] = true;
+    }
+
+    public boolean canDeployTower(int towerIndex) {
+        return !gameState.towerCooldownActive[towerIndex];
+    }
+
+    public boolean canDeployTrap(int trapIndex) {
+        return !gameState.trapCooldownActive[trapIndex];
+    }
+}
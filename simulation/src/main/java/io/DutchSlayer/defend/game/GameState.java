@@ -1,30 +1,36 @@
 package io.DutchSlayer.defend.game;
 
+import com.badlogic.gdx.math.RandomXS128;
 import com.badlogic.gdx.utils.Array;
 import io.DutchSlayer.defend.entities.enemies.Enemy;
+import io.DutchSlayer.defend.entities.enemies.EnemyData;
 import io.DutchSlayer.defend.entities.projectiles.BombAsset;
 import io.DutchSlayer.defend.entities.projectiles.EnemyProjectile;
 import io.DutchSlayer.defend.entities.projectiles.Projectile;
 import io.DutchSlayer.defend.entities.towers.Tower;
 import io.DutchSlayer.defend.entities.traps.Trap;
-import io.DutchSlayer.defend.screens.TowerDefenseScreen;
 
 /**
  * Manages all game state variables and entities
  */
 public class GameState {
-    // Game entities
-    public final Array<EnemyProjectile> enemyProjectiles = new Array<>();
-    public final Array<BombAsset> bombs = new Array<>();
-    public final Array<Tower> towers = new Array<>();
-    public final Array<Enemy> enemies = new Array<>();
-    public final Array<Projectile> projectiles = new Array<>();
+    // Game entities (handle generasional + destroy di-flush sekali per tick, lihat EntityStore)
+    public final EntityStore<EnemyProjectile> enemyProjectiles = new EntityStore<>();
+    public final EntityStore<BombAsset> bombs = new EntityStore<>();
+    public final EntityStore<Tower> towers = new EntityStore<>();
+    public final EntityStore<Enemy> enemies = new EntityStore<>();
+    public final EntityStore<Projectile> projectiles = new EntityStore<>();
     public final Array<Trap> trapZones = new Array<>();
     public final Array<float[]> trapVerts = new Array<>();
 
+    // Pool projectile/bomb (lihat ProjectilePools), enemy di-pool dengan state di EnemyData (SoA)
+    public final ProjectilePools pools = new ProjectilePools();
+    public final EnemyData enemyData = new EnemyData();
+    public final EnemyPool enemyPool = new EnemyPool(enemyData);
+
     // Deploy zones
-    public final Array<TowerDefenseScreen.Zone> zones = new Array<>();
-    public final Array<TowerDefenseScreen.Zone> deployedTowerZones = new Array<>();
+    public final Array<Zone> zones = new Array<>();
+    public final Array<Zone> deployedTowerZones = new Array<>();
 
     // Game progression
     public int gold = 80;
@@ -44,13 +50,13 @@ public class GameState {
     public float waveTransitionTimer = 0f;
 
     // UI Selection
-    public TowerDefenseScreen.NavItem selectedType;
+    public NavItem selectedType;
     public Tower selectedTowerUI;
 
     // Boss introduction
     public boolean isBossIntroduction = false;
     public float bossIntroTimer = 0f;
-    public Enemy currentBoss = null;
+    public int currentBossHandle = EntityStore.NULL_HANDLE;
 
     // Mouse tracking
     public boolean isRemoveButtonHovered = false;
@@ -60,6 +66,9 @@ public class GameState {
     // Current stage
     public final int currentStage;
 
+    // Random untuk spawn, seed bisa di-set supaya simulasi reproducible
+    public final RandomXS128 random;
+
     // Cooldown system
     public final float[] towerCooldowns = new float[3];
     public final float[] trapCooldowns = new float[3];
@@ -80,7 +89,12 @@ public class GameState {
 
 
     public GameState(int stage) {
+        this(stage, System.nanoTime());
+    }
+
+    public GameState(int stage, long seed) {
         this.currentStage = stage;
+        this.random = new RandomXS128(seed);
         initializeStageSettings(stage);
     }
 
@@ -113,11 +127,18 @@ public class GameState {
      * Clear boss reference (dipanggil saat boss mati atau game restart)
      */
     public void clearBossReference() {
-        currentBoss = null;
+        currentBossHandle = EntityStore.NULL_HANDLE;
         isBossIntroduction = false;
         bossIntroTimer = 0f;
     }
 
+    /**
+     * Boss yang sedang aktif, null jika belum spawn atau sudah dihapus
+     */
+    public Enemy getCurrentBoss() {
+        return enemies.resolve(currentBossHandle);
+    }
+
     // Method untuk reset semua button states
     public void resetButtonStates() {
         isMenuButtonPressed = false;
@@ -0,0 +1,138 @@
+package io.DutchSlayer.defend.game;
+
+import com.badlogic.gdx.math.Rectangle;
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.Sort;
+
+import java.util.Comparator;
+import java.util.function.Function;
+
+/**
+ * Broadphase untuk lane defend mode: entity diurutkan berdasarkan bounds.x (kiri),
+ * query overlap/radius cukup binary search ke awal rentang x lalu scan kandidat di rentang itu.
+ *
+ * Di-rebuild sekali per tick setelah posisi berubah. Urutan tick sebelumnya sudah hampir
+ * terurut (enemy jalan searah dengan kecepatan mirip), jadi TimSort dari Sort hampir linear.
+ * Query jadi O(log n + k) menggantikan loop O(n) per projectile/trap/bomb.
+ */
+public class LaneIndex<T> {
+    private final Function<T, Rectangle> boundsOf;
+    private final Comparator<T> byMinX;
+    private final Array<T> sorted = new Array<>();
+    private float[] minX = new float[16];
+    private float maxWidth = 0f;
+
+    public LaneIndex(Function<T, Rectangle> boundsOf) {
+        this.boundsOf = boundsOf;
+        this.byMinX = (a, b) -> Float.compare(boundsOf.apply(a).x, boundsOf.apply(b).x);
+    }
+
+    /**
+     * Isi ulang index dari source. Dipanggil setiap kali posisi/anggota berubah.
+     */
+    public void rebuild(Array<T> source) {
+        sorted.clear();
+        sorted.addAll(source);
+        sortAndCache();
+    }
+
+    /**
+     * Isi ulang dari EntityStore, item yang sedang diantri destroy dilewati
+     */
+    public void rebuild(EntityStore<? extends T> source) {
+        sorted.clear();
+        for (int i = 0; i < source.size(); i++) {
+            if (!source.isPendingDestroyAt(i)) sorted.add(source.get(i));
+        }
+        sortAndCache();
+    }
+
+    private void sortAndCache() {
+        Sort.instance().sort(sorted, byMinX);
+
+        if (minX.length < sorted.size) {
+            minX = new float[Math.max(sorted.size, minX.length * 2)];
+        }
+
+        maxWidth = 0f;
+        for (int i = 0; i < sorted.size; i++) {
+            Rectangle b = boundsOf.apply(sorted.get(i));
+            minX[i] = b.x;
+            if (b.width > maxWidth) maxWidth = b.width;
+        }
+    }
+
+    /**
+     * Index pertama yang bounds-nya mungkin mencapai x (minX >= x - maxWidth)
+     */
+    private int lowerBound(float x) {
+        float key = x - maxWidth;
+        int lo = 0, hi = sorted.size;
+        while (lo < hi) {
+            int mid = (lo + hi) >>> 1;
+            if (minX[mid] < key) lo = mid + 1;
+            else hi = mid;
+        }
+        return lo;
+    }
+
+    /**
+     * Semua entity yang bounds-nya overlap area, ditambahkan ke out (out tidak di-clear)
+     */
+    public void queryOverlaps(Rectangle area, Array<T> out) {
+        float right = area.x + area.width;
+        for (int i = lowerBound(area.x); i < sorted.size && minX[i] <= right; i++) {
+            T item = sorted.get(i);
+            if (boundsOf.apply(item).overlaps(area)) {
+                out.add(item);
+            }
+        }
+    }
+
+    /**
+     * Entity pertama (paling kiri) yang overlap area, atau null
+     */
+    public T firstOverlap(Rectangle area) {
+        float right = area.x + area.width;
+        for (int i = lowerBound(area.x); i < sorted.size && minX[i] <= right; i++) {
+            T item = sorted.get(i);
+            if (boundsOf.apply(item).overlaps(area)) {
+                return item;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Semua entity yang center bounds-nya dalam radius dari (cx, cy), ditambahkan ke out
+     */
+    public void queryRadius(float cx, float cy, float radius, Array<T> out) {
+        float radiusSquared = radius * radius;
+        float right = cx + radius;
+        for (int i = lowerBound(cx - radius); i < sorted.size && minX[i] <= right; i++) {
+            T item = sorted.get(i);
+            Rectangle b = boundsOf.apply(item);
+            float dx = b.x + b.width * 0.5f - cx;
+            float dy = b.y + b.height * 0.5f - cy;
+            if (dx * dx + dy * dy <= radiusSquared) {
+                out.add(item);
+            }
+        }
+    }
+
+    /**
+     * Index pertama dengan bounds.x >= x (inclusive) atau > x (exclusive), untuk query rentang slot
+     */
+    public int indexOfMinX(float x, boolean inclusive) {
+        int lo = 0, hi = sorted.size;
+        while (lo < hi) {
+            int mid = (lo + hi) >>> 1;
+            if (inclusive ? minX[mid] < x : minX[mid] <= x) lo = mid + 1;
+            else hi = mid;
+        }
+        return lo;
+    }
+
+    public int size() { return sorted.size; }
+    public T get(int i) { return sorted.get(i); }
+}
@@ -0,0 +1,10 @@
+package io.DutchSlayer.defend.game;
+
+/**
+ * Item navbar yang bisa dipilih player (tower, trap, atau mode remove)
+ */
+public enum NavItem {
+    T1, T2, T3,
+    TRAP1, TRAP2, TRAP3,
+    REMOVE
+}
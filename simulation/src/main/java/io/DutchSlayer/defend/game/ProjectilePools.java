@@ -0,0 +1,165 @@
+package io.DutchSlayer.defend.game;
+
+import com.badlogic.gdx.utils.Pool;
+import io.DutchSlayer.defend.entities.projectiles.AoeProjectile;
+import io.DutchSlayer.defend.entities.projectiles.BombAsset;
+import io.DutchSlayer.defend.entities.projectiles.EnemyProjectile;
+import io.DutchSlayer.defend.entities.projectiles.Projectile;
+import io.DutchSlayer.defend.entities.projectiles.SlowProjectile;
+import io.DutchSlayer.defend.entities.towers.TowerType;
+
+/**
+ * Pool per jenis projectile defend mode. Tower/enemy obtain dari sini, GameLogic free saat projectile dihapus.
+ *
+ * Setiap newObject() dihitung: setelah pool terisi (warm-up), combat steady-state harus 0 alokasi per tick.
+ * Counter frame di-reset oleh GameLogic di awal setiap update.
+ */
+public class ProjectilePools {
+    private int frameAllocations = 0;
+    private int totalAllocations = 0;
+
+    private final Pool<Projectile> basic = new CountingPool<>() {
+        @Override
+        protected Projectile create() {
+            return new Projectile(TowerType.BASIC, 0f, 0f, 0f, 1f, 0f, 0);
+        }
+    };
+
+    private final Pool<Projectile> fast = new CountingPool<>() {
+        @Override
+        protected Projectile create() {
+            return new Projectile(TowerType.FAST, 0f, 0f, 0f, 1f, 0f, 0);
+        }
+    };
+
+    private final Pool<AoeProjectile> aoe = new CountingPool<>() {
+        @Override
+        protected AoeProjectile create() {
+            return new AoeProjectile(0f, 0f, 1f, 0f, 0f, 1f, 0, 1f);
+        }
+    };
+
+    private final Pool<SlowProjectile> slow = new CountingPool<>() {
+        @Override
+        protected SlowProjectile create() {
+            return new SlowProjectile(0f, 0f, 0f, 0f, 1f, 0f);
+        }
+    };
+
+    private final Pool<EnemyProjectile> enemy = new CountingPool<>() {
+        @Override
+        protected EnemyProjectile create() {
+            return EnemyProjectile.createShooterProjectile(0f, 0f, 0);
+        }
+    };
+
+    private final Pool<BombAsset> bomb = new CountingPool<>() {
+        @Override
+        protected BombAsset create() {
+            return new BombAsset(0f, 0f);
+        }
+    };
+
+    /**
+     * Pool yang menghitung alokasi baru (pool miss)
+     */
+    private abstract class CountingPool<T> extends Pool<T> {
+        @Override
+        protected final T newObject() {
+            frameAllocations++;
+            totalAllocations++;
+            return create();
+        }
+
+        protected abstract T create();
+    }
+
+    /* ===== TOWER PROJECTILES ===== */
+
+    public Projectile obtainProjectile(TowerType type, float startX, float startY, float targetX,
+                                       float scale, float speed, int damage) {
+        Projectile p = (type == TowerType.FAST ? fast : basic).obtain();
+        p.reset(startX, startY, targetX, scale, speed, damage);
+        return p;
+    }
+
+    public AoeProjectile obtainAoe(float startX, float startY, float targetX, float targetY,
+                                   float radius, float scale, int damage, float speed) {
+        AoeProjectile p = aoe.obtain();
+        p.reset(startX, startY, targetX, targetY, radius, scale, damage, speed);
+        return p;
+    }
+
+    public SlowProjectile obtainSlow(float startX, float startY, float targetX,
+                                     float slowDuration, float scale, float speed) {
+        SlowProjectile p = slow.obtain();
+        p.reset(startX, startY, targetX, slowDuration, scale, 0, speed);
+        return p;
+    }
+
+    public void free(Projectile p) {
+        if (p instanceof AoeProjectile a) {
+            aoe.free(a);
+        } else if (p instanceof SlowProjectile s) {
+            slow.free(s);
+        } else if (p.sourceType == TowerType.FAST) {
+            fast.free(p);
+        } else {
+            basic.free(p);
+        }
+    }
+
+    /* ===== ENEMY PROJECTILES & BOMB ===== */
+
+    public EnemyProjectile obtainShooterProjectile(float startX, float startY, int damage) {
+        EnemyProjectile ep = enemy.obtain();
+        ep.resetAsShooter(startX, startY, damage);
+        return ep;
+    }
+
+    public EnemyProjectile obtainBossProjectile(float startX, float startY, int damage) {
+        EnemyProjectile ep = enemy.obtain();
+        ep.resetAsBoss(startX, startY, damage);
+        return ep;
+    }
+
+    public void free(EnemyProjectile ep) {
+        enemy.free(ep);
+    }
+
+    public BombAsset obtainBomb(float dropX, float dropY) {
+        BombAsset b = bomb.obtain();
+        b.reset(dropX, dropY);
+        return b;
+    }
+
+    public void free(BombAsset b) {
+        bomb.free(b);
+    }
+
+    /**
+     * Kembalikan semua projectile yang masih aktif ke pool lalu kosongkan array-nya (restart stage)
+     */
+    public void freeAll(GameState gameState) {
+        gameState.projectiles.clear(this::free);
+        gameState.enemyProjectiles.clear(this::free);
+        gameState.bombs.clear(this::free);
+    }
+
+    /* ===== ALLOCATION COUNTER ===== */
+
+    public void beginFrame() {
+        frameAllocations = 0;
+    }
+
+    public int getFrameAllocations() { return frameAllocations; }
+    public int getTotalAllocations() { return totalAllocations; }
+
+    /**
+     * Jumlah object idle per pool, untuk debug overlay/log
+     */
+    public int getFreeCount() {
+        return basic.getFree() + fast.getFree() + aoe.getFree() + slow.getFree()
+            + enemy.getFree() + bomb.getFree();
+    }
+}
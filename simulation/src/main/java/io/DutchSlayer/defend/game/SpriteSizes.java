@@ -0,0 +1,116 @@
+package io.DutchSlayer.defend.game;
+
+import io.DutchSlayer.defend.entities.enemies.EnemyType;
+import io.DutchSlayer.defend.entities.towers.TowerType;
+import io.DutchSlayer.defend.entities.traps.TrapType;
+
+/**
+ * Ukuran pixel asli sprite defend mode (sebelum scaling).
+ * Dipakai simulasi untuk menghitung bounds tanpa membaca Texture.getWidth(),
+ * jadi GameLogic bisa jalan tanpa GL context.
+ * Nilai harus sama dengan file PNG di assets/Defend.
+ */
+public final class SpriteSizes {
+
+    /* ===== ENEMY (Defend/Enemy/Dutch*.png) ===== */
+    public static final float ENEMY_W = 1024f;
+    public static final float ENEMY_H = 1024f;
+    public static final float ENEMY_BOSS_W = 668f;
+    public static final float ENEMY_BOSS_H = 668f;
+
+    /* ===== TOWER (Defend/Tower/*.png) ===== */
+    public static final float MAIN_TOWER_W = 695f;
+    public static final float MAIN_TOWER_H = 877f;
+    public static final float TOWER_AOE_W = 370f;
+    public static final float TOWER_AOE_H = 326f;
+    public static final float TOWER_FAST_W = 307f;
+    public static final float TOWER_FAST_H = 242f;
+    public static final float TOWER_SLOW_W = 856f;
+    public static final float TOWER_SLOW_H = 982f;
+
+    /* ===== PROJECTILE (Defend/Projectile/*.png) ===== */
+    public static final float PROJ_BASIC_W = 1133f;     // Projectile2.png
+    public static final float PROJ_BASIC_H = 414f;
+    public static final float PROJ_AOE_W = 898f;        // ProjectileAOE.png
+    public static final float PROJ_AOE_H = 891f;
+    public static final float PROJ_FAST_W = 1133f;      // Projectile1.png
+    public static final float PROJ_FAST_H = 414f;
+    public static final float PROJ_SLOW_W = 469f;       // ProjectileDefensif.png
+    public static final float PROJ_SLOW_H = 333f;
+    public static final float ENEMY_PROJ_W = 1133f;     // Projectile2.png
+    public static final float ENEMY_PROJ_H = 414f;
+    public static final float BOMB_W = 668f;
+    public static final float BOMB_H = 668f;
+
+    /* ===== TRAP (Defend/Trap/*.png) ===== */
+    public static final float TRAP_ATTACK_W = 534f;
+    public static final float TRAP_ATTACK_H = 498f;
+    public static final float TRAP_SLOW_W = 480f;
+    public static final float TRAP_SLOW_H = 748f;
+    public static final float TRAP_BOMB_W = 524f;
+    public static final float TRAP_BOMB_H = 777f;
+
+    private SpriteSizes() {}
+
+    public static float enemyWidth(EnemyType type) {
+        return type == EnemyType.BOSS ? ENEMY_BOSS_W : ENEMY_W;
+    }
+
+    public static float enemyHeight(EnemyType type) {
+        return type == EnemyType.BOSS ? ENEMY_BOSS_H : ENEMY_H;
+    }
+
+    public static float towerWidth(TowerType type, boolean isMain) {
+        if (isMain) return MAIN_TOWER_W;
+        return switch (type) {
+            case AOE -> TOWER_AOE_W;
+            case FAST -> TOWER_FAST_W;
+            case SLOW -> TOWER_SLOW_W;
+            case BASIC -> MAIN_TOWER_W;
+        };
+    }
+
+    public static float towerHeight(TowerType type, boolean isMain) {
+        if (isMain) return MAIN_TOWER_H;
+        return switch (type) {
+            case AOE -> TOWER_AOE_H;
+            case FAST -> TOWER_FAST_H;
+            case SLOW -> TOWER_SLOW_H;
+            case BASIC -> MAIN_TOWER_H;
+        };
+    }
+
+    public static float projectileWidth(TowerType type) {
+        return switch (type) {
+            case BASIC -> PROJ_BASIC_W;
+            case AOE -> PROJ_AOE_W;
+            case FAST -> PROJ_FAST_W;
+            case SLOW -> PROJ_SLOW_W;
+        };
+    }
+
+    public static float projectileHeight(TowerType type) {
+        return switch (type) {
+            case BASIC -> PROJ_BASIC_H;
+            case AOE -> PROJ_AOE_H;
+            case FAST -> PROJ_FAST_H;
+            case SLOW -> PROJ_SLOW_H;
+        };
+    }
+
+    public static float trapWidth(TrapType type) {
+        return switch (type) {
+            case ATTACK -> TRAP_ATTACK_W;
+            case SLOW -> TRAP_SLOW_W;
+            case EXPLOSION -> TRAP_BOMB_W;
+        };
+    }
+
+    public static float trapHeight(TrapType type) {
+        return switch (type) {
+            case ATTACK -> TRAP_ATTACK_H;
+            case SLOW -> TRAP_SLOW_H;
+            case EXPLOSION -> TRAP_BOMB_H;
+        };
+    }
+}
@@ -0,0 +1,9 @@
+package io.DutchSlayer.defend.game;
+
+/**
+ * Entity yang disimpan di EntityStore, menyimpan handle-nya sendiri supaya destroy/lookup O(1)
+ */
+public interface StoredEntity {
+    int getHandle();
+    void setHandle(int handle);
+}
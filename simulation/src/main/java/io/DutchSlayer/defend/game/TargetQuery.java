@@ -0,0 +1,195 @@
+package io.DutchSlayer.defend.game;
+
+import io.DutchSlayer.defend.entities.enemies.Enemy;
+import io.DutchSlayer.defend.entities.towers.TargetingPolicy;
+
+/**
+ * Query target tower di atas urutan enemy dari LaneIndex (urut bounds.x).
+ * Range tower = rentang slot [towerX - range, towerX + range], dicari dengan binary search.
+ * Segment tree per atribut (HP tertinggi/terendah, alive, slowed, unslowed) dibangun O(n)
+ * sekali per tick sebelum tower menembak, setiap policy dijawab O(log n).
+ */
+public class TargetQuery {
+    private final LaneIndex<Enemy> lane;
+    private final EntityStore<Enemy> enemies;
+
+    private int count = 0;
+    private int leaves = 1;
+    private int[] health = new int[0];  // HP per slot
+    private int[] maxHp = new int[0];   // Node -> slot dengan HP tertinggi (-1 = kosong)
+    private int[] minHp = new int[0];   // Node -> slot dengan HP terendah
+    private int[] alive = new int[0];   // Node -> jumlah enemy hidup
+    private int[] slowed = new int[0];
+    private int[] unslowed = new int[0];
+
+    public TargetQuery(LaneIndex<Enemy> lane, EntityStore<Enemy> enemies) {
+        this.lane = lane;
+        this.enemies = enemies;
+    }
+
+    /**
+     * Bangun ulang tree dari urutan lane sekarang. LaneIndex harus sudah di-rebuild tick ini.
+     */
+    public void build() {
+        count = lane.size();
+        leaves = 1;
+        while (leaves < count) leaves <<= 1;
+
+        if (maxHp.length < leaves * 2) {
+            int n = leaves * 2;
+            health = new int[leaves];
+            maxHp = new int[n];
+            minHp = new int[n];
+            alive = new int[n];
+            slowed = new int[n];
+            unslowed = new int[n];
+        }
+
+        for (int i = 0; i < leaves; i++) {
+            int node = leaves + i;
+            Enemy e = i < count ? lane.get(i) : null;
+            boolean isAlive = e != null && !e.isDestroyed();
+
+            health[i] = isAlive ? e.getHealth() : 0;
+            maxHp[node] = isAlive ? i : -1;
+            minHp[node] = isAlive ? i : -1;
+            alive[node] = isAlive ? 1 : 0;
+            slowed[node] = isAlive && e.isSlowed() ? 1 : 0;
+            unslowed[node] = isAlive && !e.isSlowed() ? 1 : 0;
+        }
+
+        for (int node = leaves - 1; node >= 1; node--) {
+            int l = node * 2, r = l + 1;
+            maxHp[node] = pickMax(maxHp[l], maxHp[r]);
+            minHp[node] = pickMin(minHp[l], minHp[r]);
+            alive[node] = alive[l] + alive[r];
+            slowed[node] = slowed[l] + slowed[r];
+            unslowed[node] = unslowed[l] + unslowed[r];
+        }
+    }
+
+    public boolean isEmpty() {
+        return alive.length == 0 || alive[1] == 0;
+    }
+
+    /**
+     * Target untuk tower di towerX dengan range dan policy tertentu, atau null jika tidak ada
+     */
+    public Enemy find(TargetingPolicy policy, float towerX, float range) {
+        if (isEmpty()) return null;
+
+        int lo = lane.indexOfMinX(towerX - range, true);
+        int hi = lane.indexOfMinX(towerX + range, false);
+        if (lo >= hi) return null;
+
+        int slot;
+        switch (policy) {
+            case CLOSEST:
+                slot = closest(towerX, lo, hi);
+                break;
+            case STRONGEST:
+                slot = rangePick(maxHp, lo, hi, true);
+                break;
+            case WEAKEST:
+                slot = rangePick(minHp, lo, hi, false);
+                break;
+            case UNSLOWED:
+                slot = first(unslowed, 1, 0, leaves, lo, hi);
+                if (slot < 0) slot = first(alive, 1, 0, leaves, lo, hi);
+                break;
+            case SLOWED:
+                slot = first(slowed, 1, 0, leaves, lo, hi);
+                if (slot < 0) slot = first(alive, 1, 0, leaves, lo, hi);
+                break;
+            case FIRST:
+            default:
+                slot = first(alive, 1, 0, leaves, lo, hi);
+                break;
+        }
+
+        return slot >= 0 ? lane.get(slot) : null;
+    }
+
+    /**
+     * Enemy untuk handle target yang disimpan tower, null jika sudah dihapus/basi
+     */
+    public Enemy resolve(int handle) {
+        return enemies.resolve(handle);
+    }
+
+    /**
+     * Apakah enemy masih dalam range tower (untuk validasi currentTarget)
+     */
+    public static boolean inRange(Enemy e, float towerX, float range) {
+        float left = e.getBounds().x;
+        return left >= towerX - range && left <= towerX + range;
+    }
+
+    /**
+     * Jarak diukur dari bounds.x (sama dengan kunci urut lane dan cek inRange), jadi enemy terdekat
+     * pasti salah satu tetangga titik split, berapa pun lebar enemy di lane.
+     */
+    private int closest(float towerX, int lo, int hi) {
+        int split = Math.max(lo, Math.min(hi, lane.indexOfMinX(towerX, true)));
+        int right = first(alive, 1, 0, leaves, split, hi);
+        int left = last(alive, 1, 0, leaves, lo, split);
+
+        if (left < 0) return right;
+        if (right < 0) return left;
+        return distance(left, towerX) <= distance(right, towerX) ? left : right;
+    }
+
+    private float distance(int slot, float towerX) {
+        return Math.abs(lane.get(slot).getBounds().x - towerX);
+    }
+
+    /* ===== SEGMENT TREE ===== */
+
+    // Tie dipecah ke slot lebih kecil (lebih depan di lane)
+    private int pickMax(int a, int b) {
+        if (a < 0) return b;
+        if (b < 0) return a;
+        if (health[a] != health[b]) return health[a] > health[b] ? a : b;
+        return Math.min(a, b);
+    }
+
+    private int pickMin(int a, int b) {
+        if (a < 0) return b;
+        if (b < 0) return a;
+        if (health[a] != health[b]) return health[a] < health[b] ? a : b;
+        return Math.min(a, b);
+    }
+
+    private int rangePick(int[] tree, int lo, int hi, boolean max) {
+        int best = -1;
+        for (int l = lo + leaves, r = hi + leaves; l < r; l >>= 1, r >>= 1) {
+            if ((l & 1) == 1) {
+                best = max ? pickMax(best, tree[l]) : pickMin(best, tree[l]);
+                l++;
+            }
+            if ((r & 1) == 1) {
+                r--;
+                best = max ? pickMax(best, tree[r]) : pickMin(best, tree[r]);
+            }
+        }
+        return best;
+    }
+
+    private int first(int[] counts, int node, int nodeLo, int nodeHi, int lo, int hi) {
+        if (nodeHi <= lo || nodeLo >= hi || counts[node] == 0) return -1;
+        if (nodeHi - nodeLo == 1) return nodeLo;
+
+        int mid = (nodeLo + nodeHi) >>> 1;
+        int found = first(counts, node * 2, nodeLo, mid, lo, hi);
+        return found >= 0 ? found : first(counts, node * 2 + 1, mid, nodeHi, lo, hi);
+    }
+
+    private int last(int[] counts, int node, int nodeLo, int nodeHi, int lo, int hi) {
+        if (nodeHi <= lo || nodeLo >= hi || counts[node] == 0) return -1;
+        if (nodeHi - nodeLo == 1) return nodeLo;
+
+        int mid = (nodeLo + nodeHi) >>> 1;
+        int found = last(counts, node * 2 + 1, mid, nodeHi, lo, hi);
+        return found >= 0 ? found : last(counts, node * 2, nodeLo, mid, lo, hi);
+    }
+}
@@ -0,0 +1,23 @@
+package io.DutchSlayer.defend.game;
+
+import com.badlogic.gdx.math.Intersector;
+
+/**
+ * Deploy zone untuk tower (polygon miring di atas ground)
+ */
+public class Zone {
+    public final float[] verts;
+    public boolean occupied;
+
+    public Zone(float[] verts) {
+        this.verts = verts;
+    }
+
+    public boolean contains(float x, float y) {
+        return Intersector.isPointInPolygon(verts, 0, verts.length, x, y);
+    }
+
+    public float getCenterX() {
+        return (verts[0] + verts[2] + verts[4] + verts[6]) / 4f;
+    }
+}
@@ -0,0 +1,130 @@
+package io.DutchSlayer.defend.sim;
+
+import io.DutchSlayer.defend.entities.towers.TowerType;
+import io.DutchSlayer.defend.game.GameConstants;
+import io.DutchSlayer.defend.game.GameEvent;
+import io.DutchSlayer.defend.game.GameEventListener;
+import io.DutchSlayer.defend.game.GameLogic;
+import io.DutchSlayer.defend.game.GameState;
+import io.DutchSlayer.defend.game.Zone;
+
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * Runner headless untuk defend mode: tick GameLogic dengan delta tetap tanpa window/GL.
+ * Dipakai untuk balancing dan profiling logic (hasil sama untuk seed yang sama).
+ *
+ * Usage: DefendSimulation [stage] [seed] [towers]
+ *   towers = daftar TowerType dipisah koma, dipasang ke zone kosong saat gold cukup
+ */
+public class DefendSimulation {
+    private static final float TICK = 1f / 60f;
+    private static final int MAX_TICKS = 60 * 60 * 30; // 30 menit waktu game
+
+    private final GameState gameState;
+    private final GameLogic gameLogic;
+    private final TowerType[] buildOrder;
+    private final Map<GameEvent, Integer> eventCounts = new EnumMap<>(GameEvent.class);
+    private int nextBuild = 0;
+    private int ticks = 0;
+    private int allocatingTicks = 0;
+    private int lastAllocatingTick = -1;
+
+    public DefendSimulation(int stage, long seed, TowerType[] buildOrder) {
+        this.gameState = new GameState(stage, seed);
+        this.gameLogic = new GameLogic(gameState, countingListener());
+        this.buildOrder = buildOrder;
+        gameLogic.initializeGameWorld();
+    }
+
+    private GameEventListener countingListener() {
+        return event -> eventCounts.merge(event, 1, Integer::sum);
+    }
+
+    /**
+     * Jalankan sampai menang/kalah atau MAX_TICKS tercapai
+     */
+    public void run() {
+        while (!gameState.isGameOver && !gameState.isGameWon && ticks < MAX_TICKS) {
+            tryBuild();
+            gameLogic.update(TICK);
+            if (gameState.pools.getFrameAllocations() + gameState.enemyPool.getFrameAllocations() > 0) {
+                allocatingTicks++;
+                lastAllocatingTick = ticks;
+            }
+            ticks++;
+        }
+    }
+
+    private void tryBuild() {
+        if (nextBuild >= buildOrder.length) return;
+
+        TowerType type = buildOrder[nextBuild];
+        int cost = getTowerCost(type);
+        if (gameState.gold < cost) return;
+
+        for (Zone z : gameState.zones) {
+            if (!z.occupied) {
+                gameState.gold -= cost;
+                gameLogic.deployTower(z, type);
+                nextBuild++;
+                return;
+            }
+        }
+        nextBuild = buildOrder.length; // Semua zone sudah terisi
+    }
+
+    private static int getTowerCost(TowerType type) {
+        switch (type) {
+            case AOE: return GameConstants.TOWER1_COST;
+            case FAST: return GameConstants.TOWER2_COST;
+            case SLOW: return GameConstants.TOWER3_COST;
+            default: return Integer.MAX_VALUE;
+        }
+    }
+
+    public GameState getGameState() { return gameState; }
+    public int getTicks() { return ticks; }
+    public int getAllocatingTicks() { return allocatingTicks; }
+    public int getLastAllocatingTick() { return lastAllocatingTick; }
+    public Map<GameEvent, Integer> getEventCounts() { return eventCounts; }
+
+    public static void main(String[] args) {
+        int stage = args.length > 0 ? Integer.parseInt(args[0]) : 1;
+        long seed = args.length > 1 ? Long.parseLong(args[1]) : 12345L;
+        TowerType[] buildOrder = parseBuildOrder(args.length > 2 ? args[2] : "FAST,AOE,SLOW");
+
+        DefendSimulation sim = new DefendSimulation(stage, seed, buildOrder);
+
+        long start = System.nanoTime();
+        sim.run();
+        long elapsed = System.nanoTime() - start;
+
+        GameState state = sim.getGameState();
+        String result = state.isGameWon ? "WON" : state.isGameOver ? "LOST" : "TIMEOUT";
+        float simulatedSeconds = sim.getTicks() * TICK;
+        double wallSeconds = elapsed / 1_000_000_000.0;
+
+        System.out.println("Stage " + stage + " seed " + seed + ": " + result
+            + " (wave " + state.currentWave + ", gold " + state.gold + ", ticks " + sim.getTicks() + ")");
+        System.out.printf("Simulated %.1fs in %.3fs wall (%.0fx realtime)%n",
+            simulatedSeconds, wallSeconds, simulatedSeconds / Math.max(wallSeconds, 1e-9));
+        System.out.println("Pool allocations: " + state.pools.getTotalAllocations() + " projectile, "
+            + state.enemyPool.getTotalAllocations() + " enemy in " + sim.getAllocatingTicks() + " ticks (last at tick " + sim.getLastAllocatingTick()
+            + "), " + state.pools.getFreeCount() + " idle");
+        for (Map.Entry<GameEvent, Integer> e : sim.getEventCounts().entrySet()) {
+            System.out.println("  " + e.getKey() + ": " + e.getValue());
+        }
+    }
+
+    private static TowerType[] parseBuildOrder(String spec) {
+        if (spec.isEmpty()) return new TowerType[0];
+        String[] parts = spec.split(",");
+        TowerType[] order = new TowerType[parts.length];
+        for (int i = 0; i < parts.length; i++) {
+            order[i] = TowerType.valueOf(parts[i].trim().toUpperCase());
+        }
+        return order;
+    }
+}